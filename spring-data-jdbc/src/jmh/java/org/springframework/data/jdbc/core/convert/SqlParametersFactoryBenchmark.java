@@ -0,0 +1,112 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.conversion.IdValueSource;
+import org.springframework.data.relational.core.mapping.Embedded;
+
+/**
+ * Benchmarks creating the parameters of inserts and updates using {@link ParameterExtractionPlan}s against inspecting
+ * the entity on each call.
+ *
+ * @since 3.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlParametersFactoryBenchmark {
+
+	@Param({ "true", "false" }) boolean useExtractionPlans;
+
+	SqlParametersFactory factory;
+	Person person;
+
+	@Setup
+	public void setUp() {
+
+		JdbcMappingContext context = new JdbcMappingContext();
+		BasicJdbcConverter converter = new BasicJdbcConverter(context,
+				(identifier, path) -> Collections.emptyList());
+
+		factory = new SqlParametersFactory(context, converter, useExtractionPlans);
+		person = new Person(23L, "Jane", "Doe", LocalDateTime.of(2023, 1, 1, 12, 0),
+				new Address("Main Street", "12a", "Springfield", "12345"));
+	}
+
+	@Benchmark
+	public SqlIdentifierParameterSource forInsert() {
+		return factory.forInsert(person, Person.class, Identifier.empty(), IdValueSource.GENERATED);
+	}
+
+	@Benchmark
+	public SqlIdentifierParameterSource forUpdate() {
+		return factory.forUpdate(person, Person.class);
+	}
+
+	static class Person {
+
+		@Id Long id;
+		String firstName;
+		String lastName;
+		LocalDateTime createdAt;
+		@Embedded.Nullable(prefix = "address_") Address address;
+
+		Person(Long id, String firstName, String lastName, LocalDateTime createdAt, Address address) {
+
+			this.id = id;
+			this.firstName = firstName;
+			this.lastName = lastName;
+			this.createdAt = createdAt;
+			this.address = address;
+		}
+	}
+
+	static class Address {
+
+		String street;
+		String number;
+		String city;
+		String zip;
+
+		Address(String street, String number, String city, String zip) {
+
+			this.street = street;
+			this.number = number;
+			this.city = city;
+			this.zip = zip;
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.aot;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.data.aot.AotRepositoryContext;
+import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
+import org.springframework.data.jdbc.core.convert.SqlStatementCatalog;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.jdbc.repository.query.JdbcQueryMethod;
+import org.springframework.data.jdbc.repository.query.PartTreeJdbcQuery;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.repository.config.RepositoryRegistrationAotProcessor;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.PropertiesBasedNamedQueries;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link RepositoryRegistrationAotProcessor} rendering the SQL of the derived query methods of a repository at build
+ * time into a {@link SqlStatementCatalog} per dialect the {@code DialectResolver} can detect. Only the SQL of
+ * invocations with non-{@literal null} arguments of query methods whose SQL doesn't depend on the arguments otherwise
+ * gets rendered, see {@link PartTreeJdbcQuery#renderFixedShapeQuery()}. All other invocations render their SQL at
+ * runtime.
+ *
+ * @since 3.1
+ * @see JdbcStatementCatalogAotProcessor
+ */
+public class JdbcRepositoryRegistrationAotProcessor extends RepositoryRegistrationAotProcessor {
+
+	private static final Log LOG = LogFactory.getLog(JdbcRepositoryRegistrationAotProcessor.class);
+
+	private static final NamedQueries NO_NAMED_QUERIES = new PropertiesBasedNamedQueries(new Properties());
+
+	@Override
+	protected void contribute(AotRepositoryContext repositoryContext, GenerationContext generationContext) {
+
+		super.contribute(repositoryContext, generationContext);
+
+		RepositoryInformation repositoryInformation = repositoryContext.getRepositoryInformation();
+		JdbcMappingContext context = JdbcStatementCatalogAotProcessor
+				.createMappingContext(repositoryContext.getBeanFactory());
+		RelationalPersistentEntity<?> entity = context.getPersistentEntity(repositoryInformation.getDomainType());
+
+		if (entity == null) {
+			return;
+		}
+
+		BasicJdbcConverter converter = JdbcStatementCatalogAotProcessor.createConverter(context);
+		NamedParameterJdbcOperations operations = new NamedParameterJdbcTemplate(new JdbcTemplate());
+		boolean contributed = false;
+
+		for (Dialect dialect : JdbcStatementCatalogAotProcessor.DIALECTS) {
+
+			Map<String, String> statements = new LinkedHashMap<>();
+
+			for (Method method : repositoryInformation.getQueryMethods()) {
+
+				String sql = renderFixedShapeQuery(method, repositoryInformation, context, converter, dialect,
+						operations);
+
+				if (sql != null) {
+					statements.put(method.toString(), sql);
+				}
+			}
+
+			if (statements.isEmpty()) {
+				continue;
+			}
+
+			try {
+
+				StringWriter writer = new StringWriter();
+				SqlStatementCatalog.of(context, dialect, entity, statements).store(writer);
+
+				String location = SqlStatementCatalog
+						.getResourceLocation(repositoryInformation.getRepositoryInterface(), dialect);
+				generationContext.getGeneratedFiles().addResourceFile(location, writer.toString());
+				contributed = true;
+			} catch (IOException e) {
+
+				if (LOG.isWarnEnabled()) {
+					LOG.warn(String.format("Cannot store queries of %s for %s; Queries will be rendered at runtime",
+							repositoryInformation.getRepositoryInterface().getName(), dialect.getClass().getName()), e);
+				}
+			}
+		}
+
+		if (contributed) {
+			generationContext.getRuntimeHints().resources()
+					.registerPattern(SqlStatementCatalog.RESOURCE_LOCATION_PREFIX + "*");
+		}
+	}
+
+	/**
+	 * Renders the SQL of the given query method if it is a derived query method whose SQL doesn't depend on its
+	 * arguments, returns {@literal null} otherwise.
+	 */
+	@Nullable
+	private static String renderFixedShapeQuery(Method method, RepositoryInformation repositoryInformation,
+			JdbcMappingContext context, BasicJdbcConverter converter, Dialect dialect,
+			NamedParameterJdbcOperations operations) {
+
+		try {
+
+			JdbcQueryMethod queryMethod = new JdbcQueryMethod(method, repositoryInformation,
+					new SpelAwareProxyProjectionFactory(), NO_NAMED_QUERIES, context);
+
+			if (queryMethod.hasAnnotatedQuery()) {
+				return null;
+			}
+
+			return new PartTreeJdbcQuery(context, queryMethod, dialect, converter, operations, (rs, rowNum) -> null)
+					.renderFixedShapeQuery();
+		} catch (RuntimeException e) {
+
+			// not a derived query method or not supported by the dialect, the query gets created at runtime as usual
+			if (LOG.isDebugEnabled()) {
+				LOG.debug(String.format("Cannot render query of %s for %s at build time", method,
+						dialect.getClass().getName()), e);
+			}
+			return null;
+		}
+	}
+}
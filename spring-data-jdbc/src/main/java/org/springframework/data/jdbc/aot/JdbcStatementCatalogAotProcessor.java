@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.aot;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
+import org.springframework.data.jdbc.core.convert.SqlStatementCatalog;
+import org.springframework.data.jdbc.core.dialect.JdbcDb2Dialect;
+import org.springframework.data.jdbc.core.dialect.JdbcMySqlDialect;
+import org.springframework.data.jdbc.core.dialect.JdbcPostgresDialect;
+import org.springframework.data.jdbc.core.dialect.JdbcSqlServerDialect;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.RelationalManagedTypes;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.dialect.HsqlDbDialect;
+import org.springframework.data.relational.core.dialect.MariaDbDialect;
+import org.springframework.data.relational.core.dialect.MySqlDialect;
+import org.springframework.data.relational.core.dialect.OracleDialect;
+import org.springframework.data.relational.core.mapping.DefaultNamingStrategy;
+import org.springframework.data.relational.core.mapping.NamingStrategy;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link BeanFactoryInitializationAotProcessor} rendering the statements of the {@link RelationalManagedTypes managed
+ * types} at build time into a {@link SqlStatementCatalog} per dialect the {@code DialectResolver} can detect. The
+ * catalogs get loaded at startup so statements of unchanged entities don't have to be rendered on first use.
+ * <p>
+ * The statements are rendered using the {@link NamingStrategy} of the application, if there is a unique one. Entities
+ * mapped differently at runtime, e.g. due to custom conversions, are detected by {@link SqlStatementCatalog} and get
+ * their statements rendered at runtime.
+ *
+ * @since 3.1
+ */
+class JdbcStatementCatalogAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+	private static final Log LOG = LogFactory.getLog(JdbcStatementCatalogAotProcessor.class);
+
+	static final List<Dialect> DIALECTS = List.of(H2Dialect.INSTANCE, HsqlDbDialect.INSTANCE,
+			JdbcPostgresDialect.INSTANCE, JdbcSqlServerDialect.INSTANCE, JdbcDb2Dialect.INSTANCE, OracleDialect.INSTANCE,
+			new JdbcMySqlDialect(MySqlDialect.MYSQL_IDENTIFIER_PROCESSING),
+			new MariaDbDialect(MySqlDialect.MYSQL_IDENTIFIER_PROCESSING));
+
+	@Nullable
+	@Override
+	public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+
+		Set<Class<?>> types = new LinkedHashSet<>();
+
+		for (String beanName : beanFactory.getBeanNamesForType(RelationalManagedTypes.class, false, false)) {
+			beanFactory.getBean(beanName, RelationalManagedTypes.class).forEach(types::add);
+		}
+
+		if (types.isEmpty()) {
+			return null;
+		}
+
+		JdbcMappingContext context = createMappingContext(beanFactory);
+		BasicJdbcConverter converter = createConverter(context);
+
+		return (generationContext, code) -> {
+
+			for (Dialect dialect : DIALECTS) {
+
+				String location = SqlStatementCatalog.getResourceLocation(dialect);
+
+				try {
+
+					StringWriter writer = new StringWriter();
+					SqlStatementCatalog.create(context, converter, dialect, types).store(writer);
+
+					generationContext.getGeneratedFiles().addResourceFile(location, writer.toString());
+				} catch (IOException | RuntimeException e) {
+
+					if (LOG.isWarnEnabled()) {
+						LOG.warn(String.format("Cannot render statements for %s; Statements will be rendered at runtime",
+								dialect.getClass().getName()), e);
+					}
+				}
+			}
+
+			generationContext.getRuntimeHints().resources()
+					.registerPattern(SqlStatementCatalog.RESOURCE_LOCATION_PREFIX + "*");
+		};
+	}
+
+	/**
+	 * Creates the {@link JdbcMappingContext} statements get rendered for, using the {@link NamingStrategy} of the
+	 * application if there is a unique one.
+	 */
+	static JdbcMappingContext createMappingContext(ListableBeanFactory beanFactory) {
+
+		NamingStrategy namingStrategy = beanFactory.getBeanProvider(NamingStrategy.class)
+				.getIfUnique(() -> DefaultNamingStrategy.INSTANCE);
+
+		return new JdbcMappingContext(namingStrategy);
+	}
+
+	static BasicJdbcConverter createConverter(JdbcMappingContext context) {
+		return new BasicJdbcConverter(context, (identifier, path) -> Collections.emptyList());
+	}
+}
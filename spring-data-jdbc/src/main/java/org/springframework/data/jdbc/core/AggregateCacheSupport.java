@@ -0,0 +1,271 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.data.jdbc.core.convert.AggregateCache;
+import org.springframework.data.jdbc.core.convert.CachedAggregate;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.conversion.DbAction;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.util.Pair;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Reads aggregates through an {@link AggregateCache} and keeps it in line with the {@link DbAction}s executed for
+ * aggregates annotated with {@link org.springframework.data.relational.core.mapping.AggregateCaching}. Executed actions
+ * evict the aggregates they modify, and saved aggregates get written to the cache. Within a transaction, cached state
+ * gets evicted right away and again after completion, while saved and loaded aggregates only get written to the cache
+ * once the transaction committed.
+ *
+ * @since 3.1
+ */
+class AggregateCacheSupport {
+
+	private final JdbcConverter converter;
+	private final AggregateCache cache;
+	private final Map<Class<?>, Boolean> cacheable = new ConcurrentHashMap<>();
+
+	AggregateCacheSupport(JdbcConverter converter, AggregateCache cache) {
+
+		Assert.notNull(converter, "JdbcConverter must not be null");
+		Assert.notNull(cache, "AggregateCache must not be null");
+
+		this.converter = converter;
+		this.cache = cache;
+	}
+
+	/**
+	 * Returns the aggregate with the given id, materialized from the cache if possible. Aggregates not found in the cache
+	 * get loaded and cached, within a transaction only after it committed.
+	 *
+	 * @param id the id of the aggregate root. Must not be {@literal null}.
+	 * @param domainType the type of the aggregate root. Must not be {@literal null}.
+	 * @param loader loads the aggregate from the database. Must not be {@literal null}.
+	 * @return the aggregate or {@literal null} if there is none with the given id.
+	 */
+	@Nullable
+	<T> T findById(Object id, Class<T> domainType, Supplier<T> loader) {
+
+		RelationalPersistentEntity<T> entity = getRequiredPersistentEntity(domainType);
+
+		if (!isCacheable(entity)) {
+			return loader.get();
+		}
+
+		Object key = getKey(entity, id);
+		CachedAggregate cached = cache.get(domainType, key);
+
+		if (cached != null) {
+			return cached.materialize(converter);
+		}
+
+		T aggregate = loader.get();
+
+		if (aggregate != null) {
+			cacheLoaded(domainType, key, CachedAggregate.capture(converter, entity, aggregate));
+		}
+
+		return aggregate;
+	}
+
+	/**
+	 * Caches the state of a loaded aggregate unless a concurrent save cached newer state already. Within a transaction,
+	 * the aggregate only gets cached once the transaction committed, as it might have read uncommitted changes.
+	 */
+	private void cacheLoaded(Class<?> domainType, Object key, CachedAggregate aggregate) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+
+			cache.putIfAbsent(domainType, key, aggregate);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+			@Override
+			public void afterCommit() {
+				cache.putIfAbsent(domainType, key, aggregate);
+			}
+		});
+	}
+
+	/**
+	 * @return a new {@link CacheUpdate} collecting the changes of a single execution of an aggregate change.
+	 */
+	CacheUpdate startUpdate() {
+		return new CacheUpdate();
+	}
+
+	private boolean isCacheable(RelationalPersistentEntity<?> entity) {
+
+		return cacheable.computeIfAbsent(entity.getType(), type -> entity.isAggregateCachingEnabled() //
+				&& entity.hasIdProperty() //
+				&& converter.getMappingContext().findPersistentPropertyPaths(type, RelationalPersistentProperty::isLazy)
+						.isEmpty());
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> RelationalPersistentEntity<T> getRequiredPersistentEntity(Class<T> domainType) {
+		return (RelationalPersistentEntity<T>) converter.getMappingContext().getRequiredPersistentEntity(domainType);
+	}
+
+	/**
+	 * Converts ids to the type of the id property, so that all ids of an aggregate map to the same cache entry.
+	 */
+	private Object getKey(RelationalPersistentEntity<?> entity, Object id) {
+
+		Class<?> idType = ClassUtils.resolvePrimitiveIfNecessary(entity.getRequiredIdProperty().getType());
+
+		if (idType.isInstance(id) || !converter.getConversionService().canConvert(id.getClass(), idType)) {
+			return id;
+		}
+
+		Object key = converter.getConversionService().convert(id, idType);
+		return key == null ? id : key;
+	}
+
+	/**
+	 * Collects the aggregates modified by the actions of an aggregate change and applies the resulting changes to the
+	 * cache.
+	 */
+	class CacheUpdate {
+
+		private final Set<Pair<Class<?>, Object>> evicted = new HashSet<>();
+		private final Set<Class<?>> evictedTypes = new HashSet<>();
+		private final Map<Pair<Class<?>, Object>, CachedAggregate> saved = new LinkedHashMap<>();
+
+		private CacheUpdate() {}
+
+		/**
+		 * Registers an executed {@link DbAction}, evicting the aggregate it modified.
+		 */
+		void executed(DbAction<?> action) {
+
+			if (action instanceof DbAction.BatchWithValue<?, ?, ?> batch) {
+				batch.getActions().forEach(this::executed);
+			} else if (action instanceof DbAction.WithRoot<?> withRoot) {
+				evictRoot(withRoot.getEntityType(), getId(withRoot.getEntityType(), withRoot.getEntity()));
+			} else if (action instanceof DbAction.DeleteRoot<?> deleteRoot) {
+				evictRoot(deleteRoot.getEntityType(), deleteRoot.getId());
+			} else if (action instanceof DbAction.Delete<?> delete) {
+				evictRoot(getRootType(delete.getPropertyPath()), delete.getRootId());
+			} else if (action instanceof DbAction.DeleteElement<?> deleteElement) {
+				evictRoot(getRootType(deleteElement.getPropertyPath()), deleteElement.getRootId());
+			} else if (action instanceof DbAction.DeleteAll<?> deleteAll) {
+				evictAll(getRootType(deleteAll.getPropertyPath()));
+			} else if (action instanceof DbAction.DeleteAllRoot<?> deleteAllRoot) {
+				evictAll(deleteAllRoot.getEntityType());
+			}
+		}
+
+		/**
+		 * Registers an aggregate resulting from a save, writing it to the cache.
+		 */
+		@SuppressWarnings("unchecked")
+		void saved(Object aggregateRoot) {
+
+			RelationalPersistentEntity<Object> entity = (RelationalPersistentEntity<Object>) getRequiredPersistentEntity(
+					aggregateRoot.getClass());
+			Object id = getId(entity.getType(), aggregateRoot);
+
+			if (id != null && isCacheable(entity)) {
+				saved.put(Pair.of(entity.getType(), getKey(entity, id)),
+						CachedAggregate.capture(converter, entity, aggregateRoot));
+			}
+		}
+
+		/**
+		 * Applies the collected changes to the cache, deferring the writes of saved aggregates to the completion of the
+		 * current transaction, if there is one.
+		 */
+		void apply() {
+
+			if (evicted.isEmpty() && evictedTypes.isEmpty() && saved.isEmpty()) {
+				return;
+			}
+
+			evict();
+
+			if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+
+				put();
+				return;
+			}
+
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCompletion(int status) {
+
+					evict();
+
+					if (status == STATUS_COMMITTED) {
+						put();
+					}
+				}
+			});
+		}
+
+		private void evict() {
+
+			evictedTypes.forEach(cache::evictAll);
+			evicted.forEach(it -> cache.evict(it.getFirst(), it.getSecond()));
+			saved.keySet().forEach(it -> cache.evict(it.getFirst(), it.getSecond()));
+		}
+
+		private void put() {
+			saved.forEach((key, aggregate) -> cache.put(key.getFirst(), key.getSecond(), aggregate));
+		}
+
+		private void evictRoot(Class<?> domainType, @Nullable Object id) {
+
+			RelationalPersistentEntity<?> entity = getRequiredPersistentEntity(domainType);
+
+			if (id != null && isCacheable(entity)) {
+				evicted.add(Pair.of(domainType, getKey(entity, id)));
+			}
+		}
+
+		private void evictAll(Class<?> domainType) {
+
+			if (isCacheable(getRequiredPersistentEntity(domainType))) {
+				evictedTypes.add(domainType);
+			}
+		}
+
+		@Nullable
+		private Object getId(Class<?> domainType, Object aggregateRoot) {
+			return getRequiredPersistentEntity(domainType).getIdentifierAccessor(aggregateRoot).getIdentifier();
+		}
+
+		private Class<?> getRootType(PersistentPropertyPath<RelationalPersistentProperty> path) {
+			return path.getBaseProperty().getOwner().getType();
+		}
+	}
+}
@@ -16,12 +16,15 @@
 package org.springframework.data.jdbc.core;
 
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.jdbc.core.convert.CachingCountStrategy;
+import org.springframework.data.jdbc.core.convert.CountStrategy;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.relational.core.conversion.AggregateChange;
 import org.springframework.data.relational.core.conversion.DbAction;
 import org.springframework.data.relational.core.conversion.DbActionExecutionException;
 import org.springframework.data.relational.core.conversion.MutableAggregateChange;
+import org.springframework.lang.Nullable;
 
 import java.util.List;
 
@@ -37,6 +40,8 @@ class AggregateChangeExecutor {
 
 	private final JdbcConverter converter;
 	private final DataAccessStrategy accessStrategy;
+	@Nullable private AggregateCacheSupport aggregateCache;
+	@Nullable private CachingCountStrategy countCache;
 
 	AggregateChangeExecutor(JdbcConverter converter, DataAccessStrategy accessStrategy) {
 
@@ -44,6 +49,25 @@ class AggregateChangeExecutor {
 		this.accessStrategy = accessStrategy;
 	}
 
+	/**
+	 * @param aggregateCache the cache to keep in line with the executed changes. May be {@literal null}.
+	 * @since 3.1
+	 */
+	void setAggregateCache(@Nullable AggregateCacheSupport aggregateCache) {
+		this.aggregateCache = aggregateCache;
+	}
+
+	/**
+	 * @param countStrategy the {@link CountStrategy} whose cached counts get evicted for the aggregate types modified
+	 *          by executed changes. Must not be {@literal null}.
+	 * @since 3.1
+	 */
+	void setCountStrategy(CountStrategy countStrategy) {
+		this.countCache = countStrategy instanceof CachingCountStrategy cachingCountStrategy //
+				? cachingCountStrategy
+				: null;
+	}
+
 	/**
 	 * Execute a save aggregate change. It returns the resulting root entities, with all changes that might apply. This
 	 * might be the original instances or new instances, depending on their mutability.
@@ -55,12 +79,41 @@ class AggregateChangeExecutor {
 	 */
 	<T> List<T> executeSave(AggregateChange<T> aggregateChange) {
 
+		try {
+			return doExecuteSave(aggregateChange);
+		} finally {
+			evictCounts(aggregateChange);
+		}
+	}
+
+	private <T> List<T> doExecuteSave(AggregateChange<T> aggregateChange) {
+
 		JdbcAggregateChangeExecutionContext executionContext = new JdbcAggregateChangeExecutionContext(converter,
 				accessStrategy);
 
-		aggregateChange.forEachAction(action -> execute(action, executionContext));
+		if (aggregateCache == null) {
+
+			aggregateChange.forEachAction(action -> execute(action, executionContext));
+
+			return executionContext.populateIdsIfNecessary();
+		}
+
+		AggregateCacheSupport.CacheUpdate cacheUpdate = aggregateCache.startUpdate();
+		try {
+
+			aggregateChange.forEachAction(action -> {
 
-		return executionContext.populateIdsIfNecessary();
+				execute(action, executionContext);
+				cacheUpdate.executed(action);
+			});
+
+			List<T> aggregateRoots = executionContext.populateIdsIfNecessary();
+			aggregateRoots.forEach(cacheUpdate::saved);
+
+			return aggregateRoots;
+		} finally {
+			cacheUpdate.apply();
+		}
 	}
 
 	/**
@@ -72,10 +125,41 @@ class AggregateChangeExecutor {
 	 */
 	<T> void executeDelete(AggregateChange<T> aggregateChange) {
 
+		try {
+			doExecuteDelete(aggregateChange);
+		} finally {
+			evictCounts(aggregateChange);
+		}
+	}
+
+	private <T> void doExecuteDelete(AggregateChange<T> aggregateChange) {
+
 		JdbcAggregateChangeExecutionContext executionContext = new JdbcAggregateChangeExecutionContext(converter,
 				accessStrategy);
 
-		aggregateChange.forEachAction(action -> execute(action, executionContext));
+		if (aggregateCache == null) {
+
+			aggregateChange.forEachAction(action -> execute(action, executionContext));
+			return;
+		}
+
+		AggregateCacheSupport.CacheUpdate cacheUpdate = aggregateCache.startUpdate();
+		try {
+			aggregateChange.forEachAction(action -> {
+
+				execute(action, executionContext);
+				cacheUpdate.executed(action);
+			});
+		} finally {
+			cacheUpdate.apply();
+		}
+	}
+
+	private void evictCounts(AggregateChange<?> aggregateChange) {
+
+		if (countCache != null) {
+			countCache.evict(aggregateChange.getEntityType());
+		}
 	}
 
 	private void execute(DbAction<?> action, JdbcAggregateChangeExecutionContext executionContext) {
@@ -91,8 +175,18 @@ class AggregateChangeExecutor {
 				executionContext.executeBatchInsert((DbAction.BatchInsert<?>) action);
 			} else if (action instanceof DbAction.UpdateRoot) {
 				executionContext.executeUpdateRoot((DbAction.UpdateRoot<?>) action);
+			} else if (action instanceof DbAction.BatchUpdateRoot<?>) {
+				executionContext.executeBatchUpdateRoot((DbAction.BatchUpdateRoot<?>) action);
+			} else if (action instanceof DbAction.UpsertRoot) {
+				executionContext.executeUpsertRoot((DbAction.UpsertRoot<?>) action);
+			} else if (action instanceof DbAction.BatchUpsertRoot<?>) {
+				executionContext.executeBatchUpsertRoot((DbAction.BatchUpsertRoot<?>) action);
+			} else if (action instanceof DbAction.Update) {
+				executionContext.executeUpdate((DbAction.Update<?>) action);
 			} else if (action instanceof DbAction.Delete) {
 				executionContext.executeDelete((DbAction.Delete<?>) action);
+			} else if (action instanceof DbAction.DeleteElement) {
+				executionContext.executeDeleteElement((DbAction.DeleteElement<?>) action);
 			} else if (action instanceof DbAction.BatchDelete<?>) {
 				executionContext.executeBatchDelete((DbAction.BatchDelete<?>) action);
 			} else if (action instanceof DbAction.DeleteAll) {
@@ -122,6 +122,72 @@ class JdbcAggregateChangeExecutionContext {
 		add(new DbActionExecutionResult(update));
 	}
 
+	<T> void executeBatchUpdateRoot(DbAction.BatchUpdateRoot<T> batchUpdateRoot) {
+
+		List<DbAction.UpdateRoot<T>> updates = batchUpdateRoot.getActions();
+		List<T> instances = updates.stream().map(DbAction.UpdateRoot::getEntity).toList();
+
+		if (batchUpdateRoot.isVersioned()) {
+
+			List<Number> previousVersions = updates.stream().map(DbAction.UpdateRoot::getPreviousVersion)
+					.collect(Collectors.toList());
+			boolean[] updated = accessStrategy.updateAllWithVersion(instances, batchUpdateRoot.getEntityType(),
+					previousVersions);
+
+			for (int i = 0; i < updated.length; i++) {
+				if (!updated[i]) {
+					throw new OptimisticLockingFailureException(
+							String.format(UPDATE_FAILED_OPTIMISTIC_LOCKING, updates.get(i).getEntity()));
+				}
+			}
+		} else {
+
+			boolean[] updated = accessStrategy.updateAll(instances, batchUpdateRoot.getEntityType());
+
+			for (int i = 0; i < updated.length; i++) {
+				if (!updated[i]) {
+					throw new IncorrectUpdateSemanticsDataAccessException(
+							String.format(UPDATE_FAILED, updates.get(i).getEntity(), getIdFrom(updates.get(i))));
+				}
+			}
+		}
+
+		updates.forEach(update -> add(new DbActionExecutionResult(update)));
+	}
+
+	<T> void executeUpdate(DbAction.Update<T> update) {
+
+		Identifier identifier = getParentKeys(update, converter);
+
+		if (!update.getPropertyPath().getRequiredLeafProperty().isQualified()) {
+
+			RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(update.getEntityType());
+			identifier = identifier.withPart(persistentEntity.getIdColumn(), getIdFrom(update),
+					converter.getColumnType(persistentEntity.getRequiredIdProperty()));
+		}
+
+		if (!accessStrategy.update(update.getEntity(), update.getEntityType(), identifier)) {
+
+			throw new IncorrectUpdateSemanticsDataAccessException(
+					String.format(UPDATE_FAILED, update.getEntity(), identifier));
+		}
+	}
+
+	<T> void executeUpsertRoot(DbAction.UpsertRoot<T> upsert) {
+
+		accessStrategy.upsert(upsert.getEntity(), upsert.getEntityType());
+		add(new DbActionExecutionResult(upsert));
+	}
+
+	<T> void executeBatchUpsertRoot(DbAction.BatchUpsertRoot<T> batchUpsertRoot) {
+
+		List<DbAction.UpsertRoot<T>> upserts = batchUpsertRoot.getActions();
+		accessStrategy.upsertAll(upserts.stream().map(DbAction.UpsertRoot::getEntity).toList(),
+				batchUpsertRoot.getEntityType());
+
+		upserts.forEach(upsert -> add(new DbActionExecutionResult(upsert)));
+	}
+
 	<T> void executeDeleteRoot(DbAction.DeleteRoot<T> delete) {
 
 		if (delete.getPreviousVersion() != null) {
@@ -142,6 +208,11 @@ class JdbcAggregateChangeExecutionContext {
 		accessStrategy.delete(delete.getRootId(), delete.getPropertyPath());
 	}
 
+	<T> void executeDeleteElement(DbAction.DeleteElement<T> delete) {
+
+		accessStrategy.delete(delete.getRootId(), delete.getPropertyPath(), delete.getKey());
+	}
+
 	<T> void executeBatchDelete(DbAction.BatchDelete<T> batchDelete) {
 
 		List<Object> rootIds = batchDelete.getActions().stream().map(DbAction.Delete::getRootId).toList();
@@ -257,7 +328,8 @@ class JdbcAggregateChangeExecutionContext {
 
 			Object newEntity = setIdAndCascadingProperties(action, result.getGeneratedId(), cascadingValues);
 
-			if (action instanceof DbAction.InsertRoot || action instanceof DbAction.UpdateRoot) {
+			if (action instanceof DbAction.InsertRoot || action instanceof DbAction.UpdateRoot
+					|| action instanceof DbAction.UpsertRoot) {
 				// noinspection unchecked
 				roots.add((T) newEntity);
 			}
@@ -16,12 +16,15 @@
 package org.springframework.data.jdbc.core;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.lang.Nullable;
 
@@ -105,6 +108,36 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> Iterable<T> updateAll(Iterable<T> instances);
 
+	/**
+	 * Dedicated upsert function. This skips the test if the aggregate root is new and inserts the aggregate root or
+	 * updates the existing row with the same id using a single statement, rendered by the
+	 * {@link org.springframework.data.relational.core.dialect.Dialect#getUpsertSupport() dialect}. Referenced entities
+	 * get replaced, as with {@link #update(Object)}.
+	 * <p>
+	 * This is useful if the client provides ids and does not know whether the aggregates are stored already.
+	 * </p>
+	 *
+	 * @param instance the aggregate root of the aggregate to be upserted. Must not be {@code null}. Its id must be set.
+	 * @param <T> the type of the aggregate root.
+	 * @return the saved instance.
+	 * @throws UnsupportedOperationException if the dialect does not support upserts.
+	 * @since 3.1
+	 */
+	<T> T upsert(T instance);
+
+	/**
+	 * Upserts all aggregate instances, including all the members of each aggregate instance. The aggregate roots get
+	 * upserted using a single batch.
+	 *
+	 * @param instances the aggregate roots to be upserted. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return the saved instances.
+	 * @throws UnsupportedOperationException if the dialect does not support upserts.
+	 * @since 3.1
+	 * @see #upsert(Object)
+	 */
+	<T> Iterable<T> upsertAll(Iterable<T> instances);
+
 	/**
 	 * Counts the number of aggregates of a given type.
 	 *
@@ -173,6 +206,18 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> Iterable<T> findAll(Class<T> domainType);
 
+	/**
+	 * Stream all aggregates of a given type. Aggregates get loaded as the {@link Stream} is consumed, so they do not
+	 * need to be held in memory all at once. The {@link Stream} holds on to the underlying JDBC resources and must be
+	 * closed after use, e.g. using a try-with-resources block.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 3.1
+	 */
+	<T> Stream<T> streamAll(Class<T> domainType);
+
 	/**
 	 * Load all aggregates of a given type, sorted.
 	 *
@@ -217,6 +262,18 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> Iterable<T> findAll(Query query, Class<T> domainType);
 
+	/**
+	 * Execute a {@code SELECT} query and convert the resulting items to a {@link Stream}. Aggregates get loaded as the
+	 * {@link Stream} is consumed. The {@link Stream} holds on to the underlying JDBC resources and must be closed after
+	 * use, e.g. using a try-with-resources block.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the entity type must not be {@literal null}.
+	 * @return a non-null {@link Stream} of all the matching results.
+	 * @since 3.1
+	 */
+	<T> Stream<T> streamAll(Query query, Class<T> domainType);
+
 	/**
 	 * Returns a {@link Page} of entities matching the given {@link Query}. In case no match could be found, an empty
 	 * {@link Page} is returned.
@@ -229,6 +286,21 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> Page<T> findAll(Query query, Class<T> domainType, Pageable pageable);
 
+	/**
+	 * Returns a {@link Window} of entities matching the given {@link Query}, starting at the given
+	 * {@link ScrollPosition}. The limit of the {@link Query} determines the size of the {@link Window}. Use
+	 * {@link ScrollPosition#keyset()} to scroll using the values of the sort properties instead of an offset, which
+	 * keeps the cost of fetching a window independent of its position. Keyset scrolling sorts by the id after the sort
+	 * properties of the {@link Query}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the entity type must not be {@literal null}.
+	 * @param scrollPosition the position to start the window at. Must not be {@literal null}.
+	 * @return a {@link Window} of entities matching the given {@link Query}.
+	 * @since 3.1
+	 */
+	<T> Window<T> findAll(Query query, Class<T> domainType, ScrollPosition scrollPosition);
+
 	/**
 	 * Deletes a single Aggregate including all entities contained in that aggregate.
 	 * <p>
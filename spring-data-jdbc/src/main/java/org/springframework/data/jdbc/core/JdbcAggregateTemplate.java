@@ -16,6 +16,7 @@
 package org.springframework.data.jdbc.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -24,14 +25,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jdbc.core.convert.AggregateCache;
+import org.springframework.data.jdbc.core.convert.CountStrategy;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.mapping.IdentifierAccessor;
@@ -44,17 +51,21 @@ import org.springframework.data.relational.core.conversion.MutableAggregateChang
 import org.springframework.data.relational.core.conversion.RelationalEntityDeleteWriter;
 import org.springframework.data.relational.core.conversion.RelationalEntityInsertWriter;
 import org.springframework.data.relational.core.conversion.RelationalEntityUpdateWriter;
+import org.springframework.data.relational.core.conversion.RelationalEntityUpsertWriter;
 import org.springframework.data.relational.core.conversion.RelationalEntityVersionUtils;
 import org.springframework.data.relational.core.conversion.RootAggregateChange;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.mapping.event.*;
+import org.springframework.data.relational.core.query.CriteriaDefinition;
+import org.springframework.data.relational.core.query.CriteriaShapes;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
 
 /**
  * {@link JdbcAggregateOperations} implementation, storing aggregates in and obtaining them from a JDBC data store.
@@ -80,6 +91,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 	private final JdbcConverter converter;
 
 	private EntityCallbacks entityCallbacks = EntityCallbacks.create();
+	private CountStrategy countStrategy = CountStrategy.exact();
+	@Nullable private AggregateCacheSupport aggregateCache;
 
 	/**
 	 * Creates a new {@link JdbcAggregateTemplate} given {@link ApplicationContext}, {@link RelationalMappingContext} and
@@ -148,6 +161,39 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		this.entityCallbacks = entityCallbacks;
 	}
 
+	/**
+	 * Sets the {@link CountStrategy} determining the total number of aggregates reported by {@link Page pages}. Defaults
+	 * to {@link CountStrategy#exact()}. Saving or deleting aggregates through this template evicts the counts of their
+	 * type cached by a {@link org.springframework.data.jdbc.core.convert.CachingCountStrategy}.
+	 *
+	 * @param countStrategy must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setCountStrategy(CountStrategy countStrategy) {
+
+		Assert.notNull(countStrategy, "CountStrategy must not be null");
+
+		this.countStrategy = countStrategy;
+		this.executor.setCountStrategy(countStrategy);
+	}
+
+	/**
+	 * Sets the {@link AggregateCache} holding aggregates annotated with
+	 * {@link org.springframework.data.relational.core.mapping.AggregateCaching}. {@link #findById(Object, Class)} reads
+	 * these aggregates from the cache, and saving or deleting them through this template updates the cache. Aggregates
+	 * don't get cached by default.
+	 *
+	 * @param aggregateCache must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setAggregateCache(AggregateCache aggregateCache) {
+
+		Assert.notNull(aggregateCache, "AggregateCache must not be null");
+
+		this.aggregateCache = new AggregateCacheSupport(converter, aggregateCache);
+		this.executor.setAggregateCache(this.aggregateCache);
+	}
+
 	/**
 	 * Configure whether lifecycle events such as {@link AfterSaveEvent}, {@link BeforeSaveEvent}, etc. should be
 	 * published or whether emission should be suppressed. Enabled by default.
@@ -254,6 +300,30 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return performSaveAll(entityAndChangeCreators);
 	}
 
+	@Override
+	public <T> T upsert(T instance) {
+
+		Assert.notNull(instance, "Aggregate instance must not be null");
+
+		return performSave(new EntityAndChangeCreator<>(instance, this::createUpsertChange));
+	}
+
+	@Override
+	public <T> Iterable<T> upsertAll(Iterable<T> instances) {
+
+		Assert.notNull(instances, "Aggregate instances must not be null");
+
+		if (!instances.iterator().hasNext()) {
+			return Collections.emptyList();
+		}
+
+		List<EntityAndChangeCreator<T>> entityAndChangeCreators = new ArrayList<>();
+		for (T instance : instances) {
+			entityAndChangeCreators.add(new EntityAndChangeCreator<>(instance, this::createUpsertChange));
+		}
+		return performSaveAll(entityAndChangeCreators);
+	}
+
 	@Override
 	public long count(Class<?> domainType) {
 
@@ -287,7 +357,9 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(id, "Id must not be null");
 		Assert.notNull(domainType, "Domain type must not be null");
 
-		T entity = accessStrategy.findById(id, domainType);
+		T entity = aggregateCache == null //
+				? accessStrategy.findById(id, domainType) //
+				: aggregateCache.findById(id, domainType, () -> accessStrategy.findById(id, domainType));
 		if (entity == null) {
 			return null;
 		}
@@ -308,10 +380,15 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		Assert.notNull(domainType, "Domain type must not be null");
 
+		if (context.getRequiredPersistentEntity(domainType).isSingleQueryPagingEnabled()) {
+			return accessStrategy.findPage(domainType, pageable).map(entity -> triggerAfterConvert(entity));
+		}
+
 		Iterable<T> items = triggerAfterConvert(accessStrategy.findAll(domainType, pageable));
 		List<T> content = StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList());
 
-		return PageableExecutionUtils.getPage(content, pageable, () -> accessStrategy.count(domainType));
+		return PageableExecutionUtils.getPage(content, pageable, () -> countStrategy
+				.count(context.getRequiredPersistentEntity(domainType), null, () -> accessStrategy.count(domainType)));
 	}
 
 	@Override
@@ -324,13 +401,81 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return accessStrategy.findAll(query, domainType);
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Query query, Class<T> domainType) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		return accessStrategy.streamAll(query, domainType).map(entity -> triggerAfterConvert(entity));
+	}
+
 	@Override
 	public <T> Page<T> findAll(Query query, Class<T> domainType, Pageable pageable) {
 
+		if (context.getRequiredPersistentEntity(domainType).isSingleQueryPagingEnabled()) {
+			return accessStrategy.findPage(query, domainType, pageable).map(entity -> triggerAfterConvert(entity));
+		}
+
 		Iterable<T> items = triggerAfterConvert(accessStrategy.findAll(query, domainType, pageable));
 		List<T> content = StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList());
 
-		return PageableExecutionUtils.getPage(content, pageable, () -> accessStrategy.count(query, domainType));
+		return PageableExecutionUtils.getPage(content, pageable, () -> countForPage(query, domainType));
+	}
+
+	/**
+	 * Counts the aggregates matching the {@link Query} through the {@link CountStrategy}, identifying the criteria by
+	 * their shape and values. Counts of criteria whose shape cannot be determined get executed right away.
+	 */
+	private long countForPage(Query query, Class<?> domainType) {
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(domainType);
+		LongSupplier exactCount = () -> accessStrategy.count(query, domainType);
+
+		Optional<CriteriaDefinition> criteria = query.getCriteria().filter(it -> !it.isEmpty());
+		if (criteria.isEmpty()) {
+			return countStrategy.count(entity, null, exactCount);
+		}
+
+		List<Object> shape = CriteriaShapes.getShape(criteria.get());
+		if (shape == null) {
+			return exactCount.getAsLong();
+		}
+
+		List<Object> values = new ArrayList<>();
+		collectValues(criteria.get(), values);
+
+		return countStrategy.count(entity, Arrays.asList(shape, values), exactCount);
+	}
+
+	private static void collectValues(CriteriaDefinition criteria, List<Object> values) {
+
+		if (criteria.hasPrevious()) {
+			collectValues(criteria.getPrevious(), values);
+		}
+
+		if (criteria.isGroup()) {
+
+			for (CriteriaDefinition member : criteria.getGroup()) {
+				collectValues(member, values);
+			}
+			return;
+		}
+
+		Object value = criteria.getValue();
+		values.add(value != null && value.getClass().isArray() //
+				? Arrays.asList(ObjectUtils.toObjectArray(value)) //
+				: value);
+	}
+
+	@Override
+	public <T> Window<T> findAll(Query query, Class<T> domainType, ScrollPosition scrollPosition) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.notNull(scrollPosition, "ScrollPosition must not be null");
+
+		return accessStrategy.findAll(query, domainType, scrollPosition).map(entity -> triggerAfterConvert(entity));
 	}
 
 	@Override
@@ -342,6 +487,14 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return triggerAfterConvert(all);
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		return accessStrategy.streamAll(domainType).map(entity -> triggerAfterConvert(entity));
+	}
+
 	@Override
 	public <T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType) {
 
@@ -533,14 +686,42 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return aggregateChange;
 	}
 
+	private <T> RootAggregateChange<T> createUpsertChange(T instance) {
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(instance);
+
+		Assert.isTrue(!persistentEntity.hasVersionProperty(), () -> String
+				.format("Upserts are not supported for versioned aggregates like %s", persistentEntity.getName()));
+		Assert.notNull(persistentEntity.getIdentifierAccessor(instance).getIdentifier(),
+				"The id of an aggregate root must be set for an upsert");
+
+		RootAggregateChange<T> aggregateChange = MutableAggregateChange.forSave(instance);
+		new RelationalEntityUpsertWriter<T>(context).write(instance, aggregateChange);
+		return aggregateChange;
+	}
+
 	private <T> RootAggregateChange<T> createUpdateChange(EntityAndPreviousVersion<T> entityAndVersion) {
 
 		RootAggregateChange<T> aggregateChange = MutableAggregateChange.forSave(entityAndVersion.entity,
 				entityAndVersion.version);
-		new RelationalEntityUpdateWriter<T>(context).write(entityAndVersion.entity, aggregateChange);
+		new RelationalEntityUpdateWriter<T>(context, this::findPersistedState).write(entityAndVersion.entity,
+				aggregateChange);
 		return aggregateChange;
 	}
 
+	/**
+	 * Loads the state currently stored in the database for the aggregate root passed as an argument. Used for
+	 * differential updates of collections.
+	 */
+	@Nullable
+	private <T> T findPersistedState(T instance) {
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(instance);
+		Object id = persistentEntity.getIdentifierAccessor(instance).getIdentifier();
+
+		return id == null ? null : accessStrategy.findById(id, persistentEntity.getType());
+	}
+
 	private <T> T prepareVersionForInsert(T instance) {
 
 		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(instance);
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Cache for the state of aggregates annotated with
+ * {@link org.springframework.data.relational.core.mapping.AggregateCaching}, keyed by aggregate type and id.
+ * Implementations decide how long and how many aggregates are kept. The cached state gets materialized into new
+ * instances on every read, so implementations never hand out shared aggregate instances.
+ *
+ * @since 3.1
+ * @see LocalAggregateCache
+ */
+public interface AggregateCache {
+
+	/**
+	 * Returns the cached state of an aggregate.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@literal null}.
+	 * @param id the id of the aggregate root. Must not be {@literal null}.
+	 * @return the cached state or {@literal null} if there is none.
+	 */
+	@Nullable
+	CachedAggregate get(Class<?> domainType, Object id);
+
+	/**
+	 * Caches the state of an aggregate, replacing any state cached for it before.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@literal null}.
+	 * @param id the id of the aggregate root. Must not be {@literal null}.
+	 * @param aggregate the state to cache. Must not be {@literal null}.
+	 */
+	void put(Class<?> domainType, Object id, CachedAggregate aggregate);
+
+	/**
+	 * Caches the state of an aggregate read from the database, unless state is cached for it already. Cached state only
+	 * gets replaced if the given state is {@link CachedAggregate#isNewerThan(CachedAggregate) newer}, so that a stale
+	 * read does not overwrite state written by a concurrent save.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@literal null}.
+	 * @param id the id of the aggregate root. Must not be {@literal null}.
+	 * @param aggregate the state to cache. Must not be {@literal null}.
+	 */
+	void putIfAbsent(Class<?> domainType, Object id, CachedAggregate aggregate);
+
+	/**
+	 * Removes the cached state of an aggregate, if there is any.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@literal null}.
+	 * @param id the id of the aggregate root. Must not be {@literal null}.
+	 */
+	void evict(Class<?> domainType, Object id);
+
+	/**
+	 * Removes the cached state of all aggregates of the given type.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@literal null}.
+	 */
+	void evictAll(Class<?> domainType);
+}
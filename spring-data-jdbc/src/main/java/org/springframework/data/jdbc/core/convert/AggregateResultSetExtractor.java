@@ -0,0 +1,241 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.rowset.CachedRowSet;
+
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link ResultSetExtractor} assembling aggregates from rows selecting the aggregate root joined with all collections
+ * and maps it references, as rendered by {@link SqlGenerator#getFindOneJoiningCollections()}. Each row holds one
+ * element of each collection, so rows get de-duplicated per aggregate root and collection, using the id of the
+ * referenced entity or, if it has none, its list index or map key.
+ *
+ * @since 3.1
+ * @see org.springframework.data.relational.core.mapping.SingleQueryLoading
+ */
+class AggregateResultSetExtractor<T> implements ResultSetExtractor<List<T>> {
+
+	private final RelationalMappingContext context;
+	private final RelationalPersistentEntity<T> entity;
+	private final JdbcConverter converter;
+	private final RelationResolver relationResolver;
+
+	/**
+	 * @param relationResolver resolves relations not contained in the rows. Must not be {@literal null}.
+	 */
+	AggregateResultSetExtractor(RelationalMappingContext context, RelationalPersistentEntity<T> entity,
+			JdbcConverter converter, RelationResolver relationResolver) {
+
+		this.context = context;
+		this.entity = entity;
+		this.converter = converter;
+		this.relationResolver = relationResolver;
+	}
+
+	/**
+	 * Can aggregates of the given entity be loaded with a single query? This requires an id, at least one collection or
+	 * map of entities referenced by the aggregate root, none of which is loaded lazily, and each of these entities must
+	 * have an id or be held in a {@link List} or {@link Map} and must not reference other entities besides embedded
+	 * ones.
+	 *
+	 * @param context the mapping context. Must not be {@literal null}.
+	 * @param entity the entity of the aggregate root. Must not be {@literal null}.
+	 * @return {@literal true} if the aggregate can be assembled from a single query.
+	 */
+	static boolean supports(RelationalMappingContext context, RelationalPersistentEntity<?> entity) {
+
+		if (!entity.hasIdProperty()) {
+			return false;
+		}
+
+		boolean hasCollection = false;
+		for (RelationalPersistentProperty property : entity) {
+
+			if (property.isEmbedded()) {
+
+				if (!context.findPersistentPropertyPaths(property.getActualType(), AggregateResultSetExtractor::isCollection)
+						.isEmpty()) {
+					return false;
+				}
+			} else if (isCollection(property)) {
+
+				if (!property.isEntity() || property.isLazy()) {
+					return false;
+				}
+
+				RelationalPersistentEntity<?> elementEntity = context.getRequiredPersistentEntity(property.getActualType());
+				if (!elementEntity.hasIdProperty() && !property.isQualified()) {
+					return false;
+				}
+
+				if (!context.findPersistentPropertyPaths(elementEntity.getType(), p -> p.isEntity() && !p.isEmbedded())
+						.isEmpty()) {
+					return false;
+				}
+
+				hasCollection = true;
+			}
+		}
+
+		return hasCollection;
+	}
+
+	private static boolean isCollection(RelationalPersistentProperty property) {
+		return (property.isCollectionLike() && property.isEntity()) || property.isMap();
+	}
+
+	@Override
+	public List<T> extractData(ResultSet resultSet) throws SQLException {
+
+		CachedRowSet rows = BatchFetchingReader.cacheRows(resultSet);
+
+		try {
+
+			PersistentPropertyPathExtension rootPath = new PersistentPropertyPathExtension(context, entity);
+			RelationalPersistentProperty idProperty = entity.getRequiredIdProperty();
+			String idColumn = rootPath.extendBy(idProperty).getColumnAlias().getReference();
+
+			RowReader reader = new RowReader(converter);
+			List<JoinedCollection> collections = new ArrayList<>();
+			for (RelationalPersistentProperty property : entity) {
+				if (isCollection(property)) {
+					collections.add(new JoinedCollection(rootPath.extendBy(property), reader));
+				}
+			}
+
+			ResultSetAccessor accessor = reader.getAccessor(rows);
+			Map<Object, Integer> firstRowByRootId = new LinkedHashMap<>();
+			while (rows.next()) {
+
+				Object id = accessor.getObject(idColumn);
+				if (id == null) {
+					continue;
+				}
+
+				Object rootId = converter.readValue(id, idProperty.getTypeInformation());
+				firstRowByRootId.putIfAbsent(rootId, rows.getRow());
+
+				for (JoinedCollection collection : collections) {
+					collection.readElement(rows, accessor, rootId);
+				}
+			}
+
+			PrefetchedRelationResolver relations = new PrefetchedRelationResolver(relationResolver);
+			for (JoinedCollection collection : collections) {
+				relations.add(collection.path.getRequiredPersistentPropertyPath(), collection.getElementsByParent());
+			}
+
+			List<T> result = new ArrayList<>(firstRowByRootId.size());
+			for (int row : firstRowByRootId.values()) {
+
+				rows.absolute(row);
+				result.add(reader.mapRow(entity, rows, result.size(), relations));
+			}
+
+			return result;
+		} finally {
+			BatchFetchingReader.close(rows);
+		}
+	}
+
+	/**
+	 * The elements of a collection or map read so far, by aggregate root.
+	 */
+	private class JoinedCollection {
+
+		private final PersistentPropertyPathExtension path;
+		private final SqlIdentifier backReferenceColumn;
+		private final String distinctColumn;
+		@Nullable private final String keyColumn;
+		private final RowReader reader;
+		private final Map<Identifier, Map<Object, Map.Entry<Object, Object>>> elementsByParent = new LinkedHashMap<>();
+
+		JoinedCollection(PersistentPropertyPathExtension path, RowReader reader) {
+
+			SqlIdentifier keyColumnAlias = path.getQualifierColumnAlias();
+			RelationalPersistentProperty idProperty = path.getRequiredLeafEntity().getIdProperty();
+
+			this.path = path;
+			this.backReferenceColumn = path.getReverseColumnName();
+			this.keyColumn = keyColumnAlias == null ? null : keyColumnAlias.getReference();
+			this.distinctColumn = idProperty != null ? path.extendBy(idProperty).getColumnAlias().getReference()
+					: this.keyColumn;
+			this.reader = reader;
+		}
+
+		void readElement(ResultSet rows, ResultSetAccessor accessor, Object rootId) {
+
+			Object distinctValue = accessor.getObject(distinctColumn);
+
+			// no element joined to this row
+			if (distinctValue == null) {
+				return;
+			}
+
+			Identifier identifier = Identifier.of(backReferenceColumn, rootId, Object.class);
+			Map<Object, Map.Entry<Object, Object>> elements = elementsByParent.computeIfAbsent(identifier,
+					it -> new LinkedHashMap<>());
+
+			if (elements.containsKey(distinctValue)) {
+				return;
+			}
+
+			Object key = keyColumn == null ? elements.size() : accessor.getObject(keyColumn);
+			Object element = reader.mapJoinedRow(path, rows, identifier, key);
+			elements.put(distinctValue, new AbstractMap.SimpleEntry<>(key, element));
+		}
+
+		Map<Identifier, List<Object>> getElementsByParent() {
+
+			Map<Identifier, List<Object>> result = new HashMap<>(elementsByParent.size());
+			elementsByParent.forEach((identifier, elements) -> {
+
+				List<Map.Entry<Object, Object>> entries = new ArrayList<>(elements.values());
+
+				if (path.isOrdered()) {
+					entries.sort(Comparator.comparingLong(entry -> ((Number) entry.getKey()).longValue()));
+				}
+
+				List<Object> values = new ArrayList<>(entries.size());
+				for (Map.Entry<Object, Object> entry : entries) {
+					values.add(path.isMap() ? entry : entry.getValue());
+				}
+
+				result.put(identifier, values);
+			});
+
+			return result;
+		}
+	}
+}
@@ -20,8 +20,15 @@ import java.sql.JDBCType;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -80,6 +87,9 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 	private final IdentifierProcessing identifierProcessing;
 
 	private final RelationResolver relationResolver;
+	private final EntitySnapshots entitySnapshots;
+	private final Map<RelationalPersistentEntity<?>, Optional<CompiledEntityReader<?>>> compiledReaders = new ConcurrentHashMap<>();
+	private boolean compiledRowMappingEnabled = false;
 	private SpELContext spELContext;
 
 	/**
@@ -103,6 +113,7 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		this.typeFactory = JdbcTypeFactory.unsupported();
 		this.identifierProcessing = IdentifierProcessing.ANSI;
 		this.relationResolver = relationResolver;
+		this.entitySnapshots = new EntitySnapshots(context);
 		this.spELContext = new SpELContext(ResultSetAccessorPropertyAccessor.INSTANCE);
 	}
 
@@ -129,6 +140,7 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		this.typeFactory = typeFactory;
 		this.identifierProcessing = identifierProcessing;
 		this.relationResolver = relationResolver;
+		this.entitySnapshots = new EntitySnapshots(context);
 		this.spELContext = new SpELContext(ResultSetAccessorPropertyAccessor.INSTANCE);
 	}
 
@@ -137,6 +149,20 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		this.spELContext = new SpELContext(this.spELContext, applicationContext);
 	}
 
+	/**
+	 * Configures whether aggregate roots consisting of simple properties only get read using a reader compiled once per
+	 * entity. Such a reader resolves the properties to read, their types and the constructor parameters they are passed
+	 * to upfront and reads columns by index, instead of inspecting the entity for every row. Entities referencing other
+	 * entities, embedding entities or using SpEL expressions for constructor parameters are always read reflectively.
+	 * Disabled by default.
+	 *
+	 * @param compiledRowMappingEnabled whether to read simple aggregate roots with compiled readers.
+	 * @since 3.1
+	 */
+	public void setCompiledRowMappingEnabled(boolean compiledRowMappingEnabled) {
+		this.compiledRowMappingEnabled = compiledRowMappingEnabled;
+	}
+
 	@Nullable
 	private Class<?> getEntityColumnType(Class<?> type) {
 
@@ -300,13 +326,156 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 	@Override
 	public <T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key) {
-		return new ReadingContext<T>(new PersistentPropertyPathExtension(getMappingContext(), entity),
-				new ResultSetAccessor(resultSet), Identifier.empty(), key).mapRow();
+		return mapRow(entity, new ResultSetAccessor(resultSet), key);
+	}
+
+	@Override
+	public <T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key,
+			RelationResolver relationResolver) {
+		return mapRow(entity, new ResultSetAccessor(resultSet), key, relationResolver);
+	}
+
+	@Override
+	public <T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key,
+			Collection<String> resolvedProperties) {
+		return mapRow(entity, new ResultSetAccessor(resultSet), key, resolvedProperties);
+	}
+
+	@Override
+	public EntitySnapshots getEntitySnapshots() {
+		return entitySnapshots;
 	}
 
 	@Override
 	public <T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key) {
-		return new ReadingContext<T>(path, new ResultSetAccessor(resultSet), identifier, key).mapRow();
+		return mapRow(path, new ResultSetAccessor(resultSet), identifier, key);
+	}
+
+	@Override
+	public <T> T mapJoinedRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier,
+			Object key) {
+		return mapJoinedRow(path, new ResultSetAccessor(resultSet), identifier, key);
+	}
+
+	/**
+	 * Variant of {@link #mapRow(RelationalPersistentEntity, ResultSet, Object)} reading the current row through the
+	 * given {@link ResultSetAccessor}, so that its {@link RowReadingPlan} gets reused for all rows of the
+	 * {@link ResultSet}.
+	 *
+	 * @since 3.1
+	 * @see RowReader
+	 */
+	<T> T mapRow(RelationalPersistentEntity<T> entity, ResultSetAccessor accessor, Object key) {
+		return mapRow(entity, accessor, key, relationResolver);
+	}
+
+	/**
+	 * Variant of {@link #mapRow(RelationalPersistentEntity, ResultSet, Object, RelationResolver)} reading the current
+	 * row through the given {@link ResultSetAccessor}.
+	 *
+	 * @since 3.1
+	 * @see RowReader
+	 */
+	<T> T mapRow(RelationalPersistentEntity<T> entity, ResultSetAccessor accessor, Object key,
+			RelationResolver relationResolver) {
+
+		Assert.notNull(relationResolver, "RelationResolver must not be null");
+
+		CompiledEntityReader<T> compiledReader = getCompiledReader(entity);
+
+		T instance = compiledReader != null //
+				? compiledReader.read(accessor) //
+				: new ReadingContext<T>(new PersistentPropertyPathExtension(getMappingContext(), entity), accessor,
+						Identifier.empty(), key, relationResolver, false).mapRow();
+
+		entitySnapshots.capture(entity, instance);
+
+		return instance;
+	}
+
+	/**
+	 * Variant of {@link #mapRow(RelationalPersistentEntity, ResultSet, Object, Collection)} reading the current row
+	 * through the given {@link ResultSetAccessor}.
+	 *
+	 * @since 3.1
+	 * @see RowReader
+	 */
+	<T> T mapRow(RelationalPersistentEntity<T> entity, ResultSetAccessor accessor, Object key,
+			Collection<String> resolvedProperties) {
+
+		Assert.notNull(resolvedProperties, "Resolved properties must not be null");
+
+		return mapRow(entity, accessor, key, (identifier, path) -> {
+
+			RelationalPersistentProperty baseProperty = path.getBaseProperty();
+
+			return baseProperty != null && resolvedProperties.contains(baseProperty.getName()) //
+					? relationResolver.findAllByPath(identifier, path) //
+					: Collections.emptyList();
+		});
+	}
+
+	/**
+	 * Variant of {@link #mapRow(PersistentPropertyPathExtension, ResultSet, Identifier, Object)} reading the current
+	 * row through the given {@link ResultSetAccessor}.
+	 *
+	 * @since 3.1
+	 * @see RowReader
+	 */
+	<T> T mapRow(PersistentPropertyPathExtension path, ResultSetAccessor accessor, Identifier identifier, Object key) {
+		return new ReadingContext<T>(path, accessor, identifier, key, relationResolver, false).mapRow();
+	}
+
+	/**
+	 * Variant of {@link #mapJoinedRow(PersistentPropertyPathExtension, ResultSet, Identifier, Object)} reading the
+	 * current row through the given {@link ResultSetAccessor}.
+	 *
+	 * @since 3.1
+	 * @see RowReader
+	 */
+	<T> T mapJoinedRow(PersistentPropertyPathExtension path, ResultSetAccessor accessor, Identifier identifier,
+			Object key) {
+		return new ReadingContext<T>(path, accessor, identifier, key, relationResolver, true).mapRow();
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private <T> CompiledEntityReader<T> getCompiledReader(RelationalPersistentEntity<T> entity) {
+
+		if (!compiledRowMappingEnabled) {
+			return null;
+		}
+
+		return (CompiledEntityReader<T>) compiledReaders.computeIfAbsent(entity, it -> supportsCompiledReading(it) //
+				? Optional.of(new CompiledEntityReader<>(it)) //
+				: Optional.empty()).orElse(null);
+	}
+
+	private boolean supportsCompiledReading(RelationalPersistentEntity<?> entity) {
+
+		InstanceCreatorMetadata<RelationalPersistentProperty> creatorMetadata = entity.getInstanceCreatorMetadata();
+
+		if (creatorMetadata != null) {
+
+			for (Parameter<Object, RelationalPersistentProperty> parameter : creatorMetadata.getParameters()) {
+
+				String name = parameter.getName();
+				if (name == null || parameter.hasSpelExpression() || entity.getPersistentProperty(name) == null) {
+					return false;
+				}
+			}
+		}
+
+		List<RelationalPersistentProperty> properties = new ArrayList<>();
+		entity.doWithAll(properties::add);
+
+		for (RelationalPersistentProperty property : properties) {
+			if (property.isEntity() || property.isMap() || property.isEmbedded()) {
+				return false;
+			}
+		}
+
+		return true;
 	}
 
 	static Object[] requireObjectArray(Object source) {
@@ -350,51 +519,47 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 		private final RelationalPersistentEntity<T> entity;
 
-		private final PersistentPropertyPathExtension rootPath;
-		private final PersistentPropertyPathExtension path;
+		private final RowReadingPlan.PathPlan plan;
 		private final Identifier identifier;
 		private final Object key;
 
-		private final JdbcPropertyValueProvider propertyValueProvider;
-		private final JdbcBackReferencePropertyValueProvider backReferencePropertyValueProvider;
 		private final ResultSetAccessor accessor;
+		private final RelationResolver relationResolver;
 
 		@SuppressWarnings("unchecked")
 		private ReadingContext(PersistentPropertyPathExtension rootPath, ResultSetAccessor accessor, Identifier identifier,
-				Object key) {
+				Object key, RelationResolver relationResolver, boolean joined) {
 			RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) rootPath.getLeafEntity();
 
 			Assert.notNull(entity, "The rootPath must point to an entity");
 
 			this.entity = entity;
-			this.rootPath = rootPath;
-			this.path = new PersistentPropertyPathExtension(getMappingContext(), this.entity);
+			this.plan = accessor.getPlan().getPathPlan(rootPath, joined,
+					() -> new PersistentPropertyPathExtension(getMappingContext(), entity));
 			this.identifier = identifier;
 			this.key = key;
-			this.propertyValueProvider = new JdbcPropertyValueProvider(path, accessor);
-			this.backReferencePropertyValueProvider = new JdbcBackReferencePropertyValueProvider(path, accessor);
 			this.accessor = accessor;
+			this.relationResolver = relationResolver;
 		}
 
-		private ReadingContext(RelationalPersistentEntity<T> entity, PersistentPropertyPathExtension rootPath,
-				PersistentPropertyPathExtension path, Identifier identifier, Object key,
-				JdbcPropertyValueProvider propertyValueProvider,
-				JdbcBackReferencePropertyValueProvider backReferencePropertyValueProvider, ResultSetAccessor accessor) {
+		private ReadingContext(RelationalPersistentEntity<T> entity, RowReadingPlan.PathPlan plan, Identifier identifier,
+				Object key, ResultSetAccessor accessor, RelationResolver relationResolver) {
 			this.entity = entity;
-			this.rootPath = rootPath;
-			this.path = path;
+			this.plan = plan;
 			this.identifier = identifier;
 			this.key = key;
-			this.propertyValueProvider = propertyValueProvider;
-			this.backReferencePropertyValueProvider = backReferencePropertyValueProvider;
 			this.accessor = accessor;
+			this.relationResolver = relationResolver;
 		}
 
 		private <S> ReadingContext<S> extendBy(RelationalPersistentProperty property) {
-			return new ReadingContext<>(
-					(RelationalPersistentEntity<S>) getMappingContext().getRequiredPersistentEntity(property.getActualType()),
-					rootPath.extendBy(property), path.extendBy(property), identifier, key,
-					propertyValueProvider.extendBy(property), backReferencePropertyValueProvider.extendBy(property), accessor);
+
+			RowReadingPlan.PathPlan nestedPlan = plan.extendBy(property);
+			RelationalPersistentEntity<S> nestedEntity = nestedPlan.getEntity();
+
+			Assert.state(nestedEntity != null, () -> "No entity found for " + property);
+
+			return new ReadingContext<>(nestedEntity, nestedPlan, identifier, key, accessor, relationResolver);
 		}
 
 		T mapRow() {
@@ -420,7 +585,7 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 				// skip absent simple properties
 				if (isSimpleProperty(property)) {
 
-					if (!propertyValueProvider.hasProperty(property)) {
+					if (plan.getColumnIndex(property) < 0) {
 						return;
 					}
 				}
@@ -437,6 +602,10 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 			if ((property.isCollectionLike() && property.isEntity()) || property.isMap()) {
 
+				if (property.isLazy()) {
+					return LazyRelations.create(property, getRelationLoader(id, property));
+				}
+
 				Iterable<Object> allByPath = resolveRelation(id, property);
 
 				return property.isMap() //
@@ -451,15 +620,21 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		}
 
 		private Iterable<Object> resolveRelation(@Nullable Object id, RelationalPersistentProperty property) {
+			return getRelationLoader(id, property).get();
+		}
+
+		private Supplier<Iterable<Object>> getRelationLoader(@Nullable Object id, RelationalPersistentProperty property) {
+
+			RowReadingPlan.PathPlan relationPlan = plan.extendBy(property);
 
 			Identifier identifier = id == null //
-					? this.identifier.withPart(rootPath.getQualifierColumn(), key, Object.class) //
-					: Identifier.of(rootPath.extendBy(property).getReverseColumnName(), id, Object.class);
+					? this.identifier.withPart(plan.getRootPath().getQualifierColumn(), key, Object.class) //
+					: Identifier.of(relationPlan.getRootPath().getReverseColumnName(), id, Object.class);
 
-			PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath = path.extendBy(property)
+			PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath = relationPlan.getPath()
 					.getRequiredPersistentPropertyPath();
 
-			return relationResolver.findAllByPath(identifier, propertyPath);
+			return () -> relationResolver.findAllByPath(identifier, propertyPath);
 		}
 
 		/**
@@ -476,7 +651,7 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 				return readEntityFrom(property);
 			}
 
-			Object value = propertyValueProvider.getPropertyValue(property);
+			Object value = accessor.getObject(plan.getColumnIndex(property));
 			return value != null ? readValue(value, property.getTypeInformation()) : null;
 		}
 
@@ -498,7 +673,7 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 		private boolean hasInstanceValues(@Nullable Object idValue) {
 
-			RelationalPersistentEntity<?> persistentEntity = path.getRequiredLeafEntity();
+			RelationalPersistentEntity<?> persistentEntity = plan.getPath().getRequiredLeafEntity();
 
 			for (RelationalPersistentProperty embeddedProperty : persistentEntity) {
 
@@ -521,15 +696,14 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		private Object readEntityFrom(RelationalPersistentProperty property) {
 
 			ReadingContext<?> newContext = extendBy(property);
-			RelationalPersistentEntity<?> entity = getMappingContext().getRequiredPersistentEntity(property.getActualType());
-			RelationalPersistentProperty idProperty = entity.getIdProperty();
+			RelationalPersistentProperty idProperty = newContext.entity.getIdProperty();
 
 			Object idValue;
 
 			if (idProperty != null) {
 				idValue = newContext.readFrom(idProperty);
 			} else {
-				idValue = backReferencePropertyValueProvider.getPropertyValue(property);
+				idValue = accessor.getObject(plan.getBackReferenceIndex(property));
 			}
 
 			if (idValue == null) {
@@ -589,6 +763,91 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		}
 	}
 
+	/**
+	 * Reads aggregate roots consisting of simple properties only. Everything that does not depend on the row, i.e. the
+	 * properties to read, their types and the constructor parameters they are passed to, is resolved once per entity.
+	 * Columns get read by index as resolved by the {@link RowReadingPlan} of the {@link ResultSet}.
+	 *
+	 * @since 3.1
+	 */
+	private class CompiledEntityReader<T> {
+
+		private final RelationalPersistentEntity<T> entity;
+		private final PersistentPropertyPathExtension rootPath;
+		private final RelationalPersistentProperty[] properties;
+		private final TypeInformation<?>[] types;
+		private final boolean[] populate;
+		private final boolean[] skipIfAbsent;
+		private final Map<String, Integer> parameterSlots = new HashMap<>();
+		private final boolean requiresPropertyPopulation;
+
+		CompiledEntityReader(RelationalPersistentEntity<T> entity) {
+
+			List<RelationalPersistentProperty> properties = new ArrayList<>();
+			entity.doWithAll(properties::add);
+
+			InstanceCreatorMetadata<RelationalPersistentProperty> creatorMetadata = entity.getInstanceCreatorMetadata();
+
+			this.entity = entity;
+			this.rootPath = new PersistentPropertyPathExtension(getMappingContext(), entity);
+			this.properties = properties.toArray(new RelationalPersistentProperty[0]);
+			this.types = new TypeInformation<?>[this.properties.length];
+			this.populate = new boolean[this.properties.length];
+			this.skipIfAbsent = new boolean[this.properties.length];
+			this.requiresPropertyPopulation = entity.requiresPropertyPopulation();
+
+			for (int i = 0; i < this.properties.length; i++) {
+
+				RelationalPersistentProperty property = this.properties[i];
+				boolean creatorParameter = creatorMetadata != null && creatorMetadata.isCreatorParameter(property);
+
+				this.types[i] = property.getTypeInformation();
+				this.populate[i] = !creatorParameter;
+				this.skipIfAbsent[i] = isSimpleProperty(property);
+
+				if (creatorParameter) {
+					parameterSlots.put(property.getName(), i);
+				}
+			}
+		}
+
+		T read(ResultSetAccessor accessor) {
+
+			RowReadingPlan.PathPlan plan = accessor.getPlan().getPathPlan(rootPath, false, () -> rootPath);
+
+			int[] columnIndexes = new int[properties.length];
+			Object[] values = new Object[properties.length];
+
+			for (int i = 0; i < properties.length; i++) {
+
+				int columnIndex = plan.getColumnIndex(properties[i]);
+				Object value = accessor.getObject(columnIndex);
+
+				columnIndexes[i] = columnIndex;
+				values[i] = value != null ? readValue(value, types[i]) : null;
+			}
+
+			T instance = createInstance(entity, parameter -> values[parameterSlots.get(parameter.getName())]);
+
+			if (!requiresPropertyPopulation) {
+				return instance;
+			}
+
+			PersistentPropertyAccessor<T> propertyAccessor = getPropertyAccessor(entity, instance);
+
+			for (int i = 0; i < properties.length; i++) {
+
+				if (!populate[i] || (skipIfAbsent[i] && columnIndexes[i] < 0)) {
+					continue;
+				}
+
+				propertyAccessor.setProperty(properties[i], values[i]);
+			}
+
+			return propertyAccessor.getBean();
+		}
+	}
+
 	private boolean isSimpleProperty(RelationalPersistentProperty property) {
 		return !property.isCollectionLike() && !property.isEntity() && !property.isMap() && !property.isEmbedded();
 	}
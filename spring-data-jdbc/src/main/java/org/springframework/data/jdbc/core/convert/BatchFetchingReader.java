@@ -0,0 +1,243 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetFactory;
+import javax.sql.rowset.RowSetProvider;
+
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Reads aggregate roots while loading the collections and maps referenced by them in batches. The rows of the
+ * aggregate roots are read first. Each relation is then loaded with a single query per chunk of aggregate roots,
+ * selecting the entities by the back reference column, and the entities get assigned to their aggregate root while it
+ * is being materialized. Relations of referenced entities are still resolved one entity at a time.
+ *
+ * @since 3.1
+ * @see org.springframework.data.relational.core.mapping.BatchFetching
+ */
+class BatchFetchingReader {
+
+	private static final RowSetFactory ROW_SET_FACTORY;
+
+	static {
+		try {
+			ROW_SET_FACTORY = RowSetProvider.newFactory();
+		} catch (SQLException ex) {
+			throw new IllegalStateException("Cannot create RowSetFactory through RowSetProvider", ex);
+		}
+	}
+
+	private final RelationalMappingContext context;
+	private final JdbcConverter converter;
+	private final NamedParameterJdbcOperations operations;
+	private final SqlGeneratorSource sqlGeneratorSource;
+	private final SqlParametersFactory sqlParametersFactory;
+	private final InListBinding inListBinding;
+	private final RelationResolver relationResolver;
+
+	/**
+	 * @param relationResolver resolves relations not loaded in batches. Must not be {@literal null}.
+	 */
+	BatchFetchingReader(RelationalMappingContext context, JdbcConverter converter,
+			NamedParameterJdbcOperations operations, SqlGeneratorSource sqlGeneratorSource,
+			SqlParametersFactory sqlParametersFactory, InListBinding inListBinding, RelationResolver relationResolver) {
+
+		this.context = context;
+		this.converter = converter;
+		this.operations = operations;
+		this.sqlGeneratorSource = sqlGeneratorSource;
+		this.sqlParametersFactory = sqlParametersFactory;
+		this.inListBinding = inListBinding;
+		this.relationResolver = relationResolver;
+	}
+
+	/**
+	 * Can the relations of the given entity be loaded in batches? This requires an id and at least one collection or map
+	 * referenced directly by the entity that is not loaded lazily.
+	 *
+	 * @param entity the entity of the aggregate root. Must not be {@literal null}.
+	 * @return {@literal true} if loading the relations of the entity in batches saves queries.
+	 */
+	boolean supports(RelationalPersistentEntity<?> entity) {
+		return entity.hasIdProperty() && !getRelations(entity).isEmpty();
+	}
+
+	/**
+	 * Executes the query for aggregate roots and materializes them, loading their collections and maps in batches.
+	 *
+	 * @param sql the query selecting the aggregate roots. Must not be {@literal null}.
+	 * @param parameterSource the parameters of the query. Must not be {@literal null}.
+	 * @param entity the entity of the aggregate root. Must not be {@literal null}.
+	 * @return the aggregate roots in the order returned by the query. Guaranteed to be not {@literal null}.
+	 */
+	<T> List<T> query(String sql, SqlParameterSource parameterSource, RelationalPersistentEntity<T> entity) {
+
+		CachedRowSet rows = operations.query(sql, parameterSource, BatchFetchingReader::cacheRows);
+		Assert.state(rows != null, "The ResultSetExtractor must not return null");
+
+		try {
+
+			RowReader reader = new RowReader(converter);
+			List<Object> ids = readIds(reader, rows, entity);
+
+			if (ids.isEmpty()) {
+				return Collections.emptyList();
+			}
+
+			PrefetchedRelationResolver relations = new PrefetchedRelationResolver(relationResolver);
+			for (RelationalPersistentProperty property : getRelations(entity)) {
+
+				PersistentPropertyPathExtension path = new PersistentPropertyPathExtension(context, entity)
+						.extendBy(property);
+				relations.add(path.getRequiredPersistentPropertyPath(), loadRelation(path, entity, ids));
+			}
+
+			List<T> result = new ArrayList<>(ids.size());
+			rows.beforeFirst();
+			while (rows.next()) {
+				result.add(reader.mapRow(entity, rows, result.size(), relations));
+			}
+
+			return result;
+		} catch (SQLException ex) {
+			throw new MappingException("Could not read cached rows of " + entity.getName(), ex);
+		} finally {
+			close(rows);
+		}
+	}
+
+	private List<Object> readIds(RowReader reader, CachedRowSet rows, RelationalPersistentEntity<?> entity)
+			throws SQLException {
+
+		RelationalPersistentProperty idProperty = entity.getRequiredIdProperty();
+		String idColumn = new PersistentPropertyPathExtension(context, entity).extendBy(idProperty).getColumnAlias()
+				.getReference();
+
+		ResultSetAccessor accessor = reader.getAccessor(rows);
+		List<Object> ids = new ArrayList<>(rows.size());
+		while (rows.next()) {
+
+			Object id = accessor.getObject(idColumn);
+			if (id != null) {
+				ids.add(converter.readValue(id, idProperty.getTypeInformation()));
+			}
+		}
+
+		return ids;
+	}
+
+	private Map<Identifier, List<Object>> loadRelation(PersistentPropertyPathExtension path,
+			RelationalPersistentEntity<?> entity, List<Object> ids) {
+
+		SqlIdentifier backReferenceColumn = path.getReverseColumnName();
+		SqlIdentifier keyColumn = path.getQualifierColumn();
+		SqlGenerator sqlGenerator = sqlGeneratorSource.getSqlGenerator(path.getActualType());
+		RelationalPersistentProperty idProperty = entity.getRequiredIdProperty();
+
+		RowReader reader = new RowReader(converter);
+		Map<Identifier, List<Object>> elementsByParent = new HashMap<>();
+		RowCallbackHandler rowCallbackHandler = resultSet -> {
+
+			Object parentId = converter.readValue(resultSet.getObject(backReferenceColumn.getReference()),
+					idProperty.getTypeInformation());
+			Identifier identifier = Identifier.of(backReferenceColumn, parentId, Object.class);
+			List<Object> elements = elementsByParent.computeIfAbsent(identifier, it -> new ArrayList<>());
+
+			elements.add(readElement(reader, path, resultSet, identifier, keyColumn, elements.size()));
+		};
+
+		if (inListBinding.bindAsArray(ids.size())) {
+
+			String sql = sqlGenerator.getFindAllByPropertyIn(backReferenceColumn, keyColumn, path.isOrdered(), true);
+			operations.query(sql, sqlParametersFactory.forQueryByIdArray(ids, entity.getType()), rowCallbackHandler);
+			return elementsByParent;
+		}
+
+		String sql = sqlGenerator.getFindAllByPropertyIn(backReferenceColumn, keyColumn, path.isOrdered(), false);
+		for (List<Object> partition : inListBinding.partition(ids)) {
+			operations.query(sql, sqlParametersFactory.forQueryByIds(partition, entity.getType()), rowCallbackHandler);
+		}
+
+		return elementsByParent;
+	}
+
+	private static Object readElement(RowReader reader, PersistentPropertyPathExtension path, ResultSet resultSet,
+			Identifier identifier, @Nullable SqlIdentifier keyColumn, int index) throws SQLException {
+
+		if (!path.isMap()) {
+			return reader.mapRow(path, resultSet, identifier, index);
+		}
+
+		Assert.notNull(keyColumn, () -> "KeyColumn must not be null for " + path);
+
+		Object key = resultSet.getObject(keyColumn.getReference());
+		return new AbstractMap.SimpleEntry<>(key, reader.mapRow(path, resultSet, identifier, key));
+	}
+
+	private static List<RelationalPersistentProperty> getRelations(RelationalPersistentEntity<?> entity) {
+
+		List<RelationalPersistentProperty> relations = new ArrayList<>();
+		for (RelationalPersistentProperty property : entity) {
+
+			if (((property.isCollectionLike() && property.isEntity()) || property.isMap()) && !property.isLazy()) {
+				relations.add(property);
+			}
+		}
+
+		return relations;
+	}
+
+	/**
+	 * Copies all rows of the given {@link ResultSet} into memory. Columns of the copy must be accessed by index, e.g.
+	 * through a {@link ResultSetAccessor}, since {@link CachedRowSet} looks up columns by name and not by label.
+	 */
+	static CachedRowSet cacheRows(ResultSet resultSet) throws SQLException {
+
+		CachedRowSet rows = ROW_SET_FACTORY.createCachedRowSet();
+		rows.populate(resultSet);
+		return rows;
+	}
+
+	static void close(CachedRowSet rows) {
+
+		try {
+			rows.close();
+		} catch (SQLException ex) {
+			// nothing to release, the rows are held in memory
+		}
+	}
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.model.InstanceCreatorMetadata;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The state of an aggregate as held by an {@link AggregateCache}. Simple properties are held in the form they get
+ * written to their columns, referenced entities as nested states, so the cached state does not share any instances
+ * with the aggregate it was captured from. Each {@link #materialize(JdbcConverter) materialization} creates new
+ * instances of all entities of the aggregate.
+ *
+ * @since 3.1
+ */
+public final class CachedAggregate {
+
+	private final Class<?> domainType;
+	private final Map<String, Object> state;
+	@Nullable private final Object version;
+
+	private CachedAggregate(Class<?> domainType, Map<String, Object> state, @Nullable Object version) {
+
+		this.domainType = domainType;
+		this.state = state;
+		this.version = version;
+	}
+
+	/**
+	 * Captures the state of an aggregate.
+	 *
+	 * @param converter the converter to write the values of simple properties with. Must not be {@literal null}.
+	 * @param entity the entity of the aggregate root. Must not be {@literal null}.
+	 * @param aggregateRoot the aggregate root. Must not be {@literal null}.
+	 * @return the captured state. Guaranteed to be not {@literal null}.
+	 */
+	public static <T> CachedAggregate capture(JdbcConverter converter, RelationalPersistentEntity<T> entity,
+			T aggregateRoot) {
+
+		Assert.notNull(converter, "JdbcConverter must not be null");
+		Assert.notNull(entity, "RelationalPersistentEntity must not be null");
+		Assert.notNull(aggregateRoot, "Aggregate root must not be null");
+
+		Object version = entity.hasVersionProperty()
+				? entity.getPropertyAccessor(aggregateRoot).getProperty(entity.getRequiredVersionProperty())
+				: null;
+
+		return new CachedAggregate(entity.getType(), captureEntity(converter, entity, aggregateRoot), version);
+	}
+
+	/**
+	 * @return the type of the aggregate root.
+	 */
+	public Class<?> getDomainType() {
+		return domainType;
+	}
+
+	/**
+	 * Returns whether this state was captured from a newer version of the aggregate than the given state. States of
+	 * aggregates without numeric {@link org.springframework.data.annotation.Version version} are never considered
+	 * newer.
+	 *
+	 * @param other the state to compare with. Must not be {@literal null}.
+	 * @return {@literal true} if both states have a numeric version and the version of this state is higher.
+	 */
+	public boolean isNewerThan(CachedAggregate other) {
+
+		Assert.notNull(other, "CachedAggregate must not be null");
+
+		return version instanceof Number thisVersion && other.version instanceof Number otherVersion
+				&& thisVersion.longValue() > otherVersion.longValue();
+	}
+
+	/**
+	 * Creates a new instance of the aggregate from the cached state.
+	 *
+	 * @param converter the converter to read the values of simple properties with. Must not be {@literal null}.
+	 * @return the new aggregate root. Guaranteed to be not {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T materialize(JdbcConverter converter) {
+
+		Assert.notNull(converter, "JdbcConverter must not be null");
+
+		RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) converter.getMappingContext()
+				.getRequiredPersistentEntity(domainType);
+
+		return materializeEntity(converter, entity, state);
+	}
+
+	private static Map<String, Object> captureEntity(JdbcConverter converter, RelationalPersistentEntity<?> entity,
+			Object instance) {
+
+		PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(instance);
+		Map<String, Object> state = new LinkedHashMap<>();
+
+		for (RelationalPersistentProperty property : entity) {
+			state.put(property.getName(), captureProperty(converter, property, accessor.getProperty(property)));
+		}
+
+		return state;
+	}
+
+	@Nullable
+	private static Object captureProperty(JdbcConverter converter, RelationalPersistentProperty property,
+			@Nullable Object value) {
+
+		if (value == null) {
+			return null;
+		}
+
+		if (!property.isEntity()) {
+
+			Object columnValue = converter.writeValue(value, TypeInformation.of(converter.getColumnType(property)));
+			return copy(columnValue);
+		}
+
+		RelationalPersistentEntity<?> entity = converter.getMappingContext()
+				.getRequiredPersistentEntity(property.getActualType());
+
+		if (property.isMap()) {
+
+			Map<Object, Object> entries = new LinkedHashMap<>();
+			((Map<?, ?>) value).forEach((key, element) -> entries.put(copy(key),
+					element == null ? null : captureEntity(converter, entity, element)));
+			return entries;
+		}
+
+		if (property.isCollectionLike()) {
+
+			List<Object> elements = new ArrayList<>();
+			for (Object element : asIterable(value)) {
+				elements.add(element == null ? null : captureEntity(converter, entity, element));
+			}
+			return elements;
+		}
+
+		return captureEntity(converter, entity, value);
+	}
+
+	private static <T> T materializeEntity(JdbcConverter converter, RelationalPersistentEntity<T> entity,
+			Map<String, Object> state) {
+
+		InstanceCreatorMetadata<RelationalPersistentProperty> creatorMetadata = entity.getInstanceCreatorMetadata();
+
+		T instance = converter.createInstance(entity, parameter -> {
+
+			String parameterName = parameter.getName();
+
+			Assert.notNull(parameterName, "A constructor parameter name must not be null to be used with Spring Data JDBC");
+
+			RelationalPersistentProperty property = entity.getRequiredPersistentProperty(parameterName);
+			return materializeProperty(converter, property, state.get(parameterName));
+		});
+
+		if (!entity.requiresPropertyPopulation()) {
+			return instance;
+		}
+
+		PersistentPropertyAccessor<T> accessor = converter.getPropertyAccessor(entity, instance);
+
+		for (RelationalPersistentProperty property : entity) {
+
+			if (creatorMetadata != null && creatorMetadata.isCreatorParameter(property)) {
+				continue;
+			}
+
+			accessor.setProperty(property, materializeProperty(converter, property, state.get(property.getName())));
+		}
+
+		return accessor.getBean();
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private static Object materializeProperty(JdbcConverter converter, RelationalPersistentProperty property,
+			@Nullable Object value) {
+
+		if (value == null) {
+			return null;
+		}
+
+		if (!property.isEntity()) {
+			return converter.readValue(copy(value), property.getTypeInformation());
+		}
+
+		RelationalPersistentEntity<?> entity = converter.getMappingContext()
+				.getRequiredPersistentEntity(property.getActualType());
+
+		if (property.isMap()) {
+
+			Map<Object, Object> entries = new LinkedHashMap<>();
+			((Map<Object, Map<String, Object>>) value).forEach((key, element) -> entries.put(copy(key),
+					element == null ? null : materializeEntity(converter, entity, element)));
+			return entries;
+		}
+
+		if (property.isCollectionLike()) {
+
+			List<Object> elements = new ArrayList<>();
+			for (Map<String, Object> element : (List<Map<String, Object>>) value) {
+				elements.add(element == null ? null : materializeEntity(converter, entity, element));
+			}
+			return elements;
+		}
+
+		return materializeEntity(converter, entity, (Map<String, Object>) value);
+	}
+
+	private static Iterable<?> asIterable(Object value) {
+
+		if (!value.getClass().isArray()) {
+			return (Iterable<?>) value;
+		}
+
+		List<Object> elements = new ArrayList<>();
+		for (int index = 0; index < Array.getLength(value); index++) {
+			elements.add(Array.get(value, index));
+		}
+		return elements;
+	}
+
+	/**
+	 * Copies the mutable values simple properties may get written as.
+	 */
+	@Nullable
+	private static Object copy(@Nullable Object value) {
+
+		if (value == null) {
+			return null;
+		}
+
+		if (value.getClass().isArray()) {
+
+			int length = Array.getLength(value);
+			Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+			for (int index = 0; index < length; index++) {
+				Array.set(copy, index, copy(Array.get(value, index)));
+			}
+			return copy;
+		}
+
+		if (value instanceof Date date) {
+			return date.clone();
+		}
+
+		if (value instanceof List<?> list) {
+
+			List<Object> copy = new ArrayList<>(list.size());
+			list.forEach(element -> copy.add(copy(element)));
+			return copy;
+		}
+
+		return value;
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link CountStrategy} caching the counts determined by a delegate per aggregate type and criteria for a fixed time to
+ * live. Subsequent pages of the same query reuse the count obtained for the first one, at the price of reporting totals
+ * that may be outdated by up to the time to live. Holds up to a maximum number of counts, evicting the least recently
+ * used ones first.
+ * <p>
+ * When used by a {@link org.springframework.data.jdbc.core.JdbcAggregateTemplate}, saving or deleting aggregates
+ * through the template evicts the counts of their type. Modifications bypassing the template, e.g. through modifying
+ * query methods or plain SQL, are not detected. Use {@link #evict(Class)} to drop the counts of an aggregate type after
+ * such modifications.
+ *
+ * @since 3.1
+ */
+public class CachingCountStrategy implements CountStrategy {
+
+	static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+	private final CountStrategy delegate;
+	private final Duration timeToLive;
+	private final int maximumSize;
+	private final Clock clock;
+	private final LinkedHashMap<CacheKey, CachedCount> counts = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * Creates a {@link CachingCountStrategy} holding up to 256 counts.
+	 *
+	 * @param delegate determines the counts to cache. Must not be {@literal null}.
+	 * @param timeToLive the duration counts are cached for. Must not be {@literal null} or negative.
+	 */
+	public CachingCountStrategy(CountStrategy delegate, Duration timeToLive) {
+		this(delegate, timeToLive, DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * @param delegate determines the counts to cache. Must not be {@literal null}.
+	 * @param timeToLive the duration counts are cached for. Must not be {@literal null} or negative.
+	 * @param maximumSize the maximum number of cached counts. Must be positive.
+	 */
+	public CachingCountStrategy(CountStrategy delegate, Duration timeToLive, int maximumSize) {
+		this(delegate, timeToLive, maximumSize, Clock.systemUTC());
+	}
+
+	CachingCountStrategy(CountStrategy delegate, Duration timeToLive, int maximumSize, Clock clock) {
+
+		Assert.notNull(delegate, "Delegate CountStrategy must not be null");
+		Assert.notNull(timeToLive, "Time to live must not be null");
+		Assert.isTrue(!timeToLive.isNegative(), "Time to live must not be negative");
+		Assert.isTrue(maximumSize > 0, "Maximum size must be positive");
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.delegate = delegate;
+		this.timeToLive = timeToLive;
+		this.maximumSize = maximumSize;
+		this.clock = clock;
+	}
+
+	@Override
+	public long count(RelationalPersistentEntity<?> entity, @Nullable Object criteria, LongSupplier exactCount) {
+
+		Instant now = clock.instant();
+		CacheKey key = new CacheKey(entity.getType(), criteria);
+
+		synchronized (counts) {
+
+			CachedCount cached = counts.get(key);
+
+			if (cached != null && cached.isValidAt(now)) {
+				return cached.count;
+			}
+		}
+
+		long count = delegate.count(entity, criteria, exactCount);
+
+		synchronized (counts) {
+
+			counts.values().removeIf(it -> !it.isValidAt(now));
+			counts.put(key, new CachedCount(count, now.plus(timeToLive)));
+
+			Iterator<CachedCount> leastRecentlyUsed = counts.values().iterator();
+			while (counts.size() > maximumSize) {
+
+				leastRecentlyUsed.next();
+				leastRecentlyUsed.remove();
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * Removes all cached counts of the given aggregate type. If called within a transaction, the counts get removed
+	 * again once it completes, so that counts determined concurrently before the modifications got committed are not
+	 * kept.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 */
+	public void evict(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		removeCounts(domainType);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCompletion(int status) {
+					removeCounts(domainType);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Removes all cached counts.
+	 */
+	public void clear() {
+
+		synchronized (counts) {
+			counts.clear();
+		}
+	}
+
+	/**
+	 * @return the number of cached counts.
+	 */
+	public int size() {
+
+		synchronized (counts) {
+			return counts.size();
+		}
+	}
+
+	private void removeCounts(Class<?> domainType) {
+
+		synchronized (counts) {
+			counts.keySet().removeIf(it -> it.domainType.equals(domainType));
+		}
+	}
+
+	private static class CacheKey {
+
+		private final Class<?> domainType;
+		@Nullable private final Object criteria;
+
+		CacheKey(Class<?> domainType, @Nullable Object criteria) {
+
+			this.domainType = domainType;
+			this.criteria = criteria;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof CacheKey that)) {
+				return false;
+			}
+
+			return domainType.equals(that.domainType) && ObjectUtils.nullSafeEquals(criteria, that.criteria);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * domainType.hashCode() + ObjectUtils.nullSafeHashCode(criteria);
+		}
+	}
+
+	private static class CachedCount {
+
+		private final long count;
+		private final Instant expiresAt;
+
+		CachedCount(long count, Instant expiresAt) {
+
+			this.count = count;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean isValidAt(Instant instant) {
+			return instant.isBefore(expiresAt);
+		}
+	}
+}
@@ -22,9 +22,13 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
@@ -67,11 +71,36 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.update(instance, domainType));
 	}
 
+	@Override
+	public <S> boolean update(S instance, Class<S> domainType, Identifier identifier) {
+		return collect(das -> das.update(instance, domainType, identifier));
+	}
+
 	@Override
 	public <S> boolean updateWithVersion(S instance, Class<S> domainType, Number previousVersion) {
 		return collect(das -> das.updateWithVersion(instance, domainType, previousVersion));
 	}
 
+	@Override
+	public <T> boolean[] updateAll(List<T> instances, Class<T> domainType) {
+		return collect(das -> das.updateAll(instances, domainType));
+	}
+
+	@Override
+	public <T> boolean[] updateAllWithVersion(List<T> instances, Class<T> domainType, List<Number> previousVersions) {
+		return collect(das -> das.updateAllWithVersion(instances, domainType, previousVersions));
+	}
+
+	@Override
+	public <T> void upsert(T instance, Class<T> domainType) {
+		collectVoid(das -> das.upsert(instance, domainType));
+	}
+
+	@Override
+	public <T> void upsertAll(List<T> instances, Class<T> domainType) {
+		collectVoid(das -> das.upsertAll(instances, domainType));
+	}
+
 	@Override
 	public void delete(Object id, Class<?> domainType) {
 		collectVoid(das -> das.delete(id, domainType));
@@ -92,6 +121,11 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		collectVoid(das -> das.delete(rootId, propertyPath));
 	}
 
+	@Override
+	public void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath, Object key) {
+		collectVoid(das -> das.delete(rootId, propertyPath, key));
+	}
+
 	@Override
 	public void delete(Iterable<Object> rootIds, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
 		collectVoid(das -> das.delete(rootIds, propertyPath));
@@ -137,6 +171,11 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.findAllById(ids, domainType));
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+		return collect(das -> das.streamAll(domainType));
+	}
+
 	@Override
 	public Iterable<Object> findAllByPath(Identifier identifier,
 			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
@@ -158,6 +197,11 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.findAll(domainType, pageable));
 	}
 
+	@Override
+	public <T> Page<T> findPage(Class<T> domainType, Pageable pageable) {
+		return collect(das -> das.findPage(domainType, pageable));
+	}
+
 	@Override
 	public <T> Optional<T> findOne(Query query, Class<T> domainType) {
 		return collect(das -> das.findOne(query, domainType));
@@ -168,11 +212,26 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.findAll(query, domainType));
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Query query, Class<T> domainType) {
+		return collect(das -> das.streamAll(query, domainType));
+	}
+
 	@Override
 	public <T> Iterable<T> findAll(Query query, Class<T> domainType, Pageable pageable) {
 		return collect(das -> das.findAll(query, domainType, pageable));
 	}
 
+	@Override
+	public <T> Page<T> findPage(Query query, Class<T> domainType, Pageable pageable) {
+		return collect(das -> das.findPage(query, domainType, pageable));
+	}
+
+	@Override
+	public <T> Window<T> findAll(Query query, Class<T> domainType, ScrollPosition scrollPosition) {
+		return collect(das -> das.findAll(query, domainType, scrollPosition));
+	}
+
 	@Override
 	public <T> boolean exists(Query query, Class<T> domainType) {
 		return collect(das -> das.exists(query, domainType));
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.function.LongSupplier;
+
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.lang.Nullable;
+
+/**
+ * Strategy determining the total number of aggregates reported by a {@link org.springframework.data.domain.Page}.
+ * Counting all rows of a large table exactly can take considerably longer than reading the page itself, so
+ * implementations may return estimated or cached counts instead.
+ *
+ * @since 3.1
+ * @see EstimatedCountStrategy
+ * @see CachingCountStrategy
+ */
+@FunctionalInterface
+public interface CountStrategy {
+
+	/**
+	 * Determines the number of aggregates matching a query.
+	 *
+	 * @param entity the aggregate root entity. Must not be {@literal null}.
+	 * @param criteria identifies the restrictions of the query including their values, {@literal null} if all aggregates
+	 *          of the type are counted. Implements {@link Object#equals(Object)} and {@link Object#hashCode()}
+	 *          accordingly.
+	 * @param exactCount executes the query counting the aggregates exactly. Must not be {@literal null}.
+	 * @return the number of aggregates.
+	 */
+	long count(RelationalPersistentEntity<?> entity, @Nullable Object criteria, LongSupplier exactCount);
+
+	/**
+	 * Returns the {@link CountStrategy} that always counts exactly, which is the default.
+	 *
+	 * @return the exact {@link CountStrategy}. Guaranteed to be not {@literal null}.
+	 */
+	static CountStrategy exact() {
+		return (entity, criteria, exactCount) -> exactCount.getAsLong();
+	}
+}
@@ -18,10 +18,14 @@ package org.springframework.data.jdbc.core.convert;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jdbc.core.JdbcAggregateOperations;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.IdValueSource;
@@ -84,6 +88,20 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> boolean update(T instance, Class<T> domainType);
 
+	/**
+	 * Updates the data of a single entity that is not an aggregate root. The row to update is identified by the
+	 * {@link Identifier}, which holds the references back to the parent entity and the key/index column or the id of the
+	 * entity. Referenced entities don't get handled.
+	 *
+	 * @param instance the instance to save. Must not be {@code null}.
+	 * @param domainType the type of the instance to save. Must not be {@code null}.
+	 * @param identifier identifies the row to update. Must not be {@code null}.
+	 * @param <T> the type of the instance to save.
+	 * @return whether the update actually updated a row.
+	 * @since 3.1
+	 */
+	<T> boolean update(T instance, Class<T> domainType, Identifier identifier);
+
 	/**
 	 * Updates the data of a single entity in the database and enforce optimistic record locking using the
 	 * {@code previousVersion} property. Referenced entities don't get handled.
@@ -102,6 +120,57 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> boolean updateWithVersion(T instance, Class<T> domainType, Number previousVersion);
 
+	/**
+	 * Updates the data of multiple aggregate roots of the same type in the database, using a single batch. Referenced
+	 * entities don't get handled.
+	 *
+	 * @param instances the instances to save. Must not be {@code null} or empty.
+	 * @param domainType the type of the instances to save. Must not be {@code null}.
+	 * @param <T> the type of the instances to save.
+	 * @return for each instance, in the order of {@code instances}, whether the update actually updated a row.
+	 * @since 3.1
+	 */
+	<T> boolean[] updateAll(List<T> instances, Class<T> domainType);
+
+	/**
+	 * Updates the data of multiple aggregate roots of the same type in the database, using a single batch, and enforces
+	 * optimistic record locking using the {@code previousVersions}. Referenced entities don't get handled.
+	 *
+	 * @param instances the instances to save. Must not be {@code null} or empty.
+	 * @param domainType the type of the instances to save. Must not be {@code null}.
+	 * @param previousVersions the previous versions assigned to the instances being saved, in the order of
+	 *          {@code instances}. Must not be {@code null}.
+	 * @param <T> the type of the instances to save.
+	 * @return for each instance, in the order of {@code instances}, whether the update actually updated a row.
+	 *         {@literal false} indicates that the optimistic locking version check failed.
+	 * @since 3.1
+	 */
+	<T> boolean[] updateAllWithVersion(List<T> instances, Class<T> domainType, List<Number> previousVersions);
+
+	/**
+	 * Inserts the data of a single aggregate root or updates the existing row with the same id, using a single statement.
+	 * The id must be provided by the instance. Referenced entities don't get handled.
+	 *
+	 * @param instance the instance to save. Must not be {@code null}.
+	 * @param domainType the type of the instance to save. Must not be {@code null}.
+	 * @param <T> the type of the instance to save.
+	 * @since 3.1
+	 * @see org.springframework.data.relational.core.dialect.Dialect#getUpsertSupport()
+	 */
+	<T> void upsert(T instance, Class<T> domainType);
+
+	/**
+	 * Inserts the data of multiple aggregate roots of the same type or updates the existing rows with the same ids, using
+	 * a single batch. The ids must be provided by the instances. Referenced entities don't get handled.
+	 *
+	 * @param instances the instances to save. Must not be {@code null} or empty.
+	 * @param domainType the type of the instances to save. Must not be {@code null}.
+	 * @param <T> the type of the instances to save.
+	 * @since 3.1
+	 * @see org.springframework.data.relational.core.dialect.Dialect#getUpsertSupport()
+	 */
+	<T> void upsertAll(List<T> instances, Class<T> domainType);
+
 	/**
 	 * Deletes a single row identified by the id, from the table identified by the domainType. Does not handle cascading
 	 * deletes.
@@ -151,6 +220,18 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath);
 
+	/**
+	 * Deletes the single entity reachable via {@literal propertyPath} from the instance identified by {@literal rootId}
+	 * that is identified by {@literal key}.
+	 *
+	 * @param rootId Id of the root object on which the {@literal propertyPath} is based. Must not be {@code null}.
+	 * @param propertyPath Leading from the root object to the entity to be deleted. Must not be {@code null}.
+	 * @param key the list index or map key of the entity for qualified paths, the id of the entity otherwise. Must not be
+	 *          {@code null}.
+	 * @since 3.1
+	 */
+	void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath, Object key);
+
 	/**
 	 * Deletes all entities reachable via {@literal propertyPath} from the instances identified by {@literal rootIds}.
 	 *
@@ -261,6 +342,17 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType);
 
+	/**
+	 * Streams all entities of the given type. Entities get mapped as the {@link Stream} is consumed, so they do not need
+	 * to be held in memory all at once. The {@link Stream} holds on to database resources and must be closed after use.
+	 *
+	 * @param domainType the type of entities to load. Must not be {@code null}.
+	 * @param <T> the type of entities to load.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 3.1
+	 */
+	<T> Stream<T> streamAll(Class<T> domainType);
+
 	@Override
 	Iterable<Object> findAllByPath(Identifier identifier,
 			PersistentPropertyPath<? extends RelationalPersistentProperty> path);
@@ -287,6 +379,19 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> Iterable<T> findAll(Class<T> domainType, Pageable pageable);
 
+	/**
+	 * Loads a {@link Page} of all entities of the given type, including the total number of entities. Entities
+	 * {@link org.springframework.data.relational.core.mapping.SingleQueryPaging enabled for it} get loaded together with
+	 * the total count in a single query if the dialect supports it.
+	 *
+	 * @param domainType the type of entities to load. Must not be {@code null}.
+	 * @param <T> the type of entities to load.
+	 * @param pageable the pagination information. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 3.1
+	 */
+	<T> Page<T> findPage(Class<T> domainType, Pageable pageable);
+
 	/**
 	 * Execute a {@code SELECT} query and convert the resulting item to an entity ensuring exactly one result.
 	 *
@@ -309,6 +414,17 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> Iterable<T> findAll(Query query, Class<T> domainType);
 
+	/**
+	 * Execute a {@code SELECT} query and convert the resulting items to a {@link Stream}. Entities get mapped as the
+	 * {@link Stream} is consumed. The {@link Stream} holds on to database resources and must be closed after use.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the type of entities. Must not be {@code null}.
+	 * @return a non-null {@link Stream} of all the matching results.
+	 * @since 3.1
+	 */
+	<T> Stream<T> streamAll(Query query, Class<T> domainType);
+
 	/**
 	 * Execute a {@code SELECT} query and convert the resulting items to a {@link Iterable}. Applies the {@link Pageable}
 	 * to the result.
@@ -322,4 +438,31 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> Iterable<T> findAll(Query query, Class<T> domainType, Pageable pageable);
 
+	/**
+	 * Execute a {@code SELECT} query returning a {@link Page} of the matching entities, including the total number of
+	 * matches. Entities {@link org.springframework.data.relational.core.mapping.SingleQueryPaging enabled for it} get
+	 * loaded together with the total count in a single query if the dialect supports it.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the type of entities. Must not be {@literal null}.
+	 * @param pageable the pagination that should be applied. Must not be {@literal null}.
+	 * @return a non-null {@link Page} of the matching results.
+	 * @since 3.1
+	 */
+	<T> Page<T> findPage(Query query, Class<T> domainType, Pageable pageable);
+
+	/**
+	 * Execute a {@code SELECT} query returning the {@link Window} of results starting at the given
+	 * {@link ScrollPosition}. The limit of the query determines the size of the window. Keyset-based positions select
+	 * the window using the keys of the position instead of an offset and require the sort properties to be not
+	 * {@literal null}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the type of entities. Must not be {@literal null}.
+	 * @param scrollPosition the position to start the window at. Must not be {@literal null}.
+	 * @return the {@link Window} of matching results. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	<T> Window<T> findAll(Query query, Class<T> domainType, ScrollPosition scrollPosition);
+
 }
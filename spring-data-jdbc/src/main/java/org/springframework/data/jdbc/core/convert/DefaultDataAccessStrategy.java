@@ -18,14 +18,26 @@ package org.springframework.data.jdbc.core.convert;
 import static org.springframework.data.jdbc.core.convert.SqlGenerator.*;
 
 import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jdbc.core.dialect.JdbcDialect;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
@@ -36,9 +48,16 @@ import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.PreparedStatementSetter;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -66,9 +85,15 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	private final SqlGeneratorSource sqlGeneratorSource;
 	private final RelationalMappingContext context;
 	private final JdbcConverter converter;
-	private final NamedParameterJdbcOperations operations;
+	private final NamedParameterJdbcOperations namedParameterOperations;
+	private NamedParameterJdbcOperations operations;
 	private final SqlParametersFactory sqlParametersFactory;
 	private final InsertStrategyFactory insertStrategyFactory;
+	private final InListBinding inListBinding;
+	private final BatchFetchingReader batchFetchingReader;
+	private boolean batchFetchingEnabled = false;
+	@Nullable private Integer streamFetchSize;
+	private final Map<Class<?>, Boolean> singleQueryLoading = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a {@link DefaultDataAccessStrategy}
@@ -93,14 +118,75 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		this.sqlGeneratorSource = sqlGeneratorSource;
 		this.context = context;
 		this.converter = converter;
+		this.namedParameterOperations = operations;
 		this.operations = operations;
 		this.sqlParametersFactory = sqlParametersFactory;
 		this.insertStrategyFactory = insertStrategyFactory;
+		this.inListBinding = new InListBinding(sqlGeneratorSource.getDialect());
+		this.batchFetchingReader = new BatchFetchingReader(context, converter, operations, sqlGeneratorSource,
+				sqlParametersFactory, inListBinding, this);
+	}
+
+	/**
+	 * Configures whether the collections and maps referenced by aggregate roots get loaded in batches when loading
+	 * multiple aggregates, for all entities. If disabled, batch fetching is only used for aggregate roots annotated with
+	 * {@link org.springframework.data.relational.core.mapping.BatchFetching}. Disabled by default.
+	 *
+	 * @param batchFetchingEnabled whether to load relations of all aggregate roots in batches.
+	 * @since 3.1
+	 */
+	public void setBatchFetchingEnabled(boolean batchFetchingEnabled) {
+		this.batchFetchingEnabled = batchFetchingEnabled;
+	}
+
+	/**
+	 * Configures the fetch size used for queries backing {@link #streamAll(Class)} and
+	 * {@link #streamAll(Query, Class)}, i.e. the number of rows the JDBC driver fetches per round trip while the
+	 * {@link Stream} is consumed. Any configured value gets passed on to the driver as is, including negative values
+	 * such as {@link Integer#MIN_VALUE} which makes the MySQL driver stream rows one by one. Defaults to
+	 * {@literal null}, which uses the fetch size configured for the underlying
+	 * {@link org.springframework.jdbc.core.JdbcTemplate}.
+	 *
+	 * @param streamFetchSize the fetch size for streaming queries or {@literal null} to not set a specific fetch size.
+	 * @since 3.1
+	 */
+	public void setStreamFetchSize(@Nullable Integer streamFetchSize) {
+		this.streamFetchSize = streamFetchSize;
+	}
+
+	/**
+	 * Configures whether the statements generated by this strategy get executed with positional bind markers directly
+	 * through the {@link org.springframework.jdbc.core.JdbcOperations} of the {@link NamedParameterJdbcOperations}, so
+	 * that each statement is translated once instead of parsing its named parameters on every execution. Customizations
+	 * of the {@link NamedParameterJdbcOperations} itself do not apply to these statements. Inserts and batch
+	 * operations are not affected. Disabled by default.
+	 *
+	 * @param positionalParametersEnabled whether to execute generated statements with positional parameters.
+	 * @since 3.1
+	 */
+	public void setPositionalParametersEnabled(boolean positionalParametersEnabled) {
+
+		this.operations = positionalParametersEnabled //
+				? new PositionalParameterJdbcTemplate(namedParameterOperations.getJdbcOperations()) //
+				: namedParameterOperations;
 	}
 
 	@Override
 	public <T> Object insert(T instance, Class<T> domainType, Identifier identifier, IdValueSource idValueSource) {
 
+		Object[] allocatedIds = allocateIds(domainType, idValueSource, 1);
+		if (allocatedIds != null) {
+
+			SqlIdentifierParameterSource parameterSource = sqlParametersFactory.forInsertWithId(instance, domainType,
+					identifier, allocatedIds[0]);
+
+			String insertSql = sql(domainType).getInsert(parameterSource.getIdentifiers());
+
+			insertStrategyFactory.insertStrategy(IdValueSource.PROVIDED, getIdColumn(domainType)).execute(insertSql,
+					parameterSource);
+			return allocatedIds[0];
+		}
+
 		SqlIdentifierParameterSource parameterSource = sqlParametersFactory.forInsert(instance, domainType, identifier,
 				idValueSource);
 
@@ -114,25 +200,102 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	public <T> Object[] insert(List<InsertSubject<T>> insertSubjects, Class<T> domainType, IdValueSource idValueSource) {
 
 		Assert.notEmpty(insertSubjects, "Batch insert must contain at least one InsertSubject");
-		SqlIdentifierParameterSource[] sqlParameterSources = insertSubjects.stream()
-				.map(insertSubject -> sqlParametersFactory.forInsert(insertSubject.getInstance(), domainType,
-						insertSubject.getIdentifier(), idValueSource))
-				.toArray(SqlIdentifierParameterSource[]::new);
 
-		String insertSql = sql(domainType).getInsert(sqlParameterSources[0].getIdentifiers());
+		Object[] allocatedIds = allocateIds(domainType, idValueSource, insertSubjects.size());
+
+		SqlIdentifierParameterSource[] sqlParameterSources = new SqlIdentifierParameterSource[insertSubjects.size()];
+		for (int i = 0; i < sqlParameterSources.length; i++) {
+
+			InsertSubject<T> insertSubject = insertSubjects.get(i);
+			sqlParameterSources[i] = allocatedIds == null
+					? sqlParametersFactory.forInsert(insertSubject.getInstance(), domainType, insertSubject.getIdentifier(),
+							idValueSource)
+					: sqlParametersFactory.forInsertWithId(insertSubject.getInstance(), domainType,
+							insertSubject.getIdentifier(), allocatedIds[i]);
+		}
+
+		// with allocated ids, the rows get inserted just like rows with ids provided by the application
+		IdValueSource insertIdValueSource = allocatedIds == null ? idValueSource : IdValueSource.PROVIDED;
+		Object[] generatedIds = insert(sqlParameterSources, domainType, insertIdValueSource);
+
+		return allocatedIds == null ? generatedIds : allocatedIds;
+	}
+
+	private <T> Object[] insert(SqlIdentifierParameterSource[] sqlParameterSources, Class<T> domainType,
+			IdValueSource idValueSource) {
+
+		Set<SqlIdentifier> additionalColumns = sqlParameterSources[0].getIdentifiers();
+
+		if (sqlParameterSources.length > 1 && !additionalColumns.isEmpty()) {
+
+			MultiRowInsertStrategy multiRowInsertStrategy = insertStrategyFactory.multiRowInsertStrategy(idValueSource,
+					getIdColumn(domainType));
+			if (multiRowInsertStrategy != null) {
+				return multiRowInsertStrategy.execute(rows -> sql(domainType).getInsert(additionalColumns, rows),
+						sqlParameterSources);
+			}
+		}
+
+		String insertSql = sql(domainType).getInsert(additionalColumns);
 
 		return insertStrategyFactory.batchInsertStrategy(idValueSource, getIdColumn(domainType)).execute(insertSql,
 				sqlParameterSources);
 	}
 
+	/**
+	 * Allocates ids from the sequence configured for the id of the domain type, if any.
+	 *
+	 * @return the allocated ids or {@literal null} if the ids are not supposed to be allocated from a sequence.
+	 */
+	@Nullable
+	private Object[] allocateIds(Class<?> domainType, IdValueSource idValueSource, int count) {
+
+		if (!IdValueSource.GENERATED.equals(idValueSource)) {
+			return null;
+		}
+
+		SequenceIdAllocator sequenceIdAllocator = insertStrategyFactory.sequenceIdAllocator();
+		RelationalPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(domainType);
+		SqlIdentifier sequence = persistentEntity.getIdSequence();
+
+		if (sequenceIdAllocator == null || sequence == null) {
+			return null;
+		}
+
+		return sequenceIdAllocator.allocate(sequence, persistentEntity.getIdSequenceAllocationSize(), count);
+	}
+
 	@Override
 	public <S> boolean update(S instance, Class<S> domainType) {
 
+		RelationalPersistentEntity<S> persistentEntity = getRequiredPersistentEntity(domainType);
+
+		Set<SqlIdentifier> changedColumns = getChangedColumns(instance, persistentEntity);
+		if (changedColumns != null && changedColumns.isEmpty()) {
+			return true; // nothing changed since the instance was loaded
+		}
+
 		SqlIdentifierParameterSource parameterSource = sqlParametersFactory.forUpdate(instance, domainType);
 		if (parameterSource.size() <= 1) {
 			return true; // returning true, because conceptually the one row was correctly updated
 		}
-		return operations.update(sql(domainType).getUpdate(), parameterSource) != 0;
+
+		String updateSql = changedColumns == null //
+				? sql(domainType).getUpdate() //
+				: sql(domainType).getUpdate(changedColumns);
+
+		boolean updated = operations.update(updateSql, parameterSource) != 0;
+		if (updated) {
+			captureSnapshot(instance, persistentEntity);
+		}
+		return updated;
+	}
+
+	@Override
+	public <S> boolean update(S instance, Class<S> domainType, Identifier identifier) {
+
+		SqlIdentifierParameterSource parameterSource = sqlParametersFactory.forUpdate(instance, domainType, identifier);
+		return operations.update(sql(domainType).getUpdateByIdentifier(identifier), parameterSource) != 0;
 	}
 
 	@Override
@@ -140,19 +303,202 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 		RelationalPersistentEntity<S> persistentEntity = getRequiredPersistentEntity(domainType);
 
+		if (executeUpdateWithVersion(instance, domainType, previousVersion) == 0) {
+
+			throw new OptimisticLockingFailureException(
+					String.format("Optimistic lock exception on saving entity of type %s", persistentEntity.getName()));
+		}
+
+		captureSnapshot(instance, persistentEntity);
+
+		return true;
+	}
+
+	@Override
+	public <T> boolean[] updateAll(List<T> instances, Class<T> domainType) {
+
+		Assert.notEmpty(instances, "Batch update must contain at least one instance");
+
+		SqlIdentifierParameterSource[] parameterSources = instances.stream()
+				.map(instance -> sqlParametersFactory.forUpdate(instance, domainType))
+				.toArray(SqlIdentifierParameterSource[]::new);
+
+		boolean[] updated = new boolean[parameterSources.length];
+		if (parameterSources[0].size() <= 1) {
+
+			Arrays.fill(updated, true); // conceptually the rows were correctly updated
+			return updated;
+		}
+
+		int[] affectedRows = batchUpdate(instances, domainType, parameterSources, false);
+		for (int i = 0; i < updated.length; i++) {
+			updated[i] = isUpdated(affectedRows[i]);
+		}
+		return updated;
+	}
+
+	@Override
+	public <T> boolean[] updateAllWithVersion(List<T> instances, Class<T> domainType, List<Number> previousVersions) {
+
+		Assert.notEmpty(instances, "Batch update must contain at least one instance");
+		Assert.isTrue(instances.size() == previousVersions.size(),
+				"There must be exactly one previous version for each instance");
+
+		if (!reportsBatchUpdateCounts()) {
+
+			// the driver does not report the rows updated by a batch, so the versions get checked row by row
+			RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
+			boolean[] updated = new boolean[instances.size()];
+			for (int i = 0; i < updated.length; i++) {
+
+				T instance = instances.get(i);
+				updated[i] = executeUpdateWithVersion(instance, domainType, previousVersions.get(i)) > 0;
+				if (updated[i]) {
+					captureSnapshot(instance, persistentEntity);
+				}
+			}
+			return updated;
+		}
+
+		SqlIdentifierParameterSource[] parameterSources = new SqlIdentifierParameterSource[instances.size()];
+		for (int i = 0; i < parameterSources.length; i++) {
+
+			// Adjust update statement to set the new version and use the old version in where clause.
+			parameterSources[i] = sqlParametersFactory.forUpdate(instances.get(i), domainType);
+			parameterSources[i].addValue(VERSION_SQL_PARAMETER, previousVersions.get(i));
+		}
+
+		int[] affectedRows = batchUpdate(instances, domainType, parameterSources, true);
+
+		boolean[] updated = new boolean[affectedRows.length];
+		for (int i = 0; i < affectedRows.length; i++) {
+			updated[i] = isUpdated(affectedRows[i]);
+		}
+		return updated;
+	}
+
+	/**
+	 * Executes the update of a single instance, using the {@code previousVersion} for the optimistic locking version
+	 * check, and returns the number of affected rows.
+	 */
+	private <S> int executeUpdateWithVersion(S instance, Class<S> domainType, Number previousVersion) {
+
+		RelationalPersistentEntity<S> persistentEntity = getRequiredPersistentEntity(domainType);
+
 		// Adjust update statement to set the new version and use the old version in where clause.
 		SqlIdentifierParameterSource parameterSource = sqlParametersFactory.forUpdate(instance, domainType);
 		parameterSource.addValue(VERSION_SQL_PARAMETER, previousVersion);
 
-		int affectedRows = operations.update(sql(domainType).getUpdateWithVersion(), parameterSource);
+		// the version always changes, so there is no point in skipping the update
+		Set<SqlIdentifier> changedColumns = getChangedColumns(instance, persistentEntity);
+		String updateSql = changedColumns == null || changedColumns.isEmpty() //
+				? sql(domainType).getUpdateWithVersion() //
+				: sql(domainType).getUpdateWithVersion(changedColumns);
 
-		if (affectedRows == 0) {
+		return operations.update(updateSql, parameterSource);
+	}
 
-			throw new OptimisticLockingFailureException(
-					String.format("Optimistic lock exception on saving entity of type %s", persistentEntity.getName()));
+	/**
+	 * Returns whether the {@link JdbcDialect} declares that the JDBC driver reports the rows updated by each statement
+	 * of a batch, which is required to check the versions of a batch of updates.
+	 */
+	private boolean reportsBatchUpdateCounts() {
+		return !(sqlGeneratorSource.getDialect() instanceof JdbcDialect jdbcDialect)
+				|| jdbcDialect.reportsBatchUpdateCounts();
+	}
+
+	/**
+	 * Executes a batch update. Instances of entities with dirty tracking enabled get grouped by the set of columns that
+	 * changed, resulting in one batch per group. Instances without changes are skipped and reported as updated, unless
+	 * {@code withVersion} is {@literal true}.
+	 */
+	private <T> int[] batchUpdate(List<T> instances, Class<T> domainType,
+			SqlIdentifierParameterSource[] parameterSources, boolean withVersion) {
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
+		SqlGenerator sqlGenerator = sql(domainType);
+
+		if (!persistentEntity.isDirtyTrackingEnabled()) {
+			return operations.batchUpdate(withVersion ? sqlGenerator.getUpdateWithVersion() : sqlGenerator.getUpdate(),
+					parameterSources);
 		}
 
-		return true;
+		int[] affectedRows = new int[instances.size()];
+
+		// an empty set of columns represents instances that get updated completely
+		Map<Set<SqlIdentifier>, List<Integer>> batches = new LinkedHashMap<>();
+		for (int i = 0; i < instances.size(); i++) {
+
+			Set<SqlIdentifier> changedColumns = getChangedColumns(instances.get(i), persistentEntity);
+
+			if (changedColumns == null) {
+				changedColumns = Collections.emptySet();
+			} else if (changedColumns.isEmpty() && !withVersion) {
+
+				affectedRows[i] = 1; // nothing changed since the instance was loaded
+				continue;
+			}
+
+			batches.computeIfAbsent(changedColumns, columns -> new ArrayList<>()).add(i);
+		}
+
+		batches.forEach((columns, indexes) -> {
+
+			String updateSql;
+			if (columns.isEmpty()) {
+				updateSql = withVersion ? sqlGenerator.getUpdateWithVersion() : sqlGenerator.getUpdate();
+			} else {
+				updateSql = withVersion ? sqlGenerator.getUpdateWithVersion(columns) : sqlGenerator.getUpdate(columns);
+			}
+
+			SqlIdentifierParameterSource[] batch = indexes.stream() //
+					.map(index -> parameterSources[index]) //
+					.toArray(SqlIdentifierParameterSource[]::new);
+
+			int[] batchAffectedRows = operations.batchUpdate(updateSql, batch);
+			for (int i = 0; i < batchAffectedRows.length; i++) {
+				affectedRows[indexes.get(i)] = batchAffectedRows[i];
+			}
+		});
+
+		for (int i = 0; i < affectedRows.length; i++) {
+
+			if (isUpdated(affectedRows[i])) {
+				captureSnapshot(instances.get(i), persistentEntity);
+			}
+		}
+
+		return affectedRows;
+	}
+
+	/**
+	 * Returns whether a row was updated according to the update count reported by a batch.
+	 * {@link Statement#SUCCESS_NO_INFO} is considered a successful update, as it is by {@link Statement#executeBatch()}.
+	 */
+	private static boolean isUpdated(int affectedRows) {
+		return affectedRows > 0 || affectedRows == Statement.SUCCESS_NO_INFO;
+	}
+
+	@Override
+	public <T> void upsert(T instance, Class<T> domainType) {
+
+		SqlIdentifierParameterSource parameterSource = sqlParametersFactory.forInsert(instance, domainType,
+				Identifier.empty(), IdValueSource.PROVIDED);
+
+		operations.update(sql(domainType).getUpsert(parameterSource.getIdentifiers()), parameterSource);
+	}
+
+	@Override
+	public <T> void upsertAll(List<T> instances, Class<T> domainType) {
+
+		Assert.notEmpty(instances, "Batch upsert must contain at least one instance");
+
+		SqlIdentifierParameterSource[] parameterSources = instances.stream()
+				.map(instance -> sqlParametersFactory.forInsert(instance, domainType, Identifier.empty(),
+						IdValueSource.PROVIDED))
+				.toArray(SqlIdentifierParameterSource[]::new);
+
+		operations.batchUpdate(sql(domainType).getUpsert(parameterSources[0].getIdentifiers()), parameterSources);
 	}
 
 	@Override
@@ -167,10 +513,21 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public void delete(Iterable<Object> ids, Class<?> domainType) {
 
+		List<Object> idList = toList(ids);
+
+		if (inListBinding.bindAsArray(idList.size())) {
+
+			operations.update(sql(domainType).getDeleteByIdInArray(),
+					sqlParametersFactory.forQueryByIdArray(idList, domainType));
+			return;
+		}
+
 		String deleteByIdInSql = sql(domainType).getDeleteByIdIn();
-		SqlParameterSource parameter = sqlParametersFactory.forQueryByIds(ids, domainType);
+		for (List<Object> partition : inListBinding.partition(idList)) {
 
-		operations.update(deleteByIdInSql, parameter);
+			SqlParameterSource parameter = sqlParametersFactory.forQueryByIds(partition, domainType);
+			operations.update(deleteByIdInSql, parameter);
+		}
 	}
 
 	@Override
@@ -205,6 +562,22 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		operations.update(delete, parameters);
 	}
 
+	@Override
+	public void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath, Object key) {
+
+		PersistentPropertyPathExtension path = new PersistentPropertyPathExtension(context, propertyPath);
+		JdbcIdentifierBuilder identifierBuilder = JdbcIdentifierBuilder.forBackReferences(converter, path, rootId);
+
+		Identifier identifier = path.isQualified() //
+				? identifierBuilder.withQualifier(path, key).build() //
+				: identifierBuilder.build().withPart(path.getIdColumnName(), key,
+						converter.getColumnType(path.getRequiredIdProperty()));
+
+		String delete = sql(path.getActualType()).getDeleteByIdentifier(identifier);
+
+		operations.update(delete, sqlParametersFactory.forQueryByIdentifier(identifier));
+	}
+
 	@Override
 	public void delete(Iterable<Object> rootIds, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
 
@@ -216,8 +589,11 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 		String delete = sql(rootEntity.getType()).createDeleteInByPath(propertyPath);
 
-		SqlIdentifierParameterSource parameters = sqlParametersFactory.forQueryByIds(rootIds, rootEntity.getType());
-		operations.update(delete, parameters);
+		for (List<Object> partition : inListBinding.partition(toList(rootIds))) {
+
+			SqlIdentifierParameterSource parameters = sqlParametersFactory.forQueryByIds(partition, rootEntity.getType());
+			operations.update(delete, parameters);
+		}
 	}
 
 	@Override
@@ -263,6 +639,13 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		String findOneSql = sql(domainType).getFindOne();
 		SqlIdentifierParameterSource parameter = sqlParametersFactory.forQueryById(id, domainType, ID_SQL_PARAMETER);
 
+		if (isSingleQueryLoading(domainType)) {
+
+			List<T> result = operations.query(sql(domainType).getFindOneJoiningCollections(), parameter,
+					getAggregateResultSetExtractor(domainType));
+			return result == null || result.isEmpty() ? null : result.get(0);
+		}
+
 		try {
 			return operations.queryForObject(findOneSql, parameter, getEntityRowMapper(domainType));
 		} catch (EmptyResultDataAccessException e) {
@@ -272,7 +655,15 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType) {
-		return operations.query(sql(domainType).getFindAll(), getEntityRowMapper(domainType));
+
+		String findAllSql = sql(domainType).getFindAll();
+
+		if (isBatchFetching(domainType)) {
+			return batchFetchingReader.query(findAllSql, EmptySqlParameterSource.INSTANCE,
+					getRequiredPersistentEntity(domainType));
+		}
+
+		return operations.query(findAllSql, getEntityRowMapper(domainType));
 	}
 
 	@Override
@@ -282,11 +673,51 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 			return Collections.emptyList();
 		}
 
-		SqlParameterSource parameterSource = sqlParametersFactory.forQueryByIds(ids, domainType);
+		List<Object> idList = toList(ids);
+
+		if (isSingleQueryLoading(domainType)) {
+
+			String findAllInListSql = sql(domainType).getFindAllInListJoiningCollections();
+			List<T> result = new ArrayList<>(idList.size());
+			for (List<Object> partition : inListBinding.partition(idList)) {
+
+				SqlParameterSource parameterSource = sqlParametersFactory.forQueryByIds(partition, domainType);
+				result.addAll(
+						operations.query(findAllInListSql, parameterSource, getAggregateResultSetExtractor(domainType)));
+			}
+
+			return result;
+		}
+
+		if (inListBinding.bindAsArray(idList.size())) {
+
+			return queryAggregates(sql(domainType).getFindAllInArray(),
+					sqlParametersFactory.forQueryByIdArray(idList, domainType), domainType);
+		}
 
 		String findAllInListSql = sql(domainType).getFindAllInList();
+		List<List<Object>> partitions = inListBinding.partition(idList);
+
+		if (partitions.size() == 1) {
+
+			SqlParameterSource parameterSource = sqlParametersFactory.forQueryByIds(partitions.get(0), domainType);
+			return queryAggregates(findAllInListSql, parameterSource, domainType);
+		}
+
+		List<T> result = new ArrayList<>(idList.size());
+		for (List<Object> partition : partitions) {
 
-		return operations.query(findAllInListSql, parameterSource, getEntityRowMapper(domainType));
+			SqlParameterSource parameterSource = sqlParametersFactory.forQueryByIds(partition, domainType);
+			result.addAll(queryAggregates(findAllInListSql, parameterSource, domainType));
+		}
+
+		return result;
+	}
+
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+		return queryForStream(sql(domainType).getFindAll(), EmptySqlParameterSource.INSTANCE,
+				getEntityRowMapper(domainType));
 	}
 
 	@Override
@@ -324,12 +755,43 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType, Sort sort) {
-		return operations.query(sql(domainType).getFindAll(sort), getEntityRowMapper(domainType));
+
+		String findAllSql = sql(domainType).getFindAll(sort);
+
+		if (isBatchFetching(domainType)) {
+			return batchFetchingReader.query(findAllSql, EmptySqlParameterSource.INSTANCE,
+					getRequiredPersistentEntity(domainType));
+		}
+
+		return operations.query(findAllSql, getEntityRowMapper(domainType));
 	}
 
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType, Pageable pageable) {
-		return operations.query(sql(domainType).getFindAll(pageable), getEntityRowMapper(domainType));
+
+		String findAllSql = sql(domainType).getFindAll(pageable);
+
+		if (isBatchFetching(domainType)) {
+			return batchFetchingReader.query(findAllSql, EmptySqlParameterSource.INSTANCE,
+					getRequiredPersistentEntity(domainType));
+		}
+
+		return operations.query(findAllSql, getEntityRowMapper(domainType));
+	}
+
+	@Override
+	public <T> Page<T> findPage(Class<T> domainType, Pageable pageable) {
+
+		if (!isSingleQueryPaging(domainType)) {
+
+			List<T> content = toList(findAll(domainType, pageable));
+			return PageableExecutionUtils.getPage(content, pageable, () -> count(domainType));
+		}
+
+		TotalCountRowMapper<T> rowMapper = new TotalCountRowMapper<>(getEntityRowMapper(domainType));
+		List<T> content = operations.query(sql(domainType).getFindAllWithTotalCount(pageable), rowMapper);
+
+		return rowMapper.getPage(content, pageable, () -> count(domainType));
 	}
 
 	@Override
@@ -355,6 +817,15 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return operations.query(sqlQuery, parameterSource, getEntityRowMapper(domainType));
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Query query, Class<T> domainType) {
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+		String sqlQuery = sql(domainType).selectByQuery(query, parameterSource);
+
+		return queryForStream(sqlQuery, parameterSource, getEntityRowMapper(domainType));
+	}
+
 	@Override
 	public <T> Iterable<T> findAll(Query query, Class<T> domainType, Pageable pageable) {
 
@@ -364,6 +835,38 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return operations.query(sqlQuery, parameterSource, getEntityRowMapper(domainType));
 	}
 
+	@Override
+	public <T> Page<T> findPage(Query query, Class<T> domainType, Pageable pageable) {
+
+		if (!isSingleQueryPaging(domainType)) {
+
+			List<T> content = toList(findAll(query, domainType, pageable));
+			return PageableExecutionUtils.getPage(content, pageable, () -> count(query, domainType));
+		}
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+		String sqlQuery = sql(domainType).selectByQueryWithTotalCount(query, parameterSource, pageable);
+
+		TotalCountRowMapper<T> rowMapper = new TotalCountRowMapper<>(getEntityRowMapper(domainType));
+		List<T> content = operations.query(sqlQuery, parameterSource, rowMapper);
+
+		return rowMapper.getPage(content, pageable, () -> count(query, domainType));
+	}
+
+	@Override
+	public <T> Window<T> findAll(Query query, Class<T> domainType, ScrollPosition scrollPosition) {
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+		String sqlQuery = sql(domainType).selectByQuery(query, parameterSource, scrollPosition);
+
+		List<T> rows = operations.query(sqlQuery, parameterSource, getEntityRowMapper(domainType));
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
+		Sort keysetSort = ScrollSupport.getKeysetSort(query.getSort(), persistentEntity);
+
+		return ScrollSupport.createWindow(rows, scrollPosition, keysetSort, query.getLimit(), context, persistentEntity);
+	}
+
 	@Override
 	public <T> boolean exists(Query query, Class<T> domainType) {
 
@@ -390,6 +893,67 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return result;
 	}
 
+	private <T> List<T> queryAggregates(String sql, SqlParameterSource parameterSource, Class<T> domainType) {
+
+		if (isBatchFetching(domainType)) {
+			return batchFetchingReader.query(sql, parameterSource, getRequiredPersistentEntity(domainType));
+		}
+
+		return operations.query(sql, parameterSource, getEntityRowMapper(domainType));
+	}
+
+	/**
+	 * Runs the query through {@link org.springframework.jdbc.core.JdbcOperations#queryForStream} so rows get mapped
+	 * while the {@link Stream} is consumed, applying the {@link #setStreamFetchSize(Integer) stream fetch size} if
+	 * configured.
+	 */
+	private <T> Stream<T> queryForStream(String sql, SqlParameterSource parameterSource, RowMapper<T> rowMapper) {
+
+		Integer fetchSize = streamFetchSize;
+
+		if (fetchSize == null) {
+			return operations.queryForStream(sql, parameterSource, rowMapper);
+		}
+
+		ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+		String sqlToUse = NamedParameterUtils.substituteNamedParameters(parsedSql, parameterSource);
+		List<SqlParameter> declaredParameters = NamedParameterUtils.buildSqlParameterList(parsedSql, parameterSource);
+		Object[] values = NamedParameterUtils.buildValueArray(parsedSql, parameterSource, null);
+		PreparedStatementSetter setter = new PreparedStatementCreatorFactory(sqlToUse, declaredParameters)
+				.newPreparedStatementSetter(values);
+
+		return operations.getJdbcOperations().queryForStream(sqlToUse, preparedStatement -> {
+
+			preparedStatement.setFetchSize(fetchSize);
+			setter.setValues(preparedStatement);
+		}, rowMapper);
+	}
+
+	private boolean isSingleQueryPaging(Class<?> domainType) {
+
+		return getRequiredPersistentEntity(domainType).isSingleQueryPagingEnabled()
+				&& sqlGeneratorSource.getDialect().supportsAnalyticFunctions() && !isBatchFetching(domainType);
+	}
+
+	private boolean isBatchFetching(Class<?> domainType) {
+
+		RelationalPersistentEntity<?> entity = getRequiredPersistentEntity(domainType);
+		return (batchFetchingEnabled || entity.isBatchFetchingEnabled()) && batchFetchingReader.supports(entity);
+	}
+
+	private boolean isSingleQueryLoading(Class<?> domainType) {
+
+		return singleQueryLoading.computeIfAbsent(domainType, type -> {
+
+			RelationalPersistentEntity<?> entity = getRequiredPersistentEntity(type);
+			return entity.isSingleQueryLoadingEnabled() && AggregateResultSetExtractor.supports(context, entity);
+		});
+	}
+
+	private <T> AggregateResultSetExtractor<T> getAggregateResultSetExtractor(Class<T> domainType) {
+		return new AggregateResultSetExtractor<>(context, getRequiredPersistentEntity(domainType), converter, this);
+	}
+
 	private <T> EntityRowMapper<T> getEntityRowMapper(Class<T> domainType) {
 		return new EntityRowMapper<>(getRequiredPersistentEntity(domainType), converter);
 	}
@@ -430,4 +994,31 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 		return baseProperty.getOwner().getType();
 	}
+
+	/**
+	 * Determines the columns that changed since the instance was loaded, if dirty tracking is enabled for the entity.
+	 *
+	 * @return the changed columns or {@literal null} if all columns have to be updated.
+	 */
+	@Nullable
+	private Set<SqlIdentifier> getChangedColumns(Object instance, RelationalPersistentEntity<?> persistentEntity) {
+
+		EntitySnapshots entitySnapshots = converter.getEntitySnapshots();
+		return entitySnapshots == null ? null : entitySnapshots.getChangedColumns(persistentEntity, instance);
+	}
+
+	private void captureSnapshot(Object instance, RelationalPersistentEntity<?> persistentEntity) {
+
+		EntitySnapshots entitySnapshots = converter.getEntitySnapshots();
+		if (entitySnapshots != null) {
+			entitySnapshots.capture(persistentEntity, instance);
+		}
+	}
+
+	private static <E> List<E> toList(Iterable<? extends E> values) {
+
+		List<E> list = new ArrayList<>();
+		values.forEach(list::add);
+		return list;
+	}
 }
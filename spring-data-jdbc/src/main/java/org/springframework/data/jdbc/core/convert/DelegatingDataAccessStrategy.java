@@ -17,9 +17,13 @@ package org.springframework.data.jdbc.core.convert;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
@@ -66,6 +70,11 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.update(instance, domainType);
 	}
 
+	@Override
+	public <S> boolean update(S instance, Class<S> domainType, Identifier identifier) {
+		return delegate.update(instance, domainType, identifier);
+	}
+
 	@Override
 	public <S> boolean updateWithVersion(S instance, Class<S> domainType, Number nextVersion) {
 		return delegate.updateWithVersion(instance, domainType, nextVersion);
@@ -77,11 +86,36 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		delegate.delete(rootId, propertyPath);
 	}
 
+	@Override
+	public void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath, Object key) {
+		delegate.delete(rootId, propertyPath, key);
+	}
+
 	@Override
 	public void delete(Iterable<Object> rootIds, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
 		delegate.delete(rootIds, propertyPath);
 	}
 
+	@Override
+	public <T> boolean[] updateAll(List<T> instances, Class<T> domainType) {
+		return delegate.updateAll(instances, domainType);
+	}
+
+	@Override
+	public <T> boolean[] updateAllWithVersion(List<T> instances, Class<T> domainType, List<Number> previousVersions) {
+		return delegate.updateAllWithVersion(instances, domainType, previousVersions);
+	}
+
+	@Override
+	public <T> void upsert(T instance, Class<T> domainType) {
+		delegate.upsert(instance, domainType);
+	}
+
+	@Override
+	public <T> void upsertAll(List<T> instances, Class<T> domainType) {
+		delegate.upsertAll(instances, domainType);
+	}
+
 	@Override
 	public void delete(Object id, Class<?> domainType) {
 		delegate.delete(id, domainType);
@@ -140,6 +174,11 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.findAllById(ids, domainType);
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+		return delegate.streamAll(domainType);
+	}
+
 	@Override
 	public Iterable<Object> findAllByPath(Identifier identifier,
 			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
@@ -161,6 +200,11 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.findAll(domainType, pageable);
 	}
 
+	@Override
+	public <T> Page<T> findPage(Class<T> domainType, Pageable pageable) {
+		return delegate.findPage(domainType, pageable);
+	}
+
 	@Override
 	public <T> Optional<T> findOne(Query query, Class<T> domainType) {
 		return delegate.findOne(query, domainType);
@@ -171,11 +215,26 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.findAll(query, domainType);
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Query query, Class<T> domainType) {
+		return delegate.streamAll(query, domainType);
+	}
+
 	@Override
 	public <T> Iterable<T> findAll(Query query, Class<T> domainType, Pageable pageable) {
 		return delegate.findAll(query, domainType, pageable);
 	}
 
+	@Override
+	public <T> Page<T> findPage(Query query, Class<T> domainType, Pageable pageable) {
+		return delegate.findPage(query, domainType, pageable);
+	}
+
+	@Override
+	public <T> Window<T> findAll(Query query, Class<T> domainType, ScrollPosition scrollPosition) {
+		return delegate.findAll(query, domainType, scrollPosition);
+	}
+
 	@Override
 	public <T> boolean exists(Query query, Class<T> domainType) {
 		return delegate.exists(query, domainType);
@@ -16,10 +16,12 @@
 package org.springframework.data.jdbc.core.convert;
 
 import java.sql.ResultSet;
+import java.util.Collection;
 
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.lang.Nullable;
 
 /**
  * Maps a {@link ResultSet} to an entity of type {@code T}, including entities referenced. This {@link RowMapper} might
@@ -36,32 +38,59 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 
 	private final RelationalPersistentEntity<T> entity;
 	private final PersistentPropertyPathExtension path;
-	private final JdbcConverter converter;
+	private final RowReader reader;
 	private final Identifier identifier;
+	@Nullable private final Collection<String> resolvedProperties;
 
 	@SuppressWarnings("unchecked")
 	public EntityRowMapper(PersistentPropertyPathExtension path, JdbcConverter converter, Identifier identifier) {
 
 		this.entity = (RelationalPersistentEntity<T>) path.getLeafEntity();
 		this.path = path;
-		this.converter = converter;
+		this.reader = new RowReader(converter);
 		this.identifier = identifier;
+		this.resolvedProperties = null;
 	}
 
 	public EntityRowMapper(RelationalPersistentEntity<T> entity, JdbcConverter converter) {
 
 		this.entity = entity;
 		this.path = null;
-		this.converter = converter;
+		this.reader = new RowReader(converter);
 		this.identifier = null;
+		this.resolvedProperties = null;
+	}
+
+	/**
+	 * Creates a new {@link EntityRowMapper} resolving only the relations held by the given properties, e.g. the
+	 * properties exposed by a projection.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param resolvedProperties names of the properties whose relations get resolved. Must not be {@literal null}.
+	 * @since 3.1
+	 * @see JdbcConverter#mapRow(RelationalPersistentEntity, ResultSet, Object, Collection)
+	 */
+	public EntityRowMapper(RelationalPersistentEntity<T> entity, JdbcConverter converter,
+			Collection<String> resolvedProperties) {
+
+		this.entity = entity;
+		this.path = null;
+		this.reader = new RowReader(converter);
+		this.identifier = null;
+		this.resolvedProperties = resolvedProperties;
 	}
 
 	@Override
 	public T mapRow(ResultSet resultSet, int rowNumber) {
 
-		return path == null //
-				? converter.mapRow(entity, resultSet, rowNumber) //
-				: converter.mapRow(path, resultSet, identifier, rowNumber);
+		if (path != null) {
+			return reader.mapRow(path, resultSet, identifier, rowNumber);
+		}
+
+		return resolvedProperties == null //
+				? reader.mapRow(entity, resultSet, rowNumber) //
+				: reader.mapRow(entity, resultSet, rowNumber, resolvedProperties);
 	}
 
 }
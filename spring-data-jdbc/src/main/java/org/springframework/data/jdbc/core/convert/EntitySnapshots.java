@@ -0,0 +1,325 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.relational.core.mapping.DirtyTracking;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps snapshots of the updatable column values of aggregate roots with {@link DirtyTracking} enabled, so that updates
+ * can be limited to the columns that changed. Snapshots are held per instance and do not prevent instances from being
+ * garbage collected.
+ * <p>
+ * Snapshots captured within a transaction are bound to that transaction and only become visible outside of it once the
+ * transaction committed, since the captured values are not known to be persistent before. Within the transaction they
+ * are used right away, so that loading, modifying and saving an instance in the same transaction only updates the
+ * changed columns. A rolled back transaction discards its snapshots, so it never leaves a snapshot of values that were
+ * not written.
+ *
+ * @since 3.1
+ * @see DirtyTracking
+ */
+public class EntitySnapshots {
+
+	private final MappingContext<? extends RelationalPersistentEntity<?>, //
+			? extends RelationalPersistentProperty> mappingContext;
+	private final Map<InstanceReference, Map<SqlIdentifier, Object>> snapshots = new ConcurrentHashMap<>();
+	private final ReferenceQueue<Object> collectedInstances = new ReferenceQueue<>();
+
+	/**
+	 * Creates new {@link EntitySnapshots}.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 */
+	public EntitySnapshots(
+			MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext) {
+		this.mappingContext = mappingContext;
+	}
+
+	/**
+	 * Records the current column values of the given instance. Does nothing if dirty tracking is not enabled for the
+	 * entity.
+	 *
+	 * @param entity the entity of the instance. Must not be {@literal null}.
+	 * @param instance the instance. Must not be {@literal null}.
+	 */
+	public void capture(RelationalPersistentEntity<?> entity, Object instance) {
+
+		if (!entity.isDirtyTrackingEnabled()) {
+			return;
+		}
+
+		expungeCollectedInstances();
+
+		InstanceReference reference = new InstanceReference(instance, collectedInstances);
+		Map<SqlIdentifier, Object> values = getColumnValues(entity, instance);
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+
+			snapshots.put(reference, values);
+			return;
+		}
+
+		snapshots.remove(reference);
+		getPendingSnapshots().put(reference, values);
+	}
+
+	/**
+	 * Returns the snapshots captured within the current transaction, registering a {@link TransactionSynchronization}
+	 * applying them after commit if there are none yet.
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<InstanceReference, Map<SqlIdentifier, Object>> getPendingSnapshots() {
+
+		Object resource = TransactionSynchronizationManager.getResource(this);
+
+		if (resource != null) {
+			return (Map<InstanceReference, Map<SqlIdentifier, Object>>) resource;
+		}
+
+		Map<InstanceReference, Map<SqlIdentifier, Object>> pending = new HashMap<>();
+		TransactionSynchronizationManager.bindResource(this, pending);
+		TransactionSynchronizationManager.registerSynchronization(new PendingSnapshots(pending));
+
+		return pending;
+	}
+
+	/**
+	 * Determines the updatable columns whose values changed since the last snapshot of the given instance.
+	 *
+	 * @param entity the entity of the instance. Must not be {@literal null}.
+	 * @param instance the instance. Must not be {@literal null}.
+	 * @return the names of the changed columns. {@literal null} if dirty tracking is not enabled for the entity or no
+	 *         snapshot exists for the instance, i.e. if all columns have to be considered changed.
+	 */
+	@Nullable
+	public Set<SqlIdentifier> getChangedColumns(RelationalPersistentEntity<?> entity, Object instance) {
+
+		if (!entity.isDirtyTrackingEnabled()) {
+			return null;
+		}
+
+		Map<SqlIdentifier, Object> snapshot = getSnapshot(new InstanceReference(instance, null));
+		if (snapshot == null) {
+			return null;
+		}
+
+		Set<SqlIdentifier> changedColumns = new LinkedHashSet<>();
+		getColumnValues(entity, instance).forEach((column, value) -> {
+
+			if (!snapshot.containsKey(column) || !Objects.deepEquals(snapshot.get(column), value)) {
+				changedColumns.add(column);
+			}
+		});
+
+		return changedColumns;
+	}
+
+	/**
+	 * Returns the snapshot captured within the current transaction, if any, and the committed snapshot otherwise.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private Map<SqlIdentifier, Object> getSnapshot(InstanceReference reference) {
+
+		Object resource = TransactionSynchronizationManager.getResource(this);
+
+		if (resource != null) {
+
+			Map<SqlIdentifier, Object> pending = ((Map<InstanceReference, Map<SqlIdentifier, Object>>) resource)
+					.get(reference);
+			if (pending != null) {
+				return pending;
+			}
+		}
+
+		return snapshots.get(reference);
+	}
+
+	private Map<SqlIdentifier, Object> getColumnValues(RelationalPersistentEntity<?> entity, Object instance) {
+
+		Map<SqlIdentifier, Object> values = new LinkedHashMap<>();
+		collectColumnValues(entity, instance, "", values);
+		return values;
+	}
+
+	private void collectColumnValues(RelationalPersistentEntity<?> entity, @Nullable Object instance, String prefix,
+			Map<SqlIdentifier, Object> values) {
+
+		PersistentPropertyAccessor<?> accessor = instance == null ? null : entity.getPropertyAccessor(instance);
+
+		entity.doWithAll(property -> {
+
+			Object value = accessor == null ? null : accessor.getProperty(property);
+
+			// same column selection as SqlGenerator.Columns#getUpdatableColumns()
+			if (!property.isEntity()) {
+
+				if (!property.isIdProperty() && property.isWritable() && !property.isInsertOnly()) {
+					values.put(property.getColumnName().transform(prefix::concat), copy(value));
+				}
+			} else if (property.isEmbedded()) {
+				collectColumnValues(mappingContext.getRequiredPersistentEntity(property.getActualType()), value,
+						prefix + property.getEmbeddedPrefix(), values);
+			}
+		});
+	}
+
+	/**
+	 * Copies mutable values, so that changes made to them in place are not reflected in the snapshot.
+	 */
+	@Nullable
+	private static Object copy(@Nullable Object value) {
+
+		if (value == null) {
+			return null;
+		}
+
+		if (value.getClass().isArray()) {
+
+			int length = Array.getLength(value);
+			Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+			System.arraycopy(value, 0, copy, 0, length);
+			return copy;
+		}
+
+		if (value instanceof Date date) {
+			return date.clone();
+		}
+
+		if (value instanceof List<?> list) {
+			return Collections.unmodifiableList(new ArrayList<>(list));
+		}
+
+		if (value instanceof Set<?> set) {
+			return Collections.unmodifiableSet(new LinkedHashSet<>(set));
+		}
+
+		if (value instanceof Collection<?> collection) {
+			return Collections.unmodifiableList(new ArrayList<>(collection));
+		}
+
+		if (value instanceof Map<?, ?> map) {
+			return Collections.unmodifiableMap(new LinkedHashMap<>(map));
+		}
+
+		return value;
+	}
+
+	private void expungeCollectedInstances() {
+
+		Object reference;
+		while ((reference = collectedInstances.poll()) != null) {
+			snapshots.remove(reference);
+		}
+	}
+
+	/**
+	 * Applies the snapshots captured within a transaction once it committed and discards them otherwise.
+	 */
+	private class PendingSnapshots implements TransactionSynchronization {
+
+		private final Map<InstanceReference, Map<SqlIdentifier, Object>> pending;
+
+		PendingSnapshots(Map<InstanceReference, Map<SqlIdentifier, Object>> pending) {
+			this.pending = pending;
+		}
+
+		@Override
+		public void suspend() {
+			TransactionSynchronizationManager.unbindResourceIfPossible(EntitySnapshots.this);
+		}
+
+		@Override
+		public void resume() {
+			TransactionSynchronizationManager.bindResource(EntitySnapshots.this, pending);
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+
+			TransactionSynchronizationManager.unbindResourceIfPossible(EntitySnapshots.this);
+
+			if (status == STATUS_COMMITTED) {
+				pending.forEach((reference, values) -> {
+					if (reference.get() != null) {
+						snapshots.put(reference, values);
+					}
+				});
+			}
+
+			pending.clear();
+		}
+	}
+
+	/**
+	 * Weak reference to an instance with identity semantics, independent of {@code equals} and {@code hashCode} of the
+	 * instance.
+	 */
+	private static class InstanceReference extends WeakReference<Object> {
+
+		private final int hashCode;
+
+		InstanceReference(Object instance, @Nullable ReferenceQueue<Object> queue) {
+
+			super(instance, queue);
+			this.hashCode = System.identityHashCode(instance);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof InstanceReference other)) {
+				return false;
+			}
+
+			Object instance = get();
+			return instance != null && instance == other.get();
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
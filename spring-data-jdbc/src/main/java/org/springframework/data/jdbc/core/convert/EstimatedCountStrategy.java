@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.function.LongSupplier;
+
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link CountStrategy} reading the number of rows of a table from the statistics the database maintains, using the
+ * query provided by {@link Dialect#getRowCountEstimateQuery}. The estimate may lag behind the actual number of rows,
+ * which is acceptable when the total is only displayed approximately. Restricted queries, dialects not providing an
+ * estimate and tables without statistics get counted exactly.
+ *
+ * @since 3.1
+ */
+public class EstimatedCountStrategy implements CountStrategy {
+
+	private final JdbcOperations operations;
+	private final Dialect dialect;
+
+	/**
+	 * @param operations used to read the estimate. Must not be {@literal null}.
+	 * @param dialect provides the query reading the estimate. Must not be {@literal null}.
+	 */
+	public EstimatedCountStrategy(JdbcOperations operations, Dialect dialect) {
+
+		Assert.notNull(operations, "JdbcOperations must not be null");
+		Assert.notNull(dialect, "Dialect must not be null");
+
+		this.operations = operations;
+		this.dialect = dialect;
+	}
+
+	@Override
+	public long count(RelationalPersistentEntity<?> entity, @Nullable Object criteria, LongSupplier exactCount) {
+
+		if (criteria != null) {
+			return exactCount.getAsLong();
+		}
+
+		String sql = dialect.getRowCountEstimateQuery(entity.getQualifiedTableName());
+
+		if (sql == null) {
+			return exactCount.getAsLong();
+		}
+
+		Long estimate = operations.query(sql, rs -> {
+
+			if (!rs.next()) {
+				return null;
+			}
+
+			long value = rs.getLong(1);
+			return rs.wasNull() ? null : value;
+		});
+
+		return estimate != null && estimate >= 0 ? estimate : exactCount.getAsLong();
+	}
+}
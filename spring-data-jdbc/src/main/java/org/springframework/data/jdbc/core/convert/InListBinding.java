@@ -0,0 +1,176 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.InListSupport;
+import org.springframework.data.relational.core.sql.Comparison;
+import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.Expression;
+import org.springframework.data.relational.core.sql.SimpleFunction;
+
+/**
+ * Decides how the values of an {@code IN} predicate get bound, based on the {@link InListSupport} of a
+ * {@link Dialect}: as a single array parameter, or as one or more lists of individual parameters, optionally padded to
+ * the next power of two.
+ *
+ * @since 3.1
+ */
+class InListBinding {
+
+	private final InListSupport inListSupport;
+
+	InListBinding(Dialect dialect) {
+		this.inListSupport = dialect.getInListSupport();
+	}
+
+	/**
+	 * Should {@code size} values be bound as a single array parameter instead of a list of parameters?
+	 *
+	 * @param size the number of values.
+	 * @return {@literal true} if the values exceed the maximum size of an {@code IN} list and the dialect supports array
+	 *         binding.
+	 */
+	boolean bindAsArray(int size) {
+		return inListSupport.isArrayBindingSupported() && exceedsMaxListSize(size);
+	}
+
+	/**
+	 * Splits the given values into lists not exceeding the maximum size of an {@code IN} list. If padding is enabled,
+	 * each list gets padded to the next power of two by repeating its last element. Always returns at least one list.
+	 *
+	 * @param values the values to bind. Must not be {@literal null}.
+	 * @return the lists of values. Guaranteed to be not {@literal null} or empty.
+	 */
+	<T> List<List<T>> partition(List<T> values) {
+
+		if (!exceedsMaxListSize(values.size())) {
+			return Collections.singletonList(pad(values));
+		}
+
+		int maxListSize = inListSupport.getMaxListSize();
+		List<List<T>> partitions = new ArrayList<>(values.size() / maxListSize + 1);
+		for (int i = 0; i < values.size(); i += maxListSize) {
+			partitions.add(pad(values.subList(i, Math.min(i + maxListSize, values.size()))));
+		}
+
+		return partitions;
+	}
+
+	/**
+	 * Verifies that a statement with {@code boundParameters} other parameters can bind the given lists of values
+	 * without exceeding the maximum number of bind parameters of the database.
+	 *
+	 * @param boundParameters the number of other parameters of the statement.
+	 * @param partitions the lists of values to bind. Must not be {@literal null}.
+	 * @throws InvalidDataAccessApiUsageException if the maximum number of bind parameters would be exceeded.
+	 */
+	void verifyParameterCount(int boundParameters, List<? extends List<?>> partitions) {
+
+		int maxParameterCount = inListSupport.getMaxParameterCount();
+		if (maxParameterCount == InListSupport.UNLIMITED) {
+			return;
+		}
+
+		int listParameterCount = 0;
+		for (List<?> partition : partitions) {
+			listParameterCount += partition.size();
+		}
+
+		if (boundParameters + listParameterCount > maxParameterCount) {
+			throw new InvalidDataAccessApiUsageException(String.format(
+					"Binding %d IN list parameters in addition to %d other parameters exceeds the maximum of %d bind"
+							+ " parameters of the database",
+					listParameterCount, boundParameters, maxParameterCount));
+		}
+	}
+
+	private boolean exceedsMaxListSize(int size) {
+
+		int maxListSize = inListSupport.getMaxListSize();
+		return maxListSize != InListSupport.UNLIMITED && size > maxListSize;
+	}
+
+	/**
+	 * Pads the given values to the next power of two by repeating the last element, if padding is enabled. Values
+	 * exceeding the maximum size of an {@code IN} list are returned as they are.
+	 *
+	 * @param values the values to bind. Must not be {@literal null}.
+	 * @return the padded values. Guaranteed to be not {@literal null}.
+	 */
+	<T> List<T> pad(List<T> values) {
+
+		if (!inListSupport.isPaddingEnabled() || values.size() < 2 || exceedsMaxListSize(values.size())) {
+			return values;
+		}
+
+		int paddedSize = Integer.highestOneBit(values.size() - 1) << 1;
+		int maxListSize = inListSupport.getMaxListSize();
+		if (maxListSize != InListSupport.UNLIMITED) {
+			paddedSize = Math.min(paddedSize, maxListSize);
+		}
+
+		if (paddedSize == values.size()) {
+			return values;
+		}
+
+		List<T> padded = new ArrayList<>(paddedSize);
+		padded.addAll(values);
+		T last = values.get(values.size() - 1);
+		while (padded.size() < paddedSize) {
+			padded.add(last);
+		}
+
+		return padded;
+	}
+
+	/**
+	 * Creates a condition comparing {@code expression} with the elements of an array: {@code expression = ANY(array)}.
+	 *
+	 * @param expression the expression to compare. Must not be {@literal null}.
+	 * @param array the array, typically a bind marker. Must not be {@literal null}.
+	 * @return the condition. Guaranteed to be not {@literal null}.
+	 */
+	static Condition isEqualToAny(Expression expression, Expression array) {
+		return Comparison.create(expression, "=", SimpleFunction.create("ANY", Collections.singletonList(array)));
+	}
+
+	/**
+	 * Copies the given values into an array typed by the class of the first non-null value so that a matching SQL array
+	 * type can be determined.
+	 *
+	 * @param values the values. Must not be {@literal null}.
+	 * @return the array. Guaranteed to be not {@literal null}.
+	 */
+	static Object[] toTypedArray(List<?> values) {
+
+		Class<?> componentType = Object.class;
+		for (Object value : values) {
+			if (value != null) {
+				componentType = value.getClass();
+				break;
+			}
+		}
+
+		return values.toArray((Object[]) Array.newInstance(componentType, values.size()));
+	}
+}
@@ -34,6 +34,7 @@ public class InsertStrategyFactory {
 	private final NamedParameterJdbcOperations namedParameterJdbcOperations;
 	private final BatchJdbcOperations batchJdbcOperations;
 	private final Dialect dialect;
+	@Nullable private final SequenceIdAllocator sequenceIdAllocator;
 
 	public InsertStrategyFactory(NamedParameterJdbcOperations namedParameterJdbcOperations,
 			BatchJdbcOperations batchJdbcOperations, Dialect dialect) {
@@ -41,6 +42,9 @@ public class InsertStrategyFactory {
 		this.namedParameterJdbcOperations = namedParameterJdbcOperations;
 		this.batchJdbcOperations = batchJdbcOperations;
 		this.dialect = dialect;
+		this.sequenceIdAllocator = dialect.getIdGeneration().sequencesSupported()
+				? new SequenceIdAllocator(dialect, namedParameterJdbcOperations)
+				: null;
 	}
 
 	/**
@@ -73,6 +77,35 @@ public class InsertStrategyFactory {
 		return new DefaultBatchInsertStrategy(namedParameterJdbcOperations);
 	}
 
+	/**
+	 * @param idValueSource the {@link IdValueSource} for the insert.
+	 * @param idColumn the identifier for the id, if an ids are expected to be generated. May be {@code null}.
+	 * @return the {@link MultiRowInsertStrategy} to be used for inserting multiple records or {@literal null} if the
+	 *         {@link Dialect} doesn't support multi-row inserts.
+	 * @since 3.1
+	 * @see org.springframework.data.relational.core.dialect.IdGeneration#supportedForMultiRowInserts()
+	 */
+	@Nullable
+	MultiRowInsertStrategy multiRowInsertStrategy(IdValueSource idValueSource, @Nullable SqlIdentifier idColumn) {
+
+		if (!dialect.getIdGeneration().supportedForMultiRowInserts()) {
+			return null;
+		}
+		return new MultiRowInsertStrategy(dialect, namedParameterJdbcOperations,
+				IdValueSource.GENERATED.equals(idValueSource), idColumn);
+	}
+
+	/**
+	 * @return the {@link SequenceIdAllocator} to be used for allocating ids before inserts or {@literal null} if the
+	 *         {@link Dialect} doesn't support sequences.
+	 * @since 3.1
+	 * @see org.springframework.data.relational.core.dialect.IdGeneration#sequencesSupported()
+	 */
+	@Nullable
+	SequenceIdAllocator sequenceIdAllocator() {
+		return sequenceIdAllocator;
+	}
+
 	private static class DefaultInsertStrategy implements InsertStrategy {
 
 		private final NamedParameterJdbcOperations jdbcOperations;
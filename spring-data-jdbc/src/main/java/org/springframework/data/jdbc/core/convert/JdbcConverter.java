@@ -17,6 +17,7 @@ package org.springframework.data.jdbc.core.convert;
 
 import java.sql.ResultSet;
 import java.sql.SQLType;
+import java.util.Collection;
 
 import org.springframework.data.jdbc.core.mapping.JdbcValue;
 import org.springframework.data.relational.core.conversion.RelationalConverter;
@@ -58,6 +59,44 @@ public interface JdbcConverter extends RelationalConverter {
 	 */
 	<T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key);
 
+	/**
+	 * Read the current row from {@link ResultSet} to an {@link RelationalPersistentEntity#getType() entity}, resolving
+	 * the relations of the entity with the given {@link RelationResolver}. Converters not supporting a custom
+	 * {@link RelationResolver} fall back to {@link #mapRow(RelationalPersistentEntity, ResultSet, Object)}.
+	 *
+	 * @param entity the persistent entity type.
+	 * @param resultSet the {@link ResultSet} to read from.
+	 * @param key primary key.
+	 * @param relationResolver used to fetch the relations of the entity. Must not be {@literal null}.
+	 * @param <T>
+	 * @return
+	 * @since 3.1
+	 */
+	default <T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key,
+			RelationResolver relationResolver) {
+		return mapRow(entity, resultSet, key);
+	}
+
+	/**
+	 * Read the current row from {@link ResultSet} to an {@link RelationalPersistentEntity#getType() entity}, resolving
+	 * only the relations held by the given properties. Collections and maps held by other properties are left empty, which
+	 * avoids loading relations a projection does not expose. Converters not supporting this fall back to
+	 * {@link #mapRow(RelationalPersistentEntity, ResultSet, Object)}.
+	 *
+	 * @param entity the persistent entity type.
+	 * @param resultSet the {@link ResultSet} to read from.
+	 * @param key primary key.
+	 * @param resolvedProperties names of the properties of {@code entity} whose relations get resolved. Must not be
+	 *          {@literal null}.
+	 * @param <T>
+	 * @return
+	 * @since 3.1
+	 */
+	default <T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key,
+			Collection<String> resolvedProperties) {
+		return mapRow(entity, resultSet, key);
+	}
+
 	/**
 	 * Read the current row from {@link ResultSet} to an {@link PersistentPropertyPathExtension#getActualType() entity}.
 	 *
@@ -70,6 +109,25 @@ public interface JdbcConverter extends RelationalConverter {
 	 */
 	<T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key);
 
+	/**
+	 * Read the current row from {@link ResultSet} to an {@link PersistentPropertyPathExtension#getActualType() entity}
+	 * whose table got joined to the table of the aggregate root, so its columns are selected using the aliases derived
+	 * from {@code path}.
+	 *
+	 * @param path path from the aggregate root to the owning property.
+	 * @param resultSet the {@link ResultSet} to read from.
+	 * @param identifier entity identifier.
+	 * @param key primary key.
+	 * @param <T>
+	 * @return
+	 * @throws UnsupportedOperationException if the converter does not support reading joined rows.
+	 * @since 3.1
+	 */
+	default <T> T mapJoinedRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier,
+			Object key) {
+		throw new UnsupportedOperationException("Reading joined rows is not supported by " + getClass().getName());
+	}
+
 	/**
 	 * The type to be used to store this property in the database. Multidimensional arrays are unwrapped to reflect a
 	 * top-level array type (e.g. {@code String[][]} returns {@code String[]}).
@@ -88,4 +146,16 @@ public interface JdbcConverter extends RelationalConverter {
 	 * @since 2.0
 	 */
 	SQLType getTargetSqlType(RelationalPersistentProperty property);
+
+	/**
+	 * Returns the snapshots of aggregate roots read by this converter, used to limit updates to changed columns.
+	 *
+	 * @return the {@link EntitySnapshots}. {@literal null} if this converter does not support dirty tracking.
+	 * @since 3.1
+	 * @see org.springframework.data.relational.core.mapping.DirtyTracking
+	 */
+	@Nullable
+	default EntitySnapshots getEntitySnapshots() {
+		return null;
+	}
 }
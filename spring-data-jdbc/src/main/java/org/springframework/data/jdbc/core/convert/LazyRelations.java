@@ -0,0 +1,261 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.relational.core.conversion.LazyLoadingRelation;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link List}s, {@link Set}s and {@link Map}s holding the entities of a
+ * {@link org.springframework.data.relational.core.mapping.MappedCollection#lazy() lazily loaded} relation. The entities
+ * get loaded through the {@link RelationResolver} when the collection is accessed for the first time, including
+ * {@link Object#toString()}, {@link Object#equals(Object)} and {@link Object#hashCode()}.
+ * <p>
+ * Loading runs a separate query at the time of the first access. When a transaction is active at that time, the query
+ * participates in it, otherwise it runs on a connection obtained just for that query. Either way the loaded entities
+ * reflect the state of the database at the time of the access, which might differ from the state at the time the
+ * owning entity was loaded.
+ * Collections only get loaded once, even when accessed concurrently.
+ *
+ * @since 3.1
+ */
+final class LazyRelations {
+
+	private static final Converter<Iterable<?>, Map<?, ?>> ITERABLE_OF_ENTRY_TO_MAP_CONVERTER = new IterableOfEntryToMapConverter();
+
+	private LazyRelations() {}
+
+	/**
+	 * Creates the lazily loaded collection or map for the given property.
+	 *
+	 * @param property a property for which {@link RelationalPersistentProperty#isLazy()} returns {@literal true}. Must not
+	 *          be {@literal null}.
+	 * @param loader loads the entities, or map entries for maps, of the relation. Must not be {@literal null}.
+	 * @return the {@link List}, {@link Set} or {@link Map} to assign to the property. Guaranteed to be not
+	 *         {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	static Object create(RelationalPersistentProperty property, Supplier<Iterable<Object>> loader) {
+
+		Assert.notNull(property, "RelationalPersistentProperty must not be null");
+		Assert.notNull(loader, "Loader must not be null");
+
+		if (property.isMap()) {
+			return new LazyMap(new Loader<>(() -> (Map<Object, Object>) ITERABLE_OF_ENTRY_TO_MAP_CONVERTER
+					.convert(loader.get())));
+		}
+
+		if (Set.class.isAssignableFrom(property.getType())) {
+			return new LazySet(new Loader<>(() -> {
+
+				Set<Object> elements = new LinkedHashSet<>();
+				loader.get().forEach(elements::add);
+				return elements;
+			}));
+		}
+
+		return new LazyList(new Loader<>(() -> {
+
+			List<Object> elements = new ArrayList<>();
+			loader.get().forEach(elements::add);
+			return elements;
+		}));
+	}
+
+	/**
+	 * Loads a value once.
+	 */
+	private static class Loader<T> {
+
+		private final Supplier<T> supplier;
+		@Nullable private volatile T value;
+
+		Loader(Supplier<T> supplier) {
+			this.supplier = supplier;
+		}
+
+		T get() {
+
+			T value = this.value;
+
+			if (value == null) {
+
+				synchronized (this) {
+
+					value = this.value;
+					if (value == null) {
+
+						value = supplier.get();
+						this.value = value;
+					}
+				}
+			}
+
+			return value;
+		}
+
+		boolean isLoaded() {
+			return value != null;
+		}
+	}
+
+	private static class LazyList extends AbstractList<Object> implements LazyLoadingRelation {
+
+		private final Loader<List<Object>> elements;
+
+		LazyList(Loader<List<Object>> elements) {
+			this.elements = elements;
+		}
+
+		@Override
+		public boolean isLoaded() {
+			return elements.isLoaded();
+		}
+
+		@Override
+		public Object get(int index) {
+			return elements.get().get(index);
+		}
+
+		@Override
+		public Object set(int index, Object element) {
+			return elements.get().set(index, element);
+		}
+
+		@Override
+		public void add(int index, Object element) {
+
+			elements.get().add(index, element);
+			modCount++;
+		}
+
+		@Override
+		public Object remove(int index) {
+
+			Object removed = elements.get().remove(index);
+			modCount++;
+			return removed;
+		}
+
+		@Override
+		public int size() {
+			return elements.get().size();
+		}
+	}
+
+	private static class LazySet extends AbstractSet<Object> implements LazyLoadingRelation {
+
+		private final Loader<Set<Object>> elements;
+
+		LazySet(Loader<Set<Object>> elements) {
+			this.elements = elements;
+		}
+
+		@Override
+		public boolean isLoaded() {
+			return elements.isLoaded();
+		}
+
+		@Override
+		public Iterator<Object> iterator() {
+			return elements.get().iterator();
+		}
+
+		@Override
+		public int size() {
+			return elements.get().size();
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return elements.get().contains(o);
+		}
+
+		@Override
+		public boolean add(Object element) {
+			return elements.get().add(element);
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			return elements.get().remove(o);
+		}
+
+		@Override
+		public boolean addAll(Collection<?> c) {
+			return elements.get().addAll(c);
+		}
+	}
+
+	private static class LazyMap extends AbstractMap<Object, Object> implements LazyLoadingRelation {
+
+		private final Loader<Map<Object, Object>> entries;
+
+		LazyMap(Loader<Map<Object, Object>> entries) {
+			this.entries = entries;
+		}
+
+		@Override
+		public boolean isLoaded() {
+			return entries.isLoaded();
+		}
+
+		@Override
+		public Set<Entry<Object, Object>> entrySet() {
+			return entries.get().entrySet();
+		}
+
+		@Override
+		public int size() {
+			return entries.get().size();
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return entries.get().containsKey(key);
+		}
+
+		@Override
+		public Object get(Object key) {
+			return entries.get().get(key);
+		}
+
+		@Override
+		public Object put(Object key, Object value) {
+			return entries.get().put(key, value);
+		}
+
+		@Override
+		public Object remove(Object key) {
+			return entries.get().remove(key);
+		}
+	}
+}
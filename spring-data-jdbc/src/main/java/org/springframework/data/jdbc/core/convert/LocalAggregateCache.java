@@ -0,0 +1,183 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link AggregateCache} keeping the state of aggregates in memory of the local JVM. Holds up to a maximum number of
+ * aggregates, evicting the least recently used ones first, and drops aggregates once their time to live has passed.
+ *
+ * @since 3.1
+ */
+public class LocalAggregateCache implements AggregateCache {
+
+	private final int maximumSize;
+	private final Duration timeToLive;
+	private final Clock clock;
+	private final LinkedHashMap<CacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * @param maximumSize the maximum number of aggregates to hold. Must be positive.
+	 * @param timeToLive the duration aggregates are cached for. Must not be {@literal null} or negative.
+	 */
+	public LocalAggregateCache(int maximumSize, Duration timeToLive) {
+		this(maximumSize, timeToLive, Clock.systemUTC());
+	}
+
+	LocalAggregateCache(int maximumSize, Duration timeToLive, Clock clock) {
+
+		Assert.isTrue(maximumSize > 0, "Maximum size must be positive");
+		Assert.notNull(timeToLive, "Time to live must not be null");
+		Assert.isTrue(!timeToLive.isNegative(), "Time to live must not be negative");
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.maximumSize = maximumSize;
+		this.timeToLive = timeToLive;
+		this.clock = clock;
+	}
+
+	@Override
+	@Nullable
+	public synchronized CachedAggregate get(Class<?> domainType, Object id) {
+
+		CacheKey key = new CacheKey(domainType, id);
+		CacheEntry entry = entries.get(key);
+
+		if (entry == null) {
+			return null;
+		}
+
+		if (!entry.isValidAt(clock.instant())) {
+
+			entries.remove(key);
+			return null;
+		}
+
+		return entry.aggregate;
+	}
+
+	@Override
+	public synchronized void put(Class<?> domainType, Object id, CachedAggregate aggregate) {
+
+		Assert.notNull(aggregate, "CachedAggregate must not be null");
+
+		entries.put(new CacheKey(domainType, id), new CacheEntry(aggregate, clock.instant().plus(timeToLive)));
+
+		Iterator<CacheEntry> leastRecentlyUsed = entries.values().iterator();
+		while (entries.size() > maximumSize) {
+
+			leastRecentlyUsed.next();
+			leastRecentlyUsed.remove();
+		}
+	}
+
+	@Override
+	public synchronized void putIfAbsent(Class<?> domainType, Object id, CachedAggregate aggregate) {
+
+		Assert.notNull(aggregate, "CachedAggregate must not be null");
+
+		CacheEntry entry = entries.get(new CacheKey(domainType, id));
+
+		if (entry == null || !entry.isValidAt(clock.instant()) || aggregate.isNewerThan(entry.aggregate)) {
+			put(domainType, id, aggregate);
+		}
+	}
+
+	@Override
+	public synchronized void evict(Class<?> domainType, Object id) {
+		entries.remove(new CacheKey(domainType, id));
+	}
+
+	@Override
+	public synchronized void evictAll(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		entries.keySet().removeIf(it -> it.domainType.equals(domainType));
+	}
+
+	/**
+	 * Removes all cached aggregates.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * @return the number of cached aggregates, including expired ones that were not removed yet.
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	private static class CacheKey {
+
+		private final Class<?> domainType;
+		private final Object id;
+
+		CacheKey(Class<?> domainType, Object id) {
+
+			Assert.notNull(domainType, "Domain type must not be null");
+			Assert.notNull(id, "Id must not be null");
+
+			this.domainType = domainType;
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof CacheKey that)) {
+				return false;
+			}
+
+			return domainType.equals(that.domainType) && id.equals(that.id);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * domainType.hashCode() + id.hashCode();
+		}
+	}
+
+	private static class CacheEntry {
+
+		private final CachedAggregate aggregate;
+		private final Instant expiresAt;
+
+		CacheEntry(CachedAggregate aggregate, Instant expiresAt) {
+
+			this.aggregate = aggregate;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean isValidAt(Instant instant) {
+			return instant.isBefore(expiresAt);
+		}
+	}
+}
@@ -36,13 +36,13 @@ import org.springframework.jdbc.core.RowMapper;
 class MapEntityRowMapper<T> implements RowMapper<Map.Entry<Object, T>> {
 
 	private final PersistentPropertyPathExtension path;
-	private final JdbcConverter converter;
+	private final RowReader reader;
 	private final Identifier identifier;
 	private final SqlIdentifier keyColumn;
 
 	MapEntityRowMapper(PersistentPropertyPathExtension path, JdbcConverter converter, Identifier identifier, SqlIdentifier keyColumn) {
 		this.path = path;
-		this.converter = converter;
+		this.reader = new RowReader(converter);
 		this.identifier = identifier;
 		this.keyColumn = keyColumn;
 	}
@@ -55,6 +55,6 @@ class MapEntityRowMapper<T> implements RowMapper<Map.Entry<Object, T>> {
 	}
 
 	private T mapEntity(ResultSet resultSet, Object key) {
-		return converter.mapRow(path, resultSet, identifier, key);
+		return reader.mapRow(path, resultSet, identifier, key);
 	}
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Strategy for inserting multiple records using {@code INSERT … VALUES (…), (…)} statements, each covering a chunk of
+ * the records. The parameters of each row are named after the columns, suffixed with the index of the row in the
+ * chunk, see {@link SqlGenerator#getInsert(java.util.Set, int)}. When ids are expected to be generated, they get read
+ * back from the generated keys of each statement.
+ *
+ * @since 3.1
+ */
+class MultiRowInsertStrategy {
+
+	/**
+	 * Upper limit for the bind parameters of a single statement. Postgres, the strictest of the supporting databases,
+	 * rejects more than {@code Short.MAX_VALUE} parameters.
+	 */
+	static final int MAX_PARAMETERS = Short.MAX_VALUE;
+
+	/**
+	 * Upper limit for the rows inserted by a single statement.
+	 */
+	static final int MAX_ROWS = 1000;
+
+	private final Dialect dialect;
+	private final NamedParameterJdbcOperations jdbcOperations;
+	private final boolean generatesIds;
+	@Nullable private final SqlIdentifier idColumn;
+
+	MultiRowInsertStrategy(Dialect dialect, NamedParameterJdbcOperations jdbcOperations, boolean generatesIds,
+			@Nullable SqlIdentifier idColumn) {
+
+		this.dialect = dialect;
+		this.jdbcOperations = jdbcOperations;
+		this.generatesIds = generatesIds;
+		this.idColumn = idColumn;
+	}
+
+	/**
+	 * @param sqlForRows creates the insert sql for a given number of rows. Must not be {@code null}.
+	 * @param sqlParameterSources the sql parameters for each record to be inserted. Must not be {@code null}.
+	 * @return the ids corresponding to each record that was inserted, if ids were generated. If ids were not generated,
+	 *         elements will be {@code null}.
+	 */
+	Object[] execute(IntFunction<String> sqlForRows, SqlIdentifierParameterSource[] sqlParameterSources) {
+
+		Assert.notEmpty(sqlParameterSources, "Multi-row insert must contain at least one row");
+
+		int parametersPerRow = Math.max(1, sqlParameterSources[0].size());
+		int chunkSize = Math.max(1, Math.min(MAX_ROWS, MAX_PARAMETERS / parametersPerRow));
+
+		Object[] ids = new Object[sqlParameterSources.length];
+
+		for (int start = 0; start < sqlParameterSources.length; start += chunkSize) {
+
+			int rows = Math.min(chunkSize, sqlParameterSources.length - start);
+
+			SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource();
+			for (int row = 0; row < rows; row++) {
+				parameterSource.addAll(sqlParameterSources[start + row], row);
+			}
+
+			String sql = sqlForRows.apply(rows);
+
+			if (generatesIds) {
+				readGeneratedIds(executeWithKeyHolder(sql, parameterSource), ids, start, rows);
+			} else {
+				jdbcOperations.update(sql, parameterSource);
+			}
+		}
+
+		return ids;
+	}
+
+	private GeneratedKeyHolder executeWithKeyHolder(String sql, SqlIdentifierParameterSource parameterSource) {
+
+		GeneratedKeyHolder holder = new GeneratedKeyHolder();
+
+		if (dialect.getIdGeneration().driverRequiresKeyColumnNames() && idColumn != null) {
+			jdbcOperations.update(sql, parameterSource, holder, new String[] { idColumn.getReference() });
+		} else {
+			jdbcOperations.update(sql, parameterSource, holder);
+		}
+
+		return holder;
+	}
+
+	private void readGeneratedIds(GeneratedKeyHolder holder, Object[] ids, int start, int rows) {
+
+		List<Map<String, Object>> keyList = holder.getKeyList();
+
+		Assert.state(keyList.size() == rows,
+				() -> String.format("Expected %d generated keys but the driver returned %d", rows, keyList.size()));
+
+		for (int row = 0; row < rows; row++) {
+
+			Map<String, Object> keys = keyList.get(row);
+			if (keys.size() > 1) {
+				if (idColumn != null) {
+					ids[start + row] = keys.get(idColumn.getReference());
+				}
+			} else {
+				ids[start + row] = keys.values().stream().findFirst()
+						.orElseThrow(() -> new IllegalStateException("KeyHolder contains an empty key list"));
+			}
+		}
+	}
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.SQLType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.springframework.data.jdbc.core.mapping.JdbcValue;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.lang.Nullable;
+
+/**
+ * The parameters written for an entity by an insert or update, compiled once per entity and operation. The properties
+ * to write, the embedded entities holding them, their column types, {@link SQLType}s and bind parameter names are
+ * resolved upfront, so extracting the parameters of an instance only reads the property values, converts them and
+ * stores them in the arrays backing the resulting {@link SqlIdentifierParameterSource}.
+ *
+ * @since 3.1
+ * @see SqlParametersFactory
+ */
+class ParameterExtractionPlan {
+
+	// slot 0 holds the instance, further slots hold embedded entities
+	private final RelationalPersistentEntity<?>[] slotEntities;
+	private final RelationalPersistentProperty[] slotProperties;
+	private final int[] slotParents;
+
+	private final RelationalPersistentProperty[] properties;
+	private final int[] propertySlots;
+	private final Class<?>[] columnTypes;
+	private final SQLType[] sqlTypes;
+
+	private final Map<String, Integer> indexes;
+	private final Set<SqlIdentifier> identifiers;
+
+	private ParameterExtractionPlan(Builder builder) {
+
+		this.slotEntities = builder.slotEntities.toArray(new RelationalPersistentEntity<?>[0]);
+		this.slotProperties = builder.slotProperties.toArray(new RelationalPersistentProperty[0]);
+		this.slotParents = builder.slotParents.stream().mapToInt(Integer::intValue).toArray();
+		this.properties = builder.properties.toArray(new RelationalPersistentProperty[0]);
+		this.propertySlots = builder.propertySlots.stream().mapToInt(Integer::intValue).toArray();
+		this.columnTypes = builder.columnTypes.toArray(new Class<?>[0]);
+		this.sqlTypes = builder.sqlTypes.toArray(new SQLType[0]);
+
+		Map<String, Integer> indexes = new HashMap<>();
+		for (int index = 0; index < builder.identifiers.size(); index++) {
+			indexes.put(BindParameterNameSanitizer.sanitize(builder.identifiers.get(index).getReference()), index);
+		}
+
+		this.indexes = indexes;
+		this.identifiers = Collections.unmodifiableSet(new LinkedHashSet<>(builder.identifiers));
+	}
+
+	/**
+	 * Compiles the plan for the given entity.
+	 *
+	 * @param context the mapping context. Must not be {@literal null}.
+	 * @param converter the converter determining column and {@link SQLType}s. Must not be {@literal null}.
+	 * @param entity the entity to write. Must not be {@literal null}.
+	 * @param skipProperty determines the properties not to write. Must not be {@literal null}.
+	 * @return the plan. Guaranteed to be not {@literal null}.
+	 */
+	static ParameterExtractionPlan compile(RelationalMappingContext context, JdbcConverter converter,
+			RelationalPersistentEntity<?> entity, Predicate<RelationalPersistentProperty> skipProperty) {
+
+		Builder builder = new Builder(context, converter, skipProperty);
+		builder.addSlot(entity, null, -1);
+		builder.add(entity, 0, "");
+
+		return new ParameterExtractionPlan(builder);
+	}
+
+	/**
+	 * Extracts the parameters of the given instance.
+	 *
+	 * @param instance the entity to write. Must not be {@literal null}.
+	 * @param converter the converter to write the values with. Must not be {@literal null}.
+	 * @return the parameters. Guaranteed to be not {@literal null}.
+	 */
+	SqlIdentifierParameterSource extract(Object instance, JdbcConverter converter) {
+
+		Object[] slots = new Object[slotProperties.length];
+		PersistentPropertyAccessor<?>[] accessors = new PersistentPropertyAccessor<?>[slotProperties.length];
+		slots[0] = instance;
+
+		for (int slot = 1; slot < slots.length; slot++) {
+
+			PersistentPropertyAccessor<?> parent = getAccessor(slotParents[slot], slots, accessors);
+			slots[slot] = parent == null ? null : parent.getProperty(slotProperties[slot]);
+		}
+
+		Object[] values = new Object[properties.length];
+		int[] types = new int[properties.length];
+
+		for (int index = 0; index < properties.length; index++) {
+
+			PersistentPropertyAccessor<?> accessor = getAccessor(propertySlots[index], slots, accessors);
+			Object value = accessor == null ? null : accessor.getProperty(properties[index]);
+
+			JdbcValue jdbcValue = converter.writeJdbcValue(value, columnTypes[index], sqlTypes[index]);
+			values[index] = jdbcValue.getValue();
+			types[index] = jdbcValue.getJdbcType().getVendorTypeNumber();
+		}
+
+		return new SqlIdentifierParameterSource(this, values, types);
+	}
+
+	/**
+	 * @return the index of the parameter with the given bind parameter name or {@literal -1} if there is none.
+	 */
+	int indexOf(String name) {
+
+		Integer index = indexes.get(name);
+		return index == null ? -1 : index;
+	}
+
+	Set<String> getParameterNames() {
+		return indexes.keySet();
+	}
+
+	Set<SqlIdentifier> getIdentifiers() {
+		return identifiers;
+	}
+
+	@Nullable
+	private PersistentPropertyAccessor<?> getAccessor(int slot, Object[] slots,
+			PersistentPropertyAccessor<?>[] accessors) {
+
+		PersistentPropertyAccessor<?> accessor = accessors[slot];
+
+		if (accessor == null && slots[slot] != null) {
+
+			accessor = slotEntities[slot].getPropertyAccessor(slots[slot]);
+			accessors[slot] = accessor;
+		}
+
+		return accessor;
+	}
+
+	private static class Builder {
+
+		private final RelationalMappingContext context;
+		private final JdbcConverter converter;
+		private final Predicate<RelationalPersistentProperty> skipProperty;
+
+		private final List<RelationalPersistentEntity<?>> slotEntities = new ArrayList<>();
+		private final List<RelationalPersistentProperty> slotProperties = new ArrayList<>();
+		private final List<Integer> slotParents = new ArrayList<>();
+
+		private final List<RelationalPersistentProperty> properties = new ArrayList<>();
+		private final List<Integer> propertySlots = new ArrayList<>();
+		private final List<Class<?>> columnTypes = new ArrayList<>();
+		private final List<SQLType> sqlTypes = new ArrayList<>();
+		private final List<SqlIdentifier> identifiers = new ArrayList<>();
+
+		Builder(RelationalMappingContext context, JdbcConverter converter,
+				Predicate<RelationalPersistentProperty> skipProperty) {
+
+			this.context = context;
+			this.converter = converter;
+			this.skipProperty = skipProperty;
+		}
+
+		private void add(RelationalPersistentEntity<?> entity, int slot, String prefix) {
+
+			entity.doWithAll(property -> {
+
+				if (skipProperty.test(property) || !property.isWritable()) {
+					return;
+				}
+				if (property.isEntity() && !property.isEmbedded()) {
+					return;
+				}
+
+				if (property.isEmbedded()) {
+
+					RelationalPersistentEntity<?> embedded = context.getRequiredPersistentEntity(property.getType());
+					add(embedded, addSlot(embedded, property, slot), prefix + property.getEmbeddedPrefix());
+				} else {
+
+					properties.add(property);
+					propertySlots.add(slot);
+					columnTypes.add(converter.getColumnType(property));
+					sqlTypes.add(converter.getTargetSqlType(property));
+					identifiers.add(property.getColumnName().transform(prefix::concat));
+				}
+			});
+		}
+
+		private int addSlot(RelationalPersistentEntity<?> entity, @Nullable RelationalPersistentProperty property,
+				int parent) {
+
+			slotEntities.add(entity);
+			slotProperties.add(property);
+			slotParents.add(parent);
+
+			return slotEntities.size() - 1;
+		}
+	}
+}
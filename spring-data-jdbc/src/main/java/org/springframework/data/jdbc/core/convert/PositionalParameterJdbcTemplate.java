@@ -0,0 +1,246 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.ParameterDisposer;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link NamedParameterJdbcTemplate} executing the SQL generated by {@link SqlGenerator} with positional {@code ?}
+ * bind markers. Each statement gets translated into its positional form and the order of its parameters once, so
+ * executing it only reads the values from the {@link SqlParameterSource} and binds them to the
+ * {@link PreparedStatement} created through the underlying {@link JdbcOperations}, instead of parsing the statement
+ * and substituting its parameters on every execution.
+ * <p>
+ * Statements binding a collection to a parameter, which expands into a varying number of bind markers, and statements
+ * customizing the {@link PreparedStatementCreatorFactory}, e.g. to return generated keys, are executed as usual.
+ * Translated statements are cached up to a maximum number, evicting the least recently used ones first.
+ *
+ * @since 3.1
+ * @see DefaultDataAccessStrategy#setPositionalParametersEnabled(boolean)
+ */
+class PositionalParameterJdbcTemplate extends NamedParameterJdbcTemplate {
+
+	/**
+	 * Default upper bound of cached statements, as statements updating only changed columns come in many variants.
+	 */
+	static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+	private final int maximumSize;
+	private final LinkedHashMap<String, PositionalStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+	PositionalParameterJdbcTemplate(JdbcOperations jdbcOperations) {
+		this(jdbcOperations, DEFAULT_MAXIMUM_SIZE);
+	}
+
+	PositionalParameterJdbcTemplate(JdbcOperations jdbcOperations, int maximumSize) {
+
+		super(jdbcOperations);
+
+		Assert.isTrue(maximumSize > 0, "Maximum size must be positive");
+
+		this.maximumSize = maximumSize;
+	}
+
+	@Override
+	protected PreparedStatementCreator getPreparedStatementCreator(String sql, SqlParameterSource paramSource,
+			@Nullable Consumer<PreparedStatementCreatorFactory> customizer) {
+
+		if (customizer == null) {
+
+			PreparedStatementCreator creator = getStatement(sql).bind(paramSource);
+			if (creator != null) {
+				return creator;
+			}
+		}
+
+		return super.getPreparedStatementCreator(sql, paramSource, customizer);
+	}
+
+	/**
+	 * @return the number of cached statements.
+	 */
+	int size() {
+
+		synchronized (statements) {
+			return statements.size();
+		}
+	}
+
+	/**
+	 * @return whether the translation of the given statement is cached, without counting as use of it.
+	 */
+	boolean isCached(String sql) {
+
+		synchronized (statements) {
+			return statements.containsKey(sql);
+		}
+	}
+
+	private PositionalStatement getStatement(String sql) {
+
+		synchronized (statements) {
+
+			PositionalStatement statement = statements.get(sql);
+			if (statement != null) {
+				return statement;
+			}
+		}
+
+		PositionalStatement statement = PositionalStatement.of(sql);
+
+		synchronized (statements) {
+
+			statements.put(sql, statement);
+
+			Iterator<PositionalStatement> leastRecentlyUsed = statements.values().iterator();
+			while (statements.size() > maximumSize) {
+
+				leastRecentlyUsed.next();
+				leastRecentlyUsed.remove();
+			}
+		}
+
+		return statement;
+	}
+
+	/**
+	 * A statement with positional bind markers along with the names of the parameters in the order of their markers.
+	 */
+	private static class PositionalStatement {
+
+		private final String sql;
+		private final String[] parameterNames;
+
+		private PositionalStatement(String sql, String[] parameterNames) {
+
+			this.sql = sql;
+			this.parameterNames = parameterNames;
+		}
+
+		static PositionalStatement of(String sql) {
+
+			ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+			List<SqlParameter> parameters = NamedParameterUtils.buildSqlParameterList(parsedSql,
+					EmptySqlParameterSource.INSTANCE);
+
+			String[] parameterNames = new String[parameters.size()];
+			for (int i = 0; i < parameterNames.length; i++) {
+				parameterNames[i] = parameters.get(i).getName();
+			}
+
+			return new PositionalStatement(NamedParameterUtils.substituteNamedParameters(parsedSql, null), parameterNames);
+		}
+
+		/**
+		 * @return the {@link PreparedStatementCreator} binding the values of the {@link SqlParameterSource} or
+		 *         {@literal null} if the values cannot be bound to the positional bind markers.
+		 */
+		@Nullable
+		PreparedStatementCreator bind(SqlParameterSource parameterSource) {
+
+			Object[] values = new Object[parameterNames.length];
+			int[] sqlTypes = new int[parameterNames.length];
+			String[] typeNames = new String[parameterNames.length];
+
+			for (int i = 0; i < parameterNames.length; i++) {
+
+				String name = parameterNames[i];
+				if (!parameterSource.hasValue(name)) {
+					return null;
+				}
+
+				Object value = parameterSource.getValue(name);
+				Object actualValue = value instanceof SqlParameterValue parameterValue //
+						? parameterValue.getValue()
+						: value;
+				if (actualValue instanceof Iterable<?>) {
+					return null;
+				}
+
+				values[i] = value;
+				sqlTypes[i] = parameterSource.getSqlType(name);
+				typeNames[i] = parameterSource.getTypeName(name);
+			}
+
+			return new PositionalStatementCreator(sql, values, sqlTypes, typeNames);
+		}
+	}
+
+	private static class PositionalStatementCreator implements PreparedStatementCreator, SqlProvider, ParameterDisposer {
+
+		private final String sql;
+		private final Object[] values;
+		private final int[] sqlTypes;
+		private final String[] typeNames;
+
+		PositionalStatementCreator(String sql, Object[] values, int[] sqlTypes, String[] typeNames) {
+
+			this.sql = sql;
+			this.values = values;
+			this.sqlTypes = sqlTypes;
+			this.typeNames = typeNames;
+		}
+
+		@Override
+		public PreparedStatement createPreparedStatement(Connection connection) throws SQLException {
+
+			PreparedStatement statement = connection.prepareStatement(sql);
+
+			for (int i = 0; i < values.length; i++) {
+				StatementCreatorUtils.setParameterValue(statement, i + 1, sqlTypes[i], typeNames[i], values[i]);
+			}
+
+			return statement;
+		}
+
+		@Override
+		public String getSql() {
+			return sql;
+		}
+
+		@Override
+		public void cleanupParameters() {
+			StatementCreatorUtils.cleanupParameters(values);
+		}
+
+		@Override
+		public String toString() {
+			return "PositionalStatementCreator: sql=[" + sql + "]";
+		}
+	}
+}
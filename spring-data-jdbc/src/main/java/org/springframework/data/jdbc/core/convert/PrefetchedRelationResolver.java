@@ -0,0 +1,69 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+
+/**
+ * {@link RelationResolver} serving relations loaded in advance for a known set of parents, delegating all other
+ * relations.
+ *
+ * @since 3.1
+ */
+class PrefetchedRelationResolver implements RelationResolver {
+
+	private final RelationResolver delegate;
+	private final Map<String, Map<Identifier, List<Object>>> relations = new HashMap<>();
+
+	/**
+	 * @param delegate resolves relations that were not loaded in advance. Must not be {@literal null}.
+	 */
+	PrefetchedRelationResolver(RelationResolver delegate) {
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Registers the entities loaded in advance for a relation. Parents without an entry are considered to have no
+	 * entities in this relation.
+	 *
+	 * @param path the path of the relation. Must not be {@literal null}.
+	 * @param elementsByParent the entities, or map entries for maps, by the {@link Identifier} of their parent. Must not
+	 *          be {@literal null}.
+	 */
+	void add(PersistentPropertyPath<? extends RelationalPersistentProperty> path,
+			Map<Identifier, List<Object>> elementsByParent) {
+		relations.put(path.toDotPath(), elementsByParent);
+	}
+
+	@Override
+	public Iterable<Object> findAllByPath(Identifier identifier,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+
+		Map<Identifier, List<Object>> elementsByParent = relations.get(path.toDotPath());
+
+		if (elementsByParent == null) {
+			return delegate.findAllByPath(identifier, path);
+		}
+
+		return elementsByParent.getOrDefault(identifier, Collections.emptyList());
+	}
+}
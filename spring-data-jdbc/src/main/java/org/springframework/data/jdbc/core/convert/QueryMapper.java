@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.mapping.JdbcValue;
 import org.springframework.data.jdbc.support.JdbcUtil;
@@ -60,6 +61,7 @@ public class QueryMapper {
 
 	private final JdbcConverter converter;
 	private final Dialect dialect;
+	private final InListBinding inListBinding;
 	private final MappingContext<? extends RelationalPersistentEntity<?>, RelationalPersistentProperty> mappingContext;
 
 	/**
@@ -76,6 +78,7 @@ public class QueryMapper {
 
 		this.converter = converter;
 		this.dialect = dialect;
+		this.inListBinding = new InListBinding(dialect);
 		this.mappingContext = (MappingContext) converter.getMappingContext();
 	}
 
@@ -166,6 +169,90 @@ public class QueryMapper {
 		return unroll(criteria, table, entity, parameterSource);
 	}
 
+	/**
+	 * Map the keys of a {@link KeysetScrollPosition} into a {@link Condition} selecting the rows following the position
+	 * in the direction of the position. The condition compares the columns of all sort properties as a row value, e.g.
+	 * {@code (a, b) > (:a, :b)}, if the {@link Dialect#supportsRowValueComparison() dialect supports it} and all
+	 * properties are sorted in the same direction. Otherwise, the comparison gets expanded into
+	 * {@code (a > :a OR (a = :a AND b > :b))}.
+	 *
+	 * @param parameterSource bind parameterSource object, must not be {@literal null}.
+	 * @param scrollPosition the position to scroll from. Must not be {@literal null} nor {@link KeysetScrollPosition#isInitial()
+	 *          initial}.
+	 * @param sort the sort order of the query in forward direction. Must be sorted by properties uniquely identifying
+	 *          each row and the keys must contain a non-null value for each of them.
+	 * @param table must not be {@literal null}.
+	 * @param entity related {@link RelationalPersistentEntity}, can be {@literal null}.
+	 * @return the mapped {@link Condition}.
+	 * @since 3.1
+	 */
+	public Condition getMappedObject(MapSqlParameterSource parameterSource, KeysetScrollPosition scrollPosition,
+			Sort sort, Table table, @Nullable RelationalPersistentEntity<?> entity) {
+
+		Assert.notNull(parameterSource, "MapSqlParameterSource must not be null");
+		Assert.notNull(scrollPosition, "KeysetScrollPosition must not be null");
+		Assert.isTrue(sort.isSorted(), "Sort must be sorted");
+		Assert.notNull(table, "Table must not be null");
+
+		Map<String, Object> keys = scrollPosition.getKeys();
+		List<Expression> columns = new ArrayList<>();
+		List<Expression> values = new ArrayList<>();
+		List<Boolean> greater = new ArrayList<>();
+
+		for (Sort.Order order : sort) {
+
+			Object value = keys.get(order.getProperty());
+
+			if (value == null) {
+				throw new IllegalArgumentException(
+						String.format("Keyset does not contain a non-null value for sort property %s", order.getProperty()));
+			}
+
+			Field field = createPropertyField(entity, SqlIdentifier.unquoted(order.getProperty()), this.mappingContext);
+			Column column = table.column(field.getMappedColumnName());
+
+			columns.add(column);
+			values.add(bindKey(field, value, parameterSource, column.getName().getReference()));
+			greater.add(order.isAscending() == scrollPosition.scrollsForward());
+		}
+
+		if (columns.size() == 1 || (dialect.supportsRowValueComparison() && !greater.contains(!greater.get(0)))) {
+
+			Expression left = columns.size() == 1 ? columns.get(0) : Expressions.tuple(columns);
+			Expression right = values.size() == 1 ? values.get(0) : Expressions.tuple(values);
+
+			return greater.get(0) ? Conditions.isGreater(left, right) : Conditions.isLess(left, right);
+		}
+
+		Condition condition = null;
+		for (int i = 0; i < columns.size(); i++) {
+
+			Condition term = greater.get(i) ? Conditions.isGreater(columns.get(i), values.get(i))
+					: Conditions.isLess(columns.get(i), values.get(i));
+
+			for (int j = i - 1; j >= 0; j--) {
+				term = Conditions.isEqual(columns.get(j), values.get(j)).and(term);
+			}
+
+			condition = condition == null ? term : condition.or(Conditions.nest(term));
+		}
+
+		return Conditions.nest(condition);
+	}
+
+	private Expression bindKey(Field field, Object value, MapSqlParameterSource parameterSource, String name) {
+
+		if (field instanceof MetadataBackedField metadataBackedField && metadataBackedField.property != null) {
+
+			JdbcValue jdbcValue = convertToJdbcValue(metadataBackedField.property, value);
+			SQLType sqlType = jdbcValue.getJdbcType() != null ? jdbcValue.getJdbcType() : field.getSqlType();
+
+			return bind(jdbcValue.getValue(), sqlType, parameterSource, name);
+		}
+
+		return bind(convertValue(value, field.getTypeHint()), field.getSqlType(), parameterSource, name);
+	}
+
 	private Condition unroll(CriteriaDefinition criteria, Table table, @Nullable RelationalPersistentEntity<?> entity,
 			MapSqlParameterSource parameterSource) {
 
@@ -513,15 +600,17 @@ public class QueryMapper {
 
 			if (mappedValue instanceof Iterable) {
 
-				List<Expression> expressions = new ArrayList<>(
+				List<Object> values = new ArrayList<>(
 						mappedValue instanceof Collection ? ((Collection<?>) mappedValue).size() : 10);
+				((Iterable<?>) mappedValue).forEach(values::add);
 
-				for (Object o : (Iterable<?>) mappedValue) {
-
-					expressions.add(bind(o, sqlType, parameterSource, column.getName().getReference()));
+				if (!inListBinding.bindAsArray(values.size())) {
+					return createInCondition(columnExpression, values, sqlType, parameterSource,
+							column.getName().getReference(), comparator == Comparator.NOT_IN);
 				}
 
-				condition = Conditions.in(columnExpression, expressions.toArray(new Expression[0]));
+				condition = InListBinding.isEqualToAny(columnExpression,
+						bindArray(values, parameterSource, column.getName().getReference()));
 
 			} else {
 
@@ -615,6 +704,50 @@ public class QueryMapper {
 		return settableValue.getJdbcType();
 	}
 
+	/**
+	 * Creates an {@code IN} or {@code NOT IN} condition for the given values, padded if enabled by the dialect. Values
+	 * exceeding the maximum size of an {@code IN} list get split into multiple lists, combined using {@code OR} for
+	 * {@code IN} and using {@code AND} for {@code NOT IN}.
+	 *
+	 * @throws org.springframework.dao.InvalidDataAccessApiUsageException if the values exceed the maximum number of
+	 *           bind parameters of a statement.
+	 */
+	private Condition createInCondition(Expression columnExpression, List<Object> values, SQLType sqlType,
+			MapSqlParameterSource parameterSource, String name, boolean notIn) {
+
+		List<List<Object>> partitions = inListBinding.partition(values);
+		inListBinding.verifyParameterCount(parameterSource.getValues().size(), partitions);
+
+		Condition condition = null;
+
+		for (List<Object> partition : partitions) {
+
+			Expression[] expressions = new Expression[partition.size()];
+			for (int i = 0; i < expressions.length; i++) {
+				expressions[i] = bind(partition.get(i), sqlType, parameterSource, name);
+			}
+
+			Condition in = notIn ? Conditions.in(columnExpression, expressions).not()
+					: Conditions.in(columnExpression, expressions);
+
+			if (condition == null) {
+				condition = in;
+			} else {
+				condition = notIn ? condition.and(in) : condition.or(in);
+			}
+		}
+
+		return partitions.size() == 1 ? condition : Conditions.nest(condition);
+	}
+
+	private Expression bindArray(List<Object> values, MapSqlParameterSource parameterSource, String name) {
+
+		Object[] array = InListBinding.toTypedArray(values);
+		JdbcValue jdbcValue = converter.writeJdbcValue(array, array.getClass(), JDBCType.ARRAY);
+
+		return bind(jdbcValue.getValue(), jdbcValue.getJdbcType(), parameterSource, name);
+	}
+
 	private Expression bind(@Nullable Object mappedValue, SQLType sqlType, MapSqlParameterSource parameterSource,
 			String name) {
 		return bind(mappedValue, sqlType, parameterSource, name, false);
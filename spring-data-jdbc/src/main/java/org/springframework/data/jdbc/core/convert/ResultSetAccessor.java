@@ -16,16 +16,11 @@
 package org.springframework.data.jdbc.core.convert;
 
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.util.Map;
 
-import org.apache.commons.logging.Log;
-import org.apache.commons.logging.LogFactory;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.lang.Nullable;
-import org.springframework.util.LinkedCaseInsensitiveMap;
 
 /**
  * Wrapper value object for a {@link java.sql.ResultSet} to be able to access raw values by
@@ -38,43 +33,31 @@ import org.springframework.util.LinkedCaseInsensitiveMap;
  */
 class ResultSetAccessor {
 
-	private static final Log LOG = LogFactory.getLog(ResultSetAccessor.class);
-
 	private final ResultSet resultSet;
 
-	private final Map<String, Integer> indexLookUp;
+	private final RowReadingPlan plan;
 
 	ResultSetAccessor(ResultSet resultSet) {
-
-		this.resultSet = resultSet;
-		this.indexLookUp = indexColumns(resultSet);
+		this(resultSet, RowReadingPlan.of(resultSet));
 	}
 
-	private static Map<String, Integer> indexColumns(ResultSet resultSet) {
-
-		try {
-
-			ResultSetMetaData metaData = resultSet.getMetaData();
-			int columnCount = metaData.getColumnCount();
-
-			Map<String, Integer> index = new LinkedCaseInsensitiveMap<>(columnCount);
-
-			for (int i = 1; i <= columnCount; i++) {
-
-				String label = metaData.getColumnLabel(i);
-
-				if (index.containsKey(label)) {
-					LOG.warn(String.format("ResultSet contains %s multiple times", label));
-					continue;
-				}
+	/**
+	 * @param resultSet the {@link ResultSet} to read from.
+	 * @param plan the {@link RowReadingPlan} compiled for {@code resultSet}.
+	 * @since 3.1
+	 */
+	ResultSetAccessor(ResultSet resultSet, RowReadingPlan plan) {
 
-				index.put(label, i);
-			}
+		this.resultSet = resultSet;
+		this.plan = plan;
+	}
 
-			return index;
-		} catch (SQLException se) {
-			throw new MappingException("Cannot obtain result metadata", se);
-		}
+	/**
+	 * @return the {@link RowReadingPlan} compiled for the underlying {@link ResultSet}.
+	 * @since 3.1
+	 */
+	RowReadingPlan getPlan() {
+		return plan;
 	}
 
 	/**
@@ -89,15 +72,29 @@ class ResultSetAccessor {
 
 		try {
 
-			int index = findColumnIndex(columnName);
+			int index = plan.getColumnIndex(columnName);
 			return index > 0 ? JdbcUtils.getResultSetValue(resultSet, index) : null;
 		} catch (SQLException o_O) {
 			throw new MappingException(String.format("Could not read value %s from result set", columnName), o_O);
 		}
 	}
 
-	private int findColumnIndex(String columnName) {
-		return indexLookUp.getOrDefault(columnName, -1);
+	/**
+	 * Returns the value of the column with the given index.
+	 *
+	 * @param index the column index as obtained from the {@link RowReadingPlan}.
+	 * @return the value or {@literal null} if {@code index} does not denote a column of the result set.
+	 * @see ResultSet#getObject(int)
+	 * @since 3.1
+	 */
+	@Nullable
+	Object getObject(int index) {
+
+		try {
+			return index > 0 ? JdbcUtils.getResultSetValue(resultSet, index) : null;
+		} catch (SQLException o_O) {
+			throw new MappingException(String.format("Could not read value of column %d from result set", index), o_O);
+		}
 	}
 
 	/**
@@ -107,6 +104,6 @@ class ResultSetAccessor {
 	 * @return
 	 */
 	public boolean hasValue(String columnName) {
-		return indexLookUp.containsKey(columnName);
+		return plan.getColumnIndex(columnName) > 0;
 	}
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.lang.ref.WeakReference;
+import java.sql.ResultSet;
+import java.util.Collection;
+
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.lang.Nullable;
+
+/**
+ * Reads rows through a {@link JdbcConverter}, compiling the {@link RowReadingPlan} once per {@link ResultSet} when
+ * used with a {@link BasicJdbcConverter}. Instances are scoped to the {@link org.springframework.jdbc.core.RowMapper}
+ * or {@link org.springframework.jdbc.core.ResultSetExtractor} reading the rows and keep the plan of the most recently
+ * read {@link ResultSet} only. They may be shared between threads as long as each thread reads its own
+ * {@link ResultSet}, in which case a thread switching {@link ResultSet}s compiles a new plan.
+ *
+ * @since 3.1
+ */
+class RowReader {
+
+	private final JdbcConverter converter;
+	@Nullable private volatile CompiledPlan current;
+
+	RowReader(JdbcConverter converter) {
+		this.converter = converter;
+	}
+
+	/**
+	 * Returns a {@link ResultSetAccessor} for the current row of {@code resultSet}, reusing the {@link RowReadingPlan}
+	 * if the previous row was read from the same {@link ResultSet}.
+	 *
+	 * @param resultSet must not be {@literal null}.
+	 * @return the {@link ResultSetAccessor}. Guaranteed to be not {@literal null}.
+	 */
+	ResultSetAccessor getAccessor(ResultSet resultSet) {
+
+		CompiledPlan plan = current;
+
+		if (plan == null || plan.resultSet.get() != resultSet) {
+
+			plan = new CompiledPlan(resultSet, RowReadingPlan.of(resultSet));
+			current = plan;
+		}
+
+		return new ResultSetAccessor(resultSet, plan.plan);
+	}
+
+	/**
+	 * @see JdbcConverter#mapRow(RelationalPersistentEntity, ResultSet, Object)
+	 */
+	<T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key) {
+
+		return converter instanceof BasicJdbcConverter basicConverter //
+				? basicConverter.mapRow(entity, getAccessor(resultSet), key) //
+				: converter.mapRow(entity, resultSet, key);
+	}
+
+	/**
+	 * @see JdbcConverter#mapRow(RelationalPersistentEntity, ResultSet, Object, RelationResolver)
+	 */
+	<T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key,
+			RelationResolver relationResolver) {
+
+		return converter instanceof BasicJdbcConverter basicConverter //
+				? basicConverter.mapRow(entity, getAccessor(resultSet), key, relationResolver) //
+				: converter.mapRow(entity, resultSet, key, relationResolver);
+	}
+
+	/**
+	 * @see JdbcConverter#mapRow(RelationalPersistentEntity, ResultSet, Object, Collection)
+	 */
+	<T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key,
+			Collection<String> resolvedProperties) {
+
+		return converter instanceof BasicJdbcConverter basicConverter //
+				? basicConverter.mapRow(entity, getAccessor(resultSet), key, resolvedProperties) //
+				: converter.mapRow(entity, resultSet, key, resolvedProperties);
+	}
+
+	/**
+	 * @see JdbcConverter#mapRow(PersistentPropertyPathExtension, ResultSet, Identifier, Object)
+	 */
+	<T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key) {
+
+		return converter instanceof BasicJdbcConverter basicConverter //
+				? basicConverter.mapRow(path, getAccessor(resultSet), identifier, key) //
+				: converter.mapRow(path, resultSet, identifier, key);
+	}
+
+	/**
+	 * @see JdbcConverter#mapJoinedRow(PersistentPropertyPathExtension, ResultSet, Identifier, Object)
+	 */
+	<T> T mapJoinedRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key) {
+
+		return converter instanceof BasicJdbcConverter basicConverter //
+				? basicConverter.mapJoinedRow(path, getAccessor(resultSet), identifier, key) //
+				: converter.mapJoinedRow(path, resultSet, identifier, key);
+	}
+
+	/**
+	 * A {@link RowReadingPlan} along with the {@link ResultSet} it was compiled for. The {@link ResultSet} is referenced
+	 * weakly to not keep it, and the resources it holds on to, reachable after reading it.
+	 */
+	private static class CompiledPlan {
+
+		private final WeakReference<ResultSet> resultSet;
+		private final RowReadingPlan plan;
+
+		CompiledPlan(ResultSet resultSet, RowReadingPlan plan) {
+
+			this.resultSet = new WeakReference<>(resultSet);
+			this.plan = plan;
+		}
+	}
+}
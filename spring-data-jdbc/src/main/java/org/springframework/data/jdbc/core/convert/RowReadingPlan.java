@@ -0,0 +1,186 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+/**
+ * Plan for reading the rows of a {@link ResultSet}, compiled once per {@link ResultSet} and reused for all of its rows.
+ * It indexes the column labels from the {@link ResultSetMetaData} and resolves the column index backing each property
+ * on first use, so reading subsequent rows neither inspects the metadata nor derives column names again.
+ * <p>
+ * Instances are not thread-safe. They are meant to be used by the thread consuming the {@link ResultSet}.
+ *
+ * @since 3.1
+ */
+class RowReadingPlan {
+
+	private static final Log LOG = LogFactory.getLog(RowReadingPlan.class);
+
+	private final Map<String, Integer> indexLookUp;
+	private final Map<PersistentPropertyPathExtension, PathPlan> pathPlans = new HashMap<>();
+	private final Map<PersistentPropertyPathExtension, PathPlan> joinedPathPlans = new HashMap<>();
+
+	private RowReadingPlan(Map<String, Integer> indexLookUp) {
+		this.indexLookUp = indexLookUp;
+	}
+
+	/**
+	 * Creates a new {@link RowReadingPlan} for the columns of the given {@link ResultSet}.
+	 *
+	 * @param resultSet must not be {@literal null}.
+	 * @return the {@link RowReadingPlan} for {@code resultSet}.
+	 */
+	static RowReadingPlan of(ResultSet resultSet) {
+		return new RowReadingPlan(indexColumns(resultSet));
+	}
+
+	private static Map<String, Integer> indexColumns(ResultSet resultSet) {
+
+		try {
+
+			ResultSetMetaData metaData = resultSet.getMetaData();
+			int columnCount = metaData.getColumnCount();
+
+			Map<String, Integer> index = new LinkedCaseInsensitiveMap<>(columnCount);
+
+			for (int i = 1; i <= columnCount; i++) {
+
+				String label = metaData.getColumnLabel(i);
+
+				if (index.containsKey(label)) {
+					LOG.warn(String.format("ResultSet contains %s multiple times", label));
+					continue;
+				}
+
+				index.put(label, i);
+			}
+
+			return index;
+		} catch (SQLException se) {
+			throw new MappingException("Cannot obtain result metadata", se);
+		}
+	}
+
+	/**
+	 * Returns the index of the column with the given label.
+	 *
+	 * @param columnName the column name (label).
+	 * @return the index of the column or {@literal -1} if the {@link ResultSet} does not contain such a column.
+	 */
+	int getColumnIndex(String columnName) {
+		return indexLookUp.getOrDefault(columnName, -1);
+	}
+
+	/**
+	 * Returns the {@link PathPlan} for reading an entity starting at {@code rootPath}.
+	 *
+	 * @param rootPath path from the aggregate root to the entity to read. Must not be {@literal null}.
+	 * @param joined whether the columns of the entity are selected using aliases derived from {@code rootPath}.
+	 * @param path creates the path relative to which columns are resolved if the entity is not joined.
+	 * @return the {@link PathPlan}. Guaranteed to be not {@literal null}.
+	 */
+	PathPlan getPathPlan(PersistentPropertyPathExtension rootPath, boolean joined,
+			Supplier<PersistentPropertyPathExtension> path) {
+
+		return joined //
+				? joinedPathPlans.computeIfAbsent(rootPath, it -> new PathPlan(it, it)) //
+				: pathPlans.computeIfAbsent(rootPath, it -> new PathPlan(it, path.get()));
+	}
+
+	/**
+	 * The part of a {@link RowReadingPlan} reading a single, possibly nested, entity.
+	 */
+	class PathPlan {
+
+		private final PersistentPropertyPathExtension rootPath;
+		private final PersistentPropertyPathExtension path;
+		private final Map<RelationalPersistentProperty, Integer> columnIndexes = new HashMap<>();
+		private final Map<RelationalPersistentProperty, Integer> backReferenceIndexes = new HashMap<>();
+		private final Map<RelationalPersistentProperty, PathPlan> nested = new HashMap<>();
+
+		/**
+		 * @param rootPath path from the aggregate root.
+		 * @param path path relative to which the column names get resolved.
+		 */
+		private PathPlan(PersistentPropertyPathExtension rootPath, PersistentPropertyPathExtension path) {
+
+			this.rootPath = rootPath;
+			this.path = path;
+		}
+
+		PersistentPropertyPathExtension getRootPath() {
+			return rootPath;
+		}
+
+		PersistentPropertyPathExtension getPath() {
+			return path;
+		}
+
+		@Nullable
+		@SuppressWarnings("unchecked")
+		<T> RelationalPersistentEntity<T> getEntity() {
+			return (RelationalPersistentEntity<T>) path.getLeafEntity();
+		}
+
+		/**
+		 * Returns the index of the column holding the value of the given property.
+		 *
+		 * @param property must not be {@literal null}.
+		 * @return the index of the column or {@literal -1} if the {@link ResultSet} does not contain the column.
+		 */
+		int getColumnIndex(RelationalPersistentProperty property) {
+			return columnIndexes.computeIfAbsent(property,
+					it -> RowReadingPlan.this.getColumnIndex(path.extendBy(it).getColumnAlias().getReference()));
+		}
+
+		/**
+		 * Returns the index of the column holding the value under which entities referenced by the given property refer
+		 * back to the current entity.
+		 *
+		 * @param property must not be {@literal null}.
+		 * @return the index of the column or {@literal -1} if the {@link ResultSet} does not contain the column.
+		 */
+		int getBackReferenceIndex(RelationalPersistentProperty property) {
+			return backReferenceIndexes.computeIfAbsent(property, it -> RowReadingPlan.this
+					.getColumnIndex(path.extendBy(it).getReverseColumnNameAlias().getReference()));
+		}
+
+		/**
+		 * Returns the {@link PathPlan} for the entity referenced or embedded by the given property.
+		 *
+		 * @param property must not be {@literal null}.
+		 * @return the nested {@link PathPlan}. Guaranteed to be not {@literal null}.
+		 */
+		PathPlan extendBy(RelationalPersistentProperty property) {
+			return nested.computeIfAbsent(property, it -> new PathPlan(rootPath.extendBy(it), path.extendBy(it)));
+		}
+	}
+}
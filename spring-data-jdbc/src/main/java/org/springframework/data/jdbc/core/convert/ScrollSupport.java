@@ -0,0 +1,157 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.mapping.PersistentPropertyPathAccessor;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.util.Assert;
+
+/**
+ * Support for queries scrolling through their results using a {@link ScrollPosition}. Keyset scrolling sorts by the
+ * requested properties followed by the id, so that the keys identify each row, and selects the rows following the keys
+ * of the position using a seek predicate instead of skipping rows with an offset. Queries fetch one row more than
+ * requested in order to determine whether there are more results.
+ *
+ * @since 3.1
+ * @see QueryMapper#getMappedObject(org.springframework.jdbc.core.namedparam.MapSqlParameterSource,
+ *      KeysetScrollPosition, Sort, org.springframework.data.relational.core.sql.Table, RelationalPersistentEntity)
+ */
+public final class ScrollSupport {
+
+	private ScrollSupport() {}
+
+	/**
+	 * Returns the {@link Sort} defining the keys of a {@link KeysetScrollPosition}, i.e. the given {@link Sort} followed
+	 * by the id of the entity unless the {@link Sort} already contains it.
+	 *
+	 * @param sort the requested sort order. Must not be {@literal null}.
+	 * @param entity the entity to scroll through. Must not be {@literal null}.
+	 * @return the keyset {@link Sort}. Guaranteed to be not {@literal null}.
+	 */
+	public static Sort getKeysetSort(Sort sort, RelationalPersistentEntity<?> entity) {
+
+		Assert.notNull(sort, "Sort must not be null");
+		Assert.notNull(entity, "RelationalPersistentEntity must not be null");
+
+		RelationalPersistentProperty idProperty = entity.getIdProperty();
+
+		if (idProperty == null || sort.getOrderFor(idProperty.getName()) != null) {
+			return sort;
+		}
+
+		return sort.and(Sort.by(idProperty.getName()));
+	}
+
+	/**
+	 * Returns the {@link Sort} to query with, i.e. the keyset {@link Sort} in reverse order when scrolling backward.
+	 *
+	 * @param keysetSort the {@link Sort} as returned by {@link #getKeysetSort(Sort, RelationalPersistentEntity)}.
+	 * @param scrollPosition must not be {@literal null}.
+	 * @return the {@link Sort} to query with. Guaranteed to be not {@literal null}.
+	 */
+	public static Sort getQuerySort(Sort keysetSort, ScrollPosition scrollPosition) {
+
+		return scrollPosition instanceof KeysetScrollPosition keyset && keyset.scrollsBackward() //
+				? keysetSort.reverse() //
+				: keysetSort;
+	}
+
+	/**
+	 * Returns the number of rows to fetch for a window of the given size.
+	 *
+	 * @param windowSize the number of elements in a window. Negative if unlimited.
+	 * @return the number of rows to fetch or a negative number if unlimited.
+	 */
+	public static int getFetchSize(int windowSize) {
+		return windowSize < 0 ? windowSize : windowSize + 1;
+	}
+
+	/**
+	 * Creates the {@link Window} from the rows fetched for the given {@link ScrollPosition}.
+	 *
+	 * @param rows the rows fetched using a limit as returned by {@link #getFetchSize(int)}, in the order of the
+	 *          {@link #getQuerySort(Sort, ScrollPosition) query sort}. Must not be {@literal null}.
+	 * @param scrollPosition the position the rows were fetched for. Must not be {@literal null}.
+	 * @param keysetSort the {@link Sort} as returned by {@link #getKeysetSort(Sort, RelationalPersistentEntity)}.
+	 * @param windowSize the number of elements in a window. Negative if unlimited.
+	 * @param context the mapping context used to read the keys of the elements. Must not be {@literal null}.
+	 * @param entity the entity of the elements. Must not be {@literal null}.
+	 * @return the {@link Window}. Guaranteed to be not {@literal null}.
+	 */
+	public static <T> Window<T> createWindow(List<T> rows, ScrollPosition scrollPosition, Sort keysetSort,
+			int windowSize, MappingContext<? extends RelationalPersistentEntity<?>, RelationalPersistentProperty> context,
+			RelationalPersistentEntity<?> entity) {
+
+		Assert.notNull(rows, "Rows must not be null");
+		Assert.notNull(scrollPosition, "ScrollPosition must not be null");
+
+		boolean hasNext = windowSize >= 0 && rows.size() > windowSize;
+		List<T> items = new ArrayList<>(hasNext ? rows.subList(0, windowSize) : rows);
+
+		IntFunction<ScrollPosition> positionFunction;
+
+		if (scrollPosition instanceof OffsetScrollPosition offset) {
+
+			long start = offset.getOffset();
+			positionFunction = index -> ScrollPosition.offset(start + index + 1);
+		} else if (scrollPosition instanceof KeysetScrollPosition keyset) {
+
+			if (keyset.scrollsBackward()) {
+				Collections.reverse(items);
+			}
+
+			List<PersistentPropertyPath<RelationalPersistentProperty>> paths = new ArrayList<>();
+			for (Sort.Order order : keysetSort) {
+				paths.add(context.getPersistentPropertyPath(order.getProperty(), entity.getType()));
+			}
+
+			positionFunction = index -> ScrollPosition.of(getKeys(items.get(index), paths, entity), keyset.getDirection());
+		} else {
+			throw new UnsupportedOperationException(
+					String.format("ScrollPosition %s not supported", scrollPosition.getClass().getName()));
+		}
+
+		return Window.from(items, positionFunction, hasNext);
+	}
+
+	private static Map<String, Object> getKeys(Object element,
+			List<PersistentPropertyPath<RelationalPersistentProperty>> paths, RelationalPersistentEntity<?> entity) {
+
+		PersistentPropertyPathAccessor<Object> accessor = entity.getPropertyPathAccessor(element);
+
+		Map<String, Object> keys = new LinkedHashMap<>(paths.size());
+		for (PersistentPropertyPath<RelationalPersistentProperty> path : paths) {
+			keys.put(path.toDotPath(), accessor.getProperty(path));
+		}
+
+		return keys;
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.util.Assert;
+
+/**
+ * Allocates ids from database sequences before the rows using them get inserted. Each value fetched from a sequence is
+ * the lowest id of a block of {@code allocationSize} ids handed out without further round trips to the database
+ * (pooled-lo allocation).
+ *
+ * @since 3.1
+ * @see org.springframework.data.relational.core.mapping.Sequence
+ */
+class SequenceIdAllocator {
+
+	private final Dialect dialect;
+	private final NamedParameterJdbcOperations jdbcOperations;
+	private final Map<SqlIdentifier, Pool> pools = new ConcurrentHashMap<>();
+
+	SequenceIdAllocator(Dialect dialect, NamedParameterJdbcOperations jdbcOperations) {
+
+		Assert.isTrue(dialect.getIdGeneration().sequencesSupported(), "The dialect must support sequences");
+
+		this.dialect = dialect;
+		this.jdbcOperations = jdbcOperations;
+	}
+
+	/**
+	 * Allocates {@code count} ids from the given sequence.
+	 *
+	 * @param sequence the sequence to allocate ids from. Must not be {@code null}.
+	 * @param allocationSize the number of ids represented by a single value of the sequence. Must be positive.
+	 * @param count the number of ids to allocate.
+	 * @return the allocated ids. Guaranteed to not be {@code null}.
+	 */
+	Object[] allocate(SqlIdentifier sequence, int allocationSize, int count) {
+
+		Assert.isTrue(allocationSize > 0, "Allocation size must be positive");
+
+		Pool pool = pools.computeIfAbsent(sequence, name -> new Pool());
+
+		Object[] ids = new Object[count];
+		synchronized (pool) {
+
+			for (int i = 0; i < count; i++) {
+
+				if (pool.next >= pool.limit) {
+
+					pool.next = nextValue(sequence);
+					pool.limit = pool.next + allocationSize;
+				}
+				ids[i] = pool.next++;
+			}
+		}
+		return ids;
+	}
+
+	private long nextValue(SqlIdentifier sequence) {
+
+		Long value = jdbcOperations.queryForObject(dialect.getIdGeneration().createSequenceQuery(sequence),
+				EmptySqlParameterSource.INSTANCE, Long.class);
+
+		if (value == null) {
+			throw new DataRetrievalFailureException(String.format("Sequence %s did not return a value", sequence));
+		}
+		return value;
+	}
+
+	private static class Pool {
+
+		long next;
+		long limit;
+	}
+}
@@ -16,10 +16,15 @@
 package org.springframework.data.jdbc.core.convert;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.repository.support.SimpleJdbcRepository;
 import org.springframework.data.mapping.PersistentPropertyPath;
@@ -31,6 +36,7 @@ import org.springframework.data.relational.core.mapping.RelationalMappingContext
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.CriteriaDefinition;
+import org.springframework.data.relational.core.query.CriteriaShapes;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.*;
 import org.springframework.data.relational.core.sql.render.RenderContext;
@@ -66,6 +72,18 @@ class SqlGenerator {
 	static final SqlIdentifier IDS_SQL_PARAMETER = SqlIdentifier.unquoted("ids");
 	static final SqlIdentifier ROOT_ID_PARAMETER = SqlIdentifier.unquoted("rootId");
 
+	static final String FIND_ONE = "findOne";
+	static final String FIND_ALL = "findAll";
+	static final String FIND_ALL_IN_LIST = "findAllInList";
+	static final String EXISTS = "exists";
+	static final String COUNT = "count";
+	static final String UPDATE = "update";
+	static final String UPDATE_WITH_VERSION = "updateWithVersion";
+	static final String DELETE_BY_ID = "deleteById";
+	static final String DELETE_BY_ID_IN = "deleteByIdIn";
+	static final String DELETE_BY_ID_AND_VERSION = "deleteByIdAndVersion";
+	static final String DELETE_BY_LIST = "deleteByList";
+
 	private final RelationalPersistentEntity<?> entity;
 	private final MappingContext<RelationalPersistentEntity<?>, RelationalPersistentProperty> mappingContext;
 	private final RenderContext renderContext;
@@ -73,21 +91,32 @@ class SqlGenerator {
 	private final SqlContext sqlContext;
 	private final SqlRenderer sqlRenderer;
 	private final Columns columns;
-
-	private final Lazy<String> findOneSql = Lazy.of(this::createFindOneSql);
-	private final Lazy<String> findAllSql = Lazy.of(this::createFindAllSql);
-	private final Lazy<String> findAllInListSql = Lazy.of(this::createFindAllInListSql);
-
-	private final Lazy<String> existsSql = Lazy.of(this::createExistsSql);
-	private final Lazy<String> countSql = Lazy.of(this::createCountSql);
-
-	private final Lazy<String> updateSql = Lazy.of(this::createUpdateSql);
-	private final Lazy<String> updateWithVersionSql = Lazy.of(this::createUpdateWithVersionSql);
-
-	private final Lazy<String> deleteByIdSql = Lazy.of(this::createDeleteByIdSql);
-	private final Lazy<String> deleteByIdInSql = Lazy.of(this::createDeleteByIdInSql);
-	private final Lazy<String> deleteByIdAndVersionSql = Lazy.of(this::createDeleteByIdAndVersionSql);
-	private final Lazy<String> deleteByListSql = Lazy.of(this::createDeleteByListSql);
+	private final Map<String, String> precomputedStatements;
+
+	private final Lazy<String> findOneSql = lazy(FIND_ONE, this::createFindOneSql);
+	private final Lazy<String> findAllSql = lazy(FIND_ALL, this::createFindAllSql);
+	private final Lazy<String> findAllInListSql = lazy(FIND_ALL_IN_LIST, this::createFindAllInListSql);
+	private final Lazy<String> findAllInArraySql = Lazy.of(this::createFindAllInArraySql);
+	private final Lazy<String> findOneJoiningCollectionsSql = Lazy.of(this::createFindOneJoiningCollectionsSql);
+	private final Lazy<String> findAllInListJoiningCollectionsSql = Lazy
+			.of(this::createFindAllInListJoiningCollectionsSql);
+
+	private final Lazy<String> existsSql = lazy(EXISTS, this::createExistsSql);
+	private final Lazy<String> countSql = lazy(COUNT, this::createCountSql);
+
+	private final Lazy<String> updateSql = lazy(UPDATE, this::createUpdateSql);
+	private final Lazy<String> updateWithVersionSql = lazy(UPDATE_WITH_VERSION, this::createUpdateWithVersionSql);
+	private final Map<BitSet, String> partialUpdateSql = new ConcurrentHashMap<>();
+	private final Map<BitSet, String> partialUpdateWithVersionSql = new ConcurrentHashMap<>();
+
+	private final Lazy<String> deleteByIdSql = lazy(DELETE_BY_ID, this::createDeleteByIdSql);
+	private final Lazy<String> deleteByIdInSql = lazy(DELETE_BY_ID_IN, this::createDeleteByIdInSql);
+	private final Lazy<String> deleteByIdInArraySql = Lazy.of(this::createDeleteByIdInArraySql);
+	private final Lazy<String> deleteByIdAndVersionSql = lazy(DELETE_BY_ID_AND_VERSION,
+			this::createDeleteByIdAndVersionSql);
+	private final Lazy<String> deleteByListSql = lazy(DELETE_BY_LIST, this::createDeleteByListSql);
+	private final StatementVariantCache variants = new StatementVariantCache(
+			StatementVariantCache.DEFAULT_MAXIMUM_SIZE);
 	private final QueryMapper queryMapper;
 	private final Dialect dialect;
 
@@ -101,7 +130,25 @@ class SqlGenerator {
 	 */
 	SqlGenerator(RelationalMappingContext mappingContext, JdbcConverter converter, RelationalPersistentEntity<?> entity,
 			Dialect dialect) {
+		this(mappingContext, converter, entity, dialect, Collections.emptyMap());
+	}
 
+	/**
+	 * Create a new {@link SqlGenerator} using statements rendered ahead of time instead of rendering them on first use.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param dialect must not be {@literal null}.
+	 * @param precomputedStatements statements as returned by {@link #renderStatements()} of a generator for the same
+	 *          entity and dialect. Must not be {@literal null}.
+	 * @since 3.1
+	 * @see SqlStatementCatalog
+	 */
+	SqlGenerator(RelationalMappingContext mappingContext, JdbcConverter converter, RelationalPersistentEntity<?> entity,
+			Dialect dialect, Map<String, String> precomputedStatements) {
+
+		this.precomputedStatements = precomputedStatements;
 		this.mappingContext = mappingContext;
 		this.entity = entity;
 		this.sqlContext = new SqlContext(entity);
@@ -112,6 +159,67 @@ class SqlGenerator {
 		this.dialect = dialect;
 	}
 
+	private Lazy<String> lazy(String statement, Supplier<String> factory) {
+
+		return Lazy.of(() -> {
+
+			String sql = precomputedStatements.get(statement);
+			return sql != null ? sql : factory.get();
+		});
+	}
+
+	/**
+	 * Renders the statements that do not depend on arguments, i.e. those a {@link SqlGenerator} can be created with
+	 * ahead of time. Statements requiring an id or a version are only rendered for entities having such a property.
+	 *
+	 * @return the statements by their name. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	Map<String, String> renderStatements() {
+
+		Map<String, String> statements = new LinkedHashMap<>();
+
+		statements.put(FIND_ALL, getFindAll());
+		statements.put(COUNT, getCount());
+
+		if (entity.hasIdProperty()) {
+
+			statements.put(FIND_ONE, getFindOne());
+			statements.put(FIND_ALL_IN_LIST, getFindAllInList());
+			statements.put(EXISTS, getExists());
+			statements.put(UPDATE, getUpdate());
+			statements.put(DELETE_BY_ID, getDeleteById());
+			statements.put(DELETE_BY_ID_IN, getDeleteByIdIn());
+			statements.put(DELETE_BY_LIST, getDeleteByList());
+
+			if (entity.hasVersionProperty()) {
+				statements.put(UPDATE_WITH_VERSION, getUpdateWithVersion());
+				statements.put(DELETE_BY_ID_AND_VERSION, getDeleteByIdAndVersion());
+			}
+		}
+
+		return statements;
+	}
+
+	/**
+	 * Renders the statements not depending on arguments along with the variants used when persisting and locking
+	 * aggregate roots, so that these don't get rendered when first used.
+	 *
+	 * @since 3.1
+	 */
+	void warmUp() {
+
+		renderStatements();
+		getInsert(Collections.emptySet());
+
+		if (entity.hasIdProperty()) {
+			for (LockMode lockMode : LockMode.values()) {
+				getAcquireLockById(lockMode);
+				getAcquireLockAll(lockMode);
+			}
+		}
+	}
+
 	/**
 	 * Construct an IN-condition based on a {@link Select Sub-Select} which selects the ids (or stand-ins for ids) of the
 	 * given {@literal path} to those that reference the root entities specified by the {@literal rootCondition}.
@@ -171,6 +279,18 @@ class SqlGenerator {
 		return findAllInListSql.get();
 	}
 
+	/**
+	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships.
+	 * Results are filtered by comparing the id column with the elements of an array parameter using {@code = ANY(…)}.
+	 *
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 * @since 3.1
+	 * @see org.springframework.data.relational.core.dialect.InListSupport#isArrayBindingSupported()
+	 */
+	String getFindAllInArray() {
+		return findAllInArraySql.get();
+	}
+
 	/**
 	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships.
 	 *
@@ -187,7 +307,8 @@ class SqlGenerator {
 	 * @return a SQL statement. Guaranteed to be not {@code null}.
 	 */
 	String getFindAll(Sort sort) {
-		return render(selectBuilder(Collections.emptyList(), sort, Pageable.unpaged()).build());
+		return variants.get(Arrays.asList("findAllSorted", sort),
+				() -> render(selectBuilder(Collections.emptyList(), sort, Pageable.unpaged()).build()));
 	}
 
 	/**
@@ -197,7 +318,38 @@ class SqlGenerator {
 	 * @return a SQL statement. Guaranteed to be not {@code null}.
 	 */
 	String getFindAll(Pageable pageable) {
-		return render(selectBuilder(Collections.emptyList(), pageable.getSort(), pageable).build());
+		return getPageableVariant("findAllPaged", pageable,
+				() -> render(selectBuilder(Collections.emptyList(), pageable.getSort(), pageable).build()));
+	}
+
+	/**
+	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships,
+	 * paged and sorted by the given parameter. Each row additionally holds the total number of entities, computed by
+	 * {@code COUNT(*) OVER()} and selected as {@link TotalCountRowMapper#TOTAL_COUNT_ALIAS}. Requires a dialect
+	 * {@link Dialect#supportsAnalyticFunctions() supporting analytic functions}.
+	 *
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 * @since 3.1
+	 */
+	String getFindAllWithTotalCount(Pageable pageable) {
+
+		return getPageableVariant("findAllWithTotalCount", pageable, () -> {
+
+			SelectBuilder.SelectOrdered sortable = applyPagination(pageable,
+					selectBuilder(Collections.emptyList(), true));
+			return render(sortable.orderBy(extractOrderByFields(pageable.getSort())).build());
+		});
+	}
+
+	/**
+	 * Returns the statement for a {@link Pageable}, caching it only for unpaged requests. The limit and offset of paged
+	 * requests get rendered into the statement, so caching each page would evict the statements of other arguments.
+	 */
+	private String getPageableVariant(String statement, Pageable pageable, Supplier<String> renderer) {
+
+		return pageable.isPaged() //
+				? renderer.get() //
+				: variants.get(Arrays.asList(statement, pageable.getSort()), renderer);
 	}
 
 	/**
@@ -235,6 +387,13 @@ class SqlGenerator {
 	 */
 	String getFindAllByProperty(Identifier parentIdentifier, @Nullable SqlIdentifier keyColumn, boolean ordered) {
 
+		List<Object> key = Arrays.asList("findAllByProperty", getIdentifierShape(parentIdentifier), keyColumn, ordered);
+		return variants.get(key, () -> createFindAllByPropertySql(parentIdentifier, keyColumn, ordered));
+	}
+
+	private String createFindAllByPropertySql(Identifier parentIdentifier, @Nullable SqlIdentifier keyColumn,
+			boolean ordered) {
+
 		Assert.isTrue(keyColumn != null || !ordered,
 				"If the SQL statement should be ordered a keyColumn to order by must be provided");
 
@@ -256,6 +415,55 @@ class SqlGenerator {
 		return render(select);
 	}
 
+	/**
+	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships, for
+	 * the entities referenced by multiple parents. Results are filtered using an {@code IN}-clause on the back reference
+	 * column, or by comparing it with the elements of an array parameter using {@code = ANY(…)}. The back reference
+	 * column is selected as well, so the rows can be assigned to their parents.
+	 *
+	 * @param backReferenceColumn name of the column of the FK back to the referencing entity.
+	 * @param keyColumn if the property is of type {@link Map} or {@link List} this column contains the map key or list
+	 *          index.
+	 * @param ordered whether the SQL statement should order the rows of each parent by the keyColumn. If this is
+	 *          {@code true}, the keyColumn must not be {@code null}.
+	 * @param array whether the parent ids are bound as a single array parameter.
+	 * @return a SQL String.
+	 * @since 3.1
+	 */
+	String getFindAllByPropertyIn(SqlIdentifier backReferenceColumn, @Nullable SqlIdentifier keyColumn, boolean ordered,
+			boolean array) {
+
+		return variants.get(Arrays.asList("findAllByPropertyIn", backReferenceColumn, keyColumn, ordered, array),
+				() -> createFindAllByPropertyInSql(backReferenceColumn, keyColumn, ordered, array));
+	}
+
+	private String createFindAllByPropertyInSql(SqlIdentifier backReferenceColumn, @Nullable SqlIdentifier keyColumn,
+			boolean ordered, boolean array) {
+
+		Assert.isTrue(keyColumn != null || !ordered,
+				"If the SQL statement should be ordered a keyColumn to order by must be provided");
+
+		Table table = getTable();
+
+		List<SqlIdentifier> keyColumns = new ArrayList<>(2);
+		keyColumns.add(backReferenceColumn);
+		if (keyColumn != null) {
+			keyColumns.add(keyColumn);
+		}
+
+		Column backReference = table.column(backReferenceColumn);
+		Condition condition = array //
+				? InListBinding.isEqualToAny(backReference, getBindMarker(IDS_SQL_PARAMETER)) //
+				: backReference.in(getBindMarker(IDS_SQL_PARAMETER));
+		SelectBuilder.SelectWhereAndOr withWhereClause = selectBuilder(keyColumns).where(condition);
+
+		Select select = ordered //
+				? withWhereClause.orderBy(backReference, table.column(keyColumn)).build() //
+				: withWhereClause.build();
+
+		return render(select);
+	}
+
 	private Condition buildConditionForBackReference(Identifier parentIdentifier, Table table) {
 
 		Condition condition = null;
@@ -291,6 +499,31 @@ class SqlGenerator {
 		return findOneSql.get();
 	}
 
+	/**
+	 * Create a {@code SELECT … FROM … LEFT OUTER JOIN … WHERE :id = …} statement selecting the aggregate root along with
+	 * the collections and maps it references. The tables of these get joined to the table of the aggregate root and their
+	 * columns are selected using aliases qualified by the path of the collection.
+	 *
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 * @see org.springframework.data.relational.core.mapping.SingleQueryLoading
+	 */
+	String getFindOneJoiningCollections() {
+		return findOneJoiningCollectionsSql.get();
+	}
+
+	/**
+	 * Create a {@code SELECT … FROM … LEFT OUTER JOIN … WHERE … IN (:ids)} statement selecting aggregate roots along with
+	 * the collections and maps they reference.
+	 *
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 * @see #getFindOneJoiningCollections()
+	 */
+	String getFindAllInListJoiningCollections() {
+		return findAllInListJoiningCollectionsSql.get();
+	}
+
 	/**
 	 * Create a {@code SELECT count(id) FROM … WHERE :id = … (LOCK CLAUSE)} statement.
 	 *
@@ -298,7 +531,7 @@ class SqlGenerator {
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String getAcquireLockById(LockMode lockMode) {
-		return this.createAcquireLockById(lockMode);
+		return variants.get(Arrays.asList("acquireLockById", lockMode), () -> createAcquireLockById(lockMode));
 	}
 
 	/**
@@ -308,7 +541,7 @@ class SqlGenerator {
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String getAcquireLockAll(LockMode lockMode) {
-		return this.createAcquireLockAll(lockMode);
+		return variants.get(Arrays.asList("acquireLockAll", lockMode), () -> createAcquireLockAll(lockMode));
 	}
 
 	/**
@@ -317,7 +550,90 @@ class SqlGenerator {
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String getInsert(Set<SqlIdentifier> additionalColumns) {
-		return createInsertSql(additionalColumns);
+		return variants.get(Arrays.asList("insert", new HashSet<>(additionalColumns)),
+				() -> createInsertSql(additionalColumns));
+	}
+
+	/**
+	 * Create a {@code INSERT INTO … (…) VALUES (…), (…)} statement inserting the given number of rows. The bind markers
+	 * are named after the columns suffixed with the index of the row, see {@link #getRowParameter(SqlIdentifier, int)}.
+	 *
+	 * @param additionalColumns columns to insert in addition to the insertable columns of the entity.
+	 * @param rows the number of rows to insert. Must be greater than zero.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	String getInsert(Set<SqlIdentifier> additionalColumns, int rows) {
+
+		Assert.isTrue(rows > 0, "The number of rows must be greater than zero");
+
+		return variants.get(Arrays.asList("insertRows", new HashSet<>(additionalColumns), rows),
+				() -> createInsertSql(additionalColumns, rows));
+	}
+
+	private String createInsertSql(Set<SqlIdentifier> additionalColumns, int rows) {
+
+		Table table = getTable();
+		Set<SqlIdentifier> columnNamesForInsert = getColumnNamesForInsert(additionalColumns);
+
+		Assert.state(!columnNamesForInsert.isEmpty(), "A multi-row insert requires at least one column");
+
+		InsertBuilder.InsertIntoColumnsAndValuesWithBuild insert = Insert.builder().into(table);
+
+		for (SqlIdentifier cn : columnNamesForInsert) {
+			insert = insert.column(table.column(cn));
+		}
+
+		InsertBuilder.InsertValuesWithBuild insertWithValues = insert.values(getRowBindMarkers(columnNamesForInsert, 0));
+		for (int row = 1; row < rows; row++) {
+			insertWithValues = insertWithValues.row(getRowBindMarkers(columnNamesForInsert, row));
+		}
+
+		return render(insertWithValues.build());
+	}
+
+	/**
+	 * Returns the name of the parameter for a column in the row with the given index of a multi-row insert.
+	 *
+	 * @param column the column to insert.
+	 * @param row the index of the row.
+	 * @return the parameter name. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	static SqlIdentifier getRowParameter(SqlIdentifier column, int row) {
+		return column.transform(name -> name + "_" + row);
+	}
+
+	/**
+	 * Create an upsert statement, inserting a row or updating the existing row with the same id, as rendered by the
+	 * {@link Dialect#getUpsertSupport() UpsertSupport} of the dialect.
+	 *
+	 * @param additionalColumns columns to insert in addition to the insertable columns of the entity, typically the id
+	 *          column.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	String getUpsert(Set<SqlIdentifier> additionalColumns) {
+		return variants.get(Arrays.asList("upsert", new HashSet<>(additionalColumns)),
+				() -> createUpsertSql(additionalColumns));
+	}
+
+	private String createUpsertSql(Set<SqlIdentifier> additionalColumns) {
+
+		IdentifierProcessing identifierProcessing = renderContext.getIdentifierProcessing();
+
+		Map<String, String> values = new LinkedHashMap<>();
+		for (SqlIdentifier columnName : getColumnNamesForInsert(additionalColumns)) {
+			values.put(columnName.toSql(identifierProcessing),
+					":" + BindParameterNameSanitizer.sanitize(renderReference(columnName)));
+		}
+
+		List<String> updateColumns = columns.getUpdatableColumns().stream() //
+				.map(columnName -> columnName.toSql(identifierProcessing)) //
+				.toList();
+
+		return dialect.getUpsertSupport().createUpsert(entity.getQualifiedTableName().toSql(identifierProcessing),
+				List.of(entity.getIdColumn().toSql(identifierProcessing)), values, updateColumns);
 	}
 
 	/**
@@ -338,6 +654,98 @@ class SqlGenerator {
 		return updateWithVersionSql.get();
 	}
 
+	/**
+	 * Create a {@code UPDATE … SET …} statement only assigning the given columns. Statements are cached per combination
+	 * of columns.
+	 *
+	 * @param columnNames the columns to update. Columns that are not updatable get ignored. At least one updatable column
+	 *          must be given.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	String getUpdate(Set<SqlIdentifier> columnNames) {
+		return partialUpdateSql.computeIfAbsent(encodeUpdatableColumns(columnNames),
+				bitSet -> render(createBaseUpdate(decodeUpdatableColumns(bitSet)).build()));
+	}
+
+	/**
+	 * Create a {@code UPDATE … SET … WHERE ID = :id and VERSION_COLUMN = :___oldOptimisticLockingVersion } statement only
+	 * assigning the given columns. Statements are cached per combination of columns.
+	 *
+	 * @param columnNames the columns to update. Columns that are not updatable get ignored. At least one updatable column
+	 *          must be given.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	String getUpdateWithVersion(Set<SqlIdentifier> columnNames) {
+
+		return partialUpdateWithVersionSql.computeIfAbsent(encodeUpdatableColumns(columnNames),
+				bitSet -> render(createBaseUpdate(decodeUpdatableColumns(bitSet)) //
+						.and(getVersionColumn().isEqualTo(getBindMarker(VERSION_SQL_PARAMETER))) //
+						.build()));
+	}
+
+	/**
+	 * Encodes which of the updatable columns are contained in {@code columnNames} as a {@link BitSet} indexed by the
+	 * position of the column in {@link Columns#getUpdatableColumns()}.
+	 */
+	private BitSet encodeUpdatableColumns(Set<SqlIdentifier> columnNames) {
+
+		BitSet bitSet = new BitSet();
+		int index = 0;
+		for (SqlIdentifier updatableColumn : columns.getUpdatableColumns()) {
+
+			if (columnNames.contains(updatableColumn)) {
+				bitSet.set(index);
+			}
+			index++;
+		}
+
+		Assert.isTrue(!bitSet.isEmpty(), "At least one updatable column must be given");
+
+		return bitSet;
+	}
+
+	private List<SqlIdentifier> decodeUpdatableColumns(BitSet bitSet) {
+
+		List<SqlIdentifier> columnNames = new ArrayList<>(bitSet.cardinality());
+		int index = 0;
+		for (SqlIdentifier updatableColumn : columns.getUpdatableColumns()) {
+
+			if (bitSet.get(index++)) {
+				columnNames.add(updatableColumn);
+			}
+		}
+
+		return columnNames;
+	}
+
+	/**
+	 * Create a {@code UPDATE … SET … WHERE …} statement, identifying the row to update by the columns of the given
+	 * {@link Identifier}.
+	 *
+	 * @param identifier the identifier of the row to update. Must not be {@literal null}.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	String getUpdateByIdentifier(Identifier identifier) {
+		return variants.get(Arrays.asList("updateByIdentifier", getIdentifierShape(identifier)),
+				() -> createUpdateByIdentifierSql(identifier));
+	}
+
+	private String createUpdateByIdentifierSql(Identifier identifier) {
+
+		Table table = getTable();
+
+		Update update = Update.builder() //
+				.table(table) //
+				.set(getUpdateAssignments(table)) //
+				.where(buildConditionForBackReference(identifier, table)) //
+				.build();
+
+		return render(update);
+	}
+
 	/**
 	 * Create a {@code SELECT COUNT(*) FROM …} statement.
 	 *
@@ -365,6 +773,17 @@ class SqlGenerator {
 		return deleteByIdInSql.get();
 	}
 
+	/**
+	 * Create a {@code DELETE FROM … WHERE … = ANY(:ids)} statement.
+	 *
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 * @see org.springframework.data.relational.core.dialect.InListSupport#isArrayBindingSupported()
+	 */
+	String getDeleteByIdInArray() {
+		return deleteByIdInArraySql.get();
+	}
+
 	/**
 	 * Create a {@code DELETE FROM … WHERE :id = … and :___oldOptimisticLockingVersion = ...} statement.
 	 *
@@ -383,6 +802,31 @@ class SqlGenerator {
 		return deleteByListSql.get();
 	}
 
+	/**
+	 * Create a {@code DELETE FROM … WHERE …} statement, identifying the row to delete by the columns of the given
+	 * {@link Identifier}.
+	 *
+	 * @param identifier the identifier of the row to delete. Must not be {@literal null}.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	String getDeleteByIdentifier(Identifier identifier) {
+		return variants.get(Arrays.asList("deleteByIdentifier", getIdentifierShape(identifier)),
+				() -> createDeleteByIdentifierSql(identifier));
+	}
+
+	private String createDeleteByIdentifierSql(Identifier identifier) {
+
+		Table table = getTable();
+
+		Delete delete = Delete.builder() //
+				.from(table) //
+				.where(buildConditionForBackReference(identifier, table)) //
+				.build();
+
+		return render(delete);
+	}
+
 	/**
 	 * Create a {@code DELETE} query and optionally filter by {@link PersistentPropertyPath}.
 	 *
@@ -471,6 +915,10 @@ class SqlGenerator {
 	}
 
 	private SelectBuilder.SelectWhere selectBuilder(Collection<SqlIdentifier> keyColumns) {
+		return selectBuilder(keyColumns, false);
+	}
+
+	private SelectBuilder.SelectWhere selectBuilder(Collection<SqlIdentifier> keyColumns, boolean withTotalCount) {
 
 		Table table = getTable();
 
@@ -498,6 +946,11 @@ class SqlGenerator {
 			columnExpressions.add(table.column(keyColumn).as(keyColumn));
 		}
 
+		if (withTotalCount) {
+			columnExpressions.add(
+					AnalyticFunction.create("COUNT", Expressions.asterisk()).as(TotalCountRowMapper.TOTAL_COUNT_ALIAS));
+		}
+
 		SelectBuilder.SelectAndFrom selectBuilder = StatementBuilder.select(columnExpressions);
 		SelectBuilder.SelectJoin baseSelect = selectBuilder.from(table);
 
@@ -590,6 +1043,85 @@ class SqlGenerator {
 		);
 	}
 
+	private String createFindOneJoiningCollectionsSql() {
+
+		Select select = selectJoiningCollectionsBuilder()
+				.where(getIdColumn().isEqualTo(getBindMarker(ID_SQL_PARAMETER))).build();
+
+		return render(select);
+	}
+
+	private String createFindAllInListJoiningCollectionsSql() {
+
+		Select select = selectJoiningCollectionsBuilder().where(getIdColumn().in(getBindMarker(IDS_SQL_PARAMETER)))
+				.build();
+
+		return render(select);
+	}
+
+	private SelectBuilder.SelectWhere selectJoiningCollectionsBuilder() {
+
+		Table table = getTable();
+
+		List<Expression> columnExpressions = new ArrayList<>();
+		List<Join> joinTables = new ArrayList<>();
+		for (PersistentPropertyPath<RelationalPersistentProperty> path : mappingContext
+				.findPersistentPropertyPaths(entity.getType(), p -> true)) {
+
+			PersistentPropertyPathExtension extPath = new PersistentPropertyPathExtension(mappingContext, path);
+			PersistentPropertyPathExtension collectionPath = getJoinedCollectionPath(extPath);
+
+			if (collectionPath == null) {
+
+				Join join = getJoin(extPath);
+				if (join != null) {
+					joinTables.add(join);
+				}
+
+				Column column = getColumn(extPath);
+				if (column != null) {
+					columnExpressions.add(column);
+				}
+			} else if (collectionPath.equals(extPath)) {
+
+				// join the table of the collection, selecting its key column, if any
+				Table collectionTable = sqlContext.getTable(extPath);
+				joinTables.add(new Join(collectionTable, collectionTable.column(extPath.getReverseColumnName()),
+						table.column(entity.getIdColumn())));
+
+				SqlIdentifier keyColumn = extPath.getQualifierColumn();
+				if (keyColumn != null) {
+					columnExpressions.add(collectionTable.column(keyColumn).as(extPath.getQualifierColumnAlias()));
+				}
+			} else if (!extPath.isEntity()) {
+				columnExpressions.add(sqlContext.getColumn(extPath));
+			}
+		}
+
+		SelectBuilder.SelectJoin baseSelect = StatementBuilder.select(columnExpressions).from(table);
+
+		for (Join join : joinTables) {
+			baseSelect = baseSelect.leftOuterJoin(join.joinTable).on(join.joinColumn).equals(join.parentId);
+		}
+
+		return (SelectBuilder.SelectWhere) baseSelect;
+	}
+
+	/**
+	 * Returns the path of the collection or map of entities referenced by the aggregate root that the given path
+	 * starts with.
+	 */
+	@Nullable
+	private static PersistentPropertyPathExtension getJoinedCollectionPath(PersistentPropertyPathExtension path) {
+
+		PersistentPropertyPathExtension collectionPath = path;
+		while (collectionPath.getLength() > 1) {
+			collectionPath = collectionPath.getParentPath();
+		}
+
+		return collectionPath.isEntity() && collectionPath.isMultiValued() ? collectionPath : null;
+	}
+
 	private String createFindAllInListSql() {
 
 		Select select = selectBuilder().where(getIdColumn().in(getBindMarker(IDS_SQL_PARAMETER))).build();
@@ -597,6 +1129,14 @@ class SqlGenerator {
 		return render(select);
 	}
 
+	private String createFindAllInArraySql() {
+
+		Select select = selectBuilder()
+				.where(InListBinding.isEqualToAny(getIdColumn(), getBindMarker(IDS_SQL_PARAMETER))).build();
+
+		return render(select);
+	}
+
 	private String createExistsSql() {
 
 		Table table = getTable();
@@ -626,9 +1166,7 @@ class SqlGenerator {
 
 		Table table = getTable();
 
-		Set<SqlIdentifier> columnNamesForInsert = new TreeSet<>(Comparator.comparing(SqlIdentifier::getReference));
-		columnNamesForInsert.addAll(columns.getInsertableColumns());
-		columnNamesForInsert.addAll(additionalColumns);
+		Set<SqlIdentifier> columnNamesForInsert = getColumnNamesForInsert(additionalColumns);
 
 		InsertBuilder.InsertIntoColumnsAndValuesWithBuild insert = Insert.builder().into(table);
 
@@ -648,6 +1186,23 @@ class SqlGenerator {
 		return render(insertWithValues.build());
 	}
 
+	private Set<SqlIdentifier> getColumnNamesForInsert(Set<SqlIdentifier> additionalColumns) {
+
+		Set<SqlIdentifier> columnNamesForInsert = new TreeSet<>(Comparator.comparing(SqlIdentifier::getReference));
+		columnNamesForInsert.addAll(columns.getInsertableColumns());
+		columnNamesForInsert.addAll(additionalColumns);
+		return columnNamesForInsert;
+	}
+
+	private List<BindMarker> getRowBindMarkers(Set<SqlIdentifier> columnNames, int row) {
+
+		List<BindMarker> bindMarkers = new ArrayList<>(columnNames.size());
+		for (SqlIdentifier columnName : columnNames) {
+			bindMarkers.add(getBindMarker(getRowParameter(columnName, row)));
+		}
+		return bindMarkers;
+	}
+
 	private String createUpdateSql() {
 		return render(createBaseUpdate().build());
 	}
@@ -662,20 +1217,31 @@ class SqlGenerator {
 	}
 
 	private UpdateBuilder.UpdateWhereAndOr createBaseUpdate() {
+		return createBaseUpdate(columns.getUpdatableColumns());
+	}
+
+	private UpdateBuilder.UpdateWhereAndOr createBaseUpdate(Collection<SqlIdentifier> columnNames) {
 
 		Table table = getTable();
 
-		List<AssignValue> assignments = columns.getUpdatableColumns() //
+		return Update.builder() //
+				.table(table) //
+				.set(getUpdateAssignments(table, columnNames)) //
+				.where(getIdColumn().isEqualTo(getBindMarker(entity.getIdColumn())));
+	}
+
+	private List<AssignValue> getUpdateAssignments(Table table) {
+		return getUpdateAssignments(table, columns.getUpdatableColumns());
+	}
+
+	private List<AssignValue> getUpdateAssignments(Table table, Collection<SqlIdentifier> columnNames) {
+
+		return columnNames //
 				.stream() //
 				.map(columnName -> Assignments.value( //
 						table.column(columnName), //
 						getBindMarker(columnName))) //
 				.collect(Collectors.toList());
-
-		return Update.builder() //
-				.table(table) //
-				.set(assignments) //
-				.where(getIdColumn().isEqualTo(getBindMarker(entity.getIdColumn())));
 	}
 
 	private String createDeleteByIdSql() {
@@ -686,6 +1252,15 @@ class SqlGenerator {
 		return render(createBaseDeleteByIdIn(getTable()).build());
 	}
 
+	private String createDeleteByIdInArraySql() {
+
+		Delete delete = Delete.builder().from(getTable()) //
+				.where(InListBinding.isEqualToAny(getIdColumn(), getBindMarker(IDS_SQL_PARAMETER))) //
+				.build();
+
+		return render(delete);
+	}
+
 	private String createDeleteByIdAndVersionSql() {
 
 		Delete delete = createBaseDeleteById(getTable()) //
@@ -837,12 +1412,15 @@ class SqlGenerator {
 
 		Assert.notNull(parameterSource, "parameterSource must not be null");
 
-		SelectBuilder.SelectWhere selectBuilder = selectBuilder();
+		return getQueryVariant("selectByQuery", query, parameterSource, null, () -> {
 
-		Select select = applyQueryOnSelect(query, parameterSource, selectBuilder) //
-				.build();
+			SelectBuilder.SelectWhere selectBuilder = selectBuilder();
 
-		return render(select);
+			Select select = applyQueryOnSelect(query, parameterSource, selectBuilder) //
+					.build();
+
+			return render(select);
+		});
 	}
 
 	/**
@@ -858,7 +1436,33 @@ class SqlGenerator {
 
 		Assert.notNull(parameterSource, "parameterSource must not be null");
 
-		SelectBuilder.SelectWhere selectBuilder = selectBuilder();
+		return getQueryVariant("selectByQueryPaged", query, parameterSource, pageable,
+				() -> selectByQuery(query, parameterSource, pageable, selectBuilder()));
+	}
+
+	/**
+	 * Constructs a single sql query that performs select based on the provided query and pagination information. Each
+	 * row additionally holds the total number of matching rows, computed by {@code COUNT(*) OVER()} and selected as
+	 * {@link TotalCountRowMapper#TOTAL_COUNT_ALIAS}. Requires a dialect {@link Dialect#supportsAnalyticFunctions()
+	 * supporting analytic functions}. Additional the bindings for the where clause are stored after execution into the
+	 * <code>parameterSource</code>
+	 *
+	 * @param query the query to base the select on. Must not be null.
+	 * @param pageable the pageable to perform on the select.
+	 * @param parameterSource the source for holding the bindings.
+	 * @return a non null query string.
+	 * @since 3.1
+	 */
+	public String selectByQueryWithTotalCount(Query query, MapSqlParameterSource parameterSource, Pageable pageable) {
+
+		Assert.notNull(parameterSource, "parameterSource must not be null");
+
+		return getQueryVariant("selectByQueryWithTotalCount", query, parameterSource, pageable,
+				() -> selectByQuery(query, parameterSource, pageable, selectBuilder(Collections.emptyList(), true)));
+	}
+
+	private String selectByQuery(Query query, MapSqlParameterSource parameterSource, Pageable pageable,
+			SelectBuilder.SelectWhere selectBuilder) {
 
 		// first apply query and then pagination. This means possible query sorting and limiting might be overwritten by the
 		// pagination. This is desired.
@@ -870,6 +1474,60 @@ class SqlGenerator {
 		return render(select);
 	}
 
+	/**
+	 * Constructs a single sql query that selects the rows of a window starting at the given {@link ScrollPosition}.
+	 * Rows are sorted by the {@link ScrollSupport#getKeysetSort(Sort, RelationalPersistentEntity) keyset sort} of the
+	 * query, reversed when scrolling backward, and limited to one row more than the limit of the query. Keyset positions
+	 * select the rows following the keys using a seek predicate, offset positions skip rows using an offset. Additional
+	 * the bindings for the where clause are stored after execution into the <code>parameterSource</code>
+	 *
+	 * @param query the query to base the select on. Must not be null.
+	 * @param parameterSource the source for holding the bindings.
+	 * @param scrollPosition the position to start the window at. Must not be null.
+	 * @return a non null query string.
+	 * @since 3.1
+	 */
+	public String selectByQuery(Query query, MapSqlParameterSource parameterSource, ScrollPosition scrollPosition) {
+
+		Assert.notNull(parameterSource, "parameterSource must not be null");
+		Assert.notNull(scrollPosition, "scrollPosition must not be null");
+
+		Table table = Table.create(this.entity.getQualifiedTableName());
+		Sort keysetSort = ScrollSupport.getKeysetSort(query.getSort(), entity);
+
+		Condition condition = query.getCriteria() //
+				.filter(criteria -> !criteria.isEmpty()) //
+				.map(criteria -> queryMapper.getMappedObject(parameterSource, criteria, table, entity)) //
+				.orElse(null);
+
+		if (scrollPosition instanceof KeysetScrollPosition keyset && !keyset.isInitial()) {
+
+			Condition keysetCondition = queryMapper.getMappedObject(parameterSource, keyset, keysetSort, table, entity);
+			condition = condition == null ? keysetCondition : Conditions.nest(condition).and(keysetCondition);
+		}
+
+		SelectBuilder.SelectWhere selectBuilder = selectBuilder();
+		SelectBuilder.SelectOrdered selectOrdered = condition == null ? selectBuilder : selectBuilder.where(condition);
+
+		Sort sort = ScrollSupport.getQuerySort(keysetSort, scrollPosition);
+		if (sort.isSorted()) {
+			selectOrdered = selectOrdered.orderBy(queryMapper.getMappedSort(table, sort, entity));
+		}
+
+		SelectBuilder.SelectLimitOffset limitable = (SelectBuilder.SelectLimitOffset) selectOrdered;
+
+		int fetchSize = ScrollSupport.getFetchSize(query.getLimit());
+		if (fetchSize > 0) {
+			limitable = limitable.limit(fetchSize);
+		}
+
+		if (scrollPosition instanceof OffsetScrollPosition offset && offset.getOffset() > 0) {
+			limitable = limitable.offset(offset.getOffset());
+		}
+
+		return render(((SelectBuilder.SelectOrdered) limitable).build());
+	}
+
 	/**
 	 * Constructs a single sql query that performs select count based on the provided query for checking existence.
 	 * Additional the bindings for the where clause are stored after execution into the <code>parameterSource</code>
@@ -880,12 +1538,15 @@ class SqlGenerator {
 	 */
 	public String existsByQuery(Query query, MapSqlParameterSource parameterSource) {
 
-		SelectBuilder.SelectJoin baseSelect = getExistsSelect();
+		return getQueryVariant("existsByQuery", query, parameterSource, null, () -> {
 
-		Select select = applyQueryOnSelect(query, parameterSource, (SelectBuilder.SelectWhere) baseSelect) //
-				.build();
+			SelectBuilder.SelectJoin baseSelect = getExistsSelect();
 
-		return render(select);
+			Select select = applyQueryOnSelect(query, parameterSource, (SelectBuilder.SelectWhere) baseSelect) //
+					.build();
+
+			return render(select);
+		});
 	}
 
 	/**
@@ -898,13 +1559,98 @@ class SqlGenerator {
 	 */
 	public String countByQuery(Query query, MapSqlParameterSource parameterSource) {
 
-		Expression countExpression = Expressions.just("1");
-		SelectBuilder.SelectJoin baseSelect = getSelectCountWithExpression(countExpression);
+		return getQueryVariant("countByQuery", query, parameterSource, null, () -> {
 
-		Select select = applyQueryOnSelect(query, parameterSource, (SelectBuilder.SelectWhere) baseSelect) //
-				.build();
+			Expression countExpression = Expressions.just("1");
+			SelectBuilder.SelectJoin baseSelect = getSelectCountWithExpression(countExpression);
 
-		return render(select);
+			Select select = applyQueryOnSelect(query, parameterSource, (SelectBuilder.SelectWhere) baseSelect) //
+					.build();
+
+			return render(select);
+		});
+	}
+
+	/**
+	 * Returns the statistics of the statements cached for varying arguments, like lock modes, inserted columns, sorting
+	 * or the shape of a {@link Query}. Paged statements render the offset as a literal and therefore don't get cached.
+	 *
+	 * @return the statistics. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	StatementCacheStatistics getStatistics() {
+		return variants.getStatistics();
+	}
+
+	/**
+	 * Returns the statement for a {@link Query}, rendering it only for queries of a new shape. A statement cached for
+	 * the same shape gets returned after mapping the criteria of the query again, which adds the same bindings to the
+	 * {@code parameterSource} as rendering the statement would.
+	 */
+	private String getQueryVariant(String statement, Query query, MapSqlParameterSource parameterSource,
+			@Nullable Pageable pageable, Supplier<String> renderer) {
+
+		List<Object> shape = getQueryShape(statement, query, parameterSource, pageable);
+
+		if (shape == null) {
+			return renderer.get();
+		}
+
+		String sql = variants.getIfPresent(shape);
+
+		if (sql != null) {
+
+			query.getCriteria() //
+					.filter(criteria -> !criteria.isEmpty()) //
+					.ifPresent(criteria -> queryMapper.getMappedObject(parameterSource, criteria,
+							Table.create(entity.getQualifiedTableName()), entity));
+
+			return sql;
+		}
+
+		sql = renderer.get();
+		variants.put(shape, sql);
+
+		return sql;
+	}
+
+	/**
+	 * Returns the shape of a {@link Query}, i.e. everything the rendered statement depends on, or {@literal null} if
+	 * the statement must not be cached because the number of bind markers cannot be determined upfront, the names of
+	 * the bindings depend on the bindings already present, or an offset gets rendered into the statement, which would
+	 * result in a variant per page.
+	 */
+	@Nullable
+	private static List<Object> getQueryShape(String statement, Query query, MapSqlParameterSource parameterSource,
+			@Nullable Pageable pageable) {
+
+		if (!parameterSource.getValues().isEmpty() || query.getOffset() > 0 || pageable != null && pageable.isPaged()) {
+			return null;
+		}
+
+		List<Object> shape = new ArrayList<>();
+		shape.add(statement);
+		shape.add(query.getSort());
+		shape.add(query.getLimit());
+		shape.add(query.getOffset());
+		shape.add(pageable == null ? null : pageable.getSort());
+
+		CriteriaDefinition criteria = query.getCriteria().orElse(null);
+		if (criteria != null && !criteria.isEmpty()) {
+
+			List<Object> criteriaShape = CriteriaShapes.getShape(criteria);
+			if (criteriaShape == null) {
+				return null;
+			}
+
+			shape.add(criteriaShape);
+		}
+
+		return shape;
+	}
+
+	private static List<SqlIdentifier> getIdentifierShape(Identifier identifier) {
+		return new ArrayList<>(identifier.toMap().keySet());
 	}
 
 	/**
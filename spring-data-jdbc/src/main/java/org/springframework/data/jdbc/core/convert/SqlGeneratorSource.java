@@ -15,16 +15,25 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.aot.AotDetector;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.util.Assert;
-import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ClassUtils;
 
 /**
  * Provides {@link SqlGenerator}s per domain type. Instances get cached, so when asked multiple times for the same
- * domain type, the same generator will get returned.
+ * domain type, the same generator will get returned. When running with {@link AotDetector#useGeneratedArtifacts()
+ * generated artifacts}, generators use the statements of the {@link SqlStatementCatalog} rendered ahead of time for
+ * the {@link Dialect} if one is available. Generators are held strongly for the lifetime of
+ * the source, so statements rendered once, including the variants depending on arguments, are never rendered again.
  *
  * @author Jens Schauder
  * @author Mark Paluch
@@ -32,20 +41,39 @@ import org.springframework.util.ConcurrentReferenceHashMap;
  */
 public class SqlGeneratorSource {
 
-	private final Map<Class<?>, SqlGenerator> CACHE = new ConcurrentReferenceHashMap<>();
+	private static final Log LOG = LogFactory.getLog(SqlGeneratorSource.class);
+
+	private final Map<Class<?>, SqlGenerator> CACHE = new ConcurrentHashMap<>();
 	private final RelationalMappingContext context;
 	private final JdbcConverter converter;
 	private final Dialect dialect;
+	private final SqlStatementCatalog catalog;
 
 	public SqlGeneratorSource(RelationalMappingContext context, JdbcConverter converter, Dialect dialect) {
+		this(context, converter, dialect, loadCatalog(dialect));
+	}
+
+	/**
+	 * Creates a new {@link SqlGeneratorSource} using the statements of the given {@link SqlStatementCatalog}.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param dialect must not be {@literal null}.
+	 * @param catalog must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public SqlGeneratorSource(RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
+			SqlStatementCatalog catalog) {
 
 		Assert.notNull(context, "Context must not be null");
 		Assert.notNull(converter, "Converter must not be null");
 		Assert.notNull(dialect, "Dialect must not be null");
+		Assert.notNull(catalog, "SqlStatementCatalog must not be null");
 
 		this.context = context;
 		this.converter = converter;
 		this.dialect = dialect;
+		this.catalog = catalog;
 	}
 
 	/**
@@ -56,9 +84,80 @@ public class SqlGeneratorSource {
 		return dialect;
 	}
 
+	/**
+	 * Creates the {@link SqlGenerator}s of all persistent entities with an id known to the mapping context and renders
+	 * their statements, so that these don't get rendered when first used. Statements that cannot be rendered get
+	 * rendered again when first used, which reports the failure.
+	 *
+	 * @since 3.1
+	 */
+	public void warmUp() {
+
+		for (RelationalPersistentEntity<?> entity : context.getPersistentEntities()) {
+
+			if (!entity.hasIdProperty()) {
+				continue;
+			}
+
+			try {
+				getSqlGenerator(entity.getType()).warmUp();
+			} catch (RuntimeException e) {
+
+				if (LOG.isDebugEnabled()) {
+					LOG.debug(String.format("Cannot render statements of %s upfront", entity.getName()), e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the statistics of the statements cached for varying arguments by the {@link SqlGenerator} of the given
+	 * domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return the statistics, empty if no {@link SqlGenerator} was created for the domain type yet. Guaranteed to be
+	 *         not {@literal null}.
+	 * @since 3.1
+	 */
+	public StatementCacheStatistics getStatistics(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		SqlGenerator generator = CACHE.get(domainType);
+
+		return generator == null //
+				? new StatementCacheStatistics(0, 0, 0, StatementVariantCache.DEFAULT_MAXIMUM_SIZE) //
+				: generator.getStatistics();
+	}
+
+	/**
+	 * Returns the statistics of the statements cached for varying arguments for all domain types a {@link SqlGenerator}
+	 * was created for.
+	 *
+	 * @return the statistics by domain type. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	public Map<Class<?>, StatementCacheStatistics> getStatistics() {
+
+		Map<Class<?>, StatementCacheStatistics> statistics = new LinkedHashMap<>();
+		CACHE.forEach((domainType, generator) -> statistics.put(domainType, generator.getStatistics()));
+
+		return statistics;
+	}
+
+	private static SqlStatementCatalog loadCatalog(Dialect dialect) {
+
+		return AotDetector.useGeneratedArtifacts() //
+				? SqlStatementCatalog.load(dialect, ClassUtils.getDefaultClassLoader()) //
+				: SqlStatementCatalog.empty();
+	}
+
 	SqlGenerator getSqlGenerator(Class<?> domainType) {
 
-		return CACHE.computeIfAbsent(domainType,
-				t -> new SqlGenerator(context, converter, context.getRequiredPersistentEntity(t), dialect));
+		return CACHE.computeIfAbsent(domainType, t -> {
+
+			RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(t);
+			return new SqlGenerator(context, converter, entity, dialect, catalog.getStatements(context, entity));
+		});
 	}
 }
@@ -18,11 +18,13 @@ package org.springframework.data.jdbc.core.convert;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.jdbc.core.namedparam.AbstractSqlParameterSource;
+import org.springframework.lang.Nullable;
 
 /**
  * Implementation of the {@link org.springframework.jdbc.core.namedparam.SqlParameterSource} interface based on
@@ -38,23 +40,74 @@ class SqlIdentifierParameterSource extends AbstractSqlParameterSource {
 	private final Set<SqlIdentifier> identifiers = new HashSet<>();
 	private final Map<String, Object> namesToValues = new HashMap<>();
 
+	@Nullable private final ParameterExtractionPlan plan;
+	private final Object[] planValues;
+	private final int[] planSqlTypes;
+
+	SqlIdentifierParameterSource() {
+		this(null, new Object[0], new int[0]);
+	}
+
+	/**
+	 * Creates a new {@link SqlIdentifierParameterSource} holding the parameters of a {@link ParameterExtractionPlan} in
+	 * arrays indexed like the parameters of the plan. Further values get added as usual.
+	 *
+	 * @param plan the plan the values were extracted by.
+	 * @param planValues the values of the parameters of the plan.
+	 * @param planSqlTypes the SQL types of the parameters of the plan.
+	 * @since 3.1
+	 */
+	SqlIdentifierParameterSource(@Nullable ParameterExtractionPlan plan, Object[] planValues, int[] planSqlTypes) {
+
+		this.plan = plan;
+		this.planValues = planValues;
+		this.planSqlTypes = planSqlTypes;
+	}
+
 	@Override
 	public boolean hasValue(String paramName) {
-		return namesToValues.containsKey(paramName);
+		return planIndexOf(paramName) >= 0 || namesToValues.containsKey(paramName);
 	}
 
 	@Override
 	public Object getValue(String paramName) throws IllegalArgumentException {
-		return namesToValues.get(paramName);
+
+		int index = planIndexOf(paramName);
+		return index >= 0 ? planValues[index] : namesToValues.get(paramName);
+	}
+
+	@Override
+	public int getSqlType(String paramName) {
+
+		int index = planIndexOf(paramName);
+		return index >= 0 ? planSqlTypes[index] : super.getSqlType(paramName);
 	}
 
 	@Override
 	public String[] getParameterNames() {
-		return namesToValues.keySet().toArray(new String[0]);
+
+		if (plan == null) {
+			return namesToValues.keySet().toArray(new String[0]);
+		}
+
+		Set<String> names = new LinkedHashSet<>(plan.getParameterNames());
+		names.addAll(namesToValues.keySet());
+		return names.toArray(new String[0]);
 	}
 
 	Set<SqlIdentifier> getIdentifiers() {
-		return Collections.unmodifiableSet(identifiers);
+
+		if (plan == null) {
+			return Collections.unmodifiableSet(identifiers);
+		}
+
+		if (identifiers.isEmpty()) {
+			return plan.getIdentifiers();
+		}
+
+		Set<SqlIdentifier> all = new LinkedHashSet<>(plan.getIdentifiers());
+		all.addAll(identifiers);
+		return Collections.unmodifiableSet(all);
 	}
 
 	void addValue(SqlIdentifier name, Object value) {
@@ -63,8 +116,20 @@ class SqlIdentifierParameterSource extends AbstractSqlParameterSource {
 
 	void addValue(SqlIdentifier identifier, Object value, int sqlType) {
 
-		identifiers.add(identifier);
 		String name = BindParameterNameSanitizer.sanitize(identifier.getReference());
+		int index = planIndexOf(name);
+
+		if (index >= 0) {
+
+			if (!plan.getIdentifiers().contains(identifier)) {
+				identifiers.add(identifier);
+			}
+			planValues[index] = value;
+			planSqlTypes[index] = sqlType;
+			return;
+		}
+
+		identifiers.add(identifier);
 		namesToValues.put(name, value);
 		registerSqlType(name, sqlType);
 	}
@@ -78,7 +143,28 @@ class SqlIdentifierParameterSource extends AbstractSqlParameterSource {
 		}
 	}
 
+	/**
+	 * Adds all values of {@code others} as the parameters of a single row of a multi-row insert.
+	 *
+	 * @param others the parameters of the row.
+	 * @param row the index of the row.
+	 * @see SqlGenerator#getInsert(Set, int)
+	 * @since 3.1
+	 */
+	void addAll(SqlIdentifierParameterSource others, int row) {
+
+		for (SqlIdentifier identifier : others.getIdentifiers()) {
+
+			String name = BindParameterNameSanitizer.sanitize(identifier.getReference());
+			addValue(SqlGenerator.getRowParameter(identifier, row), others.getValue(name), others.getSqlType(name));
+		}
+	}
+
 	int size() {
-		return namesToValues.size();
+		return planValues.length + namesToValues.size();
+	}
+
+	private int planIndexOf(String name) {
+		return plan == null ? -1 : plan.indexOf(name);
 	}
 }
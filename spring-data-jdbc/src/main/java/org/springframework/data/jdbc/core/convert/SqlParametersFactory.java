@@ -15,10 +15,12 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.sql.JDBCType;
 import java.sql.SQLType;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.springframework.data.jdbc.core.mapping.JdbcValue;
@@ -47,6 +49,10 @@ import org.springframework.util.Assert;
 public class SqlParametersFactory {
 	private final RelationalMappingContext context;
 	private final JdbcConverter converter;
+	private final boolean useExtractionPlans;
+
+	private final Map<Class<?>, ParameterExtractionPlan> insertPlans = new ConcurrentHashMap<>();
+	private final Map<Class<?>, ParameterExtractionPlan> updatePlans = new ConcurrentHashMap<>();
 
 	/**
 	 * @deprecated use {@link SqlParametersFactory(RelationalMappingContext, JdbcConverter)} instead.
@@ -60,8 +66,19 @@ public class SqlParametersFactory {
 	 * @since 3.1
 	 */
 	public SqlParametersFactory(RelationalMappingContext context, JdbcConverter converter) {
+		this(context, converter, true);
+	}
+
+	/**
+	 * @param useExtractionPlans whether to extract the parameters of inserts and updates using
+	 *          {@link ParameterExtractionPlan}s compiled once per entity instead of inspecting the entity on each call.
+	 * @since 3.1
+	 */
+	SqlParametersFactory(RelationalMappingContext context, JdbcConverter converter, boolean useExtractionPlans) {
+
 		this.context = context;
 		this.converter = converter;
+		this.useExtractionPlans = useExtractionPlans;
 	}
 
 	/**
@@ -80,7 +97,7 @@ public class SqlParametersFactory {
 			IdValueSource idValueSource) {
 
 		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
-		SqlIdentifierParameterSource parameterSource = getParameterSource(instance, persistentEntity, "",
+		SqlIdentifierParameterSource parameterSource = getParameterSource(instance, persistentEntity, insertPlans,
 				PersistentProperty::isIdProperty);
 
 		identifier.forEach((name, value, type) -> addConvertedPropertyValue(parameterSource, name, value, type));
@@ -94,6 +111,30 @@ public class SqlParametersFactory {
 		return parameterSource;
 	}
 
+	/**
+	 * Creates the parameters for a SQL insert operation using an id value allocated before the insert instead of the id
+	 * of the instance.
+	 *
+	 * @param instance the entity to be inserted. Must not be {@code null}.
+	 * @param domainType the type of the instance. Must not be {@code null}.
+	 * @param identifier information about data that needs to be considered for the insert but which is not part of the
+	 *          entity.
+	 * @param idValue the allocated id. Must not be {@code null}.
+	 * @return the {@link SqlIdentifierParameterSource} for the insert. Guaranteed to not be {@code null}.
+	 * @since 3.1
+	 */
+	<T> SqlIdentifierParameterSource forInsertWithId(T instance, Class<T> domainType, Identifier identifier,
+			Object idValue) {
+
+		SqlIdentifierParameterSource parameterSource = forInsert(instance, domainType, identifier,
+				IdValueSource.GENERATED);
+
+		RelationalPersistentProperty idProperty = getRequiredPersistentEntity(domainType).getRequiredIdProperty();
+		addConvertedPropertyValue(parameterSource, idProperty, idValue, idProperty.getColumnName());
+
+		return parameterSource;
+	}
+
 	/**
 	 * Creates the parameters for a SQL update operation.
 	 *
@@ -104,10 +145,28 @@ public class SqlParametersFactory {
 	 */
 	<T> SqlIdentifierParameterSource forUpdate(T instance, Class<T> domainType) {
 
-		return getParameterSource(instance, getRequiredPersistentEntity(domainType), "",
+		return getParameterSource(instance, getRequiredPersistentEntity(domainType), updatePlans,
 				RelationalPersistentProperty::isInsertOnly);
 	}
 
+	/**
+	 * Creates the parameters for a SQL update operation of an entity identified by an {@link Identifier}.
+	 *
+	 * @param instance the entity to be updated. Must not be {@code null}.
+	 * @param domainType the type of the instance. Must not be {@code null}.
+	 * @param identifier identifies the row to update. Must not be {@code null}.
+	 * @return the {@link SqlIdentifierParameterSource} for the update. Guaranteed to not be {@code null}.
+	 * @since 3.1
+	 */
+	<T> SqlIdentifierParameterSource forUpdate(T instance, Class<T> domainType, Identifier identifier) {
+
+		SqlIdentifierParameterSource parameterSource = forUpdate(instance, domainType);
+
+		identifier.forEach((name, value, type) -> addConvertedPropertyValue(parameterSource, name, value, type));
+
+		return parameterSource;
+	}
+
 	/**
 	 * Creates the parameters for a SQL query by id.
 	 *
@@ -148,6 +207,36 @@ public class SqlParametersFactory {
 		return parameterSource;
 	}
 
+	/**
+	 * Creates the parameters for a SQL query by ids, binding all ids as a single array parameter.
+	 *
+	 * @param ids the entity ids. Must not be {@code null}.
+	 * @param domainType the type of the instance. Must not be {@code null}.
+	 * @return the {@link SqlIdentifierParameterSource} for the query. Guaranteed to not be {@code null}.
+	 * @since 3.1
+	 * @see SqlGenerator#getFindAllInArray()
+	 */
+	<T> SqlIdentifierParameterSource forQueryByIdArray(Iterable<?> ids, Class<T> domainType) {
+
+		RelationalPersistentProperty idProperty = getRequiredPersistentEntity(domainType).getRequiredIdProperty();
+
+		List<Object> convertedIds = new ArrayList<>();
+		for (Object id : ids) {
+			convertedIds.add(
+					converter.writeJdbcValue(id, converter.getColumnType(idProperty), converter.getTargetSqlType(idProperty))
+							.getValue());
+		}
+
+		Object[] array = InListBinding.toTypedArray(convertedIds);
+		JdbcValue jdbcValue = converter.writeJdbcValue(array, array.getClass(), JDBCType.ARRAY);
+
+		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource();
+		parameterSource.addValue(SqlGenerator.IDS_SQL_PARAMETER, jdbcValue.getValue(),
+				jdbcValue.getJdbcType().getVendorTypeNumber());
+
+		return parameterSource;
+	}
+
 	/**
 	 * Creates the parameters for a SQL query of related entities.
 	 *
@@ -235,6 +324,19 @@ public class SqlParametersFactory {
 		return (RelationalPersistentEntity<S>) context.getRequiredPersistentEntity(domainType);
 	}
 
+	private <S> SqlIdentifierParameterSource getParameterSource(S instance, RelationalPersistentEntity<S> persistentEntity,
+			Map<Class<?>, ParameterExtractionPlan> plans, Predicate<RelationalPersistentProperty> skipProperty) {
+
+		if (!useExtractionPlans) {
+			return getParameterSource(instance, persistentEntity, "", skipProperty);
+		}
+
+		return plans
+				.computeIfAbsent(persistentEntity.getType(),
+						type -> ParameterExtractionPlan.compile(context, converter, persistentEntity, skipProperty))
+				.extract(instance, converter);
+	}
+
 	private <S, T> SqlIdentifierParameterSource getParameterSource(@Nullable S instance,
 			RelationalPersistentEntity<S> persistentEntity, String prefix,
 			Predicate<RelationalPersistentProperty> skipProperty) {
@@ -0,0 +1,376 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Statements of {@link SqlGenerator}s rendered ahead of time, typically at build time, for a {@link Dialect}. A
+ * catalog is stored as a properties resource per dialect, see {@link #getResourceLocation(Dialect)}, and gets loaded
+ * by {@link SqlGeneratorSource} in order to avoid rendering statements on first use. The SQL of derived query methods
+ * is stored in a catalog per repository and dialect, see {@link #getResourceLocation(Class, Dialect)}.
+ * <p>
+ * Each entity is recorded along with a fingerprint of its mapping, i.e. its table, column and reference names and which
+ * columns get written on insert and update. Statements only get used when the fingerprint matches the mapping at
+ * runtime so a stale catalog or a differently configured mapping context falls back to rendering statements at
+ * runtime.
+ *
+ * @since 3.1
+ */
+public class SqlStatementCatalog {
+
+	/**
+	 * Location of the catalog resources, one per {@link Dialect} class.
+	 */
+	public static final String RESOURCE_LOCATION_PREFIX = "META-INF/spring-data-jdbc/statements/";
+
+	private static final String SEPARATOR = "#";
+	private static final String FINGERPRINT = "fingerprint";
+	private static final String DIALECT_KEY = SEPARATOR + "dialect";
+
+	private static final SqlStatementCatalog EMPTY = new SqlStatementCatalog("", Collections.emptyMap(),
+			Collections.emptyMap());
+
+	private final String dialectFingerprint;
+	private final Map<String, String> fingerprints;
+	private final Map<String, Map<String, String>> statements;
+
+	private SqlStatementCatalog(String dialectFingerprint, Map<String, String> fingerprints,
+			Map<String, Map<String, String>> statements) {
+
+		this.dialectFingerprint = dialectFingerprint;
+		this.fingerprints = fingerprints;
+		this.statements = statements;
+	}
+
+	/**
+	 * Returns an empty {@link SqlStatementCatalog}.
+	 *
+	 * @return the empty catalog. Guaranteed to be not {@literal null}.
+	 */
+	public static SqlStatementCatalog empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Renders the statements of the given entity types.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param dialect must not be {@literal null}.
+	 * @param types the entity types. Types that are not entities are ignored. Must not be {@literal null}.
+	 * @return the catalog. Guaranteed to be not {@literal null}.
+	 */
+	public static SqlStatementCatalog create(RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
+			Iterable<Class<?>> types) {
+
+		Assert.notNull(context, "RelationalMappingContext must not be null");
+		Assert.notNull(converter, "JdbcConverter must not be null");
+		Assert.notNull(dialect, "Dialect must not be null");
+		Assert.notNull(types, "Types must not be null");
+
+		Map<String, String> fingerprints = new LinkedHashMap<>();
+		Map<String, Map<String, String>> statements = new LinkedHashMap<>();
+
+		for (Class<?> type : types) {
+
+			RelationalPersistentEntity<?> entity = context.getPersistentEntity(type);
+
+			if (entity == null) {
+				continue;
+			}
+
+			SqlGenerator generator = new SqlGenerator(context, converter, entity, dialect);
+
+			fingerprints.put(type.getName(), getFingerprint(context, entity));
+			statements.put(type.getName(), generator.renderStatements());
+		}
+
+		return new SqlStatementCatalog(getFingerprint(dialect), fingerprints, statements);
+	}
+
+	/**
+	 * Creates a catalog of the given statements of a single entity, e.g. the SQL of the derived query methods of a
+	 * repository.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param dialect must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param statements the statements by their name. Must not be {@literal null}.
+	 * @return the catalog. Guaranteed to be not {@literal null}.
+	 */
+	public static SqlStatementCatalog of(RelationalMappingContext context, Dialect dialect,
+			RelationalPersistentEntity<?> entity, Map<String, String> statements) {
+
+		Assert.notNull(context, "RelationalMappingContext must not be null");
+		Assert.notNull(dialect, "Dialect must not be null");
+		Assert.notNull(entity, "RelationalPersistentEntity must not be null");
+		Assert.notNull(statements, "Statements must not be null");
+
+		String type = entity.getType().getName();
+
+		return new SqlStatementCatalog(getFingerprint(dialect), Map.of(type, getFingerprint(context, entity)),
+				statements.isEmpty() ? Collections.emptyMap() : Map.of(type, new LinkedHashMap<>(statements)));
+	}
+
+	/**
+	 * Loads the catalog for the given {@link Dialect} from {@link #getResourceLocation(Dialect) its resource}.
+	 *
+	 * @param dialect must not be {@literal null}.
+	 * @param classLoader the {@link ClassLoader} to load the resource with. Can be {@literal null}.
+	 * @return the catalog or an {@link #empty() empty catalog} if there is no resource for the dialect or the resource
+	 *         was created for a differently configured dialect. Guaranteed to be not {@literal null}.
+	 */
+	public static SqlStatementCatalog load(Dialect dialect, @Nullable ClassLoader classLoader) {
+
+		Assert.notNull(dialect, "Dialect must not be null");
+
+		return load(getResourceLocation(dialect), dialect, classLoader);
+	}
+
+	/**
+	 * Loads the catalog of the derived query methods of the given repository for the given {@link Dialect} from
+	 * {@link #getResourceLocation(Class, Dialect) its resource}.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 * @param dialect must not be {@literal null}.
+	 * @param classLoader the {@link ClassLoader} to load the resource with. Can be {@literal null}.
+	 * @return the catalog or an {@link #empty() empty catalog} if there is no resource for the repository and dialect
+	 *         or the resource was created for a differently configured dialect. Guaranteed to be not {@literal null}.
+	 */
+	public static SqlStatementCatalog load(Class<?> repositoryInterface, Dialect dialect,
+			@Nullable ClassLoader classLoader) {
+
+		Assert.notNull(repositoryInterface, "Repository interface must not be null");
+		Assert.notNull(dialect, "Dialect must not be null");
+
+		return load(getResourceLocation(repositoryInterface, dialect), dialect, classLoader);
+	}
+
+	private static SqlStatementCatalog load(String location, Dialect dialect, @Nullable ClassLoader classLoader) {
+
+		ClassLoader loader = classLoader != null ? classLoader : SqlStatementCatalog.class.getClassLoader();
+		Properties properties = new Properties();
+
+		try (InputStream stream = loader.getResourceAsStream(location)) {
+
+			if (stream == null) {
+				return EMPTY;
+			}
+
+			properties.load(new InputStreamReader(stream, StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			throw new IllegalStateException("Cannot read statements of dialect " + dialect.getClass().getName(), e);
+		}
+
+		String dialectFingerprint = getFingerprint(dialect);
+
+		if (!dialectFingerprint.equals(properties.getProperty(DIALECT_KEY))) {
+			return EMPTY;
+		}
+
+		Map<String, String> fingerprints = new HashMap<>();
+		Map<String, Map<String, String>> statements = new HashMap<>();
+
+		for (String key : properties.stringPropertyNames()) {
+
+			int separator = key.lastIndexOf(SEPARATOR);
+
+			if (separator < 1) {
+				continue;
+			}
+
+			String type = key.substring(0, separator);
+			String name = key.substring(separator + 1);
+			String value = properties.getProperty(key);
+
+			if (FINGERPRINT.equals(name)) {
+				fingerprints.put(type, value);
+			} else {
+				statements.computeIfAbsent(type, it -> new HashMap<>()).put(name, value);
+			}
+		}
+
+		return new SqlStatementCatalog(dialectFingerprint, fingerprints, statements);
+	}
+
+	/**
+	 * Returns the location of the catalog resource for the given {@link Dialect}.
+	 *
+	 * @param dialect must not be {@literal null}.
+	 * @return the resource location. Guaranteed to be not {@literal null}.
+	 */
+	public static String getResourceLocation(Dialect dialect) {
+
+		Assert.notNull(dialect, "Dialect must not be null");
+
+		return RESOURCE_LOCATION_PREFIX + dialect.getClass().getName() + ".properties";
+	}
+
+	/**
+	 * Returns the location of the catalog resource of the derived query methods of the given repository for the given
+	 * {@link Dialect}.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 * @param dialect must not be {@literal null}.
+	 * @return the resource location. Guaranteed to be not {@literal null}.
+	 */
+	public static String getResourceLocation(Class<?> repositoryInterface, Dialect dialect) {
+
+		Assert.notNull(repositoryInterface, "Repository interface must not be null");
+		Assert.notNull(dialect, "Dialect must not be null");
+
+		return RESOURCE_LOCATION_PREFIX + repositoryInterface.getName() + "-" + dialect.getClass().getName()
+				+ ".properties";
+	}
+
+	/**
+	 * Writes this catalog in the format expected by {@link #load(Dialect, ClassLoader)}, which reads the resource using
+	 * {@literal UTF-8}.
+	 *
+	 * @param writer must not be {@literal null}.
+	 * @throws IOException when writing fails.
+	 */
+	public void store(Writer writer) throws IOException {
+
+		Assert.notNull(writer, "Writer must not be null");
+
+		Properties properties = new Properties();
+		properties.setProperty(DIALECT_KEY, dialectFingerprint);
+
+		fingerprints.forEach((type, fingerprint) -> properties.setProperty(type + SEPARATOR + FINGERPRINT, fingerprint));
+		statements.forEach((type, byName) -> byName
+				.forEach((name, sql) -> properties.setProperty(type + SEPARATOR + name, sql)));
+
+		properties.store(writer, "SQL statements rendered ahead of time");
+	}
+
+	/**
+	 * @return {@literal true} if the catalog does not contain statements for any entity.
+	 */
+	public boolean isEmpty() {
+		return statements.isEmpty();
+	}
+
+	/**
+	 * Returns the statements for the given entity if they were rendered for the same mapping.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return the statements by their name. Empty if the catalog does not contain statements for the entity or the
+	 *         mapping of the entity changed. Guaranteed to be not {@literal null}.
+	 */
+	public Map<String, String> getStatements(RelationalMappingContext context, RelationalPersistentEntity<?> entity) {
+
+		Assert.notNull(context, "RelationalMappingContext must not be null");
+		Assert.notNull(entity, "RelationalPersistentEntity must not be null");
+
+		String type = entity.getType().getName();
+		Map<String, String> byName = statements.get(type);
+
+		if (byName == null || !getFingerprint(context, entity).equals(fingerprints.get(type))) {
+			return Collections.emptyMap();
+		}
+
+		return byName;
+	}
+
+	/**
+	 * Fingerprints the identifier processing of the {@link Dialect} as dialects like MySQL get created with the
+	 * identifier processing reported by the database.
+	 */
+	private static String getFingerprint(Dialect dialect) {
+
+		IdentifierProcessing processing = dialect.getIdentifierProcessing();
+
+		return dialect.getClass().getName() + ":" + processing.quote("Name") + ":"
+				+ processing.standardizeLetterCase("Name");
+	}
+
+	/**
+	 * Fingerprints the names the statements of an entity are rendered from, i.e. its table along with the columns,
+	 * tables, back-references and keys of all its persistent property paths, and whether these paths are writable,
+	 * {@link org.springframework.data.annotation.ReadOnlyProperty read-only} or
+	 * {@link org.springframework.data.relational.core.mapping.InsertOnlyProperty insert-only}, which determines the
+	 * columns of inserts and updates.
+	 */
+	static String getFingerprint(RelationalMappingContext context, RelationalPersistentEntity<?> entity) {
+
+		StringBuilder builder = new StringBuilder();
+
+		builder.append(toSql(entity.getQualifiedTableName()));
+
+		if (entity.hasIdProperty()) {
+			builder.append(",id=").append(toSql(entity.getIdColumn()));
+		}
+
+		if (entity.hasVersionProperty()) {
+			builder.append(",version=").append(toSql(entity.getRequiredVersionProperty().getColumnName()));
+		}
+
+		for (PersistentPropertyPath<RelationalPersistentProperty> path : context
+				.findPersistentPropertyPaths(entity.getType(), p -> true)) {
+
+			PersistentPropertyPathExtension extension = new PersistentPropertyPathExtension(context, path);
+
+			RelationalPersistentProperty property = path.getRequiredLeafProperty();
+
+			builder.append(';').append(path.toDotPath()).append('=').append(toSql(extension.getColumnName())) //
+					.append(",writable=").append(PersistentPropertyPathExtension.isWritable(path)) //
+					.append(",readOnly=").append(property.isAnnotationPresent(ReadOnlyProperty.class)) //
+					.append(",insertOnly=").append(property.isInsertOnly());
+
+			if (extension.isEntity() && !extension.isEmbedded()) {
+
+				builder.append(',').append(toSql(extension.getQualifiedTableName())) //
+						.append(',').append(toSql(extension.getReverseColumnName()));
+
+				SqlIdentifier keyColumn = extension.getQualifierColumn();
+				if (keyColumn != null) {
+					builder.append(',').append(toSql(keyColumn));
+				}
+			}
+		}
+
+		return DigestUtils.md5DigestAsHex(builder.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String toSql(SqlIdentifier identifier) {
+		return identifier.toSql(IdentifierProcessing.ANSI);
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+/**
+ * Snapshot of the statistics of the statements an entity's {@link SqlGenerator} caches for varying arguments.
+ *
+ * @since 3.1
+ * @see SqlGeneratorSource#getStatistics(Class)
+ */
+public final class StatementCacheStatistics {
+
+	private final long hitCount;
+	private final long missCount;
+	private final int size;
+	private final int maximumSize;
+
+	StatementCacheStatistics(long hitCount, long missCount, int size, int maximumSize) {
+
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.size = size;
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * @return the number of lookups that returned a cached statement.
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return the number of lookups that rendered the statement.
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return the number of cached statements.
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @return the number of statements after which the least recently used ones get evicted.
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("StatementCacheStatistics[hits=%d, misses=%d, size=%d, maximumSize=%d]", hitCount, missCount,
+				size, maximumSize);
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded cache for the statements a {@link SqlGenerator} renders depending on arguments, like inserts of additional
+ * columns, lock modes, sorting, paging, or the shape of a {@link org.springframework.data.relational.core.query.Query}.
+ * Holds up to a maximum number of statements, evicting the least recently used ones first.
+ *
+ * @since 3.1
+ */
+class StatementVariantCache {
+
+	static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+	private final int maximumSize;
+	private final LinkedHashMap<Object, String> statements = new LinkedHashMap<>(16, 0.75f, true);
+	private long hitCount;
+	private long missCount;
+
+	StatementVariantCache(int maximumSize) {
+
+		Assert.isTrue(maximumSize > 0, "Maximum size must be positive");
+
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * Returns the statement for the given key, rendering and caching it using the factory if absent.
+	 */
+	String get(Object key, Supplier<String> factory) {
+
+		String sql = getIfPresent(key);
+
+		if (sql == null) {
+			sql = factory.get();
+			put(key, sql);
+		}
+
+		return sql;
+	}
+
+	/**
+	 * Returns the statement for the given key or {@literal null} if absent. Counts a hit or a miss.
+	 */
+	@Nullable
+	synchronized String getIfPresent(Object key) {
+
+		String sql = statements.get(key);
+
+		if (sql == null) {
+			missCount++;
+		} else {
+			hitCount++;
+		}
+
+		return sql;
+	}
+
+	synchronized void put(Object key, String sql) {
+
+		statements.put(key, sql);
+
+		Iterator<String> leastRecentlyUsed = statements.values().iterator();
+		while (statements.size() > maximumSize) {
+
+			leastRecentlyUsed.next();
+			leastRecentlyUsed.remove();
+		}
+	}
+
+	synchronized StatementCacheStatistics getStatistics() {
+		return new StatementCacheStatistics(hitCount, missCount, statements.size(), maximumSize);
+	}
+}
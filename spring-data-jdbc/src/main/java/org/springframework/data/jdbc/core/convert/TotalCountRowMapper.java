@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RowMapper} reading the total number of rows matching a paged query from the first row of the page, in
+ * addition to mapping each row using a delegate. The query must select {@code COUNT(*) OVER()} as
+ * {@link #TOTAL_COUNT_ALIAS}. Instances hold the count read and must be used for a single query only.
+ *
+ * @since 3.1
+ * @see org.springframework.data.relational.core.mapping.SingleQueryPaging
+ */
+public class TotalCountRowMapper<T> implements RowMapper<T> {
+
+	/**
+	 * The alias of the column holding the total count.
+	 */
+	public static final SqlIdentifier TOTAL_COUNT_ALIAS = SqlIdentifier.unquoted("total_row_count");
+
+	private final RowMapper<T> delegate;
+	private long totalCount = -1;
+
+	/**
+	 * @param delegate the {@link RowMapper} mapping the rows. Must not be {@literal null}.
+	 */
+	public TotalCountRowMapper(RowMapper<T> delegate) {
+
+		Assert.notNull(delegate, "Delegate RowMapper must not be null");
+
+		this.delegate = delegate;
+	}
+
+	@Nullable
+	@Override
+	public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+
+		if (totalCount < 0) {
+			totalCount = rs.getLong(TOTAL_COUNT_ALIAS.getReference());
+		}
+
+		return delegate.mapRow(rs, rowNum);
+	}
+
+	/**
+	 * Creates the {@link Page} for the given content using the total count read from its first row. Empty pages carry
+	 * no count, so the total is determined the same way as by
+	 * {@link PageableExecutionUtils#getPage(List, Pageable, LongSupplier)} in that case.
+	 *
+	 * @param content the rows mapped by this {@link RowMapper}. Must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @param countSupplier executes a separate count query. Must not be {@literal null}.
+	 * @return the {@link Page}. Guaranteed to be not {@literal null}.
+	 */
+	public <S> Page<S> getPage(List<S> content, Pageable pageable, LongSupplier countSupplier) {
+
+		return totalCount < 0 //
+				? PageableExecutionUtils.getPage(content, pageable, countSupplier) //
+				: new PageImpl<>(content, pageable, totalCount);
+	}
+}
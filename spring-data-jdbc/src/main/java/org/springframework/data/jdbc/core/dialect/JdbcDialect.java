@@ -35,4 +35,16 @@ public interface JdbcDialect extends Dialect {
 	 */
 	@Override
 	JdbcArrayColumns getArraySupport();
+
+	/**
+	 * Returns whether the JDBC driver reports the number of rows updated by each statement of a batch. Drivers not
+	 * doing so return {@link java.sql.Statement#SUCCESS_NO_INFO} instead, which doesn't allow checking the versions of
+	 * entities updated in a batch. Versioned entities get updated row by row for dialects returning {@literal false}.
+	 *
+	 * @return {@literal true} if batch update counts get reported, which is the default.
+	 * @since 3.1
+	 */
+	default boolean reportsBatchUpdateCounts() {
+		return true;
+	}
 }
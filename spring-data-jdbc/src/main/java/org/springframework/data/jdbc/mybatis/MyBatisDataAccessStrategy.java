@@ -22,12 +22,17 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.ibatis.session.SqlSession;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jdbc.core.convert.*;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.PropertyPath;
@@ -39,6 +44,7 @@ import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.util.Assert;
 
@@ -176,6 +182,13 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 				new MyBatisContext(null, instance, domainType, Collections.emptyMap())) != 0;
 	}
 
+	@Override
+	public <S> boolean update(S instance, Class<S> domainType, Identifier identifier) {
+
+		return sqlSession().update(namespace(domainType) + ".updateByIdentifier",
+				new MyBatisContext(identifier, instance, domainType)) != 0;
+	}
+
 	@Override
 	public <S> boolean updateWithVersion(S instance, Class<S> domainType, Number previousVersion) {
 
@@ -185,6 +198,38 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		return sqlSession().update(statement, parameter) != 0;
 	}
 
+	@Override
+	public <T> boolean[] updateAll(List<T> instances, Class<T> domainType) {
+
+		boolean[] updated = new boolean[instances.size()];
+		for (int i = 0; i < instances.size(); i++) {
+			updated[i] = update(instances.get(i), domainType);
+		}
+		return updated;
+	}
+
+	@Override
+	public <T> boolean[] updateAllWithVersion(List<T> instances, Class<T> domainType, List<Number> previousVersions) {
+
+		boolean[] updated = new boolean[instances.size()];
+		for (int i = 0; i < instances.size(); i++) {
+			updated[i] = updateWithVersion(instances.get(i), domainType, previousVersions.get(i));
+		}
+		return updated;
+	}
+
+	@Override
+	public <T> void upsert(T instance, Class<T> domainType) {
+
+		sqlSession().update(namespace(domainType) + ".upsert",
+				new MyBatisContext(null, instance, domainType, Collections.emptyMap()));
+	}
+
+	@Override
+	public <T> void upsertAll(List<T> instances, Class<T> domainType) {
+		instances.forEach(instance -> upsert(instance, domainType));
+	}
+
 	@Override
 	public void delete(Object id, Class<?> domainType) {
 
@@ -218,6 +263,17 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		sqlSession().delete(statement, parameter);
 	}
 
+	@Override
+	public void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath, Object key) {
+
+		Class<?> ownerType = getOwnerTyp(propertyPath);
+		String statement = namespace(ownerType) + ".deleteElement-" + toDashPath(propertyPath);
+		Class<?> leafType = propertyPath.getRequiredLeafProperty().getTypeInformation().getType();
+		MyBatisContext parameter = new MyBatisContext(rootId, null, leafType, Collections.singletonMap("key", key));
+
+		sqlSession().delete(statement, parameter);
+	}
+
 	@Override
 	public void delete(Iterable<Object> rootIds, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
 		rootIds.forEach(rootId -> delete(rootId, propertyPath));
@@ -280,6 +336,15 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		return sqlSession().selectList(statement, parameter);
 	}
 
+	/**
+	 * Streams the result of {@link #findAll(Class)}. The statement result is not consumed lazily since MyBatis cursors
+	 * cannot outlive the {@link SqlSession} used to open them.
+	 */
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+		return StreamSupport.stream(findAll(domainType).spliterator(), false);
+	}
+
 	@Override
 	public <T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType) {
 		return sqlSession().selectList(namespace(domainType) + ".findAllById",
@@ -322,6 +387,13 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 				new MyBatisContext(null, null, domainType, additionalContext));
 	}
 
+	@Override
+	public <T> Page<T> findPage(Class<T> domainType, Pageable pageable) {
+
+		List<T> content = StreamSupport.stream(findAll(domainType, pageable).spliterator(), false).toList();
+		return PageableExecutionUtils.getPage(content, pageable, () -> count(domainType));
+	}
+
 	@Override
 	public <T> Optional<T> findOne(Query query, Class<T> probeType) {
 		throw new UnsupportedOperationException("Not implemented");
@@ -332,11 +404,26 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		throw new UnsupportedOperationException("Not implemented");
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Query query, Class<T> probeType) {
+		throw new UnsupportedOperationException("Not implemented");
+	}
+
 	@Override
 	public <T> Iterable<T> findAll(Query query, Class<T> probeType, Pageable pageable) {
 		throw new UnsupportedOperationException("Not implemented");
 	}
 
+	@Override
+	public <T> Page<T> findPage(Query query, Class<T> probeType, Pageable pageable) {
+		throw new UnsupportedOperationException("Not implemented");
+	}
+
+	@Override
+	public <T> Window<T> findAll(Query query, Class<T> probeType, ScrollPosition scrollPosition) {
+		throw new UnsupportedOperationException("Not implemented");
+	}
+
 	@Override
 	public <T> boolean exists(Query query, Class<T> probeType) {
 		throw new UnsupportedOperationException("Not implemented");
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.jdbc.repository.config;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -49,6 +50,7 @@ import org.springframework.data.relational.core.mapping.NamingStrategy;
 import org.springframework.data.relational.core.mapping.Table;
 import org.springframework.data.util.TypeScanner;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
 /**
@@ -134,8 +136,23 @@ public class AbstractJdbcConfiguration implements ApplicationContextAware {
 				: JdbcArrayColumns.DefaultSupport.INSTANCE;
 		DefaultJdbcTypeFactory jdbcTypeFactory = new DefaultJdbcTypeFactory(operations.getJdbcOperations(), arrayColumns);
 
-		return new BasicJdbcConverter(mappingContext, relationResolver, conversions, jdbcTypeFactory,
-				dialect.getIdentifierProcessing());
+		BasicJdbcConverter converter = new BasicJdbcConverter(mappingContext, relationResolver, conversions,
+				jdbcTypeFactory, dialect.getIdentifierProcessing());
+		converter.setCompiledRowMappingEnabled(isCompiledRowMappingEnabled());
+
+		return converter;
+	}
+
+	/**
+	 * Returns whether aggregate roots consisting of simple properties only get read using readers compiled once per
+	 * entity instead of inspecting the entity for every row. Returns {@literal false} by default.
+	 *
+	 * @return whether to read simple aggregate roots with compiled readers.
+	 * @since 3.1
+	 * @see BasicJdbcConverter#setCompiledRowMappingEnabled(boolean)
+	 */
+	protected boolean isCompiledRowMappingEnabled() {
+		return false;
 	}
 
 	/**
@@ -185,13 +202,52 @@ public class AbstractJdbcConfiguration implements ApplicationContextAware {
 	 * @param applicationContext for publishing events. Must not be {@literal null}.
 	 * @param mappingContext the mapping context to be used. Must not be {@literal null}.
 	 * @param converter the conversions used when reading and writing from/to the database. Must not be {@literal null}.
+	 * @param countStrategy determines the total number of aggregates of pages. Must not be {@literal null}.
+	 * @param aggregateCache holds aggregates with caching enabled. Must not be {@literal null}.
 	 * @return a {@link JdbcAggregateTemplate}. Will never be {@literal null}.
 	 */
 	@Bean
 	public JdbcAggregateTemplate jdbcAggregateTemplate(ApplicationContext applicationContext,
-			JdbcMappingContext mappingContext, JdbcConverter converter, DataAccessStrategy dataAccessStrategy) {
+			JdbcMappingContext mappingContext, JdbcConverter converter, DataAccessStrategy dataAccessStrategy,
+			CountStrategy countStrategy, AggregateCache aggregateCache) {
+
+		JdbcAggregateTemplate template = new JdbcAggregateTemplate(applicationContext, mappingContext, converter,
+				dataAccessStrategy);
+		template.setCountStrategy(countStrategy);
+		template.setAggregateCache(aggregateCache);
+
+		return template;
+	}
+
+	/**
+	 * Register the {@link CountStrategy} determining the total number of aggregates reported by
+	 * {@link org.springframework.data.domain.Page pages} of the {@link JdbcAggregateTemplate} and of derived repository
+	 * queries. Counts exactly by default. Override this method to use an {@link EstimatedCountStrategy} or a
+	 * {@link CachingCountStrategy} for large tables.
+	 *
+	 * @param operations the {@link NamedParameterJdbcOperations} allowing access to a {@link java.sql.Connection}.
+	 * @param dialect the {@link Dialect} in use.
+	 * @return the {@link CountStrategy}. Will never be {@literal null}.
+	 * @since 3.1
+	 */
+	@Bean
+	public CountStrategy jdbcCountStrategy(NamedParameterJdbcOperations operations, Dialect dialect) {
+		return CountStrategy.exact();
+	}
 
-		return new JdbcAggregateTemplate(applicationContext, mappingContext, converter, dataAccessStrategy);
+	/**
+	 * Register the {@link AggregateCache} holding the aggregates of entities annotated with
+	 * {@link org.springframework.data.relational.core.mapping.AggregateCaching}, for the {@link JdbcAggregateTemplate}
+	 * and repositories. Entities without the annotation are never cached. Returns a {@link LocalAggregateCache} holding
+	 * up to 10000 aggregates for 10 minutes by default. Override this method to change these limits or to use a
+	 * different cache.
+	 *
+	 * @return the {@link AggregateCache}. Will never be {@literal null}.
+	 * @since 3.1
+	 */
+	@Bean
+	public AggregateCache jdbcAggregateCache() {
+		return new LocalAggregateCache(10_000, Duration.ofMinutes(10));
 	}
 
 	/**
@@ -204,9 +260,73 @@ public class AbstractJdbcConfiguration implements ApplicationContextAware {
 	@Bean
 	public DataAccessStrategy dataAccessStrategyBean(NamedParameterJdbcOperations operations, JdbcConverter jdbcConverter,
 			JdbcMappingContext context, Dialect dialect) {
-		return new DefaultDataAccessStrategy(new SqlGeneratorSource(context, jdbcConverter, dialect), context,
+
+		SqlGeneratorSource sqlGeneratorSource = new SqlGeneratorSource(context, jdbcConverter, dialect);
+		if (isSqlGeneratorWarmUpEnabled()) {
+			sqlGeneratorSource.warmUp();
+		}
+
+		DefaultDataAccessStrategy dataAccessStrategy = new DefaultDataAccessStrategy(sqlGeneratorSource, context,
 				jdbcConverter, operations, new SqlParametersFactory(context, jdbcConverter),
 				new InsertStrategyFactory(operations, new BatchJdbcOperations(operations.getJdbcOperations()), dialect));
+		dataAccessStrategy.setBatchFetchingEnabled(isBatchFetchingEnabled());
+		dataAccessStrategy.setStreamFetchSize(getStreamFetchSize());
+		dataAccessStrategy.setPositionalParametersEnabled(isPositionalParametersEnabled());
+
+		return dataAccessStrategy;
+	}
+
+	/**
+	 * Returns whether the collections and maps referenced by aggregate roots get loaded in batches when loading multiple
+	 * aggregates, for all entities. Entities can enable batch fetching individually using
+	 * {@link org.springframework.data.relational.core.mapping.BatchFetching}. Returns {@literal false} by default.
+	 *
+	 * @return whether to load relations of all aggregate roots in batches.
+	 * @since 3.1
+	 */
+	protected boolean isBatchFetchingEnabled() {
+		return false;
+	}
+
+	/**
+	 * Returns whether the statements of all aggregate roots known to the mapping context get rendered when creating the
+	 * {@link DataAccessStrategy} instead of when first used. Returns {@literal true} by default. Override to return
+	 * {@literal false} in order to render statements only when they are first used, e.g. to speed up the startup of
+	 * applications with many aggregates.
+	 *
+	 * @return whether to render the statements of aggregate roots at startup.
+	 * @since 3.1
+	 * @see SqlGeneratorSource#warmUp()
+	 */
+	protected boolean isSqlGeneratorWarmUpEnabled() {
+		return true;
+	}
+
+	/**
+	 * Returns the fetch size used when streaming aggregates through
+	 * {@link org.springframework.data.jdbc.core.JdbcAggregateOperations#streamAll(Class)}. Returned values are passed
+	 * to the driver as is, e.g. {@link Integer#MIN_VALUE} to stream rows one by one with MySQL. Returns {@literal null}
+	 * by default, using the fetch size configured for the {@link org.springframework.jdbc.core.JdbcTemplate}.
+	 *
+	 * @return the fetch size for streaming queries or {@literal null} to not set a specific fetch size.
+	 * @since 3.1
+	 */
+	@Nullable
+	protected Integer getStreamFetchSize() {
+		return null;
+	}
+
+	/**
+	 * Returns whether the statements generated for aggregates get executed with positional bind markers, translating
+	 * each statement once instead of parsing its named parameters on every execution. Returns {@literal false} by
+	 * default.
+	 *
+	 * @return whether to execute generated statements with positional parameters.
+	 * @since 3.1
+	 * @see DefaultDataAccessStrategy#setPositionalParametersEnabled(boolean)
+	 */
+	protected boolean isPositionalParametersEnabled() {
+		return false;
 	}
 
 	/**
@@ -21,7 +21,9 @@ import java.util.Collections;
 import java.util.Locale;
 import java.util.Optional;
 
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.data.jdbc.aot.JdbcRepositoryRegistrationAotProcessor;
 import org.springframework.data.jdbc.repository.support.JdbcRepositoryFactoryBean;
 import org.springframework.data.relational.core.mapping.Table;
 import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
@@ -61,6 +63,11 @@ public class JdbcRepositoryConfigExtension extends RepositoryConfigurationExtens
 		return getModulePrefix();
 	}
 
+	@Override
+	public Class<? extends BeanRegistrationAotProcessor> getRepositoryAotProcessor() {
+		return JdbcRepositoryRegistrationAotProcessor.class;
+	}
+
 	@Override
 	public void postProcess(BeanDefinitionBuilder builder, RepositoryConfigurationSource source) {
 
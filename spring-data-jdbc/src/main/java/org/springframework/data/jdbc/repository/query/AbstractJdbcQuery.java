@@ -17,6 +17,7 @@ package org.springframework.data.jdbc.repository.query;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -171,7 +172,22 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 	 * @since 2.3
 	 */
 	public interface RowMapperFactory {
+
 		RowMapper<Object> create(Class<?> result);
+
+		/**
+		 * Create a {@link RowMapper} for the given class that reads only the given properties, e.g. the properties exposed
+		 * by a projection. Relations held by other properties do not get resolved. Falls back to {@link #create(Class)} by
+		 * default.
+		 *
+		 * @param result the type to read.
+		 * @param properties names of the properties to read.
+		 * @return the {@link RowMapper}.
+		 * @since 3.1
+		 */
+		default RowMapper<Object> create(Class<?> result, Collection<String> properties) {
+			return create(result);
+		}
 	}
 
 	/**
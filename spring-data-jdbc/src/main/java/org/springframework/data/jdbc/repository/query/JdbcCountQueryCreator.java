@@ -30,7 +30,9 @@ import org.springframework.data.relational.repository.query.RelationalEntityMeta
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
 
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -60,7 +62,8 @@ class JdbcCountQueryCreator extends JdbcQueryCreator {
 	}
 
 	@Override
-	SelectBuilder.SelectLimitOffset createSelectClause(RelationalPersistentEntity<?> entity, Table table) {
+	SelectBuilder.SelectLimitOffset createSelectClause(RelationalPersistentEntity<?> entity, Table table,
+			@Nullable Collection<String> properties) {
 		return Select.builder().select(Functions.count(Expressions.asterisk())).from(table);
 	}
 }
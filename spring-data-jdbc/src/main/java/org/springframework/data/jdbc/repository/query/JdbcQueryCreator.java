@@ -16,14 +16,22 @@
 package org.springframework.data.jdbc.repository.query;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.Objects;
 import java.util.Optional;
 
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.QueryMapper;
+import org.springframework.data.jdbc.core.convert.ScrollSupport;
+import org.springframework.data.jdbc.core.convert.TotalCountRowMapper;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.relational.core.dialect.Dialect;
@@ -33,7 +41,10 @@ import org.springframework.data.relational.core.mapping.RelationalMappingContext
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.sql.AnalyticFunction;
 import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.Conditions;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.Expressions;
 import org.springframework.data.relational.core.sql.Functions;
@@ -74,6 +85,8 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 	private final boolean isSliceQuery;
 	private final ReturnedType returnedType;
 	private final Optional<Lock> lockMode;
+	private final boolean withTotalCount;
+	@Nullable private String renderedQuery;
 
 	/**
 	 * Creates new instance of this class with the given {@link PartTree}, {@link JdbcConverter}, {@link Dialect},
@@ -91,6 +104,28 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 	JdbcQueryCreator(RelationalMappingContext context, PartTree tree, JdbcConverter converter, Dialect dialect,
 			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor, boolean isSliceQuery,
 			ReturnedType returnedType, Optional<Lock> lockMode) {
+		this(context, tree, converter, dialect, entityMetadata, accessor, isSliceQuery, returnedType, lockMode, false);
+	}
+
+	/**
+	 * Creates new instance of this class with the given {@link PartTree}, {@link JdbcConverter}, {@link Dialect},
+	 * {@link RelationalEntityMetadata} and {@link RelationalParameterAccessor}.
+	 *
+	 * @param context the mapping context. Must not be {@literal null}.
+	 * @param tree part tree, must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param dialect must not be {@literal null}.
+	 * @param entityMetadata relational entity metadata, must not be {@literal null}.
+	 * @param accessor parameter metadata provider, must not be {@literal null}.
+	 * @param isSliceQuery flag denoting if the query returns a {@link org.springframework.data.domain.Slice}.
+	 * @param returnedType the {@link ReturnedType} to be returned by the query. Must not be {@literal null}.
+	 * @param withTotalCount whether to select the total number of matching rows using {@code COUNT(*) OVER()}.
+	 * @since 3.1
+	 * @see TotalCountRowMapper
+	 */
+	JdbcQueryCreator(RelationalMappingContext context, PartTree tree, JdbcConverter converter, Dialect dialect,
+			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor, boolean isSliceQuery,
+			ReturnedType returnedType, Optional<Lock> lockMode, boolean withTotalCount) {
 		super(tree, accessor);
 
 		Assert.notNull(converter, "JdbcConverter must not be null");
@@ -108,6 +143,7 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		this.isSliceQuery = isSliceQuery;
 		this.returnedType = returnedType;
 		this.lockMode = lockMode;
+		this.withTotalCount = withTotalCount;
 	}
 
 	/**
@@ -154,6 +190,23 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		}
 	}
 
+	/**
+	 * Creates the {@link ParametrizedQuery} reusing a query previously rendered for arguments of the same shape, so that
+	 * only the parameters get bound instead of building and rendering the query again. Not applicable to queries
+	 * scrolling to a {@link ScrollPosition}.
+	 *
+	 * @param dynamicSort the dynamic sort the query was rendered with. Must not be {@literal null}.
+	 * @param renderedQuery the rendered query. Must not be {@literal null}.
+	 * @return the query along with the parameters bound for the current arguments.
+	 * @since 3.1
+	 * @see RenderedQueryCache
+	 */
+	ParametrizedQuery createQuery(Sort dynamicSort, String renderedQuery) {
+
+		this.renderedQuery = renderedQuery;
+		return createQuery(dynamicSort);
+	}
+
 	/**
 	 * Creates {@link ParametrizedQuery} applying the given {@link Criteria} and {@link Sort} definition.
 	 *
@@ -168,11 +221,29 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		Table table = Table.create(entityMetadata.getTableName());
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 
-		SelectBuilder.SelectLimitOffset limitOffsetBuilder = createSelectClause(entity, table);
-		SelectBuilder.SelectWhere whereBuilder = applyLimitAndOffset(limitOffsetBuilder);
-		SelectBuilder.SelectOrdered selectOrderBuilder = applyCriteria(criteria, entity, table, parameterSource,
-				whereBuilder);
-		selectOrderBuilder = applyOrderBy(sort, entity, table, selectOrderBuilder);
+		if (renderedQuery != null) {
+
+			if (criteria != null) {
+				queryMapper.getMappedObject(parameterSource, criteria, table, entity);
+			}
+			return new ParametrizedQuery(renderedQuery, parameterSource);
+		}
+
+		ScrollPosition scrollPosition = tree.isCountProjection() || tree.isExistsProjection() ? null
+				: accessor.getScrollPosition();
+		SelectBuilder.SelectLimitOffset limitOffsetBuilder = createSelectClause(entity, table,
+				getSelectedProperties(entity, sort, scrollPosition));
+
+		SelectBuilder.SelectOrdered selectOrderBuilder;
+		if (scrollPosition == null) {
+
+			SelectBuilder.SelectWhere whereBuilder = applyLimitAndOffset(limitOffsetBuilder);
+			selectOrderBuilder = applyCriteria(criteria, entity, table, parameterSource, whereBuilder);
+			selectOrderBuilder = applyOrderBy(sort, entity, table, selectOrderBuilder);
+		} else {
+			selectOrderBuilder = applyScrollPosition(scrollPosition, criteria, sort, entity, table, parameterSource,
+					limitOffsetBuilder);
+		}
 
 		SelectBuilder.BuildSelect completedBuildSelect = selectOrderBuilder;
 		if (this.lockMode.isPresent()) {
@@ -202,6 +273,42 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 				: whereBuilder;
 	}
 
+	/**
+	 * Applies criteria, sort order and limit for fetching the {@link org.springframework.data.domain.Window} starting at
+	 * the given {@link ScrollPosition}, fetching one more row than the window holds.
+	 *
+	 * @see ScrollSupport
+	 */
+	SelectBuilder.SelectOrdered applyScrollPosition(ScrollPosition scrollPosition, @Nullable Criteria criteria,
+			Sort sort, RelationalPersistentEntity<?> entity, Table table, MapSqlParameterSource parameterSource,
+			SelectBuilder.SelectLimitOffset limitOffsetBuilder) {
+
+		int fetchSize = ScrollSupport.getFetchSize(tree.isLimiting() ? tree.getMaxResults() : -1);
+		if (fetchSize > 0) {
+			limitOffsetBuilder = limitOffsetBuilder.limit(fetchSize);
+		}
+
+		if (scrollPosition instanceof OffsetScrollPosition offset && offset.getOffset() > 0) {
+			limitOffsetBuilder = limitOffsetBuilder.offset(offset.getOffset());
+		}
+
+		Sort keysetSort = ScrollSupport.getKeysetSort(sort, entity);
+
+		Condition condition = criteria != null ? queryMapper.getMappedObject(parameterSource, criteria, table, entity)
+				: null;
+
+		if (scrollPosition instanceof KeysetScrollPosition keyset && !keyset.isInitial()) {
+
+			Condition keysetCondition = queryMapper.getMappedObject(parameterSource, keyset, keysetSort, table, entity);
+			condition = condition == null ? keysetCondition : Conditions.nest(condition).and(keysetCondition);
+		}
+
+		SelectBuilder.SelectWhere whereBuilder = (SelectBuilder.SelectWhere) limitOffsetBuilder;
+		SelectBuilder.SelectOrdered selectOrdered = condition != null ? whereBuilder.where(condition) : whereBuilder;
+
+		return applyOrderBy(ScrollSupport.getQuerySort(keysetSort, scrollPosition), entity, table, selectOrdered);
+	}
+
 	SelectBuilder.SelectWhere applyLimitAndOffset(SelectBuilder.SelectLimitOffset limitOffsetBuilder) {
 
 		if (tree.isExistsProjection()) {
@@ -219,7 +326,54 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		return (SelectBuilder.SelectWhere) limitOffsetBuilder;
 	}
 
-	SelectBuilder.SelectLimitOffset createSelectClause(RelationalPersistentEntity<?> entity, Table table) {
+	/**
+	 * Returns the names of the properties to select for projections requiring custom construction, i.e. closed interface
+	 * projections and DTOs. These are the properties the projection exposes, plus the id if the projection exposes
+	 * relations that get loaded by id, plus the properties holding the keys of a keyset scroll position.
+	 *
+	 * @return the names of the properties to select or {@literal null} to select all properties.
+	 */
+	@Nullable
+	private Collection<String> getSelectedProperties(RelationalPersistentEntity<?> entity, Sort sort,
+			@Nullable ScrollPosition scrollPosition) {
+
+		if (!returnedType.needsCustomConstruction()) {
+			return null;
+		}
+
+		Set<String> properties = new LinkedHashSet<>(returnedType.getInputProperties());
+		RelationalPersistentProperty idProperty = entity.getIdProperty();
+
+		if (idProperty != null) {
+			for (String property : returnedType.getInputProperties()) {
+
+				RelationalPersistentProperty persistentProperty = entity.getPersistentProperty(property);
+				if (persistentProperty != null
+						&& ((persistentProperty.isCollectionLike() && persistentProperty.isEntity()) || persistentProperty.isMap())) {
+					properties.add(idProperty.getName());
+				}
+			}
+		}
+
+		if (scrollPosition instanceof KeysetScrollPosition) {
+			for (Sort.Order order : ScrollSupport.getKeysetSort(sort, entity)) {
+				properties.add(context.getPersistentPropertyPath(order.getProperty(), entity.getType()).getBaseProperty()
+						.getName());
+			}
+		}
+
+		return properties;
+	}
+
+	/**
+	 * Creates the select clause.
+	 *
+	 * @param entity the entity to select.
+	 * @param table the table of the entity.
+	 * @param properties names of the properties to select, {@literal null} to select all properties.
+	 */
+	SelectBuilder.SelectLimitOffset createSelectClause(RelationalPersistentEntity<?> entity, Table table,
+			@Nullable Collection<String> properties) {
 
 		SelectBuilder.SelectJoin builder;
 		if (tree.isExistsProjection()) {
@@ -229,13 +383,13 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		} else if (tree.isCountProjection()) {
 			builder = Select.builder().select(Functions.count(Expressions.asterisk())).from(table);
 		} else {
-			builder = selectBuilder(table);
+			builder = selectBuilder(table, properties);
 		}
 
 		return (SelectBuilder.SelectLimitOffset) builder;
 	}
 
-	private SelectBuilder.SelectJoin selectBuilder(Table table) {
+	private SelectBuilder.SelectJoin selectBuilder(Table table, @Nullable Collection<String> properties) {
 
 		List<Expression> columnExpressions = new ArrayList<>();
 		RelationalPersistentEntity<?> entity = entityMetadata.getTableEntity();
@@ -247,11 +401,10 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 
 			PersistentPropertyPathExtension extPath = new PersistentPropertyPathExtension(context, path);
 
-			if (returnedType.needsCustomConstruction()) {
-				if (!returnedType.getInputProperties()
-						.contains(extPath.getRequiredPersistentPropertyPath().getBaseProperty().getName())) {
-					continue;
-				}
+			// skip columns and joins of properties the projection does not expose
+			if (properties != null
+					&& !properties.contains(extPath.getRequiredPersistentPropertyPath().getBaseProperty().getName())) {
+				continue;
 			}
 
 			// add a join if necessary
@@ -266,6 +419,11 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 			}
 		}
 
+		if (withTotalCount) {
+			columnExpressions.add(
+					AnalyticFunction.create("COUNT", Expressions.asterisk()).as(TotalCountRowMapper.TOTAL_COUNT_ALIAS));
+		}
+
 		SelectBuilder.SelectAndFrom selectBuilder = StatementBuilder.select(columnExpressions);
 		SelectBuilder.SelectJoin baseSelect = selectBuilder.from(table);
 
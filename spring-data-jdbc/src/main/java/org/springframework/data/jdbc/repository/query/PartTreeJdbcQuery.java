@@ -17,20 +17,30 @@ package org.springframework.data.jdbc.repository.query;
 
 import static org.springframework.data.jdbc.repository.query.JdbcQueryExecution.*;
 
+import java.lang.reflect.Array;
 import java.sql.ResultSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.LongSupplier;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jdbc.core.convert.CountStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.ScrollSupport;
+import org.springframework.data.jdbc.core.convert.TotalCountRowMapper;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
 import org.springframework.data.relational.repository.query.RelationalParametersParameterAccessor;
@@ -45,6 +55,8 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
 
 /**
  * An {@link AbstractJdbcQuery} implementation based on a {@link PartTree}.
@@ -63,6 +75,8 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 	private final JdbcConverter converter;
 	private final RowMapperFactory rowMapperFactory;
 	private final PartTree tree;
+	private final CountStrategy countStrategy;
+	private final RenderedQueryCache queryCache = new RenderedQueryCache(RenderedQueryCache.DEFAULT_MAXIMUM_SIZE);
 
 	/**
 	 * Creates a new {@link PartTreeJdbcQuery}.
@@ -92,6 +106,25 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 	 */
 	public PartTreeJdbcQuery(RelationalMappingContext context, JdbcQueryMethod queryMethod, Dialect dialect,
 			JdbcConverter converter, NamedParameterJdbcOperations operations, RowMapperFactory rowMapperFactory) {
+		this(context, queryMethod, dialect, converter, operations, rowMapperFactory, CountStrategy.exact());
+	}
+
+	/**
+	 * Creates a new {@link PartTreeJdbcQuery}.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param queryMethod must not be {@literal null}.
+	 * @param dialect must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param operations must not be {@literal null}.
+	 * @param rowMapperFactory must not be {@literal null}.
+	 * @param countStrategy determines the total number of aggregates of {@link org.springframework.data.domain.Page}
+	 *          results. Must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public PartTreeJdbcQuery(RelationalMappingContext context, JdbcQueryMethod queryMethod, Dialect dialect,
+			JdbcConverter converter, NamedParameterJdbcOperations operations, RowMapperFactory rowMapperFactory,
+			CountStrategy countStrategy) {
 
 		super(queryMethod, operations);
 
@@ -100,18 +133,132 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 		Assert.notNull(dialect, "Dialect must not be null");
 		Assert.notNull(converter, "JdbcConverter must not be null");
 		Assert.notNull(rowMapperFactory, "RowMapperFactory must not be null");
+		Assert.notNull(countStrategy, "CountStrategy must not be null");
 
 		this.context = context;
 		this.parameters = queryMethod.getParameters();
 		this.dialect = dialect;
 		this.converter = converter;
 		this.rowMapperFactory = rowMapperFactory;
+		this.countStrategy = countStrategy;
 
 		this.tree = new PartTree(queryMethod.getName(), queryMethod.getEntityInformation().getJavaType());
 		JdbcQueryCreator.validate(this.tree, this.parameters, this.converter.getMappingContext());
 
 	}
 
+	/**
+	 * Returns the cache of the SQL rendered for this query method, e.g. to monitor its hit rate.
+	 *
+	 * @return the {@link RenderedQueryCache}. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	public RenderedQueryCache getRenderedQueryCache() {
+		return queryCache;
+	}
+
+	/**
+	 * Renders the SQL of invocations of this query method whose arguments are all non-{@literal null}, if the SQL
+	 * doesn't depend on the arguments otherwise. This is the case for query methods without {@link Pageable},
+	 * {@link Sort}, {@link ScrollPosition} and dynamic projection parameters, whose parameters are of simple types like
+	 * {@link String}, numbers or enums. Used to render the SQL ahead of time, see {@link #useFixedShapeQuery(String)}.
+	 *
+	 * @return the SQL or {@literal null} if it depends on the arguments.
+	 * @since 3.1
+	 */
+	@Nullable
+	public String renderFixedShapeQuery() {
+
+		RelationalParametersParameterAccessor accessor = getFixedShapeAccessor();
+
+		if (accessor == null) {
+			return null;
+		}
+
+		ReturnedType returnedType = getQueryMethod().getResultProcessor().withDynamicProjection(accessor)
+				.getReturnedType();
+
+		return createQuery(accessor, returnedType).getQuery();
+	}
+
+	/**
+	 * Uses the given SQL for invocations of this query method whose arguments are all non-{@literal null} instead of
+	 * rendering it. The SQL must have been {@link #renderFixedShapeQuery() rendered} for the same query method, mapping
+	 * and dialect. Does nothing if this query method doesn't render SQL independent of the arguments.
+	 *
+	 * @param sql the SQL rendered ahead of time. Must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public void useFixedShapeQuery(String sql) {
+
+		Assert.notNull(sql, "SQL must not be null");
+
+		RelationalParametersParameterAccessor accessor = getFixedShapeAccessor();
+
+		if (accessor == null) {
+			return;
+		}
+
+		ReturnedType returnedType = getQueryMethod().getResultProcessor().withDynamicProjection(accessor)
+				.getReturnedType();
+		Object shape = getShape(accessor, returnedType);
+
+		if (shape != null) {
+			queryCache.put(shape, sql);
+		}
+	}
+
+	/**
+	 * Returns an accessor for sample arguments representing all invocations with non-{@literal null} arguments, or
+	 * {@literal null} if the SQL of such invocations still depends on the arguments.
+	 */
+	@Nullable
+	private RelationalParametersParameterAccessor getFixedShapeAccessor() {
+
+		if (getQueryMethod().isScrollQuery() || parameters.hasPageableParameter() || parameters.hasSortParameter()
+				|| parameters.hasDynamicProjection()) {
+			return null;
+		}
+
+		Object[] values = new Object[parameters.getNumberOfParameters()];
+
+		for (int i = 0; i < values.length; i++) {
+
+			values[i] = getSampleValue(parameters.getParameter(i).getType());
+
+			if (values[i] == null) {
+				return null;
+			}
+		}
+
+		return new RelationalParametersParameterAccessor(getQueryMethod(), values);
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private static Object getSampleValue(Class<?> type) {
+
+		Class<?> valueType = ClassUtils.resolvePrimitiveIfNecessary(type);
+
+		if (valueType == String.class) {
+			return "";
+		}
+
+		if (valueType == Boolean.class) {
+			return Boolean.FALSE;
+		}
+
+		if (NumberUtils.STANDARD_NUMBER_TYPES.contains(valueType)) {
+			return NumberUtils.convertNumberToTargetClass(0, (Class<Number>) valueType);
+		}
+
+		if (valueType.isEnum() && valueType.getEnumConstants().length > 0) {
+			return valueType.getEnumConstants()[0];
+		}
+
+		return null;
+	}
+
 	private Sort getDynamicSort(RelationalParameterAccessor accessor) {
 		return parameters.potentiallySortsDynamically() ? accessor.getSort() : Sort.unsorted();
 	}
@@ -136,16 +283,34 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 
 		RowMapper<Object> rowMapper;
 
+		if (getQueryMethod().isScrollQuery()) {
+
+			Converter<Object, Object> resultProcessingConverter = new ResultProcessingConverter(processor,
+					this.converter.getMappingContext(), this.converter.getEntityInstantiators());
+			rowMapper = createEntityRowMapper(processor.getReturnedType());
+
+			return new ScrollQueryExecution<>(collectionQuery(rowMapper), accessor.getScrollPosition(),
+					tree.getSort().and(getDynamicSort(accessor)), tree.isLimiting() ? tree.getMaxResults() : -1, context,
+					getQueryMethod().getEntityInformation().getTableEntity(), resultProcessingConverter);
+		}
+
 		if (tree.isCountProjection() || tree.isExistsProjection()) {
 			rowMapper = rowMapperFactory.create(resolveTypeToRead(processor));
 		} else {
 
 			Converter<Object, Object> resultProcessingConverter = new ResultProcessingConverter(processor,
 					this.converter.getMappingContext(), this.converter.getEntityInstantiators());
-			rowMapper = new ConvertingRowMapper<>(rowMapperFactory.create(processor.getReturnedType().getDomainType()),
+			rowMapper = new ConvertingRowMapper<>(createEntityRowMapper(processor.getReturnedType()),
 					resultProcessingConverter);
 		}
 
+		TotalCountRowMapper<Object> totalCountRowMapper = null;
+		if (isSingleQueryPaging()) {
+
+			totalCountRowMapper = new TotalCountRowMapper<>(rowMapper);
+			rowMapper = totalCountRowMapper;
+		}
+
 		JdbcQueryExecution<?> queryExecution = getJdbcQueryExecution(extractor, rowMapper);
 
 		if (getQueryMethod().isSliceQuery()) {
@@ -155,31 +320,154 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 		if (getQueryMethod().isPageQuery()) {
 
 			return new PageQueryExecution<>((JdbcQueryExecution<Collection<Object>>) queryExecution, accessor.getPageable(),
-					() -> {
+					totalCountRowMapper, () -> {
 
 						RelationalEntityMetadata<?> entityMetadata = getQueryMethod().getEntityInformation();
 
 						JdbcCountQueryCreator queryCreator = new JdbcCountQueryCreator(context, tree, converter, dialect,
 								entityMetadata, accessor, false, processor.getReturnedType(), getQueryMethod().lookupLockAnnotation());
 
-						ParametrizedQuery countQuery = queryCreator.createQuery(Sort.unsorted());
-						Object count = singleObjectQuery((rs, i) -> rs.getLong(1)).execute(countQuery.getQuery(),
-								countQuery.getParameterSource());
+						ParametrizedQuery countQuery = createQuery(queryCreator, Sort.unsorted(),
+								getArgumentShape(accessor, "count"));
+						Object criteria = tree.getParts().isEmpty() ? null : getCriteria(countQuery);
 
-						return converter.getConversionService().convert(count, Long.class);
+						return countStrategy.count(entityMetadata.getTableEntity(), criteria, () -> {
+
+							Object count = singleObjectQuery((rs, i) -> rs.getLong(1)).execute(countQuery.getQuery(),
+									countQuery.getParameterSource());
+
+							return converter.getConversionService().convert(count, Long.class);
+						});
 					});
 		}
 
 		return queryExecution;
 	}
 
+	/**
+	 * Creates the {@link RowMapper} reading the domain type. Projections requiring custom construction select only the
+	 * columns of the properties they expose, so only the relations of these properties get resolved.
+	 */
+	private RowMapper<Object> createEntityRowMapper(ReturnedType returnedType) {
+
+		return returnedType.needsCustomConstruction() //
+				? rowMapperFactory.create(returnedType.getDomainType(), returnedType.getInputProperties()) //
+				: rowMapperFactory.create(returnedType.getDomainType());
+	}
+
+	/**
+	 * Returns the criteria identifying the rows counted by {@code countQuery} for the {@link CountStrategy}, i.e. the
+	 * query and the values bound to it.
+	 */
+	private static Object getCriteria(ParametrizedQuery countQuery) {
+
+		SqlParameterSource parameterSource = countQuery.getParameterSource();
+		String[] parameterNames = parameterSource.getParameterNames();
+
+		Map<String, Object> values = new LinkedHashMap<>();
+		if (parameterNames != null) {
+			for (String parameterName : parameterNames) {
+				values.put(parameterName, parameterSource.getValue(parameterName));
+			}
+		}
+
+		return Arrays.asList(countQuery.getQuery(), values);
+	}
+
 	protected ParametrizedQuery createQuery(RelationalParametersParameterAccessor accessor, ReturnedType returnedType) {
 
 		RelationalEntityMetadata<?> entityMetadata = getQueryMethod().getEntityInformation();
 
 		JdbcQueryCreator queryCreator = new JdbcQueryCreator(context, tree, converter, dialect, entityMetadata, accessor,
-				getQueryMethod().isSliceQuery(), returnedType, this.getQueryMethod().lookupLockAnnotation());
-		return queryCreator.createQuery(getDynamicSort(accessor));
+				getQueryMethod().isSliceQuery(), returnedType, this.getQueryMethod().lookupLockAnnotation(),
+				isSingleQueryPaging());
+
+		return createQuery(queryCreator, getDynamicSort(accessor), getShape(accessor, returnedType));
+	}
+
+	/**
+	 * Returns the shape of an invocation, which determines the rendered SQL, or {@literal null} if the SQL must not be
+	 * cached.
+	 */
+	@Nullable
+	private Object getShape(RelationalParametersParameterAccessor accessor, ReturnedType returnedType) {
+
+		return getQueryMethod().isScrollQuery() //
+				? null //
+				: getArgumentShape(accessor, getDynamicSort(accessor), getPageShape(accessor),
+						returnedType.getReturnedType());
+	}
+
+	/**
+	 * Creates the query using the SQL cached for the shape of the invocation if present, rendering and caching it
+	 * otherwise.
+	 */
+	private ParametrizedQuery createQuery(JdbcQueryCreator queryCreator, Sort sort, @Nullable Object shape) {
+
+		if (shape == null) {
+			return queryCreator.createQuery(sort);
+		}
+
+		String renderedQuery = queryCache.get(shape);
+		if (renderedQuery != null) {
+			return queryCreator.createQuery(sort, renderedQuery);
+		}
+
+		ParametrizedQuery query = queryCreator.createQuery(sort);
+		queryCache.put(shape, query.getQuery());
+
+		return query;
+	}
+
+	@Nullable
+	private static Object getPageShape(RelationalParameterAccessor accessor) {
+
+		Pageable pageable = accessor.getPageable();
+		return pageable.isPaged() ? Arrays.asList(pageable.getOffset(), pageable.getPageSize()) : null;
+	}
+
+	/**
+	 * Returns the shape of the arguments along with the given further parts of the shape of the invocation, describing
+	 * for each bindable argument whether it is {@literal null} or the number of elements of collections and arrays, as
+	 * these determine the rendered conditions.
+	 *
+	 * @return the shape or {@literal null} if the query must not be cached, because the number of elements of an
+	 *         argument cannot be determined upfront.
+	 */
+	@Nullable
+	private Object getArgumentShape(RelationalParametersParameterAccessor accessor, @Nullable Object... parts) {
+
+		List<Object> shape = new ArrayList<>(Arrays.asList(parts));
+
+		for (int i = 0; i < parameters.getBindableParameters().getNumberOfParameters(); i++) {
+
+			Object value = accessor.getBindableValue(i);
+
+			if (value == null) {
+				shape.add(null);
+			} else if (value instanceof Collection<?> collection) {
+				shape.add(collection.size());
+			} else if (value.getClass().isArray()) {
+				shape.add(Array.getLength(value));
+			} else if (value instanceof Iterable<?>) {
+				return null;
+			} else {
+				shape.add(Boolean.TRUE);
+			}
+		}
+
+		return shape;
+	}
+
+	/**
+	 * Page queries for entities {@link org.springframework.data.relational.core.mapping.SingleQueryPaging enabled for
+	 * it} read the total count from the page itself if the dialect supports analytic functions.
+	 */
+	private boolean isSingleQueryPaging() {
+
+		return getQueryMethod().isPageQuery()
+				&& getQueryMethod().getEntityInformation().getTableEntity().isSingleQueryPagingEnabled()
+				&& dialect.supportsAnalyticFunctions();
 	}
 
 	private JdbcQueryExecution<?> getJdbcQueryExecution(@Nullable ResultSetExtractor<Boolean> extractor, RowMapper<Object> rowMapper) {
@@ -230,6 +518,50 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 		}
 	}
 
+	/**
+	 * {@link JdbcQueryExecution} returning a {@link Window}. Entities get converted into the returned type after the
+	 * keys of the scroll positions got extracted from them.
+	 *
+	 * @param <T>
+	 * @since 3.1
+	 */
+	static class ScrollQueryExecution<T> implements JdbcQueryExecution<Window<Object>> {
+
+		private final JdbcQueryExecution<? extends Collection<T>> delegate;
+		private final ScrollPosition scrollPosition;
+		private final Sort keysetSort;
+		private final int windowSize;
+		private final RelationalMappingContext context;
+		private final RelationalPersistentEntity<?> entity;
+		private final Converter<Object, Object> resultProcessingConverter;
+
+		ScrollQueryExecution(JdbcQueryExecution<? extends Collection<T>> delegate, @Nullable ScrollPosition scrollPosition,
+				Sort sort, int windowSize, RelationalMappingContext context, RelationalPersistentEntity<?> entity,
+				Converter<Object, Object> resultProcessingConverter) {
+
+			Assert.notNull(scrollPosition, "ScrollPosition must not be null");
+
+			this.delegate = delegate;
+			this.scrollPosition = scrollPosition;
+			this.keysetSort = ScrollSupport.getKeysetSort(sort, entity);
+			this.windowSize = windowSize;
+			this.context = context;
+			this.entity = entity;
+			this.resultProcessingConverter = resultProcessingConverter;
+		}
+
+		@Override
+		public Window<Object> execute(String query, SqlParameterSource parameter) {
+
+			Collection<T> result = delegate.execute(query, parameter);
+
+			Window<T> window = ScrollSupport.createWindow(result instanceof List ? (List<T>) result : new ArrayList<>(result),
+					scrollPosition, keysetSort, windowSize, context, entity);
+
+			return window.map(resultProcessingConverter::convert);
+		}
+	}
+
 	/**
 	 * {@link JdbcQueryExecution} returning a {@link org.springframework.data.domain.Page}.
 	 *
@@ -239,12 +571,18 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 
 		private final JdbcQueryExecution<? extends Collection<T>> delegate;
 		private final Pageable pageable;
+		@Nullable private final TotalCountRowMapper<?> totalCountRowMapper;
 		private final LongSupplier countSupplier;
 
+		/**
+		 * @param totalCountRowMapper the {@link RowMapper} reading the total count from the rows of the page, if the query
+		 *          selects it.
+		 */
 		PageQueryExecution(JdbcQueryExecution<? extends Collection<T>> delegate, Pageable pageable,
-				LongSupplier countSupplier) {
+				@Nullable TotalCountRowMapper<?> totalCountRowMapper, LongSupplier countSupplier) {
 			this.delegate = delegate;
 			this.pageable = pageable;
+			this.totalCountRowMapper = totalCountRowMapper;
 			this.countSupplier = countSupplier;
 		}
 
@@ -252,9 +590,11 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 		public Slice<T> execute(String query, SqlParameterSource parameter) {
 
 			Collection<T> result = delegate.execute(query, parameter);
+			List<T> content = result instanceof List ? (List<T>) result : new ArrayList<>(result);
 
-			return PageableExecutionUtils.getPage(result instanceof List ? (List<T>) result : new ArrayList<>(result),
-					pageable, countSupplier);
+			return totalCountRowMapper != null //
+					? totalCountRowMapper.getPage(content, pageable, countSupplier) //
+					: PageableExecutionUtils.getPage(content, pageable, countSupplier);
 		}
 
 	}
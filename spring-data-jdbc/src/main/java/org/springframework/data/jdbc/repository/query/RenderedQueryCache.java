@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.query;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Cache of the SQL rendered for a derived query method, keyed by the shape of the invocation, i.e. everything besides
+ * the values of the arguments that determines the SQL: which arguments are {@literal null}, the sizes of collections
+ * bound to {@code IN} conditions, the dynamic {@link org.springframework.data.domain.Sort}, the limit and offset of the
+ * {@link org.springframework.data.domain.Pageable} and the returned type. Holds up to a maximum number of queries,
+ * evicting the least recently used ones first, and counts cache hits and misses.
+ *
+ * @since 3.1
+ * @see PartTreeJdbcQuery#getRenderedQueryCache()
+ */
+public class RenderedQueryCache {
+
+	static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+	private final int maximumSize;
+	private final LinkedHashMap<Object, String> queries = new LinkedHashMap<>(16, 0.75f, true);
+	private long hitCount;
+	private long missCount;
+
+	RenderedQueryCache(int maximumSize) {
+
+		Assert.isTrue(maximumSize > 0, "Maximum size must be positive");
+
+		this.maximumSize = maximumSize;
+	}
+
+	@Nullable
+	synchronized String get(Object shape) {
+
+		String query = queries.get(shape);
+
+		if (query == null) {
+			missCount++;
+		} else {
+			hitCount++;
+		}
+
+		return query;
+	}
+
+	synchronized void put(Object shape, String query) {
+
+		queries.put(shape, query);
+
+		Iterator<String> leastRecentlyUsed = queries.values().iterator();
+		while (queries.size() > maximumSize) {
+
+			leastRecentlyUsed.next();
+			leastRecentlyUsed.remove();
+		}
+	}
+
+	/**
+	 * @return the number of lookups that found a rendered query.
+	 */
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return the number of lookups that required rendering the query.
+	 */
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return the number of cached queries.
+	 */
+	public synchronized int size() {
+		return queries.size();
+	}
+}
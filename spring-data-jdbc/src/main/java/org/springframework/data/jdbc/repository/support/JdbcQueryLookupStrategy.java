@@ -18,14 +18,22 @@ package org.springframework.data.jdbc.repository.support;
 import java.lang.reflect.Method;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.aot.AotDetector;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jdbc.core.convert.CountStrategy;
 import org.springframework.data.jdbc.core.convert.EntityRowMapper;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.SqlStatementCatalog;
 import org.springframework.data.jdbc.repository.QueryMappingConfiguration;
+import org.springframework.data.jdbc.repository.query.AbstractJdbcQuery.RowMapperFactory;
 import org.springframework.data.jdbc.repository.query.JdbcQueryMethod;
 import org.springframework.data.jdbc.repository.query.PartTreeJdbcQuery;
 import org.springframework.data.jdbc.repository.query.StringBasedJdbcQuery;
@@ -106,13 +114,21 @@ abstract class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 	 */
 	static class CreateQueryLookupStrategy extends JdbcQueryLookupStrategy {
 
+		private final CountStrategy countStrategy;
+		private final Map<Class<?>, Map<String, String>> fixedShapeQueries = new ConcurrentHashMap<>();
+
 		CreateQueryLookupStrategy(ApplicationEventPublisher publisher, @Nullable EntityCallbacks callbacks,
 				RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
 				QueryMappingConfiguration queryMappingConfiguration, NamedParameterJdbcOperations operations,
-				@Nullable BeanFactory beanfactory, QueryMethodEvaluationContextProvider evaluationContextProvider) {
+				@Nullable BeanFactory beanfactory, QueryMethodEvaluationContextProvider evaluationContextProvider,
+				CountStrategy countStrategy) {
 
 			super(publisher, callbacks, context, converter, dialect, queryMappingConfiguration, operations, beanfactory,
 					evaluationContextProvider);
+
+			Assert.notNull(countStrategy, "CountStrategy must not be null");
+
+			this.countStrategy = countStrategy;
 		}
 
 		@Override
@@ -121,8 +137,54 @@ abstract class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 
 			JdbcQueryMethod queryMethod = getJdbcQueryMethod(method, repositoryMetadata, projectionFactory, namedQueries);
 
-			return new PartTreeJdbcQuery(getContext(), queryMethod, getDialect(), getConverter(), getOperations(),
-					this::createMapper);
+			RowMapperFactory rowMapperFactory = new RowMapperFactory() {
+
+				@Override
+				public RowMapper<Object> create(Class<?> result) {
+					return createMapper(result);
+				}
+
+				@Override
+				public RowMapper<Object> create(Class<?> result, Collection<String> properties) {
+					return createMapper(result, properties);
+				}
+			};
+
+			PartTreeJdbcQuery query = new PartTreeJdbcQuery(getContext(), queryMethod, getDialect(), getConverter(),
+					getOperations(), rowMapperFactory, countStrategy);
+
+			String fixedShapeQuery = getFixedShapeQueries(repositoryMetadata).get(method.toString());
+			if (fixedShapeQuery != null) {
+				query.useFixedShapeQuery(fixedShapeQuery);
+			}
+
+			return query;
+		}
+
+		/**
+		 * Returns the SQL of the derived query methods of the repository rendered at build time by the
+		 * {@link org.springframework.data.jdbc.aot.JdbcRepositoryRegistrationAotProcessor}, if the application runs
+		 * with {@link AotDetector#useGeneratedArtifacts() generated artifacts}.
+		 */
+		private Map<String, String> getFixedShapeQueries(RepositoryMetadata repositoryMetadata) {
+
+			if (!AotDetector.useGeneratedArtifacts()) {
+				return Collections.emptyMap();
+			}
+
+			Class<?> domainType = repositoryMetadata.getDomainType();
+
+			return fixedShapeQueries.computeIfAbsent(repositoryMetadata.getRepositoryInterface(), it -> {
+
+				RelationalPersistentEntity<?> entity = getContext().getPersistentEntity(domainType);
+
+				if (entity == null) {
+					return Collections.emptyMap();
+				}
+
+				return SqlStatementCatalog.load(it, getDialect(), it.getClassLoader()) //
+						.getStatements(getContext(), entity);
+			});
 		}
 	}
 
@@ -241,6 +303,32 @@ abstract class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 			QueryMappingConfiguration queryMappingConfiguration, NamedParameterJdbcOperations operations,
 			@Nullable BeanFactory beanFactory, QueryMethodEvaluationContextProvider evaluationContextProvider) {
 
+		return create(key, publisher, callbacks, context, converter, dialect, queryMappingConfiguration, operations,
+				beanFactory, evaluationContextProvider, CountStrategy.exact());
+	}
+
+	/**
+	 * Creates a {@link QueryLookupStrategy} based on the provided
+	 * {@link org.springframework.data.repository.query.QueryLookupStrategy.Key}.
+	 *
+	 * @param key the key that decides what {@link QueryLookupStrategy} should be used.
+	 * @param publisher must not be {@literal null}
+	 * @param callbacks may be {@literal null}
+	 * @param context must not be {@literal null}
+	 * @param converter must not be {@literal null}
+	 * @param dialect must not be {@literal null}
+	 * @param queryMappingConfiguration must not be {@literal null}
+	 * @param operations must not be {@literal null}
+	 * @param beanFactory may be {@literal null}
+	 * @param countStrategy must not be {@literal null}
+	 * @since 3.1
+	 */
+	public static QueryLookupStrategy create(@Nullable Key key, ApplicationEventPublisher publisher,
+			@Nullable EntityCallbacks callbacks, RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
+			QueryMappingConfiguration queryMappingConfiguration, NamedParameterJdbcOperations operations,
+			@Nullable BeanFactory beanFactory, QueryMethodEvaluationContextProvider evaluationContextProvider,
+			CountStrategy countStrategy) {
+
 		Assert.notNull(publisher, "ApplicationEventPublisher must not be null");
 		Assert.notNull(context, "RelationalMappingContextPublisher must not be null");
 		Assert.notNull(converter, "JdbcConverter must not be null");
@@ -249,7 +337,8 @@ abstract class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 		Assert.notNull(operations, "NamedParameterJdbcOperations must not be null");
 
 		CreateQueryLookupStrategy createQueryLookupStrategy = new CreateQueryLookupStrategy(publisher, callbacks, context,
-				converter, dialect, queryMappingConfiguration, operations, beanFactory, evaluationContextProvider);
+				converter, dialect, queryMappingConfiguration, operations, beanFactory, evaluationContextProvider,
+				countStrategy);
 
 		DeclaredQueryLookupStrategy declaredQueryLookupStrategy = new DeclaredQueryLookupStrategy(publisher, callbacks,
 				context, converter, dialect, queryMappingConfiguration, operations, beanFactory, evaluationContextProvider);
@@ -293,8 +382,18 @@ abstract class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 		return beanfactory;
 	}
 
-	@SuppressWarnings("unchecked")
 	RowMapper<Object> createMapper(Class<?> returnedObjectType) {
+		return createMapper(returnedObjectType, null);
+	}
+
+	/**
+	 * Creates a {@link RowMapper} for {@code returnedObjectType}, resolving only the relations held by
+	 * {@code properties} if these are given.
+	 *
+	 * @since 3.1
+	 */
+	@SuppressWarnings("unchecked")
+	RowMapper<Object> createMapper(Class<?> returnedObjectType, @Nullable Collection<String> properties) {
 
 		RelationalPersistentEntity<?> persistentEntity = context.getPersistentEntity(returnedObjectType);
 
@@ -303,20 +402,20 @@ abstract class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 					converter.getConversionService());
 		}
 
-		return (RowMapper<Object>) determineDefaultMapper(returnedObjectType);
+		return (RowMapper<Object>) determineDefaultMapper(returnedObjectType, properties);
 	}
 
-	private RowMapper<?> determineDefaultMapper(Class<?> returnedObjectType) {
+	private RowMapper<?> determineDefaultMapper(Class<?> returnedObjectType, @Nullable Collection<String> properties) {
 
 		RowMapper<?> configuredQueryMapper = queryMappingConfiguration.getRowMapper(returnedObjectType);
 
 		if (configuredQueryMapper != null)
 			return configuredQueryMapper;
 
-		EntityRowMapper<?> defaultEntityRowMapper = new EntityRowMapper<>( //
-				context.getRequiredPersistentEntity(returnedObjectType), //
-				converter //
-		);
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(returnedObjectType);
+		EntityRowMapper<?> defaultEntityRowMapper = properties == null //
+				? new EntityRowMapper<>(entity, converter) //
+				: new EntityRowMapper<>(entity, converter, properties);
 
 		return new PostProcessingRowMapper<>(defaultEntityRowMapper);
 	}
@@ -20,6 +20,8 @@ import java.util.Optional;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
+import org.springframework.data.jdbc.core.convert.AggregateCache;
+import org.springframework.data.jdbc.core.convert.CountStrategy;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.repository.QueryMappingConfiguration;
@@ -61,6 +63,8 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 
 	private QueryMappingConfiguration queryMappingConfiguration = QueryMappingConfiguration.EMPTY;
 	private EntityCallbacks entityCallbacks;
+	private CountStrategy countStrategy = CountStrategy.exact();
+	@Nullable private AggregateCache aggregateCache;
 
 	/**
 	 * Creates a new {@link JdbcRepositoryFactory} for the given {@link DataAccessStrategy},
@@ -120,6 +124,12 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 			template.setEntityCallbacks(entityCallbacks);
 		}
 
+		template.setCountStrategy(countStrategy);
+
+		if (aggregateCache != null) {
+			template.setAggregateCache(aggregateCache);
+		}
+
 		RelationalPersistentEntity<?> persistentEntity = context
 				.getRequiredPersistentEntity(repositoryInformation.getDomainType());
 
@@ -137,7 +147,7 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 			QueryMethodEvaluationContextProvider evaluationContextProvider) {
 
 		return Optional.of(JdbcQueryLookupStrategy.create(key, publisher, entityCallbacks, context, converter, dialect,
-				queryMappingConfiguration, operations, beanFactory, evaluationContextProvider));
+				queryMappingConfiguration, operations, beanFactory, evaluationContextProvider, countStrategy));
 	}
 
 	/**
@@ -148,6 +158,30 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 		this.entityCallbacks = entityCallbacks;
 	}
 
+	/**
+	 * @param countStrategy the {@link CountStrategy} determining the total number of aggregates of
+	 *          {@link org.springframework.data.domain.Page} results. Must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setCountStrategy(CountStrategy countStrategy) {
+
+		Assert.notNull(countStrategy, "CountStrategy must not be null");
+
+		this.countStrategy = countStrategy;
+	}
+
+	/**
+	 * @param aggregateCache the {@link AggregateCache} holding aggregates annotated with
+	 *          {@link org.springframework.data.relational.core.mapping.AggregateCaching}. Must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setAggregateCache(AggregateCache aggregateCache) {
+
+		Assert.notNull(aggregateCache, "AggregateCache must not be null");
+
+		this.aggregateCache = aggregateCache;
+	}
+
 	/**
 	 * @param beanFactory the {@link BeanFactory} used for looking up {@link org.springframework.jdbc.core.RowMapper} and
 	 *          {@link org.springframework.jdbc.core.ResultSetExtractor} beans.
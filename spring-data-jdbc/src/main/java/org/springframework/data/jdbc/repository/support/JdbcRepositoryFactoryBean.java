@@ -21,7 +21,9 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.data.jdbc.core.convert.AggregateCache;
 import org.springframework.data.jdbc.core.convert.BatchJdbcOperations;
+import org.springframework.data.jdbc.core.convert.CountStrategy;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.DefaultDataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.InsertStrategyFactory;
@@ -36,6 +38,7 @@ import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
 import org.springframework.data.repository.core.support.TransactionalRepositoryFactoryBeanSupport;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -62,6 +65,8 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 	private NamedParameterJdbcOperations operations;
 	private EntityCallbacks entityCallbacks;
 	private Dialect dialect;
+	private CountStrategy countStrategy = CountStrategy.exact();
+	@Nullable private AggregateCache aggregateCache;
 
 	/**
 	 * Creates a new {@link JdbcRepositoryFactoryBean} for the given repository interface.
@@ -91,6 +96,11 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 		jdbcRepositoryFactory.setQueryMappingConfiguration(queryMappingConfiguration);
 		jdbcRepositoryFactory.setEntityCallbacks(entityCallbacks);
 		jdbcRepositoryFactory.setBeanFactory(beanFactory);
+		jdbcRepositoryFactory.setCountStrategy(countStrategy);
+
+		if (aggregateCache != null) {
+			jdbcRepositoryFactory.setAggregateCache(aggregateCache);
+		}
 
 		return jdbcRepositoryFactory;
 	}
@@ -134,6 +144,32 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 		this.queryMappingConfiguration = queryMappingConfiguration;
 	}
 
+	/**
+	 * @param countStrategy the {@link CountStrategy} determining the total number of aggregates of
+	 *          {@link org.springframework.data.domain.Page} results. Must not be {@literal null}.
+	 * @since 3.1
+	 */
+	@Autowired(required = false)
+	public void setCountStrategy(CountStrategy countStrategy) {
+
+		Assert.notNull(countStrategy, "CountStrategy must not be null");
+
+		this.countStrategy = countStrategy;
+	}
+
+	/**
+	 * @param aggregateCache the {@link AggregateCache} holding aggregates annotated with
+	 *          {@link org.springframework.data.relational.core.mapping.AggregateCaching}. Must not be {@literal null}.
+	 * @since 3.1
+	 */
+	@Autowired(required = false)
+	public void setAggregateCache(AggregateCache aggregateCache) {
+
+		Assert.notNull(aggregateCache, "AggregateCache must not be null");
+
+		this.aggregateCache = aggregateCache;
+	}
+
 	public void setJdbcOperations(NamedParameterJdbcOperations operations) {
 
 		Assert.notNull(operations, "NamedParameterJdbcOperations must not be null");
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
+import org.springframework.data.jdbc.core.convert.CachedAggregate;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.LocalAggregateCache;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.AggregateCaching;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link AggregateCacheSupport}.
+ */
+class AggregateCacheSupportUnitTests {
+
+	JdbcMappingContext context = new JdbcMappingContext();
+	JdbcConverter converter = new BasicJdbcConverter(context, (identifier, path) -> {
+		throw new UnsupportedOperationException();
+	});
+	LocalAggregateCache cache = new LocalAggregateCache(10, Duration.ofMinutes(1));
+	AggregateCacheSupport support = new AggregateCacheSupport(converter, cache);
+
+	AtomicInteger loads = new AtomicInteger();
+
+	@AfterEach
+	void tearDown() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void cachesLoadedAggregate() {
+
+		support.findById(1L, CachedEntity.class, () -> load(1L, "loaded"));
+
+		CachedEntity cached = support.findById(1L, CachedEntity.class, () -> load(1L, "reloaded"));
+
+		assertThat(cached.name).isEqualTo("loaded");
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void cachesAggregateLoadedWithinTransactionOnlyAfterCommit() {
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		support.findById(1L, CachedEntity.class, () -> load(1L, "loaded"));
+
+		assertThat(cache.size()).isZero();
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+		assertThat(cache.size()).isOne();
+	}
+
+	@Test
+	void doesNotCacheAggregateLoadedWithinRolledBackTransaction() {
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		support.findById(1L, CachedEntity.class, () -> load(1L, "uncommitted"));
+
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+		TransactionSynchronizationManager.clearSynchronization();
+
+		CachedEntity reloaded = support.findById(1L, CachedEntity.class, () -> load(1L, "committed"));
+
+		assertThat(reloaded.name).isEqualTo("committed");
+	}
+
+	@Test
+	void loadedAggregateDoesNotReplaceStateCachedConcurrently() {
+
+		CachedEntity saved = new CachedEntity(1L, "saved");
+		CachedEntity stale = new CachedEntity(1L, "stale");
+
+		support.findById(1L, CachedEntity.class, () -> {
+
+			cache.put(CachedEntity.class, 1L,
+					CachedAggregate.capture(converter, context.getRequiredPersistentEntity(CachedEntity.class), saved));
+			return stale;
+		});
+
+		CachedEntity cached = support.findById(1L, CachedEntity.class, () -> load(1L, "reloaded"));
+
+		assertThat(cached.name).isEqualTo("saved");
+	}
+
+	private CachedEntity load(Long id, String name) {
+
+		loads.incrementAndGet();
+		return new CachedEntity(id, name);
+	}
+
+	@AggregateCaching
+	static class CachedEntity {
+
+		@Id Long id;
+		String name;
+
+		CachedEntity(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.testing.TestConfiguration;
+import org.springframework.data.relational.core.mapping.BatchFetching;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.lang.Nullable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for loading aggregate roots annotated with {@link BatchFetching}.
+ */
+@ContextConfiguration
+@Transactional
+@ActiveProfiles("hsql")
+@ExtendWith(SpringExtension.class)
+class BatchFetchingHsqlIntegrationTests {
+
+	@Autowired JdbcAggregateOperations template;
+	@Autowired StatementCountingJdbcTemplate statements;
+
+	@Test
+	void findAllLoadsRelationsOfAllRootsWithOneQueryPerRelation() {
+
+		BatchRoot first = template.save(new BatchRoot("first", //
+				List.of(new BatchElement("first-a", List.of(new BatchDetail("first-a-detail"))), //
+						new BatchElement("first-b")), //
+				Map.of("y", new BatchEntry("first-y"))));
+		BatchRoot second = template.save(new BatchRoot("second", //
+				List.of(new BatchElement("second-a")), //
+				Map.of("x", new BatchEntry("second-x"), "z", new BatchEntry("second-z"))));
+		BatchRoot third = template.save(new BatchRoot("third", List.of(), Map.of()));
+
+		statements.reset();
+
+		Map<Long, BatchRoot> loaded = new HashMap<>();
+		template.findAll(BatchRoot.class).forEach(root -> loaded.put(root.id, root));
+
+		// roots, elements and entries in one query each, details of the 3 elements one query per element
+		assertThat(statements.getCount()).isEqualTo(6);
+
+		assertThat(loaded).containsOnlyKeys(first.id, second.id, third.id);
+
+		BatchRoot loadedFirst = loaded.get(first.id);
+		assertThat(loadedFirst.elements).extracting(element -> element.name).containsExactly("first-a", "first-b");
+		assertThat(loadedFirst.elements.get(0).details).extracting(detail -> detail.content)
+				.containsExactly("first-a-detail");
+		assertThat(loadedFirst.elements.get(1).details).isEmpty();
+		assertThat(loadedFirst.entries).containsOnlyKeys("y");
+		assertThat(loadedFirst.entries.get("y").content).isEqualTo("first-y");
+
+		BatchRoot loadedSecond = loaded.get(second.id);
+		assertThat(loadedSecond.elements).extracting(element -> element.name).containsExactly("second-a");
+		assertThat(loadedSecond.entries).containsOnlyKeys("x", "z");
+		assertThat(loadedSecond.entries.get("x").content).isEqualTo("second-x");
+		assertThat(loadedSecond.entries.get("z").content).isEqualTo("second-z");
+
+		BatchRoot loadedThird = loaded.get(third.id);
+		assertThat(loadedThird.elements).isEmpty();
+		assertThat(loadedThird.entries).isEmpty();
+	}
+
+	@BatchFetching
+	static class BatchRoot {
+
+		@Id Long id;
+		String name;
+		List<BatchElement> elements = new ArrayList<>();
+		Map<String, BatchEntry> entries = new HashMap<>();
+
+		BatchRoot() {}
+
+		BatchRoot(String name, List<BatchElement> elements, Map<String, BatchEntry> entries) {
+
+			this.name = name;
+			this.elements = elements;
+			this.entries = entries;
+		}
+	}
+
+	static class BatchElement {
+
+		@Id Long id;
+		String name;
+		List<BatchDetail> details = new ArrayList<>();
+
+		BatchElement() {}
+
+		BatchElement(String name) {
+			this(name, List.of());
+		}
+
+		BatchElement(String name, List<BatchDetail> details) {
+
+			this.name = name;
+			this.details = details;
+		}
+	}
+
+	static class BatchEntry {
+
+		String content;
+
+		BatchEntry() {}
+
+		BatchEntry(String content) {
+			this.content = content;
+		}
+	}
+
+	static class BatchDetail {
+
+		String content;
+
+		BatchDetail() {}
+
+		BatchDetail(String content) {
+			this.content = content;
+		}
+	}
+
+	/**
+	 * {@link NamedParameterJdbcTemplate} counting the statements it creates.
+	 */
+	static class StatementCountingJdbcTemplate extends NamedParameterJdbcTemplate {
+
+		private int count;
+
+		StatementCountingJdbcTemplate(DataSource dataSource) {
+			super(dataSource);
+		}
+
+		@Override
+		protected PreparedStatementCreator getPreparedStatementCreator(String sql, SqlParameterSource paramSource,
+				@Nullable Consumer<PreparedStatementCreatorFactory> customizer) {
+
+			count++;
+			return super.getPreparedStatementCreator(sql, paramSource, customizer);
+		}
+
+		int getCount() {
+			return count;
+		}
+
+		void reset() {
+			count = 0;
+		}
+	}
+
+	@Configuration
+	@Import(TestConfiguration.class)
+	static class Config {
+
+		@Bean
+		Class<?> testClass() {
+			return BatchFetchingHsqlIntegrationTests.class;
+		}
+
+		@Bean
+		StatementCountingJdbcTemplate namedParameterJdbcTemplate(DataSource dataSource) {
+			return new StatementCountingJdbcTemplate(dataSource);
+		}
+
+		@Bean
+		JdbcAggregateOperations operations(ApplicationEventPublisher publisher, RelationalMappingContext context,
+				DataAccessStrategy dataAccessStrategy, JdbcConverter converter) {
+			return new JdbcAggregateTemplate(publisher, context, converter, dataAccessStrategy);
+		}
+	}
+}
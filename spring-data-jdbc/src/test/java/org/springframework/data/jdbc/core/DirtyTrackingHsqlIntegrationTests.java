@@ -0,0 +1,177 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.testing.TestConfiguration;
+import org.springframework.data.relational.core.mapping.DirtyTracking;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for updates of aggregate roots with {@link DirtyTracking} enabled across transactions.
+ */
+@ContextConfiguration
+@ActiveProfiles("hsql")
+@ExtendWith(SpringExtension.class)
+class DirtyTrackingHsqlIntegrationTests {
+
+	@Autowired JdbcAggregateOperations template;
+	@Autowired PlatformTransactionManager transactionManager;
+	@Autowired NamedParameterJdbcOperations jdbcOperations;
+
+	@Test
+	void retriedSaveAfterRollbackWritesChanges() {
+
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+		Long id = transaction.execute(status -> template.save(new TrackedEntity(null, "name", "description")).id);
+		TrackedEntity loaded = transaction.execute(status -> template.findById(id, TrackedEntity.class));
+
+		loaded.name = "changed";
+
+		transaction.executeWithoutResult(status -> {
+
+			template.save(loaded);
+			status.setRollbackOnly();
+		});
+
+		assertThat(transaction.execute(status -> template.findById(id, TrackedEntity.class)).name).isEqualTo("name");
+
+		transaction.executeWithoutResult(status -> template.save(loaded));
+
+		TrackedEntity reloaded = transaction.execute(status -> template.findById(id, TrackedEntity.class));
+		assertThat(reloaded.name).isEqualTo("changed");
+		assertThat(reloaded.description).isEqualTo("description");
+	}
+
+	@Test
+	void saveAfterCommitOnlyWritesChangedColumns() {
+
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+		Long id = transaction.execute(status -> template.save(new TrackedEntity(null, "name", "description")).id);
+		TrackedEntity first = transaction.execute(status -> template.findById(id, TrackedEntity.class));
+		TrackedEntity second = transaction.execute(status -> template.findById(id, TrackedEntity.class));
+
+		first.name = "changed";
+		second.description = "changed";
+
+		transaction.executeWithoutResult(status -> template.save(first));
+		transaction.executeWithoutResult(status -> template.save(second));
+
+		TrackedEntity reloaded = transaction.execute(status -> template.findById(id, TrackedEntity.class));
+		assertThat(reloaded.name).isEqualTo("changed");
+		assertThat(reloaded.description).isEqualTo("changed");
+	}
+
+	@Test
+	void saveWithinLoadingTransactionOnlyWritesChangedColumns() {
+
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+		Long id = transaction.execute(status -> template.save(new TrackedEntity(null, "name", "description")).id);
+
+		transaction.executeWithoutResult(status -> {
+
+			TrackedEntity loaded = template.findById(id, TrackedEntity.class);
+
+			// a full update would overwrite this with the loaded description
+			jdbcOperations.update("UPDATE TRACKED_ENTITY SET DESCRIPTION = 'concurrent' WHERE ID = :id",
+					Collections.singletonMap("id", id));
+
+			loaded.name = "changed";
+			template.save(loaded);
+		});
+
+		TrackedEntity reloaded = transaction.execute(status -> template.findById(id, TrackedEntity.class));
+		assertThat(reloaded.name).isEqualTo("changed");
+		assertThat(reloaded.description).isEqualTo("concurrent");
+	}
+
+	@Test
+	void rolledBackTransactionLeavesNoSnapshot() {
+
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+		Long id = transaction.execute(status -> template.save(new TrackedEntity(null, "name", "description")).id);
+		TrackedEntity loaded = transaction.execute(status -> {
+
+			TrackedEntity entity = template.findById(id, TrackedEntity.class);
+			status.setRollbackOnly();
+			return entity;
+		});
+
+		transaction.executeWithoutResult(status -> jdbcOperations.update(
+				"UPDATE TRACKED_ENTITY SET DESCRIPTION = 'other' WHERE ID = :id", Collections.singletonMap("id", id)));
+
+		loaded.name = "changed";
+		transaction.executeWithoutResult(status -> template.save(loaded));
+
+		TrackedEntity reloaded = transaction.execute(status -> template.findById(id, TrackedEntity.class));
+		assertThat(reloaded.name).isEqualTo("changed");
+		assertThat(reloaded.description).isEqualTo("description");
+	}
+
+	@DirtyTracking
+	static class TrackedEntity {
+
+		@Id Long id;
+		String name;
+		String description;
+
+		TrackedEntity(Long id, String name, String description) {
+
+			this.id = id;
+			this.name = name;
+			this.description = description;
+		}
+	}
+
+	@Configuration
+	@Import(TestConfiguration.class)
+	static class Config {
+
+		@Bean
+		Class<?> testClass() {
+			return DirtyTrackingHsqlIntegrationTests.class;
+		}
+
+		@Bean
+		JdbcAggregateOperations operations(ApplicationEventPublisher publisher, RelationalMappingContext context,
+				DataAccessStrategy dataAccessStrategy, JdbcConverter converter) {
+			return new JdbcAggregateTemplate(publisher, context, converter, dataAccessStrategy);
+		}
+	}
+}
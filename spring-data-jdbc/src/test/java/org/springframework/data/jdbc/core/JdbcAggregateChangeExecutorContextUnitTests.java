@@ -26,6 +26,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
@@ -192,6 +194,56 @@ public class JdbcAggregateChangeExecutorContextUnitTests {
 		assertThat(root.id).isNull();
 	}
 
+	@Test
+	void batchUpdateRootOperation() {
+
+		DummyEntity root1 = new DummyEntity();
+		root1.id = 123L;
+		DummyEntity root2 = new DummyEntity();
+		root2.id = 456L;
+		when(accessStrategy.updateAll(List.of(root1, root2), DummyEntity.class)).thenReturn(new boolean[] { true, true });
+
+		executionContext.executeBatchUpdateRoot(new DbAction.BatchUpdateRoot<>(
+				List.of(new DbAction.UpdateRoot<>(root1, null), new DbAction.UpdateRoot<>(root2, null))));
+
+		List<DummyEntity> newRoots = executionContext.populateIdsIfNecessary();
+		assertThat(newRoots).containsExactly(root1, root2);
+	}
+
+	@Test
+	void batchUpdateRootOperation_failsWhenARowWasNotUpdated() {
+
+		DummyEntity root1 = new DummyEntity();
+		root1.id = 123L;
+		DummyEntity root2 = new DummyEntity();
+		root2.id = 456L;
+		when(accessStrategy.updateAll(List.of(root1, root2), DummyEntity.class)).thenReturn(new boolean[] { true, false });
+
+		DbAction.BatchUpdateRoot<DummyEntity> batchUpdateRoot = new DbAction.BatchUpdateRoot<>(
+				List.of(new DbAction.UpdateRoot<>(root1, null), new DbAction.UpdateRoot<>(root2, null)));
+
+		assertThatExceptionOfType(IncorrectUpdateSemanticsDataAccessException.class)
+				.isThrownBy(() -> executionContext.executeBatchUpdateRoot(batchUpdateRoot)) //
+				.withMessageContaining("456");
+	}
+
+	@Test
+	void batchUpdateRootOperation_withVersion() {
+
+		DummyEntity root1 = new DummyEntity();
+		root1.id = 123L;
+		DummyEntity root2 = new DummyEntity();
+		root2.id = 456L;
+		when(accessStrategy.updateAllWithVersion(List.of(root1, root2), DummyEntity.class, List.of(1L, 2L)))
+				.thenReturn(new boolean[] { true, false });
+
+		DbAction.BatchUpdateRoot<DummyEntity> batchUpdateRoot = new DbAction.BatchUpdateRoot<>(
+				List.of(new DbAction.UpdateRoot<>(root1, 1L), new DbAction.UpdateRoot<>(root2, 2L)));
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+				.isThrownBy(() -> executionContext.executeBatchUpdateRoot(batchUpdateRoot));
+	}
+
 	@Test // GH-1201
 	void updates_whenReferencesWithImmutableIdAreInserted() {
 
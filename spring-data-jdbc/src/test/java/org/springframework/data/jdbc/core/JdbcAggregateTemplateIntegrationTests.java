@@ -53,9 +53,12 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.PersistenceCreator;
 import org.springframework.data.annotation.ReadOnlyProperty;
 import org.springframework.data.annotation.Version;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Persistable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.testing.AssumeFeatureTestExecutionListener;
@@ -67,7 +70,9 @@ import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.InsertOnlyProperty;
 import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.SingleQueryLoading;
 import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.data.relational.core.query.Query;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestExecutionListeners;
@@ -195,6 +200,122 @@ class JdbcAggregateTemplateIntegrationTests {
 		return entity;
 	}
 
+	private static SingleQueryListParent createSingleQueryListParent(String name, String... contents) {
+
+		SingleQueryListParent entity = new SingleQueryListParent();
+		entity.name = name;
+
+		for (String content : contents) {
+
+			ElementNoId element = new ElementNoId();
+			element.content = content;
+			entity.content.add(element);
+		}
+
+		return entity;
+	}
+
+	@Test
+	@EnabledOnFeature(IS_H2)
+	void upsertInsertsNewAggregate() {
+
+		legoSet.setId(4711L);
+
+		template.upsert(legoSet);
+
+		LegoSet reloaded = template.findById(4711L, LegoSet.class);
+
+		assertThat(reloaded).isNotNull();
+		assertThat(reloaded.getName()).isEqualTo("Star Destroyer");
+		assertThat(reloaded.getManual().getContent()).isEqualTo(legoSet.getManual().getContent());
+	}
+
+	@Test
+	@EnabledOnFeature(IS_H2)
+	void upsertUpdatesExistingAggregateAndReplacesReferencedEntities() {
+
+		legoSet.setId(4711L);
+		template.upsert(legoSet);
+
+		LegoSet changed = createLegoSet("Millennium Falcon");
+		changed.setId(4711L);
+		changed.getManual().setContent("Made the Kessel Run in less than twelve parsecs");
+
+		template.upsert(changed);
+
+		LegoSet reloaded = template.findById(4711L, LegoSet.class);
+
+		assertThat(template.count(LegoSet.class)).isEqualTo(1);
+		assertThat(template.count(Manual.class)).isEqualTo(1);
+		assertThat(reloaded.getName()).isEqualTo("Millennium Falcon");
+		assertThat(reloaded.getManual().getContent()).isEqualTo("Made the Kessel Run in less than twelve parsecs");
+	}
+
+	@Test
+	@EnabledOnFeature(IS_H2)
+	void upsertAllInsertsAndUpdatesInOneBatch() {
+
+		legoSet.setId(4711L);
+		template.upsert(legoSet);
+
+		LegoSet existing = createLegoSet("Millennium Falcon");
+		existing.setId(4711L);
+		LegoSet added = createLegoSet("X-Wing");
+		added.setId(4712L);
+
+		template.upsertAll(asList(existing, added));
+
+		assertThat(template.findAll(LegoSet.class)) //
+				.extracting(LegoSet::getId, LegoSet::getName) //
+				.containsExactlyInAnyOrder(tuple(4711L, "Millennium Falcon"), tuple(4712L, "X-Wing"));
+		assertThat(template.count(Manual.class)).isEqualTo(2);
+	}
+
+	@Test
+	@EnabledOnFeature(IS_H2)
+	void upsertRejectsVersionedAggregate() {
+
+		AggregateWithLongVersion aggregate = new AggregateWithLongVersion();
+		aggregate.setId(4711L);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> template.upsert(aggregate));
+		assertThatIllegalArgumentException().isThrownBy(() -> template.upsertAll(singletonList(aggregate)));
+		assertThat(template.count(AggregateWithLongVersion.class)).isZero();
+	}
+
+	@Test
+	@EnabledOnFeature(IS_H2)
+	void findByIdLoadsSingleQueryLoadingAggregate() {
+
+		SingleQueryListParent parent = template.save(createSingleQueryListParent("parent", "one", "two", "three"));
+		SingleQueryListParent empty = template.save(createSingleQueryListParent("empty"));
+
+		SingleQueryListParent reloaded = template.findById(parent.id, SingleQueryListParent.class);
+
+		assertThat(reloaded.name).isEqualTo("parent");
+		assertThat(reloaded.content).extracting(element -> element.content).containsExactly("one", "two", "three");
+		assertThat(template.findById(empty.id, SingleQueryListParent.class).content).isEmpty();
+		assertThat(template.findById(-1L, SingleQueryListParent.class)).isNull();
+	}
+
+	@Test
+	@EnabledOnFeature(IS_H2)
+	void findAllByIdLoadsSingleQueryLoadingAggregates() {
+
+		SingleQueryListParent first = template.save(createSingleQueryListParent("first", "one", "two"));
+		SingleQueryListParent second = template.save(createSingleQueryListParent("second", "three"));
+		SingleQueryListParent empty = template.save(createSingleQueryListParent("empty"));
+
+		Map<String, SingleQueryListParent> reloaded = new HashMap<>();
+		template.findAllById(asList(first.id, second.id, empty.id), SingleQueryListParent.class)
+				.forEach(parent -> reloaded.put(parent.name, parent));
+
+		assertThat(reloaded).containsOnlyKeys("first", "second", "empty");
+		assertThat(reloaded.get("first").content).extracting(element -> element.content).containsExactly("one", "two");
+		assertThat(reloaded.get("second").content).extracting(element -> element.content).containsExactly("three");
+		assertThat(reloaded.get("empty").content).isEmpty();
+	}
+
 	@Test // DATAJDBC-112
 	@EnabledOnFeature(SUPPORTS_QUOTED_IDS)
 	void saveAndLoadAnEntityWithReferencedEntityById() {
@@ -259,6 +380,37 @@ class JdbcAggregateTemplateIntegrationTests {
 				.containsExactly("Star");
 	}
 
+	@Test
+	@EnabledOnFeature(SUPPORTS_QUOTED_IDS)
+	void scrollsForwardAndBackwardByKeyset() {
+
+		template.save(createLegoSet("Lava"));
+		template.save(createLegoSet("Star"));
+		template.save(createLegoSet("Frozen"));
+		template.save(createLegoSet("Castle"));
+		template.save(createLegoSet("Ship"));
+
+		Query query = Query.empty().sort(Sort.by("name")).limit(2);
+
+		Window<LegoSet> first = template.findAll(query, LegoSet.class, ScrollPosition.keyset());
+		Window<LegoSet> second = template.findAll(query, LegoSet.class, first.positionAt(first.size() - 1));
+		Window<LegoSet> last = template.findAll(query, LegoSet.class, second.positionAt(second.size() - 1));
+
+		assertThat(first).extracting("name").containsExactly("Castle", "Frozen");
+		assertThat(first.hasNext()).isTrue();
+		assertThat(second).extracting("name").containsExactly("Lava", "Ship");
+		assertThat(second.hasNext()).isTrue();
+		assertThat(last).extracting("name").containsExactly("Star");
+		assertThat(last.hasNext()).isFalse();
+		assertThat(last.getContent().get(0).getManual()).isNotNull();
+
+		KeysetScrollPosition lastPosition = (KeysetScrollPosition) last.positionAt(0);
+		Window<LegoSet> previous = template.findAll(query, LegoSet.class, lastPosition.backward());
+
+		assertThat(previous).extracting("name").containsExactly("Lava", "Ship");
+		assertThat(previous.hasNext()).isTrue();
+	}
+
 	@Test // GH-821
 	@EnabledOnFeature({ SUPPORTS_QUOTED_IDS, SUPPORTS_NULL_PRECEDENCE })
 	void saveAndLoadManyEntitiesWithReferencedEntitySortedWithNullPrecedence() {
@@ -723,6 +875,84 @@ class JdbcAggregateTemplateIntegrationTests {
 		assertThat(reloaded.digits).isEqualTo(new HashSet<>(asList("one", "two", "three")));
 	}
 
+	@Test
+	void updatesOnlyChangedElementsOfDifferentialCollections() {
+
+		DifferentialRoot root = new DifferentialRoot();
+		root.listElements.addAll(asList(new DifferentialListElement("l0"), new DifferentialListElement("l1"),
+				new DifferentialListElement("l2")));
+		root.setElements.addAll(asList(new DifferentialSetElement("s0"), new DifferentialSetElement("s1"),
+				new DifferentialSetElement("s2")));
+		root.mapElements.put("a", new DifferentialMapElement("ma"));
+		root.mapElements.put("b", new DifferentialMapElement("mb"));
+		root.mapElements.put("c", new DifferentialMapElement("mc"));
+
+		DifferentialRoot saved = template.save(root);
+		Long s0Id = getSetElement(saved, "s0").id;
+		Long s1Id = getSetElement(saved, "s1").id;
+
+		// rows that get deleted and inserted again lose the marker, since it isn't mapped
+		markDifferentialElements();
+
+		saved.listElements.get(1).content = "l1-changed";
+		saved.listElements.add(new DifferentialListElement("l3"));
+		getSetElement(saved, "s1").content = "s1-changed";
+		saved.setElements.remove(getSetElement(saved, "s2"));
+		saved.setElements.add(new DifferentialSetElement("s3"));
+		saved.mapElements.get("b").content = "mb-changed";
+		saved.mapElements.remove("c");
+		saved.mapElements.put("d", new DifferentialMapElement("md"));
+
+		template.save(saved);
+
+		assertThat(getDifferentialElements("DIFFERENTIAL_LIST_ELEMENT", "DIFFERENTIAL_ROOT_KEY")) //
+				.containsExactly("l0:kept", "l1-changed:kept", "l2:kept", "l3:null");
+		assertThat(getDifferentialElements("DIFFERENTIAL_SET_ELEMENT", "CONTENT")) //
+				.containsExactly("s0:kept", "s1-changed:kept", "s3:null");
+		assertThat(getDifferentialElements("DIFFERENTIAL_MAP_ELEMENT", "DIFFERENTIAL_ROOT_KEY")) //
+				.containsExactly("ma:kept", "mb-changed:kept", "md:null");
+
+		DifferentialRoot reloaded = template.findById(saved.id, DifferentialRoot.class);
+
+		assertThat(reloaded.listElements).extracting(e -> e.content) //
+				.containsExactly("l0", "l1-changed", "l2", "l3");
+		assertThat(reloaded.setElements).extracting(e -> e.content) //
+				.containsExactlyInAnyOrder("s0", "s1-changed", "s3");
+		assertThat(getSetElement(reloaded, "s0").id).isEqualTo(s0Id);
+		assertThat(getSetElement(reloaded, "s1-changed").id).isEqualTo(s1Id);
+		assertThat(reloaded.mapElements).containsOnlyKeys("a", "b", "d");
+		assertThat(reloaded.mapElements.get("b").content).isEqualTo("mb-changed");
+
+		reloaded.listElements.subList(2, 4).clear();
+
+		template.save(reloaded);
+
+		assertThat(getDifferentialElements("DIFFERENTIAL_LIST_ELEMENT", "DIFFERENTIAL_ROOT_KEY")) //
+				.containsExactly("l0:kept", "l1-changed:kept");
+		assertThat(template.findById(saved.id, DifferentialRoot.class).listElements).extracting(e -> e.content) //
+				.containsExactly("l0", "l1-changed");
+	}
+
+	private void markDifferentialElements() {
+
+		asList("DIFFERENTIAL_LIST_ELEMENT", "DIFFERENTIAL_SET_ELEMENT", "DIFFERENTIAL_MAP_ELEMENT") //
+				.forEach(table -> jdbcTemplate.update("UPDATE " + table + " SET MARKER = 'kept'", emptyMap()));
+	}
+
+	private List<String> getDifferentialElements(String table, String orderBy) {
+
+		return jdbcTemplate.getJdbcOperations().query("SELECT CONTENT, MARKER FROM " + table + " ORDER BY " + orderBy,
+				(rs, rowNum) -> rs.getString(1) + ":" + rs.getString(2));
+	}
+
+	private static DifferentialSetElement getSetElement(DifferentialRoot root, String content) {
+
+		return root.setElements.stream() //
+				.filter(element -> content.equals(element.content)) //
+				.findFirst() //
+				.orElseThrow();
+	}
+
 	@Test // DATAJDBC-327
 	void saveAndLoadAnEntityWithByteArray() {
 
@@ -1218,6 +1448,15 @@ class JdbcAggregateTemplateIntegrationTests {
 		private String content;
 	}
 
+	@SingleQueryLoading
+	@Table("LIST_PARENT")
+	static class SingleQueryListParent {
+
+		@Column("id4") @Id private Long id;
+		String name;
+		@MappedCollection(idColumn = "LIST_PARENT") List<ElementNoId> content = new ArrayList<>();
+	}
+
 	/**
 	 * One may think of ChainN as a chain with N further elements
 	 */
@@ -1512,6 +1751,44 @@ class JdbcAggregateTemplateIntegrationTests {
 		String insertOnly;
 	}
 
+	static class DifferentialRoot {
+
+		@Id Long id;
+		String name;
+
+		@MappedCollection(differentialUpdate = true) List<DifferentialListElement> listElements = new ArrayList<>();
+		@MappedCollection(differentialUpdate = true) Set<DifferentialSetElement> setElements = new HashSet<>();
+		@MappedCollection(differentialUpdate = true) Map<String, DifferentialMapElement> mapElements = new HashMap<>();
+	}
+
+	static class DifferentialListElement {
+
+		String content;
+
+		DifferentialListElement(String content) {
+			this.content = content;
+		}
+	}
+
+	static class DifferentialSetElement {
+
+		@Id Long id;
+		String content;
+
+		DifferentialSetElement(String content) {
+			this.content = content;
+		}
+	}
+
+	static class DifferentialMapElement {
+
+		String content;
+
+		DifferentialMapElement(String content) {
+			this.content = content;
+		}
+	}
+
 	@Configuration
 	@Import(TestConfiguration.class)
 	static class Config {
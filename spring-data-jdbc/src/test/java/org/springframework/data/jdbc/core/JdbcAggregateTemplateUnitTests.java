@@ -24,6 +24,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,8 +36,11 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
+import org.springframework.data.jdbc.core.convert.CachingCountStrategy;
+import org.springframework.data.jdbc.core.convert.CountStrategy;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
@@ -49,6 +54,8 @@ import org.springframework.data.relational.core.mapping.event.AfterSaveCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeConvertCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeDeleteCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeSaveCallback;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
 
 /**
  * Unit tests for {@link JdbcAggregateTemplate}.
@@ -129,6 +136,60 @@ public class JdbcAggregateTemplateUnitTests {
 		verifyNoInteractions(eventPublisher);
 	}
 
+	@Test
+	void saveEvictsCachedCountsOfAggregateType() {
+
+		CachingCountStrategy countStrategy = mock(CachingCountStrategy.class);
+		template.setCountStrategy(countStrategy);
+
+		SampleEntity first = new SampleEntity(null, "Alfred");
+		SampleEntity second = new SampleEntity(23L, "Alfred E.");
+
+		when(callbacks.callback(any(Class.class), any(), any(Object[].class))).thenReturn(second, second);
+
+		template.save(first);
+
+		verify(countStrategy).evict(SampleEntity.class);
+	}
+
+	@Test
+	void deleteEvictsCachedCountsOfAggregateType() {
+
+		CachingCountStrategy countStrategy = mock(CachingCountStrategy.class);
+		template.setCountStrategy(countStrategy);
+
+		SampleEntity entity = new SampleEntity(23L, "Alfred");
+
+		when(callbacks.callback(any(Class.class), any(), any())).thenReturn(entity);
+
+		template.delete(entity);
+
+		verify(countStrategy).evict(SampleEntity.class);
+	}
+
+	@Test
+	void cachesCountsOfCaseSensitiveAndCaseInsensitiveCriteriaSeparately() {
+
+		template.setCountStrategy(new CachingCountStrategy(CountStrategy.exact(), Duration.ofMinutes(1)));
+
+		SampleEntity alfred = new SampleEntity(23L, "Alfred");
+		when(dataAccessStrategy.findAll(any(Query.class), eq(SampleEntity.class), any(Pageable.class)))
+				.thenReturn(singletonList(alfred));
+		when(callbacks.callback(any(Class.class), eq(alfred), any(Object[].class))).thenReturn(alfred);
+		when(dataAccessStrategy.count(any(Query.class), eq(SampleEntity.class))).thenReturn(5L, 7L);
+
+		Query caseSensitive = Query.query(Criteria.where("name").is("alfred"));
+		Query caseInsensitive = Query.query(Criteria.where("name").is("alfred").ignoreCase(true));
+
+		assertThat(template.findAll(caseSensitive, SampleEntity.class, PageRequest.of(0, 1)).getTotalElements())
+				.isEqualTo(5);
+		assertThat(template.findAll(caseInsensitive, SampleEntity.class, PageRequest.of(0, 1)).getTotalElements())
+				.isEqualTo(7);
+		assertThat(template.findAll(caseSensitive, SampleEntity.class, PageRequest.of(0, 1)).getTotalElements())
+				.isEqualTo(5);
+		verify(dataAccessStrategy, times(2)).count(any(Query.class), eq(SampleEntity.class));
+	}
+
 	@Test // GH-1137
 	void savePreparesInstanceWithInitialVersion_onInsert() {
 
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.jdbc.core.convert.ResultSetTestUtil.*;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+
+/**
+ * Unit tests for {@link AggregateResultSetExtractor}.
+ */
+class AggregateResultSetExtractorUnitTests {
+
+	JdbcMappingContext context = new JdbcMappingContext();
+	JdbcConverter converter = new BasicJdbcConverter(context, mock(RelationResolver.class));
+
+	@Test
+	void supportsCollectionsOfEntitiesWithIdOrQualifier() {
+
+		assertThat(supports(WithCollections.class)).isTrue();
+	}
+
+	@Test
+	void doesNotSupportSetsOfEntitiesWithoutId() {
+
+		assertThat(supports(WithSetOfElementsWithoutId.class)).isFalse();
+	}
+
+	@Test
+	void doesNotSupportNestedCollections() {
+
+		assertThat(supports(WithNestedCollection.class)).isFalse();
+	}
+
+	@Test
+	void doesNotSupportAggregatesWithoutCollections() {
+
+		assertThat(supports(Element.class)).isFalse();
+	}
+
+	@Test
+	void collapsesRowsDuplicatedByJoiningMultipleCollections() throws SQLException {
+
+		List<WithCollections> result = extract( //
+				1L, 10L, "e-1", "l-0", 0, "m-a", "a", //
+				1L, 10L, "e-1", "l-1", 1, "m-b", "b", //
+				1L, 11L, "e-2", "l-0", 0, "m-a", "a", //
+				1L, 11L, "e-2", "l-1", 1, "m-b", "b");
+
+		assertThat(result).hasSize(1);
+
+		WithCollections aggregate = result.get(0);
+		assertThat(aggregate.id).isEqualTo(1L);
+		assertThat(aggregate.elements).extracting(element -> element.content).containsExactlyInAnyOrder("e-1", "e-2");
+		assertThat(aggregate.list).extracting(element -> element.content).containsExactly("l-0", "l-1");
+		assertThat(aggregate.map).containsOnlyKeys("a", "b");
+		assertThat(aggregate.map.get("a").content).isEqualTo("m-a");
+		assertThat(aggregate.map.get("b").content).isEqualTo("m-b");
+	}
+
+	@Test
+	void ordersListElementsByIndexAndReadsMapKeys() throws SQLException {
+
+		List<WithCollections> result = extract( //
+				1L, null, null, "l-2", 2, "m-z", "z", //
+				1L, null, null, "l-0", 0, "m-x", "x", //
+				1L, null, null, "l-1", 1, "m-y", "y");
+
+		assertThat(result).hasSize(1);
+
+		WithCollections aggregate = result.get(0);
+		assertThat(aggregate.list).extracting(element -> element.content).containsExactly("l-0", "l-1", "l-2");
+		assertThat(aggregate.map).containsOnlyKeys("x", "y", "z");
+		assertThat(aggregate.map.get("x").content).isEqualTo("m-x");
+		assertThat(aggregate.map.get("y").content).isEqualTo("m-y");
+		assertThat(aggregate.map.get("z").content).isEqualTo("m-z");
+	}
+
+	@Test
+	void readsAggregatesWithoutJoinedElementsAsEmpty() throws SQLException {
+
+		List<WithCollections> result = extract( //
+				1L, null, null, null, null, null, null, //
+				2L, 20L, "e-2", null, null, null, null);
+
+		assertThat(result).extracting(aggregate -> aggregate.id).containsExactly(1L, 2L);
+
+		assertThat(result.get(0).elements).isEmpty();
+		assertThat(result.get(0).list).isEmpty();
+		assertThat(result.get(0).map).isEmpty();
+
+		assertThat(result.get(1).elements).extracting(element -> element.content).containsExactly("e-2");
+		assertThat(result.get(1).list).isEmpty();
+		assertThat(result.get(1).map).isEmpty();
+	}
+
+	@Test
+	void assignsElementsToAggregatesInOrderOfTheirFirstRow() throws SQLException {
+
+		List<WithCollections> result = extract( //
+				2L, 20L, "e-20", "l-2", 0, null, null, //
+				1L, 10L, "e-10", "l-1", 0, null, null, //
+				2L, 21L, "e-21", "l-2", 0, null, null);
+
+		assertThat(result).extracting(aggregate -> aggregate.id).containsExactly(2L, 1L);
+		assertThat(result.get(0).elements).extracting(element -> element.content)
+				.containsExactlyInAnyOrder("e-20", "e-21");
+		assertThat(result.get(0).list).extracting(element -> element.content).containsExactly("l-2");
+		assertThat(result.get(1).elements).extracting(element -> element.content).containsExactly("e-10");
+		assertThat(result.get(1).list).extracting(element -> element.content).containsExactly("l-1");
+	}
+
+	/**
+	 * Extracts {@link WithCollections} from rows holding the id of the aggregate root, the id and content of
+	 * {@code elements}, the content and index of {@code list} and the content and key of {@code map}.
+	 */
+	@SuppressWarnings("unchecked")
+	private List<WithCollections> extract(Object... values) throws SQLException {
+
+		RelationalPersistentEntity<WithCollections> entity = (RelationalPersistentEntity<WithCollections>) context
+				.getRequiredPersistentEntity(WithCollections.class);
+
+		List<String> columns = Arrays.asList( //
+				columnAlias("id"), //
+				columnAlias("elements", "id"), //
+				columnAlias("elements", "content"), //
+				columnAlias("list", "content"), //
+				qualifierColumnAlias("list"), //
+				columnAlias("map", "content"), //
+				qualifierColumnAlias("map"));
+
+		return new AggregateResultSetExtractor<>(context, entity, converter, mock(RelationResolver.class))
+				.extractData(rows(columns, values));
+	}
+
+	private String columnAlias(String... properties) {
+		return path(properties).getColumnAlias().getReference();
+	}
+
+	private String qualifierColumnAlias(String property) {
+		return path(property).getQualifierColumnAlias().getReference();
+	}
+
+	private PersistentPropertyPathExtension path(String... properties) {
+
+		PersistentPropertyPathExtension path = new PersistentPropertyPathExtension(context,
+				context.getRequiredPersistentEntity(WithCollections.class));
+
+		for (String property : properties) {
+			path = path.extendBy(path.getRequiredLeafEntity().getRequiredPersistentProperty(property));
+		}
+
+		return path;
+	}
+
+	private boolean supports(Class<?> type) {
+		return AggregateResultSetExtractor.supports(context, context.getRequiredPersistentEntity(type));
+	}
+
+	static class WithCollections {
+
+		@Id Long id;
+		Set<Element> elements;
+		List<ElementWithoutId> list;
+		Map<String, ElementWithoutId> map;
+	}
+
+	static class WithSetOfElementsWithoutId {
+
+		@Id Long id;
+		Set<ElementWithoutId> elements;
+	}
+
+	static class WithNestedCollection {
+
+		@Id Long id;
+		Set<WithCollections> elements;
+	}
+
+	static class Element {
+		@Id Long id;
+		String content;
+	}
+
+	static class ElementWithoutId {
+		String content;
+	}
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.jdbc.core.convert.ResultSetTestUtil.*;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.rowset.RowSetMetaDataImpl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.HsqlDbDialect;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Unit tests for {@link BatchFetchingReader}.
+ */
+class BatchFetchingReaderUnitTests {
+
+	private final NamedParameterJdbcOperations operations = mock(NamedParameterJdbcOperations.class);
+	private final RelationResolver relationResolver = mock(RelationResolver.class);
+	private final RelationalMappingContext context = new JdbcMappingContext();
+	private final Map<String, List<ResultSet>> childRows = new HashMap<>();
+
+	private BatchFetchingReader reader;
+
+	@BeforeEach
+	void before() throws SQLException {
+
+		Dialect dialect = HsqlDbDialect.INSTANCE;
+		JdbcConverter converter = new BasicJdbcConverter(context, relationResolver, new JdbcCustomConversions(),
+				new DefaultJdbcTypeFactory(mock(JdbcOperations.class)), dialect.getIdentifierProcessing());
+
+		reader = new BatchFetchingReader(context, converter, operations,
+				new SqlGeneratorSource(context, converter, dialect), new SqlParametersFactory(context, converter),
+				new InListBinding(dialect), relationResolver);
+
+		doAnswer(invocation -> {
+
+			String sql = invocation.getArgument(0);
+			RowCallbackHandler handler = invocation.getArgument(2);
+
+			childRows.forEach((table, results) -> {
+
+				if (sql.toLowerCase().contains(table) && !results.isEmpty()) {
+					ResultSet resultSet = results.remove(0);
+					try {
+						while (resultSet.next()) {
+							handler.processRow(resultSet);
+						}
+					} catch (SQLException ex) {
+						throw new IllegalStateException(ex);
+					}
+				}
+			});
+			return null;
+		}).when(operations).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+		when(relationResolver.findAllByPath(any(), any())).thenAnswer(invocation -> {
+
+			Identifier identifier = invocation.getArgument(0);
+			Object elementId = identifier.getParts().iterator().next().getValue();
+			return Collections.singletonList(new Detail("detail of " + elementId));
+		});
+	}
+
+	@Test
+	void assignsListAndMapElementsToTheirParents() throws SQLException {
+
+		givenRoots(List.of("ID", "NAME"), 1L, "one", 2L, "two", 3L, "three");
+		givenChildren("element", List.of("ID", "NAME", "ROOT", "ROOT_KEY"), //
+				10L, "1-a", 1L, 0, //
+				20L, "2-a", 2L, 0, //
+				11L, "1-b", 1L, 1, //
+				12L, "1-c", 1L, 2);
+		givenChildren("entry", List.of("CONTENT", "ROOT", "ROOT_KEY"), //
+				"2-x", 2L, "x", //
+				"1-y", 1L, "y", //
+				"2-z", 2L, "z");
+
+		List<Root> roots = query();
+
+		assertThat(roots).extracting(root -> root.name).containsExactly("one", "two", "three");
+
+		assertThat(roots.get(0).elements).extracting(element -> element.name).containsExactly("1-a", "1-b", "1-c");
+		assertThat(roots.get(1).elements).extracting(element -> element.name).containsExactly("2-a");
+		assertThat(roots.get(2).elements).isEmpty();
+
+		assertThat(roots.get(0).entries).containsOnlyKeys("y");
+		assertThat(roots.get(0).entries.get("y").content).isEqualTo("1-y");
+		assertThat(roots.get(1).entries).containsOnlyKeys("x", "z");
+		assertThat(roots.get(1).entries.get("x").content).isEqualTo("2-x");
+		assertThat(roots.get(1).entries.get("z").content).isEqualTo("2-z");
+		assertThat(roots.get(2).entries).isEmpty();
+
+		verify(operations, times(2)).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+	}
+
+	@Test
+	void resolvesRelationsOfReferencedEntitiesPerEntity() throws SQLException {
+
+		givenRoots(List.of("ID", "NAME"), 1L, "one", 2L, "two");
+		givenChildren("element", List.of("ID", "NAME", "ROOT", "ROOT_KEY"), //
+				10L, "1-a", 1L, 0, //
+				20L, "2-a", 2L, 0);
+		givenChildren("entry", List.of("CONTENT", "ROOT", "ROOT_KEY"));
+
+		List<Root> roots = query();
+
+		assertThat(roots.get(0).elements.get(0).details).extracting(detail -> detail.content)
+				.containsExactly("detail of 10");
+		assertThat(roots.get(1).elements.get(0).details).extracting(detail -> detail.content)
+				.containsExactly("detail of 20");
+		verify(relationResolver, times(2)).findAllByPath(any(), any());
+	}
+
+	@Test
+	void readsCopiedRootRowsByColumnLabel() throws SQLException {
+
+		RowSetMetaDataImpl metaData = metaData(List.of("ID", "NAME"));
+		metaData.setColumnName(1, "ROOT_ID");
+		metaData.setColumnName(2, "ROOT_NAME");
+		givenRoots(rows(metaData, 1L, "one"));
+		givenChildren("element", List.of("ID", "NAME", "ROOT", "ROOT_KEY"), 10L, "1-a", 1L, 0);
+		givenChildren("entry", List.of("CONTENT", "ROOT", "ROOT_KEY"), "1-x", 1L, "x");
+
+		List<Root> roots = query();
+
+		assertThat(roots).hasSize(1);
+		assertThat(roots.get(0).id).isEqualTo(1L);
+		assertThat(roots.get(0).name).isEqualTo("one");
+		assertThat(roots.get(0).elements).extracting(element -> element.name).containsExactly("1-a");
+		assertThat(roots.get(0).entries).containsOnlyKeys("x");
+	}
+
+	@Test
+	void skipsRelationQueriesWithoutRoots() throws SQLException {
+
+		givenRoots(List.of("ID", "NAME"));
+
+		assertThat(query()).isEmpty();
+		verify(operations, never()).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Root> query() {
+
+		RelationalPersistentEntity<Root> entity = (RelationalPersistentEntity<Root>) context
+				.getRequiredPersistentEntity(Root.class);
+
+		return reader.query("SELECT roots", mock(SqlParameterSource.class), entity);
+	}
+
+	private void givenRoots(List<String> columns, Object... values) throws SQLException {
+		givenRoots(rows(columns, values));
+	}
+
+	@SuppressWarnings("unchecked")
+	private void givenRoots(ResultSet resultSet) {
+
+		when(operations.query(anyString(), any(SqlParameterSource.class), any(ResultSetExtractor.class)))
+				.thenAnswer(invocation -> invocation.getArgument(2, ResultSetExtractor.class).extractData(resultSet));
+	}
+
+	private void givenChildren(String table, List<String> columns, Object... values) throws SQLException {
+		childRows.computeIfAbsent(table, it -> new ArrayList<>()).add(rows(columns, values));
+	}
+
+	static class Root {
+
+		@Id Long id;
+		String name;
+		List<Element> elements = new ArrayList<>();
+		Map<String, Entry> entries = new HashMap<>();
+	}
+
+	static class Element {
+
+		@Id Long id;
+		String name;
+		List<Detail> details = new ArrayList<>();
+	}
+
+	static class Entry {
+		String content;
+	}
+
+	static class Detail {
+
+		String content;
+
+		Detail(String content) {
+			this.content = content;
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+
+/**
+ * Unit tests for {@link CachedAggregate}.
+ */
+class CachedAggregateUnitTests {
+
+	JdbcMappingContext context = new JdbcMappingContext();
+	JdbcConverter converter = new BasicJdbcConverter(context, (identifier, path) -> {
+		throw new UnsupportedOperationException();
+	});
+	@SuppressWarnings("unchecked") RelationalPersistentEntity<DummyEntity> entity = (RelationalPersistentEntity<DummyEntity>) context
+			.getRequiredPersistentEntity(DummyEntity.class);
+
+	@Test
+	void materializesCapturedState() {
+
+		DummyEntity aggregate = createAggregate();
+
+		DummyEntity materialized = CachedAggregate.capture(converter, entity, aggregate).materialize(converter);
+
+		assertThat(materialized).isNotSameAs(aggregate);
+		assertThat(materialized.id).isEqualTo(42L);
+		assertThat(materialized.name).isEqualTo("alpha");
+		assertThat(materialized.created.getTime()).isEqualTo(1000L);
+		assertThat(materialized.elements).extracting(e -> e.content).containsExactly("one", "two");
+		assertThat(materialized.elementsByKey.get("key").content).isEqualTo("three");
+	}
+
+	@Test
+	void doesNotShareInstancesWithCapturedAggregate() {
+
+		DummyEntity aggregate = createAggregate();
+		CachedAggregate cached = CachedAggregate.capture(converter, entity, aggregate);
+
+		aggregate.name = "changed";
+		aggregate.created.setTime(2000L);
+		aggregate.elements.get(0).content = "changed";
+		aggregate.elementsByKey.clear();
+
+		DummyEntity materialized = cached.materialize(converter);
+
+		assertThat(materialized.name).isEqualTo("alpha");
+		assertThat(materialized.created.getTime()).isEqualTo(1000L);
+		assertThat(materialized.elements).extracting(e -> e.content).containsExactly("one", "two");
+		assertThat(materialized.elementsByKey).containsOnlyKeys("key");
+	}
+
+	@Test
+	void materializesNewInstancesOnEveryCall() {
+
+		CachedAggregate cached = CachedAggregate.capture(converter, entity, createAggregate());
+
+		DummyEntity first = cached.materialize(converter);
+		DummyEntity second = cached.materialize(converter);
+
+		assertThat(first).isNotSameAs(second);
+		assertThat(first.created).isNotSameAs(second.created);
+		assertThat(first.elements.get(0)).isNotSameAs(second.elements.get(0));
+	}
+
+	private static DummyEntity createAggregate() {
+
+		DummyEntity aggregate = new DummyEntity();
+		aggregate.id = 42L;
+		aggregate.name = "alpha";
+		aggregate.created = new Date(1000L);
+		aggregate.elements.add(new Element("one"));
+		aggregate.elements.add(new Element("two"));
+		aggregate.elementsByKey.put("key", new Element("three"));
+		return aggregate;
+	}
+
+	static class DummyEntity {
+
+		@Id Long id;
+		String name;
+		Date created;
+		List<Element> elements = new ArrayList<>();
+		Map<String, Element> elementsByKey = new HashMap<>();
+	}
+
+	static class Element {
+
+		String content;
+
+		Element(String content) {
+			this.content = content;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link CachingCountStrategy}.
+ */
+class CachingCountStrategyUnitTests {
+
+	Clock clock = mock(Clock.class);
+	AtomicLong executedCounts = new AtomicLong();
+	CachingCountStrategy strategy = new CachingCountStrategy(CountStrategy.exact(), Duration.ofMinutes(1),
+			CachingCountStrategy.DEFAULT_MAXIMUM_SIZE, clock);
+
+	RelationalPersistentEntity<?> entity = new JdbcMappingContext().getRequiredPersistentEntity(DummyEntity.class);
+
+	@Test
+	void reusesCountWithinTimeToLive() {
+
+		when(clock.instant()).thenReturn(Instant.ofEpochSecond(0), Instant.ofEpochSecond(59));
+
+		assertThat(strategy.count(entity, null, this::countExactly)).isEqualTo(1);
+		assertThat(strategy.count(entity, null, this::countExactly)).isEqualTo(1);
+		assertThat(executedCounts).hasValue(1);
+	}
+
+	@Test
+	void countsAgainAfterTimeToLive() {
+
+		when(clock.instant()).thenReturn(Instant.ofEpochSecond(0), Instant.ofEpochSecond(60));
+
+		assertThat(strategy.count(entity, null, this::countExactly)).isEqualTo(1);
+		assertThat(strategy.count(entity, null, this::countExactly)).isEqualTo(2);
+	}
+
+	@Test
+	void cachesCountsPerCriteria() {
+
+		when(clock.instant()).thenReturn(Instant.ofEpochSecond(0));
+
+		assertThat(strategy.count(entity, "name = 'a'", this::countExactly)).isEqualTo(1);
+		assertThat(strategy.count(entity, "name = 'b'", this::countExactly)).isEqualTo(2);
+		assertThat(strategy.count(entity, "name = 'a'", this::countExactly)).isEqualTo(1);
+	}
+
+	@Test
+	void countsAgainAfterEviction() {
+
+		when(clock.instant()).thenReturn(Instant.ofEpochSecond(0));
+
+		strategy.count(entity, null, this::countExactly);
+		strategy.evict(DummyEntity.class);
+
+		assertThat(strategy.count(entity, null, this::countExactly)).isEqualTo(2);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedCountsBeyondMaximumSize() {
+
+		when(clock.instant()).thenReturn(Instant.ofEpochSecond(0));
+		CachingCountStrategy strategy = new CachingCountStrategy(CountStrategy.exact(), Duration.ofMinutes(1), 2, clock);
+
+		strategy.count(entity, "name = 'a'", this::countExactly);
+		strategy.count(entity, "name = 'b'", this::countExactly);
+		strategy.count(entity, "name = 'a'", this::countExactly);
+		strategy.count(entity, "name = 'c'", this::countExactly);
+
+		assertThat(strategy.size()).isEqualTo(2);
+		assertThat(strategy.count(entity, "name = 'a'", this::countExactly)).isEqualTo(1);
+		assertThat(strategy.count(entity, "name = 'b'", this::countExactly)).isEqualTo(4);
+	}
+
+	@Test
+	void evictsCountsDeterminedWithinTransactionAgainAfterCompletion() {
+
+		when(clock.instant()).thenReturn(Instant.ofEpochSecond(0));
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+
+			strategy.evict(DummyEntity.class);
+			strategy.count(entity, null, this::countExactly);
+
+			assertThat(strategy.size()).isEqualTo(1);
+
+			TransactionSynchronizationManager.getSynchronizations()
+					.forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertThat(strategy.size()).isZero();
+	}
+
+	private long countExactly() {
+		return executedCounts.incrementAndGet();
+	}
+
+	static class DummyEntity {
+		@Id Long id;
+		String name;
+	}
+}
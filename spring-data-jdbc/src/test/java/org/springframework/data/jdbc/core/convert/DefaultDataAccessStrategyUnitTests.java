@@ -16,22 +16,39 @@
 package org.springframework.data.jdbc.core.convert;
 
 import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.jdbc.core.dialect.JdbcDialect;
+import org.springframework.data.jdbc.core.dialect.JdbcPostgresDialect;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.dialect.HsqlDbDialect;
+import org.springframework.data.relational.core.mapping.DirtyTracking;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.Sequence;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 /**
  * Unit tests for {@link DefaultDataAccessStrategy}.
@@ -114,6 +131,199 @@ class DefaultDataAccessStrategyUnitTests {
 		verify(insertStrategyFactory).batchInsertStrategy(IdValueSource.GENERATED, null);
 	}
 
+	@Test
+	void batchInsertWithSequenceInsertsAllocatedIds() {
+
+		SequenceIdAllocator sequenceIdAllocator = mock(SequenceIdAllocator.class);
+		when(insertStrategyFactory.sequenceIdAllocator()).thenReturn(sequenceIdAllocator);
+		when(sequenceIdAllocator.allocate(SqlIdentifier.quoted("DUMMY_SEQ"), 10, 2)).thenReturn(new Object[] { 1L, 2L });
+		when(sqlParametersFactory.forInsertWithId(any(), any(), any(), any()))
+				.thenAnswer(invocation -> new SqlIdentifierParameterSource());
+
+		Object[] ids = accessStrategy.insert(
+				List.of(InsertSubject.describedBy(new DummyEntityWithSequence(null), Identifier.empty()),
+						InsertSubject.describedBy(new DummyEntityWithSequence(null), Identifier.empty())),
+				DummyEntityWithSequence.class, IdValueSource.GENERATED);
+
+		assertThat(ids).containsExactly(1L, 2L);
+		verify(sqlParametersFactory).forInsertWithId(any(), eq(DummyEntityWithSequence.class), any(), eq(1L));
+		verify(sqlParametersFactory).forInsertWithId(any(), eq(DummyEntityWithSequence.class), any(), eq(2L));
+		verify(insertStrategyFactory).batchInsertStrategy(IdValueSource.PROVIDED, SqlIdentifier.quoted("ID"));
+	}
+
+	@Test
+	void batchUpdateReportsUpdateCountOfEachRow() {
+
+		when(sqlParametersFactory.forUpdate(any(), any())).thenAnswer(invocation -> createUpdateParameterSource());
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class))).thenReturn(new int[] { 1, 0 });
+
+		boolean[] updated = accessStrategy.updateAll(
+				List.of(new DummyEntityWithName(1L, "one"), new DummyEntityWithName(2L, "two")), DummyEntityWithName.class);
+
+		assertThat(updated).containsExactly(true, false);
+		verify(namedJdbcOperations).batchUpdate(anyString(), any(SqlParameterSource[].class));
+	}
+
+	@Test
+	void batchUpdateWithVersionReportsRowsFailingTheVersionCheck() {
+
+		when(sqlParametersFactory.forUpdate(any(), any())).thenAnswer(invocation -> createUpdateParameterSource());
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class))).thenReturn(new int[] { 1, 0 });
+
+		List<DummyEntityWithVersion> instances = List.of(new DummyEntityWithVersion(1L, "one", 2L),
+				new DummyEntityWithVersion(2L, "two", 2L));
+
+		boolean[] updated = accessStrategy.updateAllWithVersion(instances, DummyEntityWithVersion.class,
+				List.of(1L, 1L));
+
+		assertThat(updated).containsExactly(true, false);
+	}
+
+	@Test
+	void updateOfUnchangedDirtyTrackedInstanceIsSkipped() {
+
+		DirtyTrackedEntity instance = new DirtyTrackedEntity(ORIGINAL_ID, "name", "description");
+		converter.getEntitySnapshots().capture(context.getRequiredPersistentEntity(DirtyTrackedEntity.class), instance);
+
+		assertThat(accessStrategy.update(instance, DirtyTrackedEntity.class)).isTrue();
+		verifyNoInteractions(namedJdbcOperations);
+	}
+
+	@Test
+	void updateOfDirtyTrackedInstanceOnlyWritesChangedColumns() {
+
+		when(sqlParametersFactory.forUpdate(any(), any())).thenAnswer(invocation -> createUpdateParameterSource());
+		when(namedJdbcOperations.update(anyString(), any(SqlParameterSource.class))).thenReturn(1);
+
+		DirtyTrackedEntity instance = new DirtyTrackedEntity(ORIGINAL_ID, "name", "description");
+		converter.getEntitySnapshots().capture(context.getRequiredPersistentEntity(DirtyTrackedEntity.class), instance);
+		instance.name = "changed";
+
+		accessStrategy.update(instance, DirtyTrackedEntity.class);
+
+		ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+		verify(namedJdbcOperations).update(sql.capture(), any(SqlParameterSource.class));
+		assertThat(sql.getValue()).contains("SET \"NAME\" = :NAME WHERE").doesNotContain("DESCRIPTION");
+
+		// the snapshot got refreshed by the update
+		assertThat(accessStrategy.update(instance, DirtyTrackedEntity.class)).isTrue();
+		verifyNoMoreInteractions(namedJdbcOperations);
+	}
+
+	@Test
+	void streamAllUsesQueryForStream() {
+
+		when(namedJdbcOperations.queryForStream(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenReturn(Stream.empty());
+
+		assertThat(accessStrategy.streamAll(DummyEntity.class)).isEmpty();
+
+		verify(namedJdbcOperations).queryForStream(startsWith("SELECT"), any(SqlParameterSource.class),
+				any(EntityRowMapper.class));
+	}
+
+	@Test
+	void streamAllAppliesStreamFetchSize() throws SQLException {
+
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+		when(jdbcOperations.queryForStream(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class)))
+				.thenReturn(Stream.empty());
+
+		accessStrategy.setStreamFetchSize(100);
+		accessStrategy.streamAll(DummyEntity.class);
+
+		ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+		verify(jdbcOperations).queryForStream(startsWith("SELECT"), setter.capture(), any(EntityRowMapper.class));
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		setter.getValue().setValues(preparedStatement);
+		verify(preparedStatement).setFetchSize(100);
+	}
+
+	@Test
+	void streamAllPassesNegativeStreamFetchSizeToDriver() throws SQLException {
+
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+		when(jdbcOperations.queryForStream(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class)))
+				.thenReturn(Stream.empty());
+
+		accessStrategy.setStreamFetchSize(Integer.MIN_VALUE);
+		accessStrategy.streamAll(DummyEntity.class);
+
+		ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+		verify(jdbcOperations).queryForStream(startsWith("SELECT"), setter.capture(), any(EntityRowMapper.class));
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		setter.getValue().setValues(preparedStatement);
+		verify(preparedStatement).setFetchSize(Integer.MIN_VALUE);
+	}
+
+	@Test
+	void batchUpdateReportsRowsWithoutUpdateCountAsUpdated() {
+
+		when(sqlParametersFactory.forUpdate(any(), any())).thenAnswer(invocation -> createUpdateParameterSource());
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+				.thenReturn(new int[] { Statement.SUCCESS_NO_INFO, 0 });
+
+		boolean[] updated = accessStrategy.updateAll(
+				List.of(new DummyEntityWithName(1L, "one"), new DummyEntityWithName(2L, "two")), DummyEntityWithName.class);
+
+		assertThat(updated).containsExactly(true, false);
+	}
+
+	@Test
+	void batchUpdateWithVersionReportsRowsWithoutUpdateCountAsUpdated() {
+
+		when(sqlParametersFactory.forUpdate(any(), any())).thenAnswer(invocation -> createUpdateParameterSource());
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+				.thenReturn(new int[] { Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO });
+
+		List<DummyEntityWithVersion> instances = List.of(new DummyEntityWithVersion(1L, "one", 2L),
+				new DummyEntityWithVersion(2L, "two", 2L));
+
+		boolean[] updated = accessStrategy.updateAllWithVersion(instances, DummyEntityWithVersion.class,
+				List.of(1L, 1L));
+
+		assertThat(updated).containsExactly(true, true);
+		verify(namedJdbcOperations, never()).update(anyString(), any(SqlParameterSource.class));
+	}
+
+	@Test
+	void updateWithVersionGetsExecutedRowByRowForDialectsNotReportingBatchUpdateCounts() {
+
+		JdbcDialect dialect = new JdbcPostgresDialect() {
+
+			@Override
+			public boolean reportsBatchUpdateCounts() {
+				return false;
+			}
+		};
+		DefaultDataAccessStrategy accessStrategy = new DefaultDataAccessStrategy(
+				new SqlGeneratorSource(context, converter, dialect), context, converter, namedJdbcOperations,
+				sqlParametersFactory, insertStrategyFactory);
+
+		when(sqlParametersFactory.forUpdate(any(), any())).thenAnswer(invocation -> createUpdateParameterSource());
+		when(namedJdbcOperations.update(anyString(), any(SqlParameterSource.class))).thenReturn(1, 0);
+
+		List<DummyEntityWithVersion> instances = List.of(new DummyEntityWithVersion(1L, "one", 2L),
+				new DummyEntityWithVersion(2L, "two", 2L));
+
+		boolean[] updated = accessStrategy.updateAllWithVersion(instances, DummyEntityWithVersion.class,
+				List.of(1L, 1L));
+
+		assertThat(updated).containsExactly(true, false);
+		verify(namedJdbcOperations, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+		verify(namedJdbcOperations, times(2)).update(anyString(), any(SqlParameterSource.class));
+	}
+
+	private static SqlIdentifierParameterSource createUpdateParameterSource() {
+
+		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource();
+		parameterSource.addValue(SqlIdentifier.quoted("ID"), ORIGINAL_ID);
+		parameterSource.addValue(SqlIdentifier.quoted("NAME"), "name");
+		return parameterSource;
+	}
+
 	@RequiredArgsConstructor
 	private static class DummyEntity {
 
@@ -125,4 +335,34 @@ class DefaultDataAccessStrategyUnitTests {
 
 		private final Long id;
 	}
+
+	@RequiredArgsConstructor
+	private static class DummyEntityWithSequence {
+
+		@Id @Sequence(value = "DUMMY_SEQ", allocationSize = 10) private final Long id;
+	}
+
+	@RequiredArgsConstructor
+	private static class DummyEntityWithName {
+
+		@Id private final Long id;
+		private final String name;
+	}
+
+	@DirtyTracking
+	@AllArgsConstructor
+	private static class DirtyTrackedEntity {
+
+		@Id private Long id;
+		private String name;
+		private String description;
+	}
+
+	@RequiredArgsConstructor
+	private static class DummyEntityWithVersion {
+
+		@Id private final Long id;
+		private final String name;
+		@Version private final Long version;
+	}
 }
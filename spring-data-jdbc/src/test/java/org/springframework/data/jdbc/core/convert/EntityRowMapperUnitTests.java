@@ -34,10 +34,16 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -54,15 +60,18 @@ import org.springframework.data.annotation.Transient;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.conversion.LazyLoadingRelation;
 import org.springframework.data.relational.core.mapping.DefaultNamingStrategy;
 import org.springframework.data.relational.core.mapping.Embedded;
 import org.springframework.data.relational.core.mapping.Embedded.OnEmpty;
+import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.NamingStrategy;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.repository.query.Param;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.LinkedCaseInsensitiveMap;
 
@@ -225,6 +234,38 @@ public class EntityRowMapperUnitTests {
 				.containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha", 2);
 	}
 
+	@Test
+	void collectionReferenceNotResolvedForProjectionNotExposingIt() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		OneToSet extracted = createRowMapper(OneToSet.class, DefaultNamingStrategy.INSTANCE, false, asList("id", "name"))
+				.mapRow(rs, 1);
+
+		assertThat(extracted) //
+				.isNotNull() //
+				.extracting(e -> e.id, e -> e.name, e -> e.children.size()) //
+				.containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha", 0);
+	}
+
+	@Test
+	void lazyCollectionReferenceGetsLoadedOnFirstAccess() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		LazyOneToSet extracted = createRowMapper(LazyOneToSet.class).mapRow(rs, 1);
+
+		assertThat(extracted.children).isInstanceOf(LazyLoadingRelation.class);
+		assertThat(((LazyLoadingRelation) extracted.children).isLoaded()).isFalse();
+
+		assertThat(extracted.children).hasSize(2);
+		assertThat(((LazyLoadingRelation) extracted.children).isLoaded()).isTrue();
+	}
+
 	@Test // DATAJDBC-131
 	void mapReferenceGetsLoadedWithAdditionalSelect() throws SQLException {
 
@@ -645,6 +686,163 @@ public class EntityRowMapperUnitTests {
 		assertThat(result.getComputed()).isEqualTo("Hello World");
 	}
 
+	@Test
+	void readsMetaDataOnceForAllRowsOfAResultSet() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha", //
+				ID_FOR_ENTITY_REFERENCING_MAP, "beta");
+		EntityRowMapper<Trivial> rowMapper = createRowMapper(Trivial.class);
+
+		rs.next();
+		Trivial first = rowMapper.mapRow(rs, 1);
+		rs.next();
+		Trivial second = rowMapper.mapRow(rs, 2);
+
+		assertThat(first.name).isEqualTo("alpha");
+		assertThat(second.name).isEqualTo("beta");
+		verify(rs).getMetaData();
+	}
+
+	@Test
+	void compilesNewPlanForEachResultSet() throws SQLException {
+
+		EntityRowMapper<Trivial> rowMapper = createRowMapper(Trivial.class);
+
+		ResultSet first = mockResultSet(asList("ID", "NAME"), ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		first.next();
+		Trivial fromFirst = rowMapper.mapRow(first, 1);
+
+		ResultSet second = mockResultSet(asList("NAME", "ID"), "beta", ID_FOR_ENTITY_REFERENCING_MAP);
+		second.next();
+		Trivial fromSecond = rowMapper.mapRow(second, 1);
+
+		assertThat(fromFirst).extracting(e -> e.id, e -> e.name).containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP,
+				"alpha");
+		assertThat(fromSecond).extracting(e -> e.id, e -> e.name).containsExactly(ID_FOR_ENTITY_REFERENCING_MAP,
+				"beta");
+	}
+
+	@Test
+	void sharedRowMapperReadsResultSetsOfConcurrentThreads() throws Exception {
+
+		int rows = 50;
+		EntityRowMapper<Trivial> rowMapper = createRowMapper(Trivial.class);
+		CyclicBarrier barrier = new CyclicBarrier(2);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+
+			Future<List<String>> first = executor
+					.submit(() -> readInLockstep(rowMapper, barrier, asList("ID", "NAME"), rows, "first"));
+			Future<List<String>> second = executor
+					.submit(() -> readInLockstep(rowMapper, barrier, asList("NAME", "ID"), rows, "second"));
+
+			assertThat(first.get(10, TimeUnit.SECONDS)).hasSize(rows).allMatch(name -> name.startsWith("first-"));
+			assertThat(second.get(10, TimeUnit.SECONDS)).hasSize(rows).allMatch(name -> name.startsWith("second-"));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void missingColumnStaysUnsetForAllRows() throws SQLException {
+
+		ResultSet rs = mockResultSet(singletonList("ID"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, //
+				ID_FOR_ENTITY_REFERENCING_MAP);
+		EntityRowMapper<Trivial> rowMapper = createRowMapper(Trivial.class);
+
+		rs.next();
+		Trivial first = rowMapper.mapRow(rs, 1);
+		rs.next();
+		Trivial second = rowMapper.mapRow(rs, 2);
+
+		assertThat(first).extracting(e -> e.id, e -> e.name).containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP, null);
+		assertThat(second).extracting(e -> e.id, e -> e.name).containsExactly(ID_FOR_ENTITY_REFERENCING_MAP, null);
+	}
+
+	@Test
+	void readsBackReferenceOfEntityWithoutIdForEachRow() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "CHILD_WITH_CHILD_WITHOUT_ID", "CHILD_ZERO_VALUE"), //
+				1L, 1L, "zero", //
+				2L, null, null, //
+				3L, 3L, "three");
+		EntityRowMapper<WithChildWithoutId> rowMapper = createRowMapper(WithChildWithoutId.class);
+
+		List<WithChildWithoutId> extracted = new ArrayList<>();
+		while (rs.next()) {
+			extracted.add(rowMapper.mapRow(rs, extracted.size()));
+		}
+
+		assertThat(extracted.get(0).child.zeroValue).isEqualTo("zero");
+		assertThat(extracted.get(1).child).isNull();
+		assertThat(extracted.get(2).child.zeroValue).isEqualTo("three");
+	}
+
+	@Test
+	void readsPrefixedColumnsOfNestedEmbeddablesForEachRow() throws SQLException {
+
+		ResultSet rs = mockResultSet(
+				asList("ID", "LEVEL0", "LEVEL1_VALUE", "LEVEL1_LEVEL2_VALUE", "LEVEL1_LEVEL2_NAME"), //
+				1L, "0", "1", "2", "first", //
+				2L, "a", "b", "c", "second");
+		EntityRowMapper<WithDeepNestedEmbeddable> rowMapper = createRowMapper(WithDeepNestedEmbeddable.class);
+
+		rs.next();
+		WithDeepNestedEmbeddable first = rowMapper.mapRow(rs, 1);
+		rs.next();
+		WithDeepNestedEmbeddable second = rowMapper.mapRow(rs, 2);
+
+		assertThat(first).extracting(e -> e.level0, e -> e.level1.value).containsExactly("0", "1");
+		assertThat(first.level1.level2).extracting(e -> e.value, e -> e.name).containsExactly("2", "first");
+		assertThat(second).extracting(e -> e.level0, e -> e.level1.value).containsExactly("a", "b");
+		assertThat(second.level1.level2).extracting(e -> e.value, e -> e.name).containsExactly("c", "second");
+	}
+
+	@Test
+	void compiledRowMappingReadsSimpleEntities() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		Trivial extracted = createRowMapper(Trivial.class, DefaultNamingStrategy.INSTANCE, true).mapRow(rs, 1);
+
+		assertThat(extracted) //
+				.extracting(e -> e.id, e -> e.name) //
+				.containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+	}
+
+	@Test
+	void compiledRowMappingPassesConstructorArguments() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		TrivialImmutable extracted = createRowMapper(TrivialImmutable.class, DefaultNamingStrategy.INSTANCE, true)
+				.mapRow(rs, 1);
+
+		assertThat(extracted) //
+				.extracting(e -> e.id, e -> e.name) //
+				.containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+	}
+
+	@Test
+	void compiledRowMappingFallsBackForSpelParameters() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "FIRST_NAME"), //
+				123L, "Hello World");
+		rs.next();
+
+		WithAtValue result = createRowMapper(WithAtValue.class, DefaultNamingStrategy.INSTANCE, true).mapRow(rs, 1);
+
+		assertThat(result.getId()).isEqualTo(123L);
+		assertThat(result.getComputed()).isEqualTo("Hello World");
+	}
+
 	// Model classes to be used in tests
 
 	@With
@@ -721,6 +919,13 @@ public class EntityRowMapperUnitTests {
 		Set<Trivial> children;
 	}
 
+	static class LazyOneToSet {
+
+		@Id Long id;
+		String name;
+		@MappedCollection(lazy = true) Set<Trivial> children;
+	}
+
 	static class OneToMap {
 
 		@Id Long id;
@@ -841,8 +1046,40 @@ public class EntityRowMapperUnitTests {
 		@Embedded(onEmpty = OnEmpty.USE_NULL, prefix = "level2_") ImmutableValue level2;
 	}
 
+	static class WithChildWithoutId {
+
+		@Id Long id;
+		NoIdChain0 child;
+	}
+
 	// Infrastructure for assertions and constructing mocks
 
+	private List<String> readInLockstep(EntityRowMapper<Trivial> rowMapper, CyclicBarrier barrier, List<String> columns,
+			int rows, String prefix) throws Exception {
+
+		Object[] values = new Object[rows * 2];
+		for (int i = 0; i < rows; i++) {
+
+			boolean idFirst = columns.get(0).equals("ID");
+			values[i * 2] = idFirst ? (long) i : prefix + "-" + i;
+			values[i * 2 + 1] = idFirst ? prefix + "-" + i : (long) i;
+		}
+
+		ResultSet rs = mockResultSet(columns, values);
+		List<String> names = new ArrayList<>();
+
+		while (rs.next()) {
+
+			barrier.await(10, TimeUnit.SECONDS);
+			Trivial trivial = rowMapper.mapRow(rs, names.size());
+
+			assertThat(trivial.id).isEqualTo((long) names.size());
+			names.add(trivial.name);
+		}
+
+		return names;
+	}
+
 	private <T> FixtureBuilder<T> buildFixture() {
 		return new FixtureBuilder<>();
 	}
@@ -851,8 +1088,18 @@ public class EntityRowMapperUnitTests {
 		return createRowMapper(type, DefaultNamingStrategy.INSTANCE);
 	}
 
-	@SuppressWarnings("unchecked")
 	private <T> EntityRowMapper<T> createRowMapper(Class<T> type, NamingStrategy namingStrategy) {
+		return createRowMapper(type, namingStrategy, false);
+	}
+
+	private <T> EntityRowMapper<T> createRowMapper(Class<T> type, NamingStrategy namingStrategy,
+			boolean compiledRowMappingEnabled) {
+		return createRowMapper(type, namingStrategy, compiledRowMappingEnabled, null);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> EntityRowMapper<T> createRowMapper(Class<T> type, NamingStrategy namingStrategy,
+			boolean compiledRowMappingEnabled, @Nullable Collection<String> resolvedProperties) {
 
 		RelationalMappingContext context = new JdbcMappingContext(namingStrategy);
 
@@ -888,11 +1135,13 @@ public class EntityRowMapperUnitTests {
 
 		BasicJdbcConverter converter = new BasicJdbcConverter(context, accessStrategy, new JdbcCustomConversions(),
 				JdbcTypeFactory.unsupported(), IdentifierProcessing.ANSI);
+		converter.setCompiledRowMappingEnabled(compiledRowMappingEnabled);
 
-		return new EntityRowMapper<>( //
-				(RelationalPersistentEntity<T>) context.getRequiredPersistentEntity(type), //
-				converter //
-		);
+		RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) context.getRequiredPersistentEntity(type);
+
+		return resolvedProperties == null //
+				? new EntityRowMapper<>(entity, converter) //
+				: new EntityRowMapper<>(entity, converter, resolvedProperties);
 	}
 
 	private Identifier identifierOfValue(long value) {
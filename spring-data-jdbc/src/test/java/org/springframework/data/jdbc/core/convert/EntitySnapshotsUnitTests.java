@@ -0,0 +1,172 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.DirtyTracking;
+import org.springframework.data.relational.core.mapping.Embedded;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link EntitySnapshots}.
+ */
+class EntitySnapshotsUnitTests {
+
+	JdbcMappingContext context = new JdbcMappingContext();
+	EntitySnapshots snapshots = new EntitySnapshots(context);
+	RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(Tracked.class);
+
+	@AfterEach
+	void clearSynchronization() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		TransactionSynchronizationManager.unbindResourceIfPossible(snapshots);
+	}
+
+	@Test
+	void reportsNoChangesForUnchangedInstance() {
+
+		Tracked tracked = new Tracked();
+		snapshots.capture(entity, tracked);
+
+		assertThat(snapshots.getChangedColumns(entity, tracked)).isEmpty();
+	}
+
+	@Test
+	void reportsChangedColumns() {
+
+		Tracked tracked = new Tracked();
+		snapshots.capture(entity, tracked);
+
+		tracked.name = "changed";
+		tracked.id = 23L;
+		tracked.readOnly = "changed";
+		tracked.address.street = "changed";
+
+		assertThat(snapshots.getChangedColumns(entity, tracked)).containsExactly(SqlIdentifier.quoted("NAME"),
+				SqlIdentifier.quoted("ADDRESS_STREET"));
+	}
+
+	@Test
+	void detectsChangesMadeToArraysInPlace() {
+
+		Tracked tracked = new Tracked();
+		snapshots.capture(entity, tracked);
+
+		tracked.data[0] = 42;
+
+		assertThat(snapshots.getChangedColumns(entity, tracked)).containsExactly(SqlIdentifier.quoted("DATA"));
+	}
+
+	@Test
+	void considersAllColumnsChangedWithoutSnapshot() {
+
+		Tracked tracked = new Tracked();
+		snapshots.capture(entity, new Tracked());
+
+		assertThat(snapshots.getChangedColumns(entity, tracked)).isNull();
+	}
+
+	@Test
+	void appliesSnapshotCapturedInTransactionAfterCommit() {
+
+		Tracked tracked = new Tracked();
+
+		TransactionSynchronizationManager.initSynchronization();
+		snapshots.capture(entity, tracked);
+
+		complete(TransactionSynchronization.STATUS_COMMITTED);
+
+		assertThat(snapshots.getChangedColumns(entity, tracked)).isEmpty();
+	}
+
+	@Test
+	void usesSnapshotCapturedInTransactionWithinThatTransaction() {
+
+		Tracked tracked = new Tracked();
+
+		TransactionSynchronizationManager.initSynchronization();
+		snapshots.capture(entity, tracked);
+
+		tracked.name = "changed";
+
+		assertThat(snapshots.getChangedColumns(entity, tracked)).containsExactly(SqlIdentifier.quoted("NAME"));
+
+		complete(TransactionSynchronization.STATUS_COMMITTED);
+	}
+
+	@Test
+	void discardsSnapshotCapturedInTransactionOnRollback() {
+
+		Tracked tracked = new Tracked();
+		snapshots.capture(entity, tracked);
+
+		TransactionSynchronizationManager.initSynchronization();
+		tracked.name = "changed";
+		snapshots.capture(entity, tracked);
+
+		complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		assertThat(snapshots.getChangedColumns(entity, tracked)).isNull();
+	}
+
+	@Test
+	void ignoresEntitiesWithoutDirtyTracking() {
+
+		RelationalPersistentEntity<?> untrackedEntity = context.getRequiredPersistentEntity(Untracked.class);
+		Untracked untracked = new Untracked();
+		snapshots.capture(untrackedEntity, untracked);
+
+		assertThat(snapshots.getChangedColumns(untrackedEntity, untracked)).isNull();
+	}
+
+	private static void complete(int status) {
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(it -> it.afterCompletion(status));
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	@DirtyTracking
+	static class Tracked {
+
+		@Id Long id = 1L;
+		String name = "name";
+		@ReadOnlyProperty String readOnly = "read only";
+		byte[] data = new byte[] { 1, 2, 3 };
+		@Embedded.Nullable(prefix = "ADDRESS_") Address address = new Address();
+	}
+
+	static class Address {
+		String street = "street";
+	}
+
+	static class Untracked {
+
+		@Id Long id = 1L;
+		String name = "name";
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * Integration tests for {@link EstimatedCountStrategy} using H2.
+ */
+class EstimatedCountStrategyIntegrationTests {
+
+	EmbeddedDatabase database;
+	JdbcTemplate jdbcTemplate;
+	EstimatedCountStrategy strategy;
+
+	RelationalPersistentEntity<?> entity = new JdbcMappingContext().getRequiredPersistentEntity(DummyEntity.class);
+
+	@BeforeEach
+	void before() {
+
+		database = new EmbeddedDatabaseBuilder() //
+				.generateUniqueName(true) //
+				.setType(EmbeddedDatabaseType.H2) //
+				.build();
+		jdbcTemplate = new JdbcTemplate(database);
+		strategy = new EstimatedCountStrategy(jdbcTemplate, H2Dialect.INSTANCE);
+
+		jdbcTemplate.execute("CREATE TABLE DUMMY_ENTITY (ID BIGINT PRIMARY KEY, NAME VARCHAR(100))");
+		jdbcTemplate.execute("INSERT INTO DUMMY_ENTITY VALUES (1, 'one'), (2, 'two'), (3, 'three')");
+		jdbcTemplate.execute("ANALYZE");
+	}
+
+	@AfterEach
+	void after() {
+		database.shutdown();
+	}
+
+	@Test
+	void readsEstimateForUnrestrictedCount() {
+
+		long count = strategy.count(entity, null, () -> {
+			throw new AssertionError("Exact count must not be executed");
+		});
+
+		assertThat(count).isEqualTo(3);
+	}
+
+	@Test
+	void countsRestrictedQueriesExactly() {
+		assertThat(strategy.count(entity, "name = 'one'", () -> 1L)).isEqualTo(1);
+	}
+
+	@Test
+	void countsExactlyWithoutTable() {
+
+		jdbcTemplate.execute("DROP TABLE DUMMY_ENTITY");
+
+		assertThat(strategy.count(entity, null, () -> 0L)).isEqualTo(0);
+	}
+
+	static class DummyEntity {
+		@Id Long id;
+		String name;
+	}
+}
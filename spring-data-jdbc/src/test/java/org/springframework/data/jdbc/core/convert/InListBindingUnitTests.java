@@ -0,0 +1,111 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.dialect.OracleDialect;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.dialect.SqlServerDialect;
+
+/**
+ * Unit tests for {@link InListBinding}.
+ */
+class InListBindingUnitTests {
+
+	@Test
+	void doesNotChangeValuesWithoutLimitOrPadding() {
+
+		InListBinding binding = new InListBinding(H2Dialect.INSTANCE);
+		List<Integer> values = range(5000);
+
+		assertThat(binding.bindAsArray(values.size())).isFalse();
+		assertThat(binding.partition(values)).containsExactly(values);
+	}
+
+	@Test
+	void padsToNextPowerOfTwo() {
+
+		InListBinding binding = new InListBinding(OracleDialect.INSTANCE);
+
+		assertThat(binding.partition(List.of(1))).containsExactly(List.of(1));
+		assertThat(binding.partition(List.of(1, 2, 3))).containsExactly(List.of(1, 2, 3, 3));
+		assertThat(binding.partition(List.of(1, 2, 3, 4))).containsExactly(List.of(1, 2, 3, 4));
+		assertThat(binding.partition(range(600)).get(0)).hasSize(1000).endsWith(599, 599);
+	}
+
+	@Test
+	void splitsValuesExceedingMaxListSize() {
+
+		InListBinding binding = new InListBinding(OracleDialect.INSTANCE);
+
+		List<List<Integer>> partitions = binding.partition(range(2100));
+
+		assertThat(binding.bindAsArray(2100)).isFalse();
+		assertThat(partitions).extracting(List::size).containsExactly(1000, 1000, 128);
+		assertThat(partitions.get(1)).startsWith(1000).endsWith(1999);
+		assertThat(partitions.get(2)).startsWith(2000).endsWith(2099, 2099);
+	}
+
+	@Test
+	void doesNotPadValuesExceedingMaxListSize() {
+
+		InListBinding binding = new InListBinding(OracleDialect.INSTANCE);
+		List<Integer> values = range(1500);
+
+		assertThat(binding.pad(values)).isSameAs(values);
+		assertThat(binding.pad(List.of(1, 2, 3))).containsExactly(1, 2, 3, 3);
+	}
+
+	@Test
+	void rejectsListsExceedingMaxParameterCount() {
+
+		InListBinding binding = new InListBinding(SqlServerDialect.INSTANCE);
+
+		assertThatNoException().isThrownBy(() -> binding.verifyParameterCount(100, binding.partition(range(2000))));
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> binding.verifyParameterCount(101, binding.partition(range(2000))));
+
+		InListBinding unlimited = new InListBinding(OracleDialect.INSTANCE);
+		assertThatNoException().isThrownBy(() -> unlimited.verifyParameterCount(5000, unlimited.partition(range(5000))));
+	}
+
+	@Test
+	void bindsValuesExceedingMaxListSizeAsArrayIfSupported() {
+
+		InListBinding binding = new InListBinding(PostgresDialect.INSTANCE);
+
+		assertThat(binding.bindAsArray(32767)).isFalse();
+		assertThat(binding.bindAsArray(32768)).isTrue();
+	}
+
+	@Test
+	void createsTypedArrays() {
+
+		assertThat(InListBinding.toTypedArray(List.of(1L, 2L))).isInstanceOf(Long[].class).containsExactly(1L, 2L);
+		assertThat(InListBinding.toTypedArray(List.of())).isInstanceOf(Object[].class).isEmpty();
+	}
+
+	private static List<Integer> range(int size) {
+		return IntStream.range(0, size).boxed().toList();
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+
+/**
+ * Unit tests for {@link LocalAggregateCache}.
+ */
+class LocalAggregateCacheUnitTests {
+
+	Clock clock = mock(Clock.class);
+	LocalAggregateCache cache = new LocalAggregateCache(2, Duration.ofMinutes(1), clock);
+
+	JdbcMappingContext context = new JdbcMappingContext();
+	JdbcConverter converter = new BasicJdbcConverter(context, (identifier, path) -> {
+		throw new UnsupportedOperationException();
+	});
+
+	CachedAggregate one = capture(new DummyEntity(1L));
+	CachedAggregate two = capture(new DummyEntity(2L));
+	CachedAggregate three = capture(new DummyEntity(3L));
+
+	@Test
+	void returnsAggregatesWithinTimeToLive() {
+
+		when(clock.instant()).thenReturn(Instant.ofEpochSecond(0), Instant.ofEpochSecond(59), Instant.ofEpochSecond(60));
+
+		cache.put(DummyEntity.class, 1L, one);
+
+		assertThat(cache.get(DummyEntity.class, 1L)).isSameAs(one);
+		assertThat(cache.get(DummyEntity.class, 1L)).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedAggregates() {
+
+		when(clock.instant()).thenReturn(Instant.ofEpochSecond(0));
+
+		cache.put(DummyEntity.class, 1L, one);
+		cache.put(DummyEntity.class, 2L, two);
+		cache.get(DummyEntity.class, 1L);
+		cache.put(DummyEntity.class, 3L, three);
+
+		assertThat(cache.get(DummyEntity.class, 1L)).isSameAs(one);
+		assertThat(cache.get(DummyEntity.class, 2L)).isNull();
+		assertThat(cache.get(DummyEntity.class, 3L)).isSameAs(three);
+	}
+
+	@Test
+	void keepsAggregatesPerType() {
+
+		when(clock.instant()).thenReturn(Instant.ofEpochSecond(0));
+
+		cache.put(DummyEntity.class, 1L, one);
+		cache.put(OtherEntity.class, 1L, two);
+		cache.evictAll(DummyEntity.class);
+
+		assertThat(cache.get(DummyEntity.class, 1L)).isNull();
+		assertThat(cache.get(OtherEntity.class, 1L)).isSameAs(two);
+	}
+
+	@Test
+	void putIfAbsentKeepsCachedAggregate() {
+
+		when(clock.instant()).thenReturn(Instant.ofEpochSecond(0));
+
+		cache.put(DummyEntity.class, 1L, one);
+		cache.putIfAbsent(DummyEntity.class, 1L, capture(new DummyEntity(1L)));
+		cache.putIfAbsent(DummyEntity.class, 2L, two);
+
+		assertThat(cache.get(DummyEntity.class, 1L)).isSameAs(one);
+		assertThat(cache.get(DummyEntity.class, 2L)).isSameAs(two);
+	}
+
+	@Test
+	void putIfAbsentReplacesOnlyOlderVersions() {
+
+		when(clock.instant()).thenReturn(Instant.ofEpochSecond(0));
+
+		CachedAggregate versionOne = capture(new VersionedEntity(1L, 1));
+		CachedAggregate versionTwo = capture(new VersionedEntity(1L, 2));
+
+		cache.put(VersionedEntity.class, 1L, versionTwo);
+		cache.putIfAbsent(VersionedEntity.class, 1L, versionOne);
+
+		assertThat(cache.get(VersionedEntity.class, 1L)).isSameAs(versionTwo);
+
+		cache.put(VersionedEntity.class, 1L, versionOne);
+		cache.putIfAbsent(VersionedEntity.class, 1L, versionTwo);
+
+		assertThat(cache.get(VersionedEntity.class, 1L)).isSameAs(versionTwo);
+	}
+
+	@Test
+	void putIfAbsentReplacesExpiredAggregate() {
+
+		when(clock.instant()).thenReturn(Instant.ofEpochSecond(0), Instant.ofEpochSecond(60));
+
+		CachedAggregate reloaded = capture(new DummyEntity(1L));
+
+		cache.put(DummyEntity.class, 1L, one);
+		cache.putIfAbsent(DummyEntity.class, 1L, reloaded);
+
+		assertThat(cache.get(DummyEntity.class, 1L)).isSameAs(reloaded);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> CachedAggregate capture(T entity) {
+		return CachedAggregate.capture(converter,
+				(RelationalPersistentEntity<T>) context.getRequiredPersistentEntity(entity.getClass()), entity);
+	}
+
+	static class DummyEntity {
+
+		@Id Long id;
+
+		DummyEntity(Long id) {
+			this.id = id;
+		}
+	}
+
+	static class VersionedEntity {
+
+		@Id Long id;
+		@Version Integer version;
+
+		VersionedEntity(Long id, Integer version) {
+			this.id = id;
+			this.version = version;
+		}
+	}
+
+	static class OtherEntity {}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.KeyHolder;
+
+/**
+ * Unit tests for {@link MultiRowInsertStrategy}.
+ */
+class MultiRowInsertStrategyUnitTests {
+
+	SqlIdentifier idColumn = SqlIdentifier.quoted("id");
+	NamedParameterJdbcOperations jdbcOperations = mock(NamedParameterJdbcOperations.class);
+	List<Integer> requestedRows = new ArrayList<>();
+
+	@Test
+	void insertsAllRowsWithASingleStatement() {
+
+		MultiRowInsertStrategy strategy = new MultiRowInsertStrategy(PostgresDialect.INSTANCE, jdbcOperations, false,
+				null);
+
+		strategy.execute(this::sql, parameterSources(3));
+
+		ArgumentCaptor<SqlParameterSource> captor = ArgumentCaptor.forClass(SqlParameterSource.class);
+		verify(jdbcOperations).update(eq("sql for 3"), captor.capture());
+
+		assertThat(requestedRows).containsExactly(3);
+		assertThat(captor.getValue().getParameterNames()).containsExactlyInAnyOrder("name_0", "name_1", "name_2");
+		assertThat(captor.getValue().getValue("name_1")).isEqualTo("value1");
+	}
+
+	@Test
+	void splitsLargeInsertsIntoChunks() {
+
+		MultiRowInsertStrategy strategy = new MultiRowInsertStrategy(PostgresDialect.INSTANCE, jdbcOperations, false,
+				null);
+
+		strategy.execute(this::sql, parameterSources(MultiRowInsertStrategy.MAX_ROWS + 1));
+
+		assertThat(requestedRows).containsExactly(MultiRowInsertStrategy.MAX_ROWS, 1);
+		verify(jdbcOperations).update(eq("sql for " + MultiRowInsertStrategy.MAX_ROWS), any(SqlParameterSource.class));
+		verify(jdbcOperations).update(eq("sql for 1"), any(SqlParameterSource.class));
+	}
+
+	@Test
+	void readsGeneratedIdsInRowOrder() {
+
+		when(jdbcOperations.update(any(), any(SqlParameterSource.class), any(KeyHolder.class)))
+				.thenAnswer(invocation -> {
+
+					KeyHolder keyHolder = invocation.getArgument(2);
+					keyHolder.getKeyList().add(Map.of("id", 23L));
+					keyHolder.getKeyList().add(Map.of("id", 42L));
+					return 2;
+				});
+
+		MultiRowInsertStrategy strategy = new MultiRowInsertStrategy(PostgresDialect.INSTANCE, jdbcOperations, true,
+				idColumn);
+
+		Object[] ids = strategy.execute(this::sql, parameterSources(2));
+
+		assertThat(ids).containsExactly(23L, 42L);
+		verify(jdbcOperations).update(eq("sql for 2"), any(SqlParameterSource.class), any(KeyHolder.class));
+	}
+
+	@Test
+	void rejectsMissingGeneratedIds() {
+
+		when(jdbcOperations.update(any(), any(SqlParameterSource.class), any(KeyHolder.class)))
+				.thenAnswer(invocation -> {
+
+					KeyHolder keyHolder = invocation.getArgument(2);
+					keyHolder.getKeyList().add(Map.of("id", 23L));
+					return 2;
+				});
+
+		MultiRowInsertStrategy strategy = new MultiRowInsertStrategy(PostgresDialect.INSTANCE, jdbcOperations, true,
+				idColumn);
+
+		assertThatIllegalStateException().isThrownBy(() -> strategy.execute(this::sql, parameterSources(2)));
+	}
+
+	private String sql(int rows) {
+
+		requestedRows.add(rows);
+		return "sql for " + rows;
+	}
+
+	private static SqlIdentifierParameterSource[] parameterSources(int count) {
+
+		SqlIdentifierParameterSource[] sources = new SqlIdentifierParameterSource[count];
+		for (int i = 0; i < count; i++) {
+
+			sources[i] = new SqlIdentifierParameterSource();
+			sources[i].addValue(SqlIdentifier.unquoted("name"), "value" + i);
+		}
+		return sources;
+	}
+}
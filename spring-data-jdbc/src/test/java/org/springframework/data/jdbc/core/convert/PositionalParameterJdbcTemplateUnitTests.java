@@ -0,0 +1,117 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+/**
+ * Unit tests for {@link PositionalParameterJdbcTemplate}.
+ */
+class PositionalParameterJdbcTemplateUnitTests {
+
+	JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+	PositionalParameterJdbcTemplate template = new PositionalParameterJdbcTemplate(jdbcOperations);
+
+	Connection connection = mock(Connection.class);
+	PreparedStatement statement = mock(PreparedStatement.class);
+
+	@Test
+	void bindsParametersInTheOrderOfTheirPositionalMarkers() throws Exception {
+
+		when(connection.prepareStatement(anyString())).thenReturn(statement);
+
+		MapSqlParameterSource parameters = new MapSqlParameterSource() //
+				.addValue("name", "Jane", Types.VARCHAR) //
+				.addValue("id", 23L, Types.BIGINT);
+
+		template.update("UPDATE person SET name = :name WHERE id = :id OR parent = :id", parameters);
+
+		PreparedStatementCreator creator = captureCreator();
+		creator.createPreparedStatement(connection);
+
+		assertThat(((SqlProvider) creator).getSql())
+				.isEqualTo("UPDATE person SET name = ? WHERE id = ? OR parent = ?");
+		verify(connection).prepareStatement("UPDATE person SET name = ? WHERE id = ? OR parent = ?");
+		verify(statement).setString(1, "Jane");
+		verify(statement).setObject(2, 23L, Types.BIGINT);
+		verify(statement).setObject(3, 23L, Types.BIGINT);
+	}
+
+	@Test
+	void expandsCollectionParametersAsUsual() throws Exception {
+
+		when(connection.prepareStatement(anyString())).thenReturn(statement);
+
+		template.update("DELETE FROM person WHERE id IN (:ids)", new MapSqlParameterSource("ids", List.of(1L, 2L)));
+
+		captureCreator().createPreparedStatement(connection);
+
+		verify(connection).prepareStatement("DELETE FROM person WHERE id IN (?, ?)");
+	}
+
+	@Test
+	void expandsCollectionParametersWrappedInSqlParameterValueAsUsual() throws Exception {
+
+		when(connection.prepareStatement(anyString())).thenReturn(statement);
+
+		template.update("DELETE FROM person WHERE id IN (:ids)",
+				new MapSqlParameterSource("ids", new SqlParameterValue(Types.BIGINT, List.of(1L, 2L))));
+
+		captureCreator().createPreparedStatement(connection);
+
+		verify(connection).prepareStatement("DELETE FROM person WHERE id IN (?, ?)");
+		verify(statement).setObject(1, 1L, Types.BIGINT);
+		verify(statement).setObject(2, 2L, Types.BIGINT);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedStatements() {
+
+		PositionalParameterJdbcTemplate template = new PositionalParameterJdbcTemplate(jdbcOperations, 2);
+		MapSqlParameterSource parameters = new MapSqlParameterSource("id", 23L);
+
+		template.update("DELETE FROM a WHERE id = :id", parameters);
+		template.update("DELETE FROM b WHERE id = :id", parameters);
+		template.update("DELETE FROM a WHERE id = :id", parameters);
+		template.update("DELETE FROM c WHERE id = :id", parameters);
+
+		assertThat(template.size()).isEqualTo(2);
+		assertThat(template.isCached("DELETE FROM a WHERE id = :id")).isTrue();
+		assertThat(template.isCached("DELETE FROM b WHERE id = :id")).isFalse();
+		assertThat(template.isCached("DELETE FROM c WHERE id = :id")).isTrue();
+	}
+
+	private PreparedStatementCreator captureCreator() {
+
+		ArgumentCaptor<PreparedStatementCreator> captor = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+		verify(jdbcOperations).update(captor.capture());
+		return captor.getValue();
+	}
+}
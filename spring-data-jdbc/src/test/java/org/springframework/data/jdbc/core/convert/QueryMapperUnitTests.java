@@ -21,15 +21,21 @@ import static org.springframework.data.domain.Sort.Order.*;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.QueryMapper;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.dialect.OracleDialect;
 import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.dialect.SqlServerDialect;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.sql.Condition;
@@ -308,6 +314,79 @@ public class QueryMapperUnitTests {
 		assertThat(condition).hasToString("person.\"NAME\" NOT IN (?[:name], ?[:name1], ?[:name2])");
 	}
 
+	@Test
+	public void shouldPadInListIfEnabledByDialect() {
+
+		QueryMapper mapper = new QueryMapper(OracleDialect.INSTANCE, converter);
+		Criteria criteria = Criteria.where("name").in("a", "b", "c");
+
+		Condition condition = mapper.getMappedObject(parameterSource, criteria, Table.create("person"),
+				context.getRequiredPersistentEntity(Person.class));
+
+		assertThat(condition).hasToString("person.\"NAME\" IN (?[:name], ?[:name1], ?[:name2], ?[:name3])");
+		assertThat(parameterSource.getValue("name3")).isEqualTo("c");
+	}
+
+	@Test
+	public void shouldNotSplitInListOfMaxListSizeOfDialect() {
+
+		QueryMapper mapper = new QueryMapper(OracleDialect.INSTANCE, converter);
+		List<String> names = IntStream.range(0, 1000).mapToObj(i -> "name" + i).toList();
+		Criteria criteria = Criteria.where("name").in(names);
+
+		Condition condition = mapper.getMappedObject(parameterSource, criteria, Table.create("person"),
+				context.getRequiredPersistentEntity(Person.class));
+
+		assertThat(condition.toString()).startsWith("person.\"NAME\" IN (?[:name], ") //
+				.doesNotContain(" OR ") //
+				.endsWith("?[:name999])");
+		assertThat(parameterSource.getValues()).hasSize(1000);
+	}
+
+	@Test
+	public void shouldSplitInListExceedingMaxListSizeOfDialect() {
+
+		QueryMapper mapper = new QueryMapper(OracleDialect.INSTANCE, converter);
+		List<String> names = IntStream.range(0, 1001).mapToObj(i -> "name" + i).toList();
+		Criteria criteria = Criteria.where("name").in(names);
+
+		Condition condition = mapper.getMappedObject(parameterSource, criteria, Table.create("person"),
+				context.getRequiredPersistentEntity(Person.class));
+
+		assertThat(condition.toString()).startsWith("(person.\"NAME\" IN (?[:name], ") //
+				.contains("?[:name999]) OR person.\"NAME\" IN (?[:name1000]))");
+		assertThat(parameterSource.getValues()).hasSize(1001);
+	}
+
+	@Test
+	public void shouldSplitNotInListExceedingMaxListSizeOfDialectCombiningListsWithAnd() {
+
+		QueryMapper mapper = new QueryMapper(OracleDialect.INSTANCE, converter);
+		List<String> names = IntStream.range(0, 1500).mapToObj(i -> "name" + i).toList();
+		Criteria criteria = Criteria.where("name").notIn(names);
+
+		Condition condition = mapper.getMappedObject(parameterSource, criteria, Table.create("person"),
+				context.getRequiredPersistentEntity(Person.class));
+
+		assertThat(condition.toString()).startsWith("(person.\"NAME\" NOT IN (?[:name], ") //
+				.contains("?[:name999]) AND person.\"NAME\" NOT IN (?[:name1000], ") //
+				.doesNotContain(" OR ") //
+				.endsWith("?[:name1511]))");
+		assertThat(parameterSource.getValue("name1511")).isEqualTo("name1499");
+	}
+
+	@Test
+	public void shouldRejectInListExceedingMaxParameterCountOfDialect() {
+
+		QueryMapper mapper = new QueryMapper(SqlServerDialect.INSTANCE, converter);
+		List<String> names = IntStream.range(0, 2200).mapToObj(i -> "name" + i).toList();
+		Criteria criteria = Criteria.where("name").in(names);
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> mapper.getMappedObject(parameterSource, criteria, Table.create("person"),
+						context.getRequiredPersistentEntity(Person.class)));
+	}
+
 	@Test // DATAJDBC-318
 	public void shouldMapIsGt() {
 
@@ -380,6 +459,62 @@ public class QueryMapperUnitTests {
 		assertThat(fields.get(0)).hasToString("tbl.\"another_name\" DESC");
 	}
 
+	@Test
+	public void shouldMapKeysetToRowValueComparison() {
+
+		Condition condition = mapper.getMappedObject(parameterSource,
+				ScrollPosition.forward(Map.of("name", "a", "alternative", "b")), Sort.by("name", "alternative"),
+				Table.create("person"), context.getRequiredPersistentEntity(Person.class));
+
+		assertThat(condition)
+				.hasToString("(person.\"NAME\", person.\"another_name\") > (?[:name], ?[:another_name])");
+		assertThat(parameterSource.getValue("name")).isEqualTo("a");
+		assertThat(parameterSource.getValue("another_name")).isEqualTo("b");
+	}
+
+	@Test
+	public void shouldMapBackwardKeysetToRowValueComparison() {
+
+		Condition condition = mapper.getMappedObject(parameterSource,
+				ScrollPosition.backward(Map.of("name", "a", "alternative", "b")), Sort.by("name", "alternative"),
+				Table.create("person"), context.getRequiredPersistentEntity(Person.class));
+
+		assertThat(condition)
+				.hasToString("(person.\"NAME\", person.\"another_name\") < (?[:name], ?[:another_name])");
+	}
+
+	@Test
+	public void shouldExpandKeysetComparisonForMixedSortDirections() {
+
+		Condition condition = mapper.getMappedObject(parameterSource,
+				ScrollPosition.forward(Map.of("name", "a", "alternative", "b")), Sort.by(asc("name"), desc("alternative")),
+				Table.create("person"), context.getRequiredPersistentEntity(Person.class));
+
+		assertThat(condition).hasToString(
+				"(person.\"NAME\" > ?[:name] OR (person.\"NAME\" = ?[:name] AND person.\"another_name\" < ?[:another_name]))");
+	}
+
+	@Test
+	public void shouldExpandKeysetComparisonIfDialectDoesNotSupportRowValues() {
+
+		QueryMapper mapper = new QueryMapper(OracleDialect.INSTANCE, converter);
+
+		Condition condition = mapper.getMappedObject(parameterSource,
+				ScrollPosition.forward(Map.of("name", "a", "alternative", "b")), Sort.by("name", "alternative"),
+				Table.create("person"), context.getRequiredPersistentEntity(Person.class));
+
+		assertThat(condition).hasToString(
+				"(person.\"NAME\" > ?[:name] OR (person.\"NAME\" = ?[:name] AND person.\"another_name\" > ?[:another_name]))");
+	}
+
+	@Test
+	public void shouldRejectKeysetWithoutValueForSortProperty() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> mapper.getMappedObject(parameterSource,
+				ScrollPosition.forward(Map.of("name", "a")), Sort.by("name", "alternative"), Table.create("person"),
+				context.getRequiredPersistentEntity(Person.class)));
+	}
+
 	private Condition map(Criteria criteria) {
 
 		return mapper.getMappedObject(parameterSource, criteria, Table.create("person"),
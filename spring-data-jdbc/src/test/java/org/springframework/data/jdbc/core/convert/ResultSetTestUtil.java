@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+
+/**
+ * Creates in-memory {@link ResultSet}s holding fixed rows.
+ */
+final class ResultSetTestUtil {
+
+	private ResultSetTestUtil() {}
+
+	/**
+	 * Creates a {@link ResultSet} with the given columns holding the given values row by row.
+	 *
+	 * @param columns the names and labels of the columns.
+	 * @param values the values of all rows, one after the other.
+	 */
+	static ResultSet rows(List<String> columns, Object... values) throws SQLException {
+		return rows(metaData(columns), values);
+	}
+
+	/**
+	 * Creates a {@link ResultSet} described by the given meta data holding the given values row by row.
+	 *
+	 * @param metaData the meta data of the columns.
+	 * @param values the values of all rows, one after the other.
+	 */
+	static ResultSet rows(RowSetMetaDataImpl metaData, Object... values) throws SQLException {
+
+		int columnCount = metaData.getColumnCount();
+
+		CachedRowSet rows = RowSetProvider.newFactory().createCachedRowSet();
+		rows.setMetaData(metaData);
+
+		for (int offset = 0; offset < values.length; offset += columnCount) {
+
+			rows.last();
+			rows.moveToInsertRow();
+			for (int i = 1; i <= columnCount; i++) {
+				rows.updateObject(i, values[offset + i - 1]);
+			}
+			rows.insertRow();
+			rows.moveToCurrentRow();
+		}
+
+		rows.beforeFirst();
+		return rows;
+	}
+
+	/**
+	 * Creates meta data for nullable columns of arbitrary type using the same name and label.
+	 */
+	static RowSetMetaDataImpl metaData(List<String> columns) throws SQLException {
+
+		RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+		metaData.setColumnCount(columns.size());
+
+		for (int i = 1; i <= columns.size(); i++) {
+
+			metaData.setColumnName(i, columns.get(i - 1));
+			metaData.setColumnLabel(i, columns.get(i - 1));
+			metaData.setColumnType(i, Types.JAVA_OBJECT);
+			metaData.setNullable(i, ResultSetMetaData.columnNullable);
+		}
+
+		return metaData;
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+
+/**
+ * Unit tests for {@link ScrollSupport}.
+ */
+class ScrollSupportUnitTests {
+
+	JdbcMappingContext context = new JdbcMappingContext();
+	RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(Person.class);
+
+	Person alice = new Person(1L, "Alice");
+	Person bob = new Person(2L, "Bob");
+	Person carol = new Person(3L, "Carol");
+
+	@Test
+	void keysetSortEndsWithId() {
+
+		assertThat(ScrollSupport.getKeysetSort(Sort.by("name"), entity)).isEqualTo(Sort.by("name", "id"));
+		assertThat(ScrollSupport.getKeysetSort(Sort.unsorted(), entity)).isEqualTo(Sort.by("id"));
+		assertThat(ScrollSupport.getKeysetSort(Sort.by(Sort.Direction.DESC, "id"), entity))
+				.isEqualTo(Sort.by(Sort.Direction.DESC, "id"));
+	}
+
+	@Test
+	void querySortGetsReversedForBackwardKeyset() {
+
+		Sort keysetSort = Sort.by("name", "id");
+
+		assertThat(ScrollSupport.getQuerySort(keysetSort, ScrollPosition.keyset())).isEqualTo(keysetSort);
+		assertThat(ScrollSupport.getQuerySort(keysetSort, ScrollPosition.backward(Map.of("name", "Bob", "id", 2L))))
+				.isEqualTo(Sort.by(Sort.Direction.DESC, "name", "id"));
+		assertThat(ScrollSupport.getQuerySort(keysetSort, ScrollPosition.offset(10))).isEqualTo(keysetSort);
+	}
+
+	@Test
+	void fetchesOneRowMoreThanTheWindowHolds() {
+
+		assertThat(ScrollSupport.getFetchSize(10)).isEqualTo(11);
+		assertThat(ScrollSupport.getFetchSize(-1)).isEqualTo(-1);
+	}
+
+	@Test
+	void dropsLookAheadRowAndReportsNextWindow() {
+
+		Window<Person> window = createWindow(Arrays.asList(alice, bob, carol), ScrollPosition.keyset(), 2);
+
+		assertThat(window.getContent()).containsExactly(alice, bob);
+		assertThat(window.hasNext()).isTrue();
+	}
+
+	@Test
+	void reportsLastWindowWithoutLookAheadRow() {
+
+		Window<Person> window = createWindow(Arrays.asList(alice, bob), ScrollPosition.keyset(), 2);
+
+		assertThat(window.getContent()).containsExactly(alice, bob);
+		assertThat(window.hasNext()).isFalse();
+	}
+
+	@Test
+	void keepsAllRowsOfUnlimitedWindow() {
+
+		Window<Person> window = createWindow(Arrays.asList(alice, bob, carol), ScrollPosition.keyset(), -1);
+
+		assertThat(window.getContent()).containsExactly(alice, bob, carol);
+		assertThat(window.hasNext()).isFalse();
+	}
+
+	@Test
+	void createsEmptyWindow() {
+
+		Window<Person> window = createWindow(Collections.emptyList(), ScrollPosition.keyset(), 2);
+
+		assertThat(window.isEmpty()).isTrue();
+		assertThat(window.hasNext()).isFalse();
+	}
+
+	@Test
+	void providesForwardKeysetPositionsOfElements() {
+
+		Window<Person> window = createWindow(Arrays.asList(alice, bob, carol), ScrollPosition.keyset(), 2);
+
+		KeysetScrollPosition position = (KeysetScrollPosition) window.positionAt(1);
+
+		assertThat(position.scrollsBackward()).isFalse();
+		assertThat(position.getKeys()).containsOnly(entry("name", "Bob"), entry("id", 2L));
+	}
+
+	@Test
+	void reversesRowsOfBackwardKeyset() {
+
+		ScrollPosition position = ScrollPosition.backward(Map.of("name", "Dave", "id", 4L));
+
+		Window<Person> window = createWindow(Arrays.asList(carol, bob, alice), position, 2);
+
+		assertThat(window.getContent()).containsExactly(bob, carol);
+		assertThat(window.hasNext()).isTrue();
+
+		KeysetScrollPosition previous = (KeysetScrollPosition) window.positionAt(0);
+
+		assertThat(previous.scrollsBackward()).isTrue();
+		assertThat(previous.getKeys()).containsOnly(entry("name", "Bob"), entry("id", 2L));
+	}
+
+	@Test
+	void providesOffsetPositionsOfElements() {
+
+		Window<Person> window = createWindow(Arrays.asList(alice, bob, carol), ScrollPosition.offset(10), 2);
+
+		assertThat(window.getContent()).containsExactly(alice, bob);
+		assertThat(window.hasNext()).isTrue();
+		assertThat(window.positionAt(0)).isEqualTo(ScrollPosition.offset(11));
+		assertThat(window.positionAt(1)).isEqualTo(ScrollPosition.offset(12));
+	}
+
+	private Window<Person> createWindow(List<Person> rows, ScrollPosition position, int windowSize) {
+
+		Sort keysetSort = ScrollSupport.getKeysetSort(Sort.by("name"), entity);
+
+		return ScrollSupport.createWindow(rows, position, keysetSort, windowSize, context, entity);
+	}
+
+	static class Person {
+
+		@Id Long id;
+		String name;
+
+		Person(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Unit tests for {@link SequenceIdAllocator}.
+ */
+class SequenceIdAllocatorUnitTests {
+
+	static final String SEQUENCE_QUERY = "SELECT NEXT VALUE FOR \"PERSON_SEQ\"";
+
+	SqlIdentifier sequence = SqlIdentifier.quoted("PERSON_SEQ");
+	NamedParameterJdbcOperations jdbcOperations = mock(NamedParameterJdbcOperations.class);
+	SequenceIdAllocator allocator = new SequenceIdAllocator(H2Dialect.INSTANCE, jdbcOperations);
+
+	@Test
+	void fetchesOneValuePerIdWithoutPooling() {
+
+		when(jdbcOperations.queryForObject(eq(SEQUENCE_QUERY), any(SqlParameterSource.class), eq(Long.class)))
+				.thenReturn(1L, 2L, 3L);
+
+		Object[] ids = allocator.allocate(sequence, 1, 3);
+
+		assertThat(ids).containsExactly(1L, 2L, 3L);
+		verify(jdbcOperations, times(3)).queryForObject(eq(SEQUENCE_QUERY), any(SqlParameterSource.class),
+				eq(Long.class));
+	}
+
+	@Test
+	void handsOutBlocksOfIdsForPooledSequences() {
+
+		when(jdbcOperations.queryForObject(eq(SEQUENCE_QUERY), any(SqlParameterSource.class), eq(Long.class)))
+				.thenReturn(1L, 51L);
+
+		Object[] first = allocator.allocate(sequence, 50, 30);
+		Object[] second = allocator.allocate(sequence, 50, 30);
+
+		assertThat(first).startsWith(1L, 2L).endsWith(30L);
+		assertThat(second).startsWith(31L).contains(50L, 51L).endsWith(60L);
+		verify(jdbcOperations, times(2)).queryForObject(eq(SEQUENCE_QUERY), any(SqlParameterSource.class),
+				eq(Long.class));
+	}
+}
@@ -31,6 +31,7 @@ import org.springframework.data.annotation.ReadOnlyProperty;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.PropertyPathTestingUtils;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
@@ -121,6 +122,25 @@ class SqlGeneratorUnitTests {
 				.doesNotContain("Element AS elements"));
 	}
 
+	@Test
+	void findOneJoiningCollections() {
+
+		String sql = sqlGenerator.getFindOneJoiningCollections();
+
+		assertSoftly(softly -> softly //
+				.assertThat(sql) //
+				.startsWith("SELECT") //
+				.contains("dummy_entity.id1 AS id1,") //
+				.contains("ref.x_content AS ref_x_content") //
+				.contains("elements.x_id AS elements_x_id") //
+				.contains("elements.x_content AS elements_x_content") //
+				.contains("mappedElements.x_content AS mappedElements_x_content") //
+				.contains("LEFT OUTER JOIN referenced_entity ref ON ref.dummy_entity = dummy_entity.id1") //
+				.contains("LEFT OUTER JOIN element elements ON elements.dummy_entity = dummy_entity.id1") //
+				.contains("LEFT OUTER JOIN element mappedElements ON mappedElements.dummy_entity = dummy_entity.id1") //
+				.endsWith("WHERE dummy_entity.id1 = :id"));
+	}
+
 	@Test // DATAJDBC-493
 	void getAcquireLockById() {
 
@@ -342,6 +362,20 @@ class SqlGeneratorUnitTests {
 				"LIMIT 10");
 	}
 
+	@Test
+	void findAllPagedWithTotalCount() {
+
+		String sql = sqlGenerator.getFindAllWithTotalCount(PageRequest.of(3, 10, Sort.by("name")));
+
+		assertThat(sql).contains("SELECT", //
+				"dummy_entity.id1 AS id1", //
+				"COUNT(*) OVER() AS total_row_count", //
+				"FROM dummy_entity ", //
+				"ORDER BY dummy_entity.x_name ASC", //
+				"OFFSET 30", //
+				"LIMIT 10");
+	}
+
 	@Test // DATAJDBC-131, DATAJDBC-111
 	void findAllByProperty() {
 
@@ -426,6 +460,27 @@ class SqlGeneratorUnitTests {
 				+ "ORDER BY key-column");
 	}
 
+	@Test
+	void findAllByPropertyInWithKeyOrdered() {
+
+		String sql = sqlGenerator.getFindAllByPropertyIn(unquoted("backref"), unquoted("key-column"), true, false);
+
+		assertThat(sql).startsWith("SELECT dummy_entity.id1 AS id1, ") //
+				.contains("dummy_entity.backref AS backref, dummy_entity.key-column AS key-column FROM dummy_entity ") //
+				.contains("WHERE dummy_entity.backref IN (:ids) ") //
+				.contains("ORDER BY ") //
+				.containsSubsequence("backref", "key-column");
+	}
+
+	@Test
+	void findAllByPropertyInArray() {
+
+		String sql = sqlGenerator.getFindAllByPropertyIn(unquoted("backref"), null, false, true);
+
+		assertThat(sql).contains("dummy_entity.backref AS backref FROM dummy_entity ") //
+				.endsWith("WHERE dummy_entity.backref = ANY(:ids)");
+	}
+
 	@Test // GH-1073
 	public void findAllByPropertyAvoidsDuplicateColumns() {
 
@@ -523,6 +578,60 @@ class SqlGeneratorUnitTests {
 				"\"id1\" = :id1");
 	}
 
+	@Test
+	void updateOfSelectedColumns() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(VersionedEntity.class, AnsiDialect.INSTANCE);
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(VersionedEntity.class);
+		SqlIdentifier name = entity.getRequiredPersistentProperty("name").getColumnName();
+		SqlIdentifier version = entity.getRequiredPersistentProperty("version").getColumnName();
+
+		String update = sqlGenerator.getUpdate(Set.of(name));
+
+		assertThat(update).containsSubsequence("UPDATE \"VERSIONED_ENTITY\" SET \"X_NAME\" = :X_NAME WHERE",
+				"\"id1\" = :id1");
+		assertThat(update).doesNotContain("X_OTHER", "X_VERSION");
+		assertThat(sqlGenerator.getUpdate(Set.of(name))).isSameAs(update);
+
+		String updateWithVersion = sqlGenerator.getUpdateWithVersion(Set.of(name, version, unquoted("not_a_column")));
+
+		assertThat(updateWithVersion).contains("\"X_NAME\" = :X_NAME", "\"X_VERSION\" = :X_VERSION",
+				"\"X_VERSION\" = :___oldOptimisticLockingVersion");
+		assertThat(updateWithVersion).doesNotContain("X_OTHER", "not_a_column");
+		assertThatIllegalArgumentException().isThrownBy(() -> sqlGenerator.getUpdate(Set.of(unquoted("not_a_column"))));
+	}
+
+	@Test
+	void updateByIdentifier() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithReadOnlyProperty.class, AnsiDialect.INSTANCE);
+
+		Identifier identifier = Identifier.of(unquoted("backref"), "some-value", String.class) //
+				.withPart(unquoted("backref_key"), 2, Integer.class);
+
+		assertThat(sqlGenerator.getUpdateByIdentifier(identifier)).containsSubsequence( //
+				"UPDATE \"ENTITY_WITH_READ_ONLY_PROPERTY\"", //
+				"SET \"X_NAME\" = :X_NAME", //
+				"WHERE", //
+				"backref = :backref", //
+				"backref_key = :backref_key");
+	}
+
+	@Test
+	void deleteByIdentifier() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithReadOnlyProperty.class, AnsiDialect.INSTANCE);
+
+		Identifier identifier = Identifier.of(unquoted("backref"), "some-value", String.class) //
+				.withPart(unquoted("backref_key"), 2, Integer.class);
+
+		assertThat(sqlGenerator.getDeleteByIdentifier(identifier)).containsSubsequence( //
+				"DELETE FROM \"ENTITY_WITH_READ_ONLY_PROPERTY\"", //
+				"WHERE", //
+				"backref = :backref", //
+				"backref_key = :backref_key");
+	}
+
 	@Test // DATAJDBC-324
 	void readOnlyPropertyExcludedFromQuery_when_generateUpdateSql() {
 
@@ -601,6 +710,17 @@ class SqlGeneratorUnitTests {
 		);
 	}
 
+	@Test
+	void selectByIdArray() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithReadOnlyProperty.class, PostgresDialect.INSTANCE);
+
+		assertThat(sqlGenerator.getFindAllInArray())
+				.endsWith("WHERE \"entity_with_read_only_property\".\"x_id\" = ANY(:ids)");
+		assertThat(sqlGenerator.getDeleteByIdInArray()).isEqualTo(
+				"DELETE FROM \"entity_with_read_only_property\" WHERE \"entity_with_read_only_property\".\"x_id\" = ANY(:ids)");
+	}
+
 	@Test // DATAJDBC-324
 	void readOnlyPropertyIncludedIntoQuery_when_generateFindOneSql() {
 
@@ -873,6 +993,174 @@ class SqlGeneratorUnitTests {
 				.containsOnly(entry("x_name", probe.name));
 	}
 
+	@Test
+	void selectByQueryForInitialKeysetSortsByIdAndFetchesOneMoreRow() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class);
+
+		Query query = Query.empty().sort(Sort.by("name")).limit(10);
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+
+		String generatedSQL = sqlGenerator.selectByQuery(query, parameterSource, ScrollPosition.keyset());
+		assertThat(generatedSQL) //
+				.doesNotContainIgnoringCase("WHERE") //
+				.containsIgnoringCase("ORDER BY dummy_entity.x_name ASC, dummy_entity.id1 ASC") //
+				.containsIgnoringCase("LIMIT 11");
+	}
+
+	@Test
+	void selectByQueryForKeysetAppliesSeekPredicate() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class);
+
+		Query query = Query.query(Criteria.where("name").like("D%")).sort(Sort.by("name")).limit(10);
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+
+		String generatedSQL = sqlGenerator.selectByQuery(query, parameterSource,
+				ScrollPosition.forward(Map.of("name", "Diego", "id", 23L)));
+		assertThat(generatedSQL) //
+				.contains("WHERE (dummy_entity.x_name LIKE :x_name) AND (dummy_entity.x_name > :x_name1 "
+						+ "OR (dummy_entity.x_name = :x_name1 AND dummy_entity.id1 > :id1))") //
+				.containsIgnoringCase("ORDER BY dummy_entity.x_name ASC, dummy_entity.id1 ASC");
+
+		assertThat(parameterSource.getValues()) //
+				.containsOnly(entry("x_name", "D%"), entry("x_name1", "Diego"), entry("id1", 23L));
+	}
+
+	@Test
+	void selectByQueryForBackwardKeysetReversesSortAndComparison() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, PostgresDialect.INSTANCE);
+
+		Query query = Query.empty().sort(Sort.by("name")).limit(10);
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+
+		String generatedSQL = sqlGenerator.selectByQuery(query, parameterSource,
+				ScrollPosition.backward(Map.of("name", "Diego", "id", 23L)));
+		assertThat(generatedSQL) //
+				.contains("WHERE (\"dummy_entity\".\"x_name\", \"dummy_entity\".\"id1\") < (:x_name, :id1)") //
+				.contains("ORDER BY \"dummy_entity\".\"x_name\" DESC, \"dummy_entity\".\"id1\" DESC");
+	}
+
+	@Test
+	void selectByQueryForOffsetPositionSkipsRows() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class);
+
+		Query query = Query.empty().sort(Sort.by("name")).limit(10);
+
+		String generatedSQL = sqlGenerator.selectByQuery(query, new MapSqlParameterSource(), ScrollPosition.offset(20));
+		assertThat(generatedSQL) //
+				.containsIgnoringCase("LIMIT 11") //
+				.containsIgnoringCase("OFFSET 20");
+	}
+
+	@Test
+	void rendersVariantsOnlyOnce() {
+
+		String insert = sqlGenerator.getInsert(emptySet());
+		String lock = sqlGenerator.getAcquireLockById(LockMode.PESSIMISTIC_READ);
+
+		assertThat(sqlGenerator.getInsert(emptySet())).isSameAs(insert);
+		assertThat(sqlGenerator.getAcquireLockById(LockMode.PESSIMISTIC_READ)).isSameAs(lock);
+		sqlGenerator.getAcquireLockById(LockMode.PESSIMISTIC_WRITE);
+
+		StatementCacheStatistics statistics = sqlGenerator.getStatistics();
+		assertThat(statistics.getHitCount()).isEqualTo(2);
+		assertThat(statistics.getMissCount()).isEqualTo(3);
+		assertThat(statistics.getSize()).isEqualTo(3);
+	}
+
+	@Test
+	void warmUpRendersVariantsOfAggregateRoots() {
+
+		sqlGenerator.warmUp();
+		long misses = sqlGenerator.getStatistics().getMissCount();
+
+		sqlGenerator.getInsert(emptySet());
+		sqlGenerator.getAcquireLockAll(LockMode.PESSIMISTIC_WRITE);
+
+		assertThat(sqlGenerator.getStatistics().getMissCount()).isEqualTo(misses);
+		assertThat(sqlGenerator.getStatistics().getHitCount()).isEqualTo(2);
+	}
+
+	@Test
+	void selectByQueryOfSameShapeReusesStatementAndBindsParameters() {
+
+		MapSqlParameterSource first = new MapSqlParameterSource();
+		String firstSql = sqlGenerator.selectByQuery(Query.query(Criteria.where("name").is("Diego")), first);
+
+		MapSqlParameterSource second = new MapSqlParameterSource();
+		String secondSql = sqlGenerator.selectByQuery(Query.query(Criteria.where("name").is("Jens")), second);
+
+		assertThat(secondSql).isSameAs(firstSql);
+		assertThat(second.getValues()).containsOnly(entry("x_name", "Jens"));
+		assertThat(sqlGenerator.getStatistics().getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void selectByQueryOfDifferentShapeRendersNewStatement() {
+
+		String twoValues = sqlGenerator.selectByQuery(Query.query(Criteria.where("name").in("a", "b")),
+				new MapSqlParameterSource());
+		String threeValues = sqlGenerator.selectByQuery(Query.query(Criteria.where("name").in("a", "b", "c")),
+				new MapSqlParameterSource());
+		String isNull = sqlGenerator.selectByQuery(Query.query(Criteria.where("name").isNull()),
+				new MapSqlParameterSource());
+
+		assertThat(threeValues).isNotEqualTo(twoValues);
+		assertThat(isNull).isNotEqualTo(twoValues).containsIgnoringCase("IS NULL");
+		assertThat(sqlGenerator.getStatistics().getHitCount()).isZero();
+	}
+
+	@Test
+	void selectByQueryDoesNotCacheWhenParametersArePresent() {
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource("other", 1);
+		Query query = Query.query(Criteria.where("name").is("Diego"));
+
+		sqlGenerator.selectByQuery(query, parameterSource);
+
+		assertThat(sqlGenerator.getStatistics().getSize()).isZero();
+	}
+
+	@Test
+	void doesNotCachePagedStatements() {
+
+		sqlGenerator.getFindAll(PageRequest.of(1, 10));
+		sqlGenerator.getFindAll(PageRequest.of(2, 10));
+		sqlGenerator.getFindAllWithTotalCount(PageRequest.of(3, 10));
+		sqlGenerator.selectByQuery(Query.query(Criteria.where("name").is("Diego")).limit(10).offset(20),
+				new MapSqlParameterSource());
+
+		assertThat(sqlGenerator.getStatistics().getSize()).isZero();
+	}
+
+	@Test
+	void cachesUnpagedStatements() {
+
+		String unpaged = sqlGenerator.getFindAll(Pageable.unpaged());
+
+		assertThat(sqlGenerator.getFindAll(Pageable.unpaged())).isSameAs(unpaged);
+		assertThat(sqlGenerator.getStatistics().getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void reportsEmptyStatisticsForTypesWithoutSqlGenerator() {
+
+		SqlGeneratorSource source = new SqlGeneratorSource(context, converter, NonQuotingDialect.INSTANCE);
+
+		StatementCacheStatistics statistics = source.getStatistics(DummyEntity.class);
+
+		assertThat(statistics.getSize()).isZero();
+		assertThat(statistics.getHitCount()).isZero();
+		assertThat(statistics.getMissCount()).isZero();
+		assertThat(source.getStatistics(DummyEntity.class).getMissCount()).isZero();
+	}
+
 	@Test // GH-1161
 	void backReferenceShouldConsiderRenamedParent() {
 
@@ -39,6 +39,7 @@ import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.dialect.AnsiDialect;
 import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Embedded;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.jdbc.core.JdbcOperations;
@@ -163,6 +164,46 @@ class SqlParametersFactoryTest {
 		assertThat(sqlParameterSource.getValue("val&ue")).isNull();
 	}
 
+	@Test
+	void extractionPlanCreatesSameParametersAsInspectingTheEntity() {
+
+		SqlParametersFactory inspectingFactory = new SqlParametersFactory(context, converter, false);
+		WithEmbedded entity = new WithEmbedded(23L, "name", new Address("street", new City("city", 4711)));
+
+		assertSameParameters(sqlParametersFactory.forUpdate(entity, WithEmbedded.class),
+				inspectingFactory.forUpdate(entity, WithEmbedded.class));
+		assertSameParameters(
+				sqlParametersFactory.forInsert(entity, WithEmbedded.class, Identifier.empty(), IdValueSource.PROVIDED),
+				inspectingFactory.forInsert(entity, WithEmbedded.class, Identifier.empty(), IdValueSource.PROVIDED));
+	}
+
+	@Test
+	void extractionPlanWritesNullForPropertiesOfNullEmbeddedEntities() {
+
+		WithEmbedded entity = new WithEmbedded(23L, "name", null);
+
+		SqlIdentifierParameterSource sqlParameterSource = sqlParametersFactory.forUpdate(entity, WithEmbedded.class);
+
+		assertThat(sqlParameterSource.getParameterNames()).containsExactlyInAnyOrder("id", "name", "address_street",
+				"address_city_name", "address_city_zip");
+		assertThat(sqlParameterSource.getValue("name")).isEqualTo("name");
+		assertThat(sqlParameterSource.getValue("address_street")).isNull();
+		assertThat(sqlParameterSource.getValue("address_city_zip")).isNull();
+	}
+
+	private static void assertSameParameters(SqlIdentifierParameterSource actual,
+			SqlIdentifierParameterSource expected) {
+
+		assertThat(actual.getIdentifiers()).containsExactlyInAnyOrderElementsOf(expected.getIdentifiers());
+		assertThat(actual.getParameterNames()).containsExactlyInAnyOrder(expected.getParameterNames());
+
+		for (String name : expected.getParameterNames()) {
+
+			assertThat(actual.getValue(name)).describedAs(name).isEqualTo(expected.getValue(name));
+			assertThat(actual.getSqlType(name)).describedAs(name).isEqualTo(expected.getSqlType(name));
+		}
+	}
+
 	@WritingConverter
 	enum IdValueToStringConverter implements Converter<IdValue, String> {
 
@@ -237,6 +278,28 @@ class SqlParametersFactoryTest {
 		@Column("val&ue") String value;
 	}
 
+	@AllArgsConstructor
+	private static class WithEmbedded {
+
+		@Id Long id;
+		String name;
+		@Embedded.Nullable(prefix = "address_") Address address;
+	}
+
+	@AllArgsConstructor
+	private static class Address {
+
+		String street;
+		@Embedded.Nullable(prefix = "city_") City city;
+	}
+
+	@AllArgsConstructor
+	private static class City {
+
+		String name;
+		Integer zip;
+	}
+
 	private SqlParametersFactory createSqlParametersFactoryWithConverters(List<?> converters) {
 
 		BasicJdbcConverter converter = new BasicJdbcConverter(context, relationResolver,
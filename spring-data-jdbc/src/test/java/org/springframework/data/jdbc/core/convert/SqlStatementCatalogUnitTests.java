@@ -0,0 +1,205 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.jdbc.core.dialect.JdbcMySqlDialect;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.dialect.MySqlDialect;
+import org.springframework.data.relational.core.mapping.InsertOnlyProperty;
+import org.springframework.data.relational.core.mapping.NamingStrategy;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+
+/**
+ * Unit tests for {@link SqlStatementCatalog}.
+ */
+class SqlStatementCatalogUnitTests {
+
+	RelationalMappingContext context = new JdbcMappingContext();
+	JdbcConverter converter = new BasicJdbcConverter(context, (identifier, path) -> {
+		throw new UnsupportedOperationException();
+	});
+
+	@Test
+	void loadsStatementsRenderedAheadOfTime() throws IOException {
+
+		SqlStatementCatalog catalog = storeAndLoad(
+				SqlStatementCatalog.create(context, converter, H2Dialect.INSTANCE, List.of(DummyEntity.class)),
+				H2Dialect.INSTANCE);
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(DummyEntity.class);
+		SqlGenerator generator = new SqlGenerator(context, converter, entity, H2Dialect.INSTANCE);
+
+		Map<String, String> statements = catalog.getStatements(context, entity);
+
+		assertThat(statements).containsEntry(SqlGenerator.FIND_ONE, generator.getFindOne()) //
+				.containsEntry(SqlGenerator.UPDATE_WITH_VERSION, generator.getUpdateWithVersion()) //
+				.containsEntry(SqlGenerator.DELETE_BY_ID_AND_VERSION, generator.getDeleteByIdAndVersion());
+	}
+
+	@Test
+	void ignoresStatementsOfEntitiesMappedDifferently() throws IOException {
+
+		SqlStatementCatalog catalog = storeAndLoad(
+				SqlStatementCatalog.create(context, converter, H2Dialect.INSTANCE, List.of(DummyEntity.class)),
+				H2Dialect.INSTANCE);
+
+		RelationalMappingContext prefixingContext = new JdbcMappingContext(new NamingStrategy() {
+
+			@Override
+			public String getTableName(Class<?> type) {
+				return "prefix_" + NamingStrategy.super.getTableName(type);
+			}
+		});
+
+		assertThat(catalog.getStatements(prefixingContext,
+				prefixingContext.getRequiredPersistentEntity(DummyEntity.class))).isEmpty();
+	}
+
+	@Test
+	void ignoresCatalogOfDifferentlyConfiguredDialect() throws IOException {
+
+		SqlStatementCatalog catalog = storeAndLoad(SqlStatementCatalog.create(context, converter,
+				new JdbcMySqlDialect(MySqlDialect.MYSQL_IDENTIFIER_PROCESSING), List.of(DummyEntity.class)),
+				new JdbcMySqlDialect(IdentifierProcessing.ANSI));
+
+		assertThat(catalog.isEmpty()).isTrue();
+	}
+
+	@Test
+	void fingerprintConsidersWhetherColumnsGetWritten() {
+
+		String plain = SqlStatementCatalog.getFingerprint(context,
+				context.getRequiredPersistentEntity(PlainEntity.class));
+		String readOnly = SqlStatementCatalog.getFingerprint(context,
+				context.getRequiredPersistentEntity(ReadOnlyEntity.class));
+		String insertOnly = SqlStatementCatalog.getFingerprint(context,
+				context.getRequiredPersistentEntity(InsertOnlyEntity.class));
+
+		assertThat(Set.of(plain, readOnly, insertOnly)).hasSize(3);
+	}
+
+	@Test
+	void loadsQueriesOfRepository() throws IOException {
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(DummyEntity.class);
+		SqlStatementCatalog catalog = SqlStatementCatalog.of(context, H2Dialect.INSTANCE, entity,
+				Map.of("findByName", "SELECT precomputed"));
+
+		ClassLoader classLoader = storeAsResource(catalog,
+				SqlStatementCatalog.getResourceLocation(DummyRepository.class, H2Dialect.INSTANCE));
+
+		assertThat(SqlStatementCatalog.load(DummyRepository.class, H2Dialect.INSTANCE, classLoader)
+				.getStatements(context, entity)).containsExactly(Map.entry("findByName", "SELECT precomputed"));
+		assertThat(SqlStatementCatalog.load(H2Dialect.INSTANCE, classLoader).isEmpty()).isTrue();
+	}
+
+	@Test
+	void loadsEmptyCatalogWithoutResource() {
+		assertThat(SqlStatementCatalog.load(H2Dialect.INSTANCE, getClass().getClassLoader()).isEmpty()).isTrue();
+	}
+
+	@Test
+	void sqlGeneratorUsesPrecomputedStatements() {
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(DummyEntity.class);
+		SqlGenerator generator = new SqlGenerator(context, converter, entity, H2Dialect.INSTANCE,
+				Map.of(SqlGenerator.FIND_ONE, "SELECT precomputed"));
+
+		assertThat(generator.getFindOne()).isEqualTo("SELECT precomputed");
+		assertThat(generator.getCount()).contains("COUNT(*)");
+	}
+
+	private static SqlStatementCatalog storeAndLoad(SqlStatementCatalog catalog, Dialect dialect) throws IOException {
+		return SqlStatementCatalog.load(dialect,
+				storeAsResource(catalog, SqlStatementCatalog.getResourceLocation(dialect)));
+	}
+
+	private static ClassLoader storeAsResource(SqlStatementCatalog catalog, String location) throws IOException {
+
+		StringWriter writer = new StringWriter();
+		catalog.store(writer);
+
+		byte[] content = writer.toString().getBytes(StandardCharsets.UTF_8);
+
+		return new ClassLoader(SqlStatementCatalogUnitTests.class.getClassLoader()) {
+
+			@Override
+			public InputStream getResourceAsStream(String name) {
+				return location.equals(name) ? new ByteArrayInputStream(content) : super.getResourceAsStream(name);
+			}
+		};
+	}
+
+	@SuppressWarnings("unused")
+	static class DummyEntity {
+
+		@Id Long id;
+		@Version Long version;
+		String name;
+		List<ReferencedEntity> references;
+	}
+
+	@SuppressWarnings("unused")
+	static class ReferencedEntity {
+		String content;
+	}
+
+	interface DummyRepository {}
+
+	@Table("DUMMY")
+	@SuppressWarnings("unused")
+	static class PlainEntity {
+
+		@Id Long id;
+		String name;
+	}
+
+	@Table("DUMMY")
+	@SuppressWarnings("unused")
+	static class ReadOnlyEntity {
+
+		@Id Long id;
+		@ReadOnlyProperty String name;
+	}
+
+	@Table("DUMMY")
+	@SuppressWarnings("unused")
+	static class InsertOnlyEntity {
+
+		@Id Long id;
+		@InsertOnlyProperty String name;
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link StatementVariantCache}.
+ */
+class StatementVariantCacheUnitTests {
+
+	@Test
+	void rendersStatementOnlyOnce() {
+
+		StatementVariantCache cache = new StatementVariantCache(10);
+		AtomicInteger renderings = new AtomicInteger();
+
+		cache.get("key", () -> "SELECT " + renderings.incrementAndGet());
+		String sql = cache.get("key", () -> "SELECT " + renderings.incrementAndGet());
+
+		assertThat(sql).isEqualTo("SELECT 1");
+		assertThat(renderings).hasValue(1);
+
+		StatementCacheStatistics statistics = cache.getStatistics();
+		assertThat(statistics.getHitCount()).isEqualTo(1);
+		assertThat(statistics.getMissCount()).isEqualTo(1);
+		assertThat(statistics.getSize()).isEqualTo(1);
+		assertThat(statistics.getMaximumSize()).isEqualTo(10);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedStatements() {
+
+		StatementVariantCache cache = new StatementVariantCache(2);
+
+		cache.get("one", () -> "SELECT 1");
+		cache.get("two", () -> "SELECT 2");
+		cache.get("one", () -> "SELECT 1");
+		String sql = cache.get("three", () -> "SELECT 3");
+
+		assertThat(sql).isEqualTo("SELECT 3");
+		assertThat(cache.getIfPresent("one")).isEqualTo("SELECT 1");
+		assertThat(cache.getIfPresent("two")).isNull();
+		assertThat(cache.getIfPresent("three")).isEqualTo("SELECT 3");
+		assertThat(cache.getStatistics().getSize()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Unit tests for {@link TotalCountRowMapper}.
+ */
+class TotalCountRowMapperUnitTests {
+
+	TotalCountRowMapper<String> rowMapper = new TotalCountRowMapper<>((rs, rowNum) -> "row" + rowNum);
+
+	@Test
+	void readsTotalCountFromFirstRow() throws SQLException {
+
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.getLong("total_row_count")).thenReturn(42L);
+
+		List<String> content = List.of(rowMapper.mapRow(resultSet, 0), rowMapper.mapRow(resultSet, 1));
+		Page<String> page = rowMapper.getPage(content, PageRequest.of(1, 2), () -> {
+			throw new AssertionError("Count query must not be executed");
+		});
+
+		assertThat(page.getContent()).containsExactly("row0", "row1");
+		assertThat(page.getTotalElements()).isEqualTo(42L);
+		verify(resultSet, times(1)).getLong("total_row_count");
+	}
+
+	@Test
+	void fallsBackToCountQueryForEmptyPage() {
+
+		Page<String> page = rowMapper.getPage(Collections.emptyList(), PageRequest.of(5, 2), () -> 7L);
+
+		assertThat(page.getContent()).isEmpty();
+		assertThat(page.getTotalElements()).isEqualTo(7L);
+	}
+}
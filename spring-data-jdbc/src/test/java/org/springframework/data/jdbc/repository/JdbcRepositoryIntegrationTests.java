@@ -56,11 +56,14 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.data.jdbc.repository.query.Modifying;
 import org.springframework.data.jdbc.repository.query.Query;
@@ -511,6 +514,43 @@ public class JdbcRepositoryIntegrationTests {
 		assertThat(slice.hasNext()).isTrue();
 	}
 
+	@Test
+	void scrollsForwardAndBackwardByKeyset() {
+
+		repository.saveAll(Arrays.asList(new DummyEntity("a3"), new DummyEntity("a1"), new DummyEntity("b1"),
+				new DummyEntity("a5"), new DummyEntity("a2"), new DummyEntity("a4")));
+
+		Window<DummyEntity> first = repository.findFirst2ByNameContainsOrderByNameAsc("a", ScrollPosition.keyset());
+
+		assertThat(first).extracting(e -> e.name).containsExactly("a1", "a2");
+		assertThat(first.hasNext()).isTrue();
+
+		Window<DummyEntity> second = repository.findFirst2ByNameContainsOrderByNameAsc("a",
+				first.positionAt(first.size() - 1));
+
+		assertThat(second).extracting(e -> e.name).containsExactly("a3", "a4");
+		assertThat(second.hasNext()).isTrue();
+
+		Window<DummyEntity> last = repository.findFirst2ByNameContainsOrderByNameAsc("a",
+				second.positionAt(second.size() - 1));
+
+		assertThat(last).extracting(e -> e.name).containsExactly("a5");
+		assertThat(last.hasNext()).isFalse();
+
+		KeysetScrollPosition lastPosition = (KeysetScrollPosition) last.positionAt(0);
+		Window<DummyEntity> previous = repository.findFirst2ByNameContainsOrderByNameAsc("a", lastPosition.backward());
+
+		assertThat(previous).extracting(e -> e.name).containsExactly("a3", "a4");
+		assertThat(previous.hasNext()).isTrue();
+
+		KeysetScrollPosition previousPosition = (KeysetScrollPosition) previous.positionAt(0);
+		Window<DummyEntity> beginning = repository.findFirst2ByNameContainsOrderByNameAsc("a",
+				previousPosition.backward());
+
+		assertThat(beginning).extracting(e -> e.name).containsExactly("a1", "a2");
+		assertThat(beginning.hasNext()).isFalse();
+	}
+
 	@Test // GH-935
 	public void queryByOffsetDateTime() {
 
@@ -1359,6 +1399,8 @@ public class JdbcRepositoryIntegrationTests {
 
 		Slice<DummyEntity> findSliceByNameContains(String name, Pageable pageable);
 
+		Window<DummyEntity> findFirst2ByNameContainsOrderByNameAsc(String name, ScrollPosition position);
+
 		@Query("SELECT * FROM DUMMY_ENTITY WHERE OFFSET_DATE_TIME > :threshhold")
 		List<DummyEntity> findByOffsetDateTime(@Param("threshhold") OffsetDateTime threshhold);
 
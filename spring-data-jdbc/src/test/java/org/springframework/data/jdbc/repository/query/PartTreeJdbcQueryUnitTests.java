@@ -22,16 +22,22 @@ import static org.mockito.Mockito.*;
 import lombok.AllArgsConstructor;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
@@ -51,6 +57,7 @@ import org.springframework.data.repository.core.support.DefaultRepositoryMetadat
 import org.springframework.data.repository.core.support.PropertiesBasedNamedQueries;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 
 /**
@@ -212,6 +219,34 @@ public class PartTreeJdbcQueryUnitTests {
 				+ " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name");
 	}
 
+	@Test
+	public void createsQuerySelectingIdForProjectionExposingCollection() throws Exception {
+
+		when(returnedType.needsCustomConstruction()).thenReturn(true);
+		when(returnedType.getInputProperties()).thenReturn(Arrays.asList("firstName", "hobbies"));
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "John" }), returnedType);
+
+		assertThat(query.getQuery()).isEqualTo("SELECT " + TABLE + ".\"ID\" AS \"ID\", " + TABLE
+				+ ".\"FIRST_NAME\" AS \"FIRST_NAME\" FROM \"users\" WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name");
+	}
+
+	@Test
+	public void createsQueryJoiningOneToOneExposedByProjection() throws Exception {
+
+		when(returnedType.needsCustomConstruction()).thenReturn(true);
+		when(returnedType.getInputProperties()).thenReturn(Arrays.asList("firstName", "hated"));
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "John" }), returnedType);
+
+		assertThat(query.getQuery()).isEqualTo("SELECT " + TABLE + ".\"FIRST_NAME\" AS \"FIRST_NAME\", \"hated\".\"NAME\" AS \"HATED_NAME\" "
+				+ JOIN_CLAUSE + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name");
+	}
+
 	@Test // DATAJDBC-318
 	public void createsQueryWithIsNullCondition() throws Exception {
 
@@ -222,6 +257,86 @@ public class PartTreeJdbcQueryUnitTests {
 		assertThat(query.getQuery()).isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"FIRST_NAME\" IS NULL");
 	}
 
+	@Test
+	void reusesRenderedQueryForArgumentsOfTheSameShape() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery first = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "John" }), returnedType);
+		ParametrizedQuery second = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "Jane" }), returnedType);
+		ParametrizedQuery isNull = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { null }), returnedType);
+
+		assertSoftly(softly -> {
+
+			softly.assertThat(second.getQuery()).isSameAs(first.getQuery());
+			softly.assertThat(second.getParameterSource().getValue("first_name")).isEqualTo("Jane");
+			softly.assertThat(isNull.getQuery()).isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"FIRST_NAME\" IS NULL");
+
+			softly.assertThat(jdbcQuery.getRenderedQueryCache().getHitCount()).isEqualTo(1);
+			softly.assertThat(jdbcQuery.getRenderedQueryCache().getMissCount()).isEqualTo(2);
+			softly.assertThat(jdbcQuery.getRenderedQueryCache().size()).isEqualTo(2);
+		});
+	}
+
+	@Test
+	void rendersQueryAgainForCollectionsOfDifferentSize() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByAgeIn", Collection.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { Arrays.asList(1, 2) }), returnedType);
+		jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { Arrays.asList(3, 4) }), returnedType);
+		jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { Arrays.asList(1, 2, 3) }), returnedType);
+
+		assertSoftly(softly -> {
+
+			softly.assertThat(jdbcQuery.getRenderedQueryCache().getHitCount()).isEqualTo(1);
+			softly.assertThat(jdbcQuery.getRenderedQueryCache().getMissCount()).isEqualTo(2);
+		});
+	}
+
+	@Test
+	void rendersFixedShapeQueryForSimpleArguments() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByFirstNameAndAge", String.class, Integer.class);
+
+		String sql = createQuery(queryMethod).renderFixedShapeQuery();
+		ParametrizedQuery query = createQuery(queryMethod).createQuery(getAccessor(queryMethod,
+				new Object[] { "John", 23 }), queryMethod.getResultProcessor().getReturnedType());
+
+		assertThat(sql).isEqualTo(query.getQuery());
+	}
+
+	@Test
+	void doesNotRenderFixedShapeQueryForCollectionArguments() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByAgeIn", Collection.class);
+
+		assertThat(createQuery(queryMethod).renderFixedShapeQuery()).isNull();
+	}
+
+	@Test
+	void usesFixedShapeQueryForNonNullArguments() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		ReturnedType returnedType = queryMethod.getResultProcessor().getReturnedType();
+
+		jdbcQuery.useFixedShapeQuery("SELECT precomputed WHERE first_name = :first_name");
+
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "John" }),
+				returnedType);
+		ParametrizedQuery isNull = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { null }), returnedType);
+
+		assertSoftly(softly -> {
+
+			softly.assertThat(query.getQuery()).isEqualTo("SELECT precomputed WHERE first_name = :first_name");
+			softly.assertThat(query.getParameterSource().getValue("first_name")).isEqualTo("John");
+			softly.assertThat(isNull.getQuery()).isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"FIRST_NAME\" IS NULL");
+		});
+	}
+
 	@Test // DATAJDBC-318
 	public void createsQueryWithLimitForExistsProjection() throws Exception {
 
@@ -669,6 +784,111 @@ public class PartTreeJdbcQueryUnitTests {
 				.isEqualTo("SELECT COUNT(*) FROM " + TABLE + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name");
 	}
 
+	@Test
+	void createsQueryForInitialKeysetScrollPosition() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findFirst2ByFirstNameOrderByLastName", String.class,
+				ScrollPosition.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		ParametrizedQuery query = jdbcQuery.createQuery(
+				getAccessor(queryMethod, new Object[] { "John", ScrollPosition.keyset() }), returnedType);
+
+		assertThat(query.getQuery()).isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name" //
+				+ " ORDER BY " + TABLE + ".\"LAST_NAME\" ASC, " + TABLE + ".\"ID\" ASC LIMIT 3");
+	}
+
+	@Test
+	void createsQueryForForwardKeysetScrollPosition() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findFirst2ByFirstNameOrderByLastName", String.class,
+				ScrollPosition.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		ScrollPosition position = ScrollPosition.forward(Map.of("lastName", "Doe", "id", 23L));
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "John", position }),
+				returnedType);
+
+		assertThat(query.getQuery()) //
+				.contains("(" + TABLE + ".\"LAST_NAME\", " + TABLE + ".\"ID\") > (") //
+				.endsWith("ORDER BY " + TABLE + ".\"LAST_NAME\" ASC, " + TABLE + ".\"ID\" ASC LIMIT 3");
+		assertThat(query.getParameterSource().getParameterNames()).hasSize(3);
+	}
+
+	@Test
+	void createsQueryForBackwardKeysetScrollPosition() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findFirst2ByFirstNameOrderByLastName", String.class,
+				ScrollPosition.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		ScrollPosition position = ScrollPosition.backward(Map.of("lastName", "Doe", "id", 23L));
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "John", position }),
+				returnedType);
+
+		assertThat(query.getQuery()) //
+				.contains("(" + TABLE + ".\"LAST_NAME\", " + TABLE + ".\"ID\") < (") //
+				.endsWith("ORDER BY " + TABLE + ".\"LAST_NAME\" DESC, " + TABLE + ".\"ID\" DESC LIMIT 3");
+	}
+
+	@Test
+	void scrollQueryExecutionDropsLookAheadRowAndConvertsElements() {
+
+		List<User> rows = Arrays.asList(createUser(1L, "a"), createUser(2L, "b"), createUser(3L, "c"));
+
+		Window<Object> window = createScrollQueryExecution(rows, ScrollPosition.keyset())
+				.execute("SELECT", new MapSqlParameterSource());
+
+		assertThat(window.getContent()).containsExactly("a", "b");
+		assertThat(window.hasNext()).isTrue();
+
+		KeysetScrollPosition next = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+		assertThat(next.scrollsBackward()).isFalse();
+		assertThat(next.getKeys()).containsOnly(entry("lastName", "b"), entry("id", 2L));
+	}
+
+	@Test
+	void scrollQueryExecutionReversesRowsForBackwardKeyset() {
+
+		List<User> rows = Arrays.asList(createUser(3L, "c"), createUser(2L, "b"), createUser(1L, "a"));
+		ScrollPosition position = ScrollPosition.backward(Map.of("lastName", "d", "id", 4L));
+
+		Window<Object> window = createScrollQueryExecution(rows, position).execute("SELECT",
+				new MapSqlParameterSource());
+
+		assertThat(window.getContent()).containsExactly("b", "c");
+		assertThat(window.hasNext()).isTrue();
+
+		KeysetScrollPosition previous = (KeysetScrollPosition) window.positionAt(0);
+		assertThat(previous.scrollsBackward()).isTrue();
+		assertThat(previous.getKeys()).containsOnly(entry("lastName", "b"), entry("id", 2L));
+	}
+
+	@Test
+	void scrollQueryExecutionReportsLastWindow() {
+
+		List<User> rows = Collections.singletonList(createUser(1L, "a"));
+
+		Window<Object> window = createScrollQueryExecution(rows, ScrollPosition.keyset()).execute("SELECT",
+				new MapSqlParameterSource());
+
+		assertThat(window.getContent()).containsExactly("a");
+		assertThat(window.hasNext()).isFalse();
+	}
+
+	private PartTreeJdbcQuery.ScrollQueryExecution<User> createScrollQueryExecution(List<User> rows,
+			ScrollPosition position) {
+
+		return new PartTreeJdbcQuery.ScrollQueryExecution<>((query, parameter) -> rows, position,
+				Sort.by("lastName"), 2, mappingContext, mappingContext.getRequiredPersistentEntity(User.class),
+				source -> ((User) source).lastName);
+	}
+
+	private static User createUser(Long id, String lastName) {
+
+		User user = new User();
+		user.id = id;
+		user.lastName = lastName;
+		return user;
+	}
+
 	private PartTreeJdbcQuery createQuery(JdbcQueryMethod queryMethod) {
 		return new PartTreeJdbcQuery(mappingContext, queryMethod, H2Dialect.INSTANCE, converter,
 				mock(NamedParameterJdbcOperations.class), mock(RowMapper.class));
@@ -774,6 +994,8 @@ public class PartTreeJdbcQueryUnitTests {
 		User findByAnotherEmbeddedList(Object list);
 
 		long countByFirstName(String name);
+
+		Window<User> findFirst2ByFirstNameOrderByLastName(String firstName, ScrollPosition position);
 	}
 
 	@Table("users")
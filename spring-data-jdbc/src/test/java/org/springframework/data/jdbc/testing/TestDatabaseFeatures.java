@@ -122,6 +122,7 @@ public class TestDatabaseFeatures {
 		SUPPORTS_NANOSECOND_PRECISION(TestDatabaseFeatures::supportsNanosecondPrecision), //
 		SUPPORTS_NULL_PRECEDENCE(TestDatabaseFeatures::supportsNullPrecedence),
 		IS_POSTGRES(f -> f.databaseIs(Database.PostgreSql)), //
+		IS_H2(f -> f.databaseIs(Database.H2)), //
 		IS_HSQL(f -> f.databaseIs(Database.Hsql));
 
 		private final Consumer<TestDatabaseFeatures> featureMethod;
@@ -0,0 +1,27 @@
+CREATE TABLE BATCH_ROOT
+(
+    ID   BIGINT GENERATED BY DEFAULT AS IDENTITY (START WITH 1) PRIMARY KEY,
+    NAME VARCHAR(100)
+);
+
+CREATE TABLE BATCH_ELEMENT
+(
+    ID             BIGINT GENERATED BY DEFAULT AS IDENTITY (START WITH 1) PRIMARY KEY,
+    BATCH_ROOT     BIGINT,
+    BATCH_ROOT_KEY INTEGER,
+    NAME           VARCHAR(100)
+);
+
+CREATE TABLE BATCH_DETAIL
+(
+    BATCH_ELEMENT     BIGINT,
+    BATCH_ELEMENT_KEY INTEGER,
+    CONTENT           VARCHAR(100)
+);
+
+CREATE TABLE BATCH_ENTRY
+(
+    BATCH_ROOT     BIGINT,
+    BATCH_ROOT_KEY VARCHAR(100),
+    CONTENT        VARCHAR(100)
+);
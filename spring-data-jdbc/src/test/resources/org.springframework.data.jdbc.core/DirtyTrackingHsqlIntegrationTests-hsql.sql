@@ -0,0 +1,6 @@
+CREATE TABLE TRACKED_ENTITY
+(
+    ID          BIGINT GENERATED BY DEFAULT AS IDENTITY (START WITH 1) PRIMARY KEY,
+    NAME        VARCHAR(100),
+    DESCRIPTION VARCHAR(100)
+);
@@ -40,6 +40,10 @@ DROP TABLE WITH_LOCAL_DATE_TIME;
 DROP TABLE WITH_ID_ONLY;
 
 DROP TABLE WITH_INSERT_ONLY;
+DROP TABLE DIFFERENTIAL_MAP_ELEMENT;
+DROP TABLE DIFFERENTIAL_SET_ELEMENT;
+DROP TABLE DIFFERENTIAL_LIST_ELEMENT;
+DROP TABLE DIFFERENTIAL_ROOT;
 
 CREATE TABLE LEGO_SET
 (
@@ -365,4 +369,34 @@ CREATE TABLE WITH_INSERT_ONLY
 (
   ID BIGINT GENERATED BY DEFAULT AS IDENTITY (START WITH 1) PRIMARY KEY,
   INSERT_ONLY VARCHAR(100)
-);
\ No newline at end of file
+);
+
+CREATE TABLE DIFFERENTIAL_ROOT
+(
+  ID BIGINT GENERATED BY DEFAULT AS IDENTITY (START WITH 1) PRIMARY KEY,
+  NAME VARCHAR(100)
+);
+
+CREATE TABLE DIFFERENTIAL_LIST_ELEMENT
+(
+  CONTENT               VARCHAR(100),
+  MARKER                VARCHAR(100),
+  DIFFERENTIAL_ROOT     BIGINT,
+  DIFFERENTIAL_ROOT_KEY BIGINT
+);
+
+CREATE TABLE DIFFERENTIAL_SET_ELEMENT
+(
+  ID                BIGINT GENERATED BY DEFAULT AS IDENTITY (START WITH 1) PRIMARY KEY,
+  CONTENT           VARCHAR(100),
+  MARKER            VARCHAR(100),
+  DIFFERENTIAL_ROOT BIGINT
+);
+
+CREATE TABLE DIFFERENTIAL_MAP_ELEMENT
+(
+  CONTENT               VARCHAR(100),
+  MARKER                VARCHAR(100),
+  DIFFERENTIAL_ROOT     BIGINT,
+  DIFFERENTIAL_ROOT_KEY VARCHAR(100)
+);
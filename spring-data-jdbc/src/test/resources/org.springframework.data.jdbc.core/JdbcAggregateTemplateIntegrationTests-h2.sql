@@ -332,4 +332,34 @@ CREATE TABLE WITH_INSERT_ONLY
 (
     ID        SERIAL PRIMARY KEY,
     INSERT_ONLY VARCHAR(100)
-);
\ No newline at end of file
+);
+
+CREATE TABLE DIFFERENTIAL_ROOT
+(
+    ID SERIAL PRIMARY KEY,
+    NAME VARCHAR(100)
+);
+
+CREATE TABLE DIFFERENTIAL_LIST_ELEMENT
+(
+    CONTENT               VARCHAR(100),
+    MARKER                VARCHAR(100),
+    DIFFERENTIAL_ROOT     BIGINT,
+    DIFFERENTIAL_ROOT_KEY BIGINT
+);
+
+CREATE TABLE DIFFERENTIAL_SET_ELEMENT
+(
+    ID                SERIAL PRIMARY KEY,
+    CONTENT           VARCHAR(100),
+    MARKER            VARCHAR(100),
+    DIFFERENTIAL_ROOT BIGINT
+);
+
+CREATE TABLE DIFFERENTIAL_MAP_ELEMENT
+(
+    CONTENT               VARCHAR(100),
+    MARKER                VARCHAR(100),
+    DIFFERENTIAL_ROOT     BIGINT,
+    DIFFERENTIAL_ROOT_KEY VARCHAR(100)
+);
@@ -339,4 +339,42 @@ CREATE TABLE WITH_INSERT_ONLY
 (
   ID BIGINT IDENTITY PRIMARY KEY,
   INSERT_ONLY VARCHAR(100)
-);
\ No newline at end of file
+);
+
+DROP TABLE IF EXISTS DIFFERENTIAL_ROOT;
+
+CREATE TABLE DIFFERENTIAL_ROOT
+(
+  ID BIGINT IDENTITY PRIMARY KEY,
+  NAME VARCHAR(100)
+);
+
+DROP TABLE IF EXISTS DIFFERENTIAL_LIST_ELEMENT;
+
+CREATE TABLE DIFFERENTIAL_LIST_ELEMENT
+(
+  CONTENT               VARCHAR(100),
+  MARKER                VARCHAR(100),
+  DIFFERENTIAL_ROOT     BIGINT,
+  DIFFERENTIAL_ROOT_KEY BIGINT
+);
+
+DROP TABLE IF EXISTS DIFFERENTIAL_SET_ELEMENT;
+
+CREATE TABLE DIFFERENTIAL_SET_ELEMENT
+(
+  ID                BIGINT IDENTITY PRIMARY KEY,
+  CONTENT           VARCHAR(100),
+  MARKER            VARCHAR(100),
+  DIFFERENTIAL_ROOT BIGINT
+);
+
+DROP TABLE IF EXISTS DIFFERENTIAL_MAP_ELEMENT;
+
+CREATE TABLE DIFFERENTIAL_MAP_ELEMENT
+(
+  CONTENT               VARCHAR(100),
+  MARKER                VARCHAR(100),
+  DIFFERENTIAL_ROOT     BIGINT,
+  DIFFERENTIAL_ROOT_KEY VARCHAR(100)
+);
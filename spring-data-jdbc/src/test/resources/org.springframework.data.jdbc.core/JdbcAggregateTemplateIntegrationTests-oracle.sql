@@ -30,6 +30,10 @@ DROP TABLE WITH_READ_ONLY CASCADE CONSTRAINTS PURGE;
 DROP TABLE WITH_LOCAL_DATE_TIME CASCADE CONSTRAINTS PURGE;
 DROP TABLE WITH_ID_ONLY CASCADE CONSTRAINTS PURGE;
 DROP TABLE WITH_INSERT_ONLY CASCADE CONSTRAINTS PURGE;
+DROP TABLE DIFFERENTIAL_MAP_ELEMENT CASCADE CONSTRAINTS PURGE;
+DROP TABLE DIFFERENTIAL_SET_ELEMENT CASCADE CONSTRAINTS PURGE;
+DROP TABLE DIFFERENTIAL_LIST_ELEMENT CASCADE CONSTRAINTS PURGE;
+DROP TABLE DIFFERENTIAL_ROOT CASCADE CONSTRAINTS PURGE;
 
 CREATE TABLE LEGO_SET
 (
@@ -346,4 +350,34 @@ CREATE TABLE WITH_INSERT_ONLY
 (
   ID NUMBER GENERATED by default on null as IDENTITY PRIMARY KEY,
   INSERT_ONLY VARCHAR(100)
-);
\ No newline at end of file
+);
+
+CREATE TABLE DIFFERENTIAL_ROOT
+(
+    ID NUMBER GENERATED by default on null as IDENTITY PRIMARY KEY,
+    NAME VARCHAR(100)
+);
+
+CREATE TABLE DIFFERENTIAL_LIST_ELEMENT
+(
+    CONTENT               VARCHAR(100),
+    MARKER                VARCHAR(100),
+    DIFFERENTIAL_ROOT     NUMBER,
+    DIFFERENTIAL_ROOT_KEY NUMBER
+);
+
+CREATE TABLE DIFFERENTIAL_SET_ELEMENT
+(
+    ID                NUMBER GENERATED by default on null as IDENTITY PRIMARY KEY,
+    CONTENT           VARCHAR(100),
+    MARKER            VARCHAR(100),
+    DIFFERENTIAL_ROOT NUMBER
+);
+
+CREATE TABLE DIFFERENTIAL_MAP_ELEMENT
+(
+    CONTENT               VARCHAR(100),
+    MARKER                VARCHAR(100),
+    DIFFERENTIAL_ROOT     NUMBER,
+    DIFFERENTIAL_ROOT_KEY VARCHAR(100)
+);
@@ -53,6 +53,7 @@ class DefaultStatementMapper implements StatementMapper {
 	private final RenderContext renderContext;
 	private final UpdateMapper updateMapper;
 	private final MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext;
+	private final PreparedSelectCache selectCache = new PreparedSelectCache(PreparedSelectCache.DEFAULT_MAXIMUM_SIZE);
 
 	DefaultStatementMapper(R2dbcDialect dialect, R2dbcConverter converter) {
 
@@ -91,6 +92,14 @@ class DefaultStatementMapper implements StatementMapper {
 			@Nullable RelationalPersistentEntity<?> entity) {
 
 		Table table = selectSpec.getTable();
+		Object shape = PreparedSelectCache.getShape(selectSpec, entity);
+		PreparedSelectCache.CachedSelect cached = shape != null ? selectCache.get(shape) : null;
+
+		if (cached != null) {
+			return new DefaultPreparedOperation<>(cached.getSelect(), this.renderContext,
+					getBindings(selectSpec.getCriteria(), table, entity), cached.getSql());
+		}
+
 		SelectBuilder.SelectAndFrom selectAndFrom = StatementBuilder.select(getSelectList(selectSpec, entity));
 
 		if (selectSpec.isDistinct()) {
@@ -130,7 +139,30 @@ class DefaultStatementMapper implements StatementMapper {
 		}
 
 		Select select = selectBuilder.build();
-		return new DefaultPreparedOperation<>(select, this.renderContext, bindings);
+
+		if (shape == null) {
+			return new DefaultPreparedOperation<>(select, this.renderContext, bindings);
+		}
+
+		String sql = SqlRenderer.create(this.renderContext).render(select);
+		selectCache.put(shape, select, sql);
+
+		return new DefaultPreparedOperation<>(select, this.renderContext, bindings, sql);
+	}
+
+	/**
+	 * Binds the values of the criteria of a {@link Select} taken from the {@link PreparedSelectCache}, creating the bind
+	 * markers in the same order as the cached statement does.
+	 */
+	private Bindings getBindings(@Nullable CriteriaDefinition criteria, Table table,
+			@Nullable RelationalPersistentEntity<?> entity) {
+
+		if (criteria == null || criteria.isEmpty()) {
+			return Bindings.empty();
+		}
+
+		BindMarkers bindMarkers = this.dialect.getBindMarkersFactory().create();
+		return this.updateMapper.getMappedObject(bindMarkers, criteria, table, entity).getBindings();
 	}
 
 	protected List<Expression> getSelectList(SelectSpec selectSpec, @Nullable RelationalPersistentEntity<?> entity) {
@@ -277,12 +309,22 @@ class DefaultStatementMapper implements StatementMapper {
 		private final T source;
 		private final RenderContext renderContext;
 		private final Bindings bindings;
+		@Nullable private final String sql;
 
 		DefaultPreparedOperation(T source, RenderContext renderContext, Bindings bindings) {
+			this(source, renderContext, bindings, null);
+		}
+
+		/**
+		 * @param sql the SQL already rendered for the source, or {@literal null} to render it on demand.
+		 * @since 3.1
+		 */
+		DefaultPreparedOperation(T source, RenderContext renderContext, Bindings bindings, @Nullable String sql) {
 
 			this.source = source;
 			this.renderContext = renderContext;
 			this.bindings = bindings;
+			this.sql = sql;
 		}
 
 		@Override
@@ -293,6 +335,10 @@ class DefaultStatementMapper implements StatementMapper {
 		@Override
 		public String toQuery() {
 
+			if (this.sql != null) {
+				return this.sql;
+			}
+
 			SqlRenderer sqlRenderer = SqlRenderer.create(this.renderContext);
 
 			if (this.source instanceof Select) {
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.springframework.data.r2dbc.core.StatementMapper.SelectSpec;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.CriteriaDefinition;
+import org.springframework.data.relational.core.query.CriteriaShapes;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.lang.Nullable;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.util.Assert;
+
+/**
+ * Cache of the {@link Select} statements created by {@link DefaultStatementMapper} along with their rendered SQL,
+ * keyed by the shape of the {@link SelectSpec}: the table, projection, sort, limit, offset, lock and the structure of
+ * the criteria, including which values are {@literal null} and the number of elements of collections bound to
+ * {@code IN} conditions. Bind markers get created in the same order for all specs of the same shape, so a cached
+ * statement only requires binding the values of the current spec.
+ * <p>
+ * The cache is safe for concurrent use. It holds up to a maximum number of statements, evicting the least recently used
+ * ones first.
+ *
+ * @since 3.1
+ */
+class PreparedSelectCache {
+
+	static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+	private final int maximumSize;
+	private final LinkedHashMap<Object, CachedSelect> selects = new LinkedHashMap<>(16, 0.75f, true);
+
+	PreparedSelectCache(int maximumSize) {
+
+		Assert.isTrue(maximumSize > 0, "Maximum size must be positive");
+
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * Returns the shape of the given {@link SelectSpec}.
+	 *
+	 * @return the shape or {@literal null} if the statement must not be cached, because the number of elements of a
+	 *         value cannot be determined upfront.
+	 */
+	@Nullable
+	static Object getShape(SelectSpec selectSpec, @Nullable RelationalPersistentEntity<?> entity) {
+
+		List<Object> shape = new ArrayList<>();
+		shape.add(entity == null ? null : entity.getType());
+		shape.add(selectSpec.getTable());
+		shape.add(selectSpec.getSelectList());
+		shape.add(selectSpec.isDistinct());
+		shape.add(selectSpec.getSort());
+		shape.add(selectSpec.getLimit());
+		shape.add(selectSpec.getOffset());
+		shape.add(selectSpec.getLock());
+
+		CriteriaDefinition criteria = selectSpec.getCriteria();
+		if (criteria != null && !criteria.isEmpty()) {
+
+			List<Object> criteriaShape = CriteriaShapes.getShape(criteria,
+					value -> value instanceof Parameter parameter ? parameter.getValue() : value);
+			if (criteriaShape == null) {
+				return null;
+			}
+
+			shape.add(criteriaShape);
+		}
+
+		return shape;
+	}
+
+	@Nullable
+	synchronized CachedSelect get(Object shape) {
+		return selects.get(shape);
+	}
+
+	synchronized void put(Object shape, Select select, String sql) {
+
+		selects.put(shape, new CachedSelect(select, sql));
+
+		Iterator<CachedSelect> leastRecentlyUsed = selects.values().iterator();
+		while (selects.size() > maximumSize) {
+
+			leastRecentlyUsed.next();
+			leastRecentlyUsed.remove();
+		}
+	}
+
+	synchronized int size() {
+		return selects.size();
+	}
+
+	/**
+	 * A cached {@link Select} along with its rendered SQL.
+	 */
+	static class CachedSelect {
+
+		private final Select select;
+		private final String sql;
+
+		CachedSelect(Select select, String sql) {
+
+			this.select = select;
+			this.sql = sql;
+		}
+
+		Select getSelect() {
+			return select;
+		}
+
+		String getSql() {
+			return sql;
+		}
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.relational.core.sql.Select;
+
+/**
+ * Unit tests for {@link PreparedSelectCache}.
+ */
+class PreparedSelectCacheUnitTests {
+
+	PreparedSelectCache cache = new PreparedSelectCache(2);
+
+	@Test
+	void evictsLeastRecentlyUsedSelects() {
+
+		Select select = mock(Select.class);
+
+		cache.put("a", select, "SELECT a");
+		cache.put("b", select, "SELECT b");
+		cache.get("a");
+		cache.put("c", select, "SELECT c");
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get("a")).extracting(PreparedSelectCache.CachedSelect::getSql).isEqualTo("SELECT a");
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("c")).extracting(PreparedSelectCache.CachedSelect::getSql).isEqualTo("SELECT c");
+	}
+
+	@Test
+	void rejectsNonPositiveMaximumSize() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new PreparedSelectCache(0));
+	}
+}
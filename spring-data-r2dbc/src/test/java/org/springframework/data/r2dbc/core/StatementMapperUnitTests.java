@@ -104,4 +104,37 @@ class StatementMapperUnitTests {
 
 		assertThat(preparedOperation.toQuery()).isEqualTo("SELECT table.* FROM table FOR UPDATE OF table");
 	}
+
+	@Test
+	void reusesSelectForCriteriaOfTheSameShape() {
+
+		StatementMapper.SelectSpec first = StatementMapper.SelectSpec.create("table").withProjection("*")
+				.withCriteria(Criteria.where("name").is("John").and("age").in(1, 2));
+		StatementMapper.SelectSpec second = StatementMapper.SelectSpec.create("table").withProjection("*")
+				.withCriteria(Criteria.where("name").is("Jane").and("age").in(3, 4));
+
+		PreparedOperation<?> firstOperation = mapper.getMappedObject(first);
+		PreparedOperation<?> secondOperation = mapper.getMappedObject(second);
+
+		assertThat(secondOperation.getSource()).isSameAs(firstOperation.getSource());
+		assertThat(secondOperation.toQuery())
+				.isEqualTo("SELECT table.* FROM table WHERE table.name = $1 AND table.age IN ($2, $3)");
+
+		secondOperation.bindTo(bindTarget);
+		verify(bindTarget).bind(0, "Jane");
+		verify(bindTarget).bind(1, 3);
+		verify(bindTarget).bind(2, 4);
+	}
+
+	@Test
+	void rendersSelectAgainForCriteriaOfDifferentShape() {
+
+		PreparedOperation<?> twoElements = mapper.getMappedObject(StatementMapper.SelectSpec.create("table")
+				.withProjection("*").withCriteria(Criteria.where("age").in(1, 2)));
+		PreparedOperation<?> threeElements = mapper.getMappedObject(StatementMapper.SelectSpec.create("table")
+				.withProjection("*").withCriteria(Criteria.where("age").in(1, 2, 3)));
+
+		assertThat(twoElements.toQuery()).isEqualTo("SELECT table.* FROM table WHERE table.age IN ($1, $2)");
+		assertThat(threeElements.toQuery()).isEqualTo("SELECT table.* FROM table WHERE table.age IN ($1, $2, $3)");
+	}
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.dialect.MySqlDialect;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.dialect.RenderContextFactory;
+import org.springframework.data.relational.core.dialect.SqlServerDialect;
+import org.springframework.data.relational.core.sql.Delete;
+import org.springframework.data.relational.core.sql.Insert;
+import org.springframework.data.relational.core.sql.OrderByField;
+import org.springframework.data.relational.core.sql.SQL;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.StatementBuilder;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.Update;
+
+/**
+ * Benchmarks rendering {@link Select}, {@link Insert}, {@link Update} and {@link Delete} statements using the
+ * {@link RenderContextFactory render context} of various dialects. Run with the GC profiler ({@code -prof gc}) to
+ * report the bytes allocated per render.
+ *
+ * @since 3.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlRendererBenchmark {
+
+	@Param({ "H2", "POSTGRES", "MYSQL", "SQLSERVER" }) String dialect;
+
+	SqlRenderer renderer;
+	Select select;
+	Insert insert;
+	Update update;
+	Delete delete;
+
+	@Setup
+	public void setUp() {
+
+		renderer = SqlRenderer.create(new RenderContextFactory(getDialect()).createRenderContext());
+
+		Table person = SQL.table("person");
+		Table address = SQL.table("address").as("a");
+
+		select = StatementBuilder.select(person.column("id"), person.column("name"), person.column("age"),
+				address.column("city")) //
+				.from(person) //
+				.join(address).on(address.column("person_id")).equals(person.column("id")) //
+				.limitOffset(10, 20) //
+				.where(person.column("name").isEqualTo(SQL.bindMarker(":name"))) //
+				.and(person.column("age").in(SQL.bindMarker(":age_0"), SQL.bindMarker(":age_1"))) //
+				.orderBy(OrderByField.from(person.column("name")).asc()) //
+				.build();
+
+		insert = Insert.builder().into(person) //
+				.columns(person.columns("id", "name", "age")) //
+				.values(SQL.bindMarker(":id"), SQL.bindMarker(":name"), SQL.bindMarker(":age")) //
+				.build();
+
+		update = StatementBuilder.update(person) //
+				.set(person.column("name").set(SQL.bindMarker(":name")), //
+						person.column("age").set(SQL.bindMarker(":age"))) //
+				.where(person.column("id").isEqualTo(SQL.bindMarker(":id"))) //
+				.build();
+
+		delete = Delete.builder().from(person) //
+				.where(person.column("id").isEqualTo(SQL.bindMarker(":id"))) //
+				.build();
+	}
+
+	@Benchmark
+	public String renderSelect() {
+		return renderer.render(select);
+	}
+
+	@Benchmark
+	public String renderInsert() {
+		return renderer.render(insert);
+	}
+
+	@Benchmark
+	public String renderUpdate() {
+		return renderer.render(update);
+	}
+
+	@Benchmark
+	public String renderDelete() {
+		return renderer.render(delete);
+	}
+
+	private Dialect getDialect() {
+
+		switch (dialect) {
+			case "POSTGRES":
+				return PostgresDialect.INSTANCE;
+			case "MYSQL":
+				return MySqlDialect.INSTANCE;
+			case "SQLSERVER":
+				return SqlServerDialect.INSTANCE;
+			default:
+				return H2Dialect.INSTANCE;
+		}
+	}
+}
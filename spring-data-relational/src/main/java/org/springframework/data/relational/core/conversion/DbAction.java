@@ -174,6 +174,41 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents an upsert statement for the aggregate root, i.e. an insert which updates the existing row instead if a
+	 * row with the same id exists. The id must be provided by the entity.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 3.1
+	 */
+	final class UpsertRoot<T> implements WithRoot<T> {
+
+		private T entity;
+
+		public UpsertRoot(T entity) {
+			this.entity = entity;
+		}
+
+		public T getEntity() {
+			return this.entity;
+		}
+
+		@Override
+		public void setEntity(T entity) {
+			this.entity = entity;
+		}
+
+		@Override
+		public IdValueSource getIdValueSource() {
+			return IdValueSource.PROVIDED;
+		}
+
+		@Override
+		public String toString() {
+			return "DbAction.UpsertRoot(entity=" + this.getEntity() + ")";
+		}
+	}
+
 	/**
 	 * Represents a delete statement for all entities that that a reachable via a give path from the aggregate root.
 	 *
@@ -203,6 +238,106 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents an update statement for a single entity that is not the root of an aggregate. The row to update is
+	 * identified by the back reference to its parent and either its qualifier or its id.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 3.1
+	 */
+	final class Update<T> implements WithDependingOn<T> {
+
+		private final T entity;
+		private final PersistentPropertyPath<RelationalPersistentProperty> propertyPath;
+		private final WithEntity<?> dependingOn;
+
+		final Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers;
+
+		public Update(T entity, PersistentPropertyPath<RelationalPersistentProperty> propertyPath,
+				WithEntity<?> dependingOn, Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers) {
+
+			this.entity = entity;
+			this.propertyPath = propertyPath;
+			this.dependingOn = dependingOn;
+			this.qualifiers = Map.copyOf(qualifiers);
+		}
+
+		@Override
+		public Class<T> getEntityType() {
+			return WithDependingOn.super.getEntityType();
+		}
+
+		public T getEntity() {
+			return this.entity;
+		}
+
+		public PersistentPropertyPath<RelationalPersistentProperty> getPropertyPath() {
+			return this.propertyPath;
+		}
+
+		public DbAction.WithEntity<?> getDependingOn() {
+			return this.dependingOn;
+		}
+
+		public Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> getQualifiers() {
+			return this.qualifiers;
+		}
+
+		@Override
+		public IdValueSource getIdValueSource() {
+			return IdValueSource.PROVIDED;
+		}
+
+		@Override
+		public String toString() {
+			return "Update{" + "entity=" + entity + ", propertyPath=" + propertyPath + ", dependingOn=" + dependingOn
+					+ ", qualifiers=" + qualifiers + '}';
+		}
+	}
+
+	/**
+	 * Represents a delete statement for a single entity reachable via a given path from the aggregate root. The entity is
+	 * identified by its {@link java.util.List} index or {@link java.util.Map} key for qualified paths and by its id
+	 * otherwise.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 3.1
+	 */
+	final class DeleteElement<T> implements WithPropertyPath<T> {
+
+		private final Object rootId;
+		private final PersistentPropertyPath<RelationalPersistentProperty> propertyPath;
+		private final Object key;
+
+		public DeleteElement(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath,
+				Object key) {
+
+			this.rootId = rootId;
+			this.propertyPath = propertyPath;
+			this.key = key;
+		}
+
+		public Object getRootId() {
+			return this.rootId;
+		}
+
+		public PersistentPropertyPath<RelationalPersistentProperty> getPropertyPath() {
+			return this.propertyPath;
+		}
+
+		/**
+		 * @return the list index or map key of the element to delete for qualified paths, the id of the element otherwise.
+		 */
+		public Object getKey() {
+			return this.key;
+		}
+
+		public String toString() {
+			return "DbAction.DeleteElement(rootId=" + this.getRootId() + ", propertyPath=" + this.getPropertyPath()
+					+ ", key=" + this.getKey() + ")";
+		}
+	}
+
 	/**
 	 * Represents a delete statement for a aggregate root when only the ID is known.
 	 * <p>
@@ -418,6 +553,41 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents a batch update statement for multiple entities that are aggregate roots. The batch value signals whether
+	 * the updates are checked against a previous version, i.e. whether all contained {@link UpdateRoot} actions have a
+	 * {@link UpdateRoot#getPreviousVersion() previous version}.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 3.1
+	 */
+	final class BatchUpdateRoot<T> extends BatchWithValue<T, UpdateRoot<T>, Boolean> {
+
+		public BatchUpdateRoot(List<UpdateRoot<T>> actions) {
+			super(actions, update -> update.getPreviousVersion() != null);
+		}
+
+		/**
+		 * @return whether the updates of this batch use optimistic locking.
+		 */
+		public boolean isVersioned() {
+			return getBatchValue();
+		}
+	}
+
+	/**
+	 * Represents a batch upsert statement for multiple entities that are aggregate roots.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 3.1
+	 */
+	final class BatchUpsertRoot<T> extends BatchWithValue<T, UpsertRoot<T>, Class<T>> {
+
+		public BatchUpsertRoot(List<UpsertRoot<T>> actions) {
+			super(actions, UpsertRoot::getEntityType);
+		}
+	}
+
 	/**
 	 * Represents a batch delete statement for multiple entities that are reachable via a given path from the aggregate
 	 * root.
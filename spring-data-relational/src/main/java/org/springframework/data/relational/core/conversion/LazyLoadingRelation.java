@@ -0,0 +1,31 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.conversion;
+
+/**
+ * Implemented by collections and maps holding entities of a
+ * {@link org.springframework.data.relational.core.mapping.MappedCollection#lazy() lazily loaded} relation. Saving an
+ * aggregate leaves the stored entities of relations that weren't loaded untouched.
+ *
+ * @since 3.1
+ */
+public interface LazyLoadingRelation {
+
+	/**
+	 * @return whether the entities of the relation got loaded, i.e. whether the relation was accessed.
+	 */
+	boolean isLoaded();
+}
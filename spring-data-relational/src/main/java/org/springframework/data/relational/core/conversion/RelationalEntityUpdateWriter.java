@@ -15,8 +15,12 @@
  */
 package org.springframework.data.relational.core.conversion;
 
+import java.util.function.Function;
+
 import org.springframework.data.convert.EntityWriter;
+import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.lang.Nullable;
 
 /**
  * Converts an aggregate represented by its root into a {@link RootAggregateChange}. Does not perform any isNew
@@ -30,13 +34,31 @@ import org.springframework.data.relational.core.mapping.RelationalMappingContext
 public class RelationalEntityUpdateWriter<T> implements EntityWriter<T, RootAggregateChange<T>> {
 
 	private final RelationalMappingContext context;
+	@Nullable private final Function<T, T> persistedStateLoader;
 
 	public RelationalEntityUpdateWriter(RelationalMappingContext context) {
+		this(context, null);
+	}
+
+	/**
+	 * Creates a writer that uses the given {@link Function} to load the currently persisted state of an aggregate root,
+	 * if the aggregate contains collections configured for {@link MappedCollection#differentialUpdate() differential
+	 * updates}.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param persistedStateLoader returns the persisted state of the passed aggregate root or {@literal null} if it isn't
+	 *          available. May be {@literal null}.
+	 * @since 3.1
+	 */
+	public RelationalEntityUpdateWriter(RelationalMappingContext context,
+			@Nullable Function<T, T> persistedStateLoader) {
+
 		this.context = context;
+		this.persistedStateLoader = persistedStateLoader;
 	}
 
 	@Override
 	public void write(T root, RootAggregateChange<T> aggregateChange) {
-		new WritingContext<>(context, root, aggregateChange).update();
+		new WritingContext<>(context, root, aggregateChange, persistedStateLoader).update();
 	}
 }
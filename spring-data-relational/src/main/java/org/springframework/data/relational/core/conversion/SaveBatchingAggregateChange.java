@@ -45,8 +45,22 @@ public class SaveBatchingAggregateChange<T> implements BatchingAggregateChange<T
 	 * into a single batch.
 	 */
 	private final List<DbAction.InsertRoot<T>> insertRootBatchCandidates = new ArrayList<>();
+	/**
+	 * Holds a list of UpdateRoot actions that are compatible with each other, in the sense, that they might be combined
+	 * into a single batch.
+	 */
+	private final List<DbAction.UpdateRoot<T>> updateRootBatchCandidates = new ArrayList<>();
+	/**
+	 * Holds a list of UpsertRoot actions that might be combined into a single batch.
+	 */
+	private final List<DbAction.UpsertRoot<T>> upsertRootBatchCandidates = new ArrayList<>();
 	private final BatchedActions insertActions = BatchedActions.batchedInserts();
 	private final BatchedActions deleteActions = BatchedActions.batchedDeletes();
+	/**
+	 * Holds the actions for single elements of collections updated differentially. These run after the deletes of
+	 * complete collections and before any inserts.
+	 */
+	private final List<DbAction<?>> elementActions = new ArrayList<>();
 
 	SaveBatchingAggregateChange(Class<T> entityType) {
 		this.entityType = entityType;
@@ -73,7 +87,18 @@ public class SaveBatchingAggregateChange<T> implements BatchingAggregateChange<T
 		} else {
 			insertRootBatchCandidates.forEach(consumer);
 		}
+		if (updateRootBatchCandidates.size() > 1) {
+			consumer.accept(new DbAction.BatchUpdateRoot<>(updateRootBatchCandidates));
+		} else {
+			updateRootBatchCandidates.forEach(consumer);
+		}
+		if (upsertRootBatchCandidates.size() > 1) {
+			consumer.accept(new DbAction.BatchUpsertRoot<>(upsertRootBatchCandidates));
+		} else {
+			upsertRootBatchCandidates.forEach(consumer);
+		}
 		deleteActions.forEach(consumer);
+		elementActions.forEach(consumer);
 		insertActions.forEach(consumer);
 	}
 
@@ -85,19 +110,35 @@ public class SaveBatchingAggregateChange<T> implements BatchingAggregateChange<T
 			if (action instanceof DbAction.UpdateRoot<?> rootAction) {
 
 				combineBatchCandidatesIntoSingleBatchRootAction();
-				rootActions.add(rootAction);
+				combineUpsertBatchCandidatesIntoSingleBatchRootAction();
+				if (!updateRootBatchCandidates.isEmpty()
+						&& isVersioned(updateRootBatchCandidates.get(0)) != isVersioned(rootAction)) {
+					combineUpdateBatchCandidatesIntoSingleBatchRootAction();
+				}
+				// noinspection unchecked
+				updateRootBatchCandidates.add((DbAction.UpdateRoot<T>) rootAction);
 			} else if (action instanceof DbAction.InsertRoot<?> rootAction) {
 
+				combineUpdateBatchCandidatesIntoSingleBatchRootAction();
+				combineUpsertBatchCandidatesIntoSingleBatchRootAction();
 				if (!insertRootBatchCandidates.isEmpty()
 						&& !insertRootBatchCandidates.get(0).getIdValueSource().equals(rootAction.getIdValueSource())) {
 					combineBatchCandidatesIntoSingleBatchRootAction();
 				}
 				// noinspection unchecked
 				insertRootBatchCandidates.add((DbAction.InsertRoot<T>) rootAction);
+			} else if (action instanceof DbAction.UpsertRoot<?> rootAction) {
+
+				combineBatchCandidatesIntoSingleBatchRootAction();
+				combineUpdateBatchCandidatesIntoSingleBatchRootAction();
+				// noinspection unchecked
+				upsertRootBatchCandidates.add((DbAction.UpsertRoot<T>) rootAction);
 			} else if (action instanceof DbAction.Insert<?> insertAction) {
 				insertActions.add(insertAction);
 			} else if (action instanceof DbAction.Delete<?> deleteAction) {
 				deleteActions.add(deleteAction);
+			} else if (action instanceof DbAction.DeleteElement<?> || action instanceof DbAction.Update<?>) {
+				elementActions.add(action);
 			}
 		});
 	}
@@ -116,4 +157,36 @@ public class SaveBatchingAggregateChange<T> implements BatchingAggregateChange<T
 		insertRootBatchCandidates.clear();
 	}
 
+	/**
+	 * All actions gathered in {@link #updateRootBatchCandidates} are combined into a single root action and the list of
+	 * batch candidates is emptied.
+	 */
+	private void combineUpdateBatchCandidatesIntoSingleBatchRootAction() {
+
+		if (updateRootBatchCandidates.size() > 1) {
+			rootActions.add(new DbAction.BatchUpdateRoot<>(List.copyOf(updateRootBatchCandidates)));
+		} else {
+			rootActions.addAll(updateRootBatchCandidates);
+		}
+		updateRootBatchCandidates.clear();
+	}
+
+	/**
+	 * All actions gathered in {@link #upsertRootBatchCandidates} are combined into a single root action and the list of
+	 * batch candidates is emptied.
+	 */
+	private void combineUpsertBatchCandidatesIntoSingleBatchRootAction() {
+
+		if (upsertRootBatchCandidates.size() > 1) {
+			rootActions.add(new DbAction.BatchUpsertRoot<>(List.copyOf(upsertRootBatchCandidates)));
+		} else {
+			rootActions.addAll(upsertRootBatchCandidates);
+		}
+		upsertRootBatchCandidates.clear();
+	}
+
+	private static boolean isVersioned(DbAction.UpdateRoot<?> updateRoot) {
+		return updateRoot.getPreviousVersion() != null;
+	}
+
 }
@@ -20,9 +20,12 @@ import static java.util.Arrays.*;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
+import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
@@ -31,6 +34,7 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentProp
 import org.springframework.data.util.Pair;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 
 /**
  * Holds context information for the current save operation.
@@ -52,10 +56,24 @@ class WritingContext<T> {
 	private final IdValueSource rootIdValueSource;
 	@Nullable private final Number previousVersion;
 	private final RootAggregateChange<T> aggregateChange;
+	@Nullable private final Function<T, T> persistedStateLoader;
 
 	WritingContext(RelationalMappingContext context, T root, RootAggregateChange<T> aggregateChange) {
+		this(context, root, aggregateChange, null);
+	}
+
+	/**
+	 * @param persistedStateLoader loads the currently persisted state of an aggregate root. Used to compute the
+	 *          differences for collections configured for
+	 *          {@link org.springframework.data.relational.core.mapping.MappedCollection#differentialUpdate() differential
+	 *          updates}. May be {@literal null}, in which case all collections get replaced on update.
+	 * @since 3.1
+	 */
+	WritingContext(RelationalMappingContext context, T root, RootAggregateChange<T> aggregateChange,
+			@Nullable Function<T, T> persistedStateLoader) {
 
 		this.context = context;
+		this.persistedStateLoader = persistedStateLoader;
 		this.root = root;
 		this.entityType = aggregateChange.getEntityType();
 		this.previousVersion = aggregateChange.getPreviousVersion();
@@ -86,21 +104,44 @@ class WritingContext<T> {
 	void update() {
 
 		setRootAction(new DbAction.UpdateRoot<>(root, previousVersion));
-		deleteReferenced().forEach(aggregateChange::addAction);
+
+		List<PersistentPropertyPath<RelationalPersistentProperty>> updatedPaths = getUpdatedPaths();
+		List<PersistentPropertyPath<RelationalPersistentProperty>> differentialPaths = getDifferentialPaths();
+		differentialPaths.retainAll(updatedPaths);
+		T persistedRoot = differentialPaths.isEmpty() || persistedStateLoader == null ? null
+				: persistedStateLoader.apply(root);
+
+		if (persistedRoot == null) {
+			differentialPaths = Collections.emptyList();
+		}
+
+		List<PersistentPropertyPath<RelationalPersistentProperty>> replacedPaths = new ArrayList<>(updatedPaths);
+		replacedPaths.removeAll(differentialPaths);
+
+		deleteReferenced(replacedPaths).forEach(aggregateChange::addAction);
+		for (PersistentPropertyPath<RelationalPersistentProperty> path : differentialPaths) {
+			updateDifferentially(path, persistedRoot).forEach(aggregateChange::addAction);
+		}
+		insertReferenced(replacedPaths).forEach(aggregateChange::addAction);
+	}
+
+	/**
+	 * Upserts the aggregate root and replaces all referenced entities, like an update does for collections that are not
+	 * updated differentially.
+	 */
+	void upsert() {
+
+		setRootAction(new DbAction.UpsertRoot<>(root));
+		deleteReferenced(paths).forEach(aggregateChange::addAction);
 		insertReferenced().forEach(aggregateChange::addAction);
 	}
 
 	void save() {
 
 		if (isNew(root)) {
-
-			setRootAction(new DbAction.InsertRoot<>(root, rootIdValueSource));
-			insertReferenced().forEach(aggregateChange::addAction);
+			insert();
 		} else {
-
-			setRootAction(new DbAction.UpdateRoot<>(root, previousVersion));
-			deleteReferenced().forEach(aggregateChange::addAction);
-			insertReferenced().forEach(aggregateChange::addAction);
+			update();
 		}
 	}
 
@@ -111,6 +152,10 @@ class WritingContext<T> {
 	//// Operations on all paths
 
 	private List<DbAction<?>> insertReferenced() {
+		return insertReferenced(paths);
+	}
+
+	private List<DbAction<?>> insertReferenced(List<PersistentPropertyPath<RelationalPersistentProperty>> paths) {
 
 		List<DbAction<?>> actions = new ArrayList<>();
 
@@ -119,40 +164,44 @@ class WritingContext<T> {
 		return actions;
 	}
 
-	@SuppressWarnings("unchecked")
 	private List<? extends DbAction<?>> insertAll(PersistentPropertyPath<RelationalPersistentProperty> path) {
 
+		List<DbAction.Insert<Object>> inserts = new ArrayList<>();
+		from(path).forEach(node -> inserts.add(insert(node)));
+		return inserts;
+	}
+
+	@SuppressWarnings("unchecked")
+	private DbAction.Insert<Object> insert(PathNode node) {
+
+		PersistentPropertyPath<RelationalPersistentProperty> path = node.getPath();
 		RelationalPersistentEntity<?> persistentEntity = context
 				.getRequiredPersistentEntity(path.getRequiredLeafProperty());
-		List<DbAction.Insert<Object>> inserts = new ArrayList<>();
-		from(path).forEach(node -> {
 
-			DbAction.WithEntity<?> parentAction = getAction(node.getParent());
-			Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers = new HashMap<>();
-			Object instance;
-			if (node.getPath().getRequiredLeafProperty().isQualified()) {
+		DbAction.WithEntity<?> parentAction = getAction(node.getParent());
+		Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers = new HashMap<>();
+		Object instance;
+		if (path.getRequiredLeafProperty().isQualified()) {
 
-				Pair<Object, Object> value = (Pair) node.getValue();
-				qualifiers.put(node.getPath(), value.getFirst());
+			Pair<Object, Object> value = (Pair) node.getValue();
+			qualifiers.put(path, value.getFirst());
 
-				RelationalPersistentEntity<?> parentEntity = context.getRequiredPersistentEntity(parentAction.getEntityType());
+			RelationalPersistentEntity<?> parentEntity = context.getRequiredPersistentEntity(parentAction.getEntityType());
 
-				if (!parentEntity.hasIdProperty() && parentAction instanceof DbAction.Insert) {
-					qualifiers.putAll(((DbAction.Insert<?>) parentAction).getQualifiers());
-				}
-				instance = value.getSecond();
-			} else {
-				instance = node.getValue();
+			if (!parentEntity.hasIdProperty() && parentAction instanceof DbAction.Insert) {
+				qualifiers.putAll(((DbAction.Insert<?>) parentAction).getQualifiers());
 			}
-			IdValueSource idValueSource = IdValueSource.forInstance(instance, persistentEntity);
-			DbAction.Insert<Object> insert = new DbAction.Insert<>(instance, path, parentAction, qualifiers, idValueSource);
-			inserts.add(insert);
-			previousActions.put(node, insert);
-		});
-		return inserts;
+			instance = value.getSecond();
+		} else {
+			instance = node.getValue();
+		}
+		IdValueSource idValueSource = IdValueSource.forInstance(instance, persistentEntity);
+		DbAction.Insert<Object> insert = new DbAction.Insert<>(instance, path, parentAction, qualifiers, idValueSource);
+		previousActions.put(node, insert);
+		return insert;
 	}
 
-	private List<DbAction<?>> deleteReferenced() {
+	private List<DbAction<?>> deleteReferenced(List<PersistentPropertyPath<RelationalPersistentProperty>> paths) {
 
 		List<DbAction<?>> deletes = new ArrayList<>();
 		paths.forEach(path -> deletes.add(0, deleteReferenced(path)));
@@ -160,8 +209,234 @@ class WritingContext<T> {
 		return deletes;
 	}
 
+	/**
+	 * Determines the paths to write on update. Leaves out relations directly referenced by the aggregate root that are
+	 * {@link LazyLoadingRelation lazily loaded} but weren't loaded, together with the relations of their elements.
+	 */
+	private List<PersistentPropertyPath<RelationalPersistentProperty>> getUpdatedPaths() {
+
+		List<PersistentPropertyPath<RelationalPersistentProperty>> unloadedPaths = new ArrayList<>();
+
+		for (PersistentPropertyPath<RelationalPersistentProperty> path : paths) {
+
+			if (path.getRequiredLeafProperty().isLazy() //
+					&& isDirectlyReferencedByRootIgnoringEmbeddables(path) //
+					&& getFromRootValue(path, root) instanceof LazyLoadingRelation relation //
+					&& !relation.isLoaded()) {
+				unloadedPaths.add(path);
+			}
+		}
+
+		if (unloadedPaths.isEmpty()) {
+			return paths;
+		}
+
+		List<PersistentPropertyPath<RelationalPersistentProperty>> updatedPaths = new ArrayList<>();
+
+		for (PersistentPropertyPath<RelationalPersistentProperty> path : paths) {
+
+			if (unloadedPaths.stream().noneMatch(unloaded -> unloaded.equals(path) || unloaded.isBasePathOf(path))) {
+				updatedPaths.add(path);
+			}
+		}
+
+		return updatedPaths;
+	}
+
+	/**
+	 * Determines the paths for which only changed elements get written on update. These are collections directly
+	 * referenced by the aggregate root, annotated for differential updates, whose elements don't reference other entities.
+	 */
+	private List<PersistentPropertyPath<RelationalPersistentProperty>> getDifferentialPaths() {
+
+		List<PersistentPropertyPath<RelationalPersistentProperty>> differentialPaths = new ArrayList<>();
+
+		for (PersistentPropertyPath<RelationalPersistentProperty> path : paths) {
+
+			if (path.getRequiredLeafProperty().isDifferentialUpdate() //
+					&& isDirectlyReferencedByRootIgnoringEmbeddables(path) //
+					&& paths.stream().noneMatch(other -> !other.equals(path) && path.isBasePathOf(other))) {
+				differentialPaths.add(path);
+			}
+		}
+
+		return differentialPaths;
+	}
+
 	/// Operations on a single path
 
+	/**
+	 * Creates the actions to bring the elements stored for the given path in line with the current state of the
+	 * aggregate, by comparing it to the persisted state. Elements are matched by their qualifier or, for unqualified
+	 * collections, by their id. Falls back to deleting and re-inserting all elements when elements can't be matched.
+	 */
+	private List<DbAction<?>> updateDifferentially(PersistentPropertyPath<RelationalPersistentProperty> path,
+			T persistedRoot) {
+
+		RelationalPersistentProperty property = path.getRequiredLeafProperty();
+		RelationalPersistentEntity<?> elementEntity = context.getRequiredPersistentEntity(property);
+
+		Map<Object, Object> persistedElements = elementsByKey(property, elementEntity,
+				getFromRootValue(path, persistedRoot));
+		Map<Object, PathNode> currentNodes = new LinkedHashMap<>();
+		List<PathNode> newNodes = new ArrayList<>();
+
+		boolean matchable = persistedElements != null;
+		for (PathNode node : from(path)) {
+
+			Object key = property.isQualified() ? ((Pair<?, ?>) node.getValue()).getFirst()
+					: elementEntity.getIdentifierAccessor(node.getValue()).getIdentifier();
+
+			if (key == null) {
+
+				// elements without id can't be matched; they can be inserted unless the collection contains only such elements
+				matchable &= elementEntity.hasIdProperty();
+				newNodes.add(node);
+			} else {
+				currentNodes.put(key, node);
+			}
+		}
+
+		if (!matchable) {
+			return replaceAll(path);
+		}
+
+		List<DbAction<?>> deletes = new ArrayList<>();
+		List<DbAction<?>> updates = new ArrayList<>();
+		Object rootId = context.getRequiredPersistentEntity(entityType).getIdentifierAccessor(root).getIdentifier();
+		DbAction.WithEntity<?> rootAction = getAction(null);
+
+		currentNodes.forEach((key, node) -> {
+
+			Object element = node.getActualValue();
+			Object persistedElement = persistedElements.get(key);
+
+			if (persistedElement == null) {
+				newNodes.add(node);
+			} else if (elementEntity.hasIdProperty() && !ObjectUtils.nullSafeEquals(
+					elementEntity.getIdentifierAccessor(element).getIdentifier(),
+					elementEntity.getIdentifierAccessor(persistedElement).getIdentifier())) {
+
+				deletes.add(new DbAction.DeleteElement<>(rootId, path, key));
+				newNodes.add(node);
+			} else if (hasChanged(elementEntity, persistedElement, element)) {
+
+				Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers = property.isQualified()
+						? Collections.singletonMap(path, key)
+						: Collections.emptyMap();
+				updates.add(new DbAction.Update<>(element, path, rootAction, qualifiers));
+			}
+		});
+
+		persistedElements.keySet().stream() //
+				.filter(key -> !currentNodes.containsKey(key)) //
+				.forEach(key -> deletes.add(new DbAction.DeleteElement<>(rootId, path, key)));
+
+		List<DbAction.Insert<Object>> inserts = new ArrayList<>();
+		newNodes.forEach(node -> inserts.add(insert(node)));
+
+		// the ids generated for new immutable elements get propagated by replacing the complete collection, which would
+		// drop all unchanged elements from the resulting aggregate.
+		if (inserts.stream().anyMatch(insert -> IdValueSource.GENERATED.equals(insert.getIdValueSource()))
+				&& elementEntity.getRequiredIdProperty().isImmutable()) {
+
+			newNodes.forEach(previousActions::remove);
+			return replaceAll(path);
+		}
+
+		List<DbAction<?>> actions = new ArrayList<>(deletes);
+		actions.addAll(updates);
+		actions.addAll(inserts);
+		return actions;
+	}
+
+	private List<DbAction<?>> replaceAll(PersistentPropertyPath<RelationalPersistentProperty> path) {
+
+		List<DbAction<?>> actions = new ArrayList<>();
+		actions.add(deleteReferenced(path));
+		actions.addAll(insertAll(path));
+		return actions;
+	}
+
+	/**
+	 * Maps the elements of a persisted collection by their qualifier or id.
+	 *
+	 * @return the elements by key or {@literal null} if the elements can't be identified by a key.
+	 */
+	@Nullable
+	private Map<Object, Object> elementsByKey(RelationalPersistentProperty property,
+			RelationalPersistentEntity<?> elementEntity, @Nullable Object value) {
+
+		Map<Object, Object> elements = new LinkedHashMap<>();
+
+		if (value == null) {
+			return elements;
+		}
+
+		if (property.isMap()) {
+			elements.putAll((Map<?, ?>) value);
+			return elements;
+		}
+
+		List<Object> values = new ArrayList<>();
+		if (value.getClass().isArray()) {
+			values.addAll(asList((Object[]) value));
+		} else {
+			((Iterable<?>) value).forEach(values::add);
+		}
+
+		for (int index = 0; index < values.size(); index++) {
+
+			Object element = values.get(index);
+
+			if (property.isQualified()) {
+				elements.put(index, element);
+			} else {
+
+				Object id = elementEntity.hasIdProperty() ? elementEntity.getIdentifierAccessor(element).getIdentifier() : null;
+				if (id == null) {
+					return null;
+				}
+				elements.put(id, element);
+			}
+		}
+
+		return elements;
+	}
+
+	/**
+	 * Compares the simple and embedded properties of two instances of an entity.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private boolean hasChanged(RelationalPersistentEntity<?> entity, @Nullable Object persisted,
+			@Nullable Object current) {
+
+		if (persisted == null || current == null) {
+			return persisted != current;
+		}
+
+		PersistentPropertyAccessor<?> persistedAccessor = ((RelationalPersistentEntity) entity)
+				.getPropertyAccessor(persisted);
+		PersistentPropertyAccessor<?> currentAccessor = ((RelationalPersistentEntity) entity).getPropertyAccessor(current);
+
+		for (RelationalPersistentProperty property : entity) {
+
+			Object persistedValue = persistedAccessor.getProperty(property);
+			Object currentValue = currentAccessor.getProperty(property);
+
+			if (property.isEmbedded()) {
+
+				if (hasChanged(context.getRequiredPersistentEntity(property), persistedValue, currentValue)) {
+					return true;
+				}
+			} else if (!property.isEntity() && !ObjectUtils.nullSafeEquals(persistedValue, currentValue)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	private DbAction.Delete<?> deleteReferenced(PersistentPropertyPath<RelationalPersistentProperty> path) {
 
 		Object id = context.getRequiredPersistentEntity(entityType).getIdentifierAccessor(root).getIdentifier();
@@ -201,7 +476,7 @@ class WritingContext<T> {
 
 		if (isDirectlyReferencedByRootIgnoringEmbeddables(path)) {
 
-			Object value = getFromRootValue(path);
+			Object value = getFromRootValue(path, root);
 			nodes.addAll(createNodes(path, null, value));
 
 		} else {
@@ -242,13 +517,13 @@ class WritingContext<T> {
 	}
 
 	@Nullable
-	private Object getFromRootValue(PersistentPropertyPath<RelationalPersistentProperty> path) {
+	private Object getFromRootValue(PersistentPropertyPath<RelationalPersistentProperty> path, Object root) {
 
 		if (path.getLength() == 0) {
 			return root;
 		}
 
-		Object parent = getFromRootValue(path.getParentPath());
+		Object parent = getFromRootValue(path.getParentPath(), root);
 		if (parent == null) {
 			return null;
 		}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+
+/**
+ * Renders queries reading the estimated number of rows of a table from a catalog view like
+ * {@code INFORMATION_SCHEMA.TABLES}. Catalog views list tables by their names as stored, so quoted names are used
+ * verbatim while unquoted names get the letter casing the database applies to them.
+ *
+ * @since 3.1
+ */
+class CatalogRowCountEstimate {
+
+	private final String query;
+	private final String currentSchema;
+
+	/**
+	 * @param query the query with two {@code %s} placeholders receiving the table name and the schema name as literals.
+	 * @param currentSchema the expression evaluating to the current schema, used for unqualified table names.
+	 */
+	CatalogRowCountEstimate(String query, String currentSchema) {
+
+		this.query = query;
+		this.currentSchema = currentSchema;
+	}
+
+	String createQuery(SqlIdentifier table, IdentifierProcessing processing) {
+
+		List<String> names = new ArrayList<>();
+		for (SqlIdentifier part : table) {
+			names.add(toLiteral(part, processing));
+		}
+
+		String tableName = names.get(names.size() - 1);
+		String schemaName = names.size() > 1 ? names.get(names.size() - 2) : currentSchema;
+
+		return String.format(query, tableName, schemaName);
+	}
+
+	private static String toLiteral(SqlIdentifier identifier, IdentifierProcessing processing) {
+
+		String sql = identifier.toSql(processing);
+		String emptyQuoted = processing.quote("");
+		String quote = emptyQuoted.substring(0, emptyQuoted.length() / 2);
+
+		String name = !quote.isEmpty() && sql.length() >= 2 * quote.length() && sql.startsWith(quote)
+				&& sql.endsWith(quote) //
+						? sql.substring(quote.length(), sql.length() - quote.length()) //
+						: processing.standardizeLetterCase(sql);
+
+		return "'" + name.replace("'", "''") + "'";
+	}
+}
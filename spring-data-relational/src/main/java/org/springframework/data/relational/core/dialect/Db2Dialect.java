@@ -20,6 +20,7 @@ import java.util.Collections;
 
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 
 /**
  * An SQL dialect for DB2.
@@ -39,8 +40,20 @@ public class Db2Dialect extends AbstractDialect {
 		public boolean supportedForBatchOperations() {
 			return false;
 		}
+
+		@Override
+		public boolean sequencesSupported() {
+			return true;
+		}
+
+		@Override
+		public String createSequenceQuery(SqlIdentifier sequenceName) {
+			return String.format("VALUES NEXT VALUE FOR %s", sequenceName.toSql(INSTANCE.getIdentifierProcessing()));
+		}
 	};
 
+	private static final UpsertSupport UPSERT_SUPPORT = new MergeUpsertSupport(" FROM SYSIBM.SYSDUMMY1", "");
+
 	protected Db2Dialect() {}
 
 	@Override
@@ -48,6 +61,16 @@ public class Db2Dialect extends AbstractDialect {
 		return ID_GENERATION;
 	}
 
+	@Override
+	public UpsertSupport getUpsertSupport() {
+		return UPSERT_SUPPORT;
+	}
+
+	@Override
+	public boolean supportsAnalyticFunctions() {
+		return true;
+	}
+
 	private static final LimitClause LIMIT_CLAUSE = new LimitClause() {
 
 		@Override
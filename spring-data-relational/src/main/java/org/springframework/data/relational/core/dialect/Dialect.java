@@ -25,6 +25,7 @@ import org.springframework.data.relational.core.sql.SQL;
 import org.springframework.data.relational.core.sql.SimpleFunction;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.render.SelectRenderContext;
+import org.springframework.lang.Nullable;
 
 /**
  * Represents a dialect that is implemented by a particular database. Please note that not all features are supported by
@@ -144,4 +145,65 @@ public interface Dialect {
 	default SimpleFunction getExistsFunction(){
 		return Functions.count(SQL.literalOf(1));
 	}
+
+	/**
+	 * Returns the {@link UpsertSupport} that describes how this dialect renders upserts, i.e. statements that insert a
+	 * row or update the existing row with the same key.
+	 *
+	 * @return the {@link UpsertSupport} used by this dialect. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	default UpsertSupport getUpsertSupport() {
+		return UpsertSupport.Unsupported.INSTANCE;
+	}
+
+	/**
+	 * Returns the {@link InListSupport} that describes how collections used in {@code IN} predicates get bound.
+	 *
+	 * @return the {@link InListSupport} used by this dialect. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	default InListSupport getInListSupport() {
+		return InListSupport.DEFAULT;
+	}
+
+	/**
+	 * Returns whether this dialect supports comparing row values using {@code <} and {@code >}, e.g.
+	 * {@code (a, b) > (:a, :b)}. Dialects not supporting it require such comparisons to be expanded into
+	 * {@code a > :a OR (a = :a AND b > :b)}.
+	 *
+	 * @return {@literal true} if row values can be compared. {@literal false} by default.
+	 * @since 3.1
+	 * @see org.springframework.data.relational.core.sql.TupleExpression
+	 */
+	default boolean supportsRowValueComparison() {
+		return false;
+	}
+
+	/**
+	 * Returns whether this dialect supports analytic functions, also known as window functions, like
+	 * {@code COUNT(*) OVER()}.
+	 *
+	 * @return {@literal true} if analytic functions are supported. {@literal false} by default.
+	 * @since 3.1
+	 * @see org.springframework.data.relational.core.sql.AnalyticFunction
+	 */
+	default boolean supportsAnalyticFunctions() {
+		return false;
+	}
+
+	/**
+	 * Returns a query reading an estimate of the number of rows of the given table from the statistics maintained by the
+	 * database. Such estimates are much cheaper to obtain than {@code SELECT COUNT(*)} for large tables but may be
+	 * outdated. The query returns a single numeric column in at most one row. A negative value or no row at all
+	 * indicates that no estimate is available.
+	 *
+	 * @param table the name of the table. Must not be {@literal null}.
+	 * @return the query or {@literal null} if this dialect cannot estimate row counts, which is the default.
+	 * @since 3.1
+	 */
+	@Nullable
+	default String getRowCountEstimateQuery(SqlIdentifier table) {
+		return null;
+	}
 }
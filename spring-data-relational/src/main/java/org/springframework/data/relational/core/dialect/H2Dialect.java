@@ -21,6 +21,7 @@ import java.util.Set;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.IdentifierProcessing.LetterCasing;
 import org.springframework.data.relational.core.sql.IdentifierProcessing.Quoting;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
@@ -40,8 +41,37 @@ public class H2Dialect extends AbstractDialect {
 	 */
 	public static final H2Dialect INSTANCE = new H2Dialect();
 
+	private static final IdGeneration ID_GENERATION = new IdGeneration() {
+
+		@Override
+		public boolean supportedForMultiRowInserts() {
+			return true;
+		}
+
+		@Override
+		public boolean sequencesSupported() {
+			return true;
+		}
+
+		@Override
+		public String createSequenceQuery(SqlIdentifier sequenceName) {
+			return String.format("SELECT NEXT VALUE FOR %s", sequenceName.toSql(INSTANCE.getIdentifierProcessing()));
+		}
+	};
+
+	private static final UpsertSupport UPSERT_SUPPORT = new MergeUpsertSupport("", "");
+
+	private static final CatalogRowCountEstimate ROW_COUNT_ESTIMATE = new CatalogRowCountEstimate(
+			"SELECT ROW_COUNT_ESTIMATE FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = %s AND TABLE_SCHEMA = %s",
+			"CURRENT_SCHEMA");
+
 	protected H2Dialect() {}
 
+	@Override
+	public IdGeneration getIdGeneration() {
+		return ID_GENERATION;
+	}
+
 	private static final LimitClause LIMIT_CLAUSE = new LimitClause() {
 
 		@Override
@@ -67,6 +97,26 @@ public class H2Dialect extends AbstractDialect {
 
 	private final H2ArrayColumns ARRAY_COLUMNS = new H2ArrayColumns();
 
+	@Override
+	public UpsertSupport getUpsertSupport() {
+		return UPSERT_SUPPORT;
+	}
+
+	@Override
+	public boolean supportsRowValueComparison() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsAnalyticFunctions() {
+		return true;
+	}
+
+	@Override
+	public String getRowCountEstimateQuery(SqlIdentifier table) {
+		return ROW_COUNT_ESTIMATE.createQuery(table, getIdentifierProcessing());
+	}
+
 	@Override
 	public LimitClause limit() {
 		return LIMIT_CLAUSE;
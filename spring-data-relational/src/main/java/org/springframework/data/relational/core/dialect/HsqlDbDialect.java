@@ -15,6 +15,8 @@
  */
 package org.springframework.data.relational.core.dialect;
 
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+
 /**
  * A {@link Dialect} for HsqlDb.
  *
@@ -25,8 +27,26 @@ public class HsqlDbDialect extends AbstractDialect {
 
 	public static final HsqlDbDialect INSTANCE = new HsqlDbDialect();
 
+	private static final IdGeneration ID_GENERATION = new IdGeneration() {
+
+		@Override
+		public boolean sequencesSupported() {
+			return true;
+		}
+
+		@Override
+		public String createSequenceQuery(SqlIdentifier sequenceName) {
+			return String.format("CALL NEXT VALUE FOR %s", sequenceName.toSql(INSTANCE.getIdentifierProcessing()));
+		}
+	};
+
 	protected HsqlDbDialect() {}
 
+	@Override
+	public IdGeneration getIdGeneration() {
+		return ID_GENERATION;
+	}
+
 	@Override
 	public LimitClause limit() {
 		return LIMIT_CLAUSE;
@@ -37,6 +57,20 @@ public class HsqlDbDialect extends AbstractDialect {
 		return AnsiDialect.LOCK_CLAUSE;
 	}
 
+	@Override
+	public boolean supportsRowValueComparison() {
+		return true;
+	}
+
+	@Override
+	public String getRowCountEstimateQuery(SqlIdentifier table) {
+		return ROW_COUNT_ESTIMATE.createQuery(table, getIdentifierProcessing());
+	}
+
+	private static final CatalogRowCountEstimate ROW_COUNT_ESTIMATE = new CatalogRowCountEstimate(
+			"SELECT CARDINALITY FROM INFORMATION_SCHEMA.SYSTEM_TABLESTATS WHERE TABLE_NAME = %s AND TABLE_SCHEMA = %s",
+			"CURRENT_SCHEMA");
+
 	private static final LimitClause LIMIT_CLAUSE = new LimitClause() {
 
 		@Override
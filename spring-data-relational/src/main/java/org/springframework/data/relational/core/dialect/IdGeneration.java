@@ -18,6 +18,8 @@ package org.springframework.data.relational.core.dialect;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+
 /**
  * Describes how obtaining generated ids after an insert works for a given JDBC driver.
  *
@@ -57,4 +59,42 @@ public interface IdGeneration {
 	default boolean supportedForBatchOperations() {
 		return true;
 	}
+
+	/**
+	 * Does the database support inserting multiple rows with a single {@code INSERT … VALUES (…), (…)} statement while
+	 * the driver returns the ids generated for all inserted rows, in the order of the rows.
+	 * <p>
+	 * This is {@literal true} for Postgres, H2 and MySQL and {@literal false} by default.
+	 *
+	 * @return {@literal true} if the database supports multi-row inserts including the retrieval of generated keys.
+	 * @see PreparedStatement#getGeneratedKeys()
+	 * @since 3.1
+	 */
+	default boolean supportedForMultiRowInserts() {
+		return false;
+	}
+
+	/**
+	 * Does the database support sequences that can be used to allocate ids before inserting rows.
+	 *
+	 * @return {@literal true} if {@link #createSequenceQuery(SqlIdentifier)} can be used to obtain the next value of a
+	 *         sequence.
+	 * @since 3.1
+	 */
+	default boolean sequencesSupported() {
+		return false;
+	}
+
+	/**
+	 * Creates the SQL query returning the next value of the given sequence as a single row with a single column.
+	 *
+	 * @param sequenceName the name of the sequence. Must not be {@literal null}.
+	 * @return the query returning the next value of the sequence.
+	 * @throws UnsupportedOperationException if the database does not support {@link #sequencesSupported() sequences}.
+	 * @since 3.1
+	 */
+	default String createSequenceQuery(SqlIdentifier sequenceName) {
+		throw new UnsupportedOperationException(
+				String.format("Sequences are not supported, cannot obtain the next value of %s", sequenceName));
+	}
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+/**
+ * Describes how collections of values used in {@code IN} predicates get bound for a given database.
+ * <p>
+ * Binding one parameter per element runs into limits of some databases for large collections and causes a different
+ * statement for each collection size. Dialects use this interface to limit the size of a single {@code IN} list, to
+ * pad lists to a limited set of sizes and to bind large collections as a single array parameter instead.
+ *
+ * @since 3.1
+ */
+public interface InListSupport {
+
+	/**
+	 * Value of {@link #getMaxListSize()} for databases without a limit for the number of elements in an {@code IN} list.
+	 */
+	int UNLIMITED = -1;
+
+	/**
+	 * A default instance not limiting the size of {@code IN} lists, without padding or array binding.
+	 */
+	InListSupport DEFAULT = new InListSupport() {};
+
+	/**
+	 * Returns the maximum number of elements bound in a single {@code IN} list. Larger collections get bound as an array
+	 * if {@link #isArrayBindingSupported() supported}. Otherwise, operations by id split them into multiple statements,
+	 * while other queries split them into multiple {@code IN} lists of the same statement.
+	 * <p>
+	 * This is 1000 for Oracle and {@link #UNLIMITED} by default.
+	 *
+	 * @return the maximum number of elements of an {@code IN} list or {@link #UNLIMITED}.
+	 */
+	default int getMaxListSize() {
+		return UNLIMITED;
+	}
+
+	/**
+	 * Returns the maximum number of bind parameters of a single statement. Statements whose {@code IN} lists would
+	 * exceed it are rejected before being executed, as splitting the lists does not reduce the number of parameters.
+	 * <p>
+	 * This is 2100 for SQL Server and {@link #UNLIMITED} by default.
+	 *
+	 * @return the maximum number of bind parameters of a statement or {@link #UNLIMITED}.
+	 */
+	default int getMaxParameterCount() {
+		return UNLIMITED;
+	}
+
+	/**
+	 * Should {@code IN} lists be padded to the next power of two by repeating their last element? This limits the number
+	 * of distinct statements for collections of varying size, which benefits databases caching execution plans per
+	 * statement.
+	 *
+	 * @return {@literal true} if {@code IN} lists should be padded. {@literal false} by default.
+	 */
+	default boolean isPaddingEnabled() {
+		return false;
+	}
+
+	/**
+	 * Can a collection be bound as a single array parameter compared using {@code = ANY(…)}? If so, collections
+	 * exceeding {@link #getMaxListSize()} get bound that way.
+	 *
+	 * @return {@literal true} if the database supports comparing a value with the elements of an array parameter.
+	 *         {@literal false} by default.
+	 */
+	default boolean isArrayBindingSupported() {
+		return false;
+	}
+}
@@ -19,6 +19,7 @@ import java.util.Collection;
 import java.util.Collections;
 
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 
 /**
  * A SQL dialect for MariaDb.
@@ -28,10 +29,29 @@ import org.springframework.data.relational.core.sql.IdentifierProcessing;
  */
 public class MariaDbDialect extends MySqlDialect {
 
+	// recent drivers only report the first id generated by a multi-row insert
+	private final IdGeneration idGeneration = new IdGeneration() {
+
+		@Override
+		public boolean sequencesSupported() {
+			return true;
+		}
+
+		@Override
+		public String createSequenceQuery(SqlIdentifier sequenceName) {
+			return String.format("SELECT NEXTVAL(%s)", sequenceName.toSql(getIdentifierProcessing()));
+		}
+	};
+
 	public MariaDbDialect(IdentifierProcessing identifierProcessing) {
 		super(identifierProcessing);
 	}
 
+	@Override
+	public IdGeneration getIdGeneration() {
+		return idGeneration;
+	}
+
 	@Override
 	public Collection<Object> getConverters() {
 		return Collections.singletonList(TimestampAtUtcToOffsetDateTimeConverter.INSTANCE);
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link UpsertSupport} rendering standard {@code MERGE INTO … USING … WHEN MATCHED … WHEN NOT MATCHED …} statements.
+ * The values get selected as a single row source table which makes the statement work across databases that do or do
+ * not require a {@code FROM} clause for such a select. Dialects can add a table hint to the target table, e.g.
+ * {@code WITH (HOLDLOCK)} on SQL Server, whose {@code MERGE} otherwise doesn't lock the key range it checks and fails
+ * with duplicate key errors when concurrent upserts insert the same key.
+ *
+ * @since 3.1
+ */
+class MergeUpsertSupport implements UpsertSupport {
+
+	private static final String TARGET_ALIAS = "tgt";
+	private static final String SOURCE_ALIAS = "src";
+
+	private final String tableHint;
+	private final String fromClause;
+	private final String terminator;
+
+	/**
+	 * @param fromClause appended to the select of the source row, e.g. {@code " FROM DUAL"}. May be empty.
+	 * @param terminator appended to the statement, e.g. {@code ";"} for databases requiring terminated {@code MERGE}
+	 *          statements. May be empty.
+	 */
+	MergeUpsertSupport(String fromClause, String terminator) {
+		this("", fromClause, terminator);
+	}
+
+	/**
+	 * @param tableHint appended to the target table, e.g. {@code " WITH (HOLDLOCK)"}. May be empty.
+	 * @param fromClause appended to the select of the source row, e.g. {@code " FROM DUAL"}. May be empty.
+	 * @param terminator appended to the statement, e.g. {@code ";"} for databases requiring terminated {@code MERGE}
+	 *          statements. May be empty.
+	 */
+	MergeUpsertSupport(String tableHint, String fromClause, String terminator) {
+
+		this.tableHint = tableHint;
+		this.fromClause = fromClause;
+		this.terminator = terminator;
+	}
+
+	@Override
+	public boolean isSupported() {
+		return true;
+	}
+
+	@Override
+	public String createUpsert(String table, Collection<String> keyColumns, Map<String, String> values,
+			Collection<String> updateColumns) {
+
+		String source = values.entrySet().stream() //
+				.map(entry -> entry.getValue() + " AS " + entry.getKey()) //
+				.collect(Collectors.joining(", ", "SELECT ", fromClause));
+
+		String condition = keyColumns.stream() //
+				.map(column -> qualify(TARGET_ALIAS, column) + " = " + qualify(SOURCE_ALIAS, column)) //
+				.collect(Collectors.joining(" AND "));
+
+		StringBuilder merge = new StringBuilder("MERGE INTO ").append(table).append(tableHint) //
+				.append(' ').append(TARGET_ALIAS) //
+				.append(" USING (").append(source).append(") ").append(SOURCE_ALIAS) //
+				.append(" ON (").append(condition).append(')');
+
+		if (!updateColumns.isEmpty()) {
+
+			merge.append(updateColumns.stream() //
+					.map(column -> qualify(TARGET_ALIAS, column) + " = " + qualify(SOURCE_ALIAS, column)) //
+					.collect(Collectors.joining(", ", " WHEN MATCHED THEN UPDATE SET ", "")));
+		}
+
+		String sourceColumns = values.keySet().stream() //
+				.map(column -> qualify(SOURCE_ALIAS, column)) //
+				.collect(Collectors.joining(", "));
+
+		merge.append(" WHEN NOT MATCHED THEN INSERT (").append(String.join(", ", values.keySet())) //
+				.append(") VALUES (").append(sourceColumns).append(')') //
+				.append(terminator);
+
+		return merge.toString();
+	}
+
+	private static String qualify(String alias, String column) {
+		return alias + "." + column;
+	}
+}
@@ -45,6 +45,14 @@ public class MySqlDialect extends AbstractDialect {
 	 */
 	public static final MySqlDialect INSTANCE = new MySqlDialect();
 
+	private static final IdGeneration ID_GENERATION = new IdGeneration() {
+
+		@Override
+		public boolean supportedForMultiRowInserts() {
+			return true;
+		}
+	};
+
 	private final IdentifierProcessing identifierProcessing;
 
 	protected MySqlDialect() {
@@ -64,6 +72,11 @@ public class MySqlDialect extends AbstractDialect {
 		this.identifierProcessing = identifierProcessing;
 	}
 
+	@Override
+	public IdGeneration getIdGeneration() {
+		return ID_GENERATION;
+	}
+
 	private static final LimitClause LIMIT_CLAUSE = new LimitClause() {
 
 		@Override
@@ -114,6 +127,16 @@ public class MySqlDialect extends AbstractDialect {
 		}
 	};
 
+	@Override
+	public UpsertSupport getUpsertSupport() {
+		return OnDuplicateKeyUpsertSupport.INSTANCE;
+	}
+
+	@Override
+	public boolean supportsRowValueComparison() {
+		return true;
+	}
+
 	@Override
 	public LimitClause limit() {
 		return LIMIT_CLAUSE;
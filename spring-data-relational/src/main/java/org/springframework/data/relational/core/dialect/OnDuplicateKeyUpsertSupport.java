@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link UpsertSupport} rendering {@code INSERT … ON DUPLICATE KEY UPDATE …} statements as supported by MySQL and
+ * MariaDB.
+ *
+ * @since 3.1
+ */
+class OnDuplicateKeyUpsertSupport implements UpsertSupport {
+
+	static final OnDuplicateKeyUpsertSupport INSTANCE = new OnDuplicateKeyUpsertSupport();
+
+	@Override
+	public boolean isSupported() {
+		return true;
+	}
+
+	@Override
+	public String createUpsert(String table, Collection<String> keyColumns, Map<String, String> values,
+			Collection<String> updateColumns) {
+
+		// without columns to update, assigning a key column to itself turns the statement into a no-op for existing rows
+		Collection<String> assignedColumns = updateColumns.isEmpty() ? keyColumns : updateColumns;
+
+		String assignments = assignedColumns.stream() //
+				.map(column -> column + " = VALUES(" + column + ")") //
+				.collect(Collectors.joining(", "));
+
+		return String.format("INSERT INTO %s (%s) VALUES (%s) ON DUPLICATE KEY UPDATE %s", table,
+				String.join(", ", values.keySet()), String.join(", ", values.values()), assignments);
+	}
+}
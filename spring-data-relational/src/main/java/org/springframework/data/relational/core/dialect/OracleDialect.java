@@ -18,6 +18,7 @@ package org.springframework.data.relational.core.dialect;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.convert.ReadingConverter;
 import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -42,6 +43,31 @@ public class OracleDialect extends AnsiDialect {
 		public boolean driverRequiresKeyColumnNames() {
 			return true;
 		}
+
+		@Override
+		public boolean sequencesSupported() {
+			return true;
+		}
+
+		@Override
+		public String createSequenceQuery(SqlIdentifier sequenceName) {
+			return String.format("SELECT %s.nextval FROM DUAL", sequenceName.toSql(INSTANCE.getIdentifierProcessing()));
+		}
+	};
+
+	private static final UpsertSupport UPSERT_SUPPORT = new MergeUpsertSupport(" FROM DUAL", "");
+
+	private static final InListSupport IN_LIST_SUPPORT = new InListSupport() {
+
+		@Override
+		public int getMaxListSize() {
+			return 1000;
+		}
+
+		@Override
+		public boolean isPaddingEnabled() {
+			return true;
+		}
 	};
 
 	protected OracleDialect() {}
@@ -51,6 +77,21 @@ public class OracleDialect extends AnsiDialect {
 		return ID_GENERATION;
 	}
 
+	@Override
+	public UpsertSupport getUpsertSupport() {
+		return UPSERT_SUPPORT;
+	}
+
+	@Override
+	public InListSupport getInListSupport() {
+		return IN_LIST_SUPPORT;
+	}
+
+	@Override
+	public boolean supportsAnalyticFunctions() {
+		return true;
+	}
+
 	@Override
 	public Collection<Object> getConverters() {
 		return asList(TimestampAtUtcToOffsetDateTimeConverter.INSTANCE, NumberToBooleanConverter.INSTANCE, BooleanToIntegerConverter.INSTANCE);
@@ -50,8 +50,75 @@ public class PostgresDialect extends AbstractDialect {
 	 */
 	public static final PostgresDialect INSTANCE = new PostgresDialect();
 
+	private static final IdGeneration ID_GENERATION = new IdGeneration() {
+
+		@Override
+		public boolean supportedForMultiRowInserts() {
+			return true;
+		}
+
+		@Override
+		public boolean sequencesSupported() {
+			return true;
+		}
+
+		@Override
+		public String createSequenceQuery(SqlIdentifier sequenceName) {
+			return String.format("SELECT nextval('%s')", sequenceName.toSql(INSTANCE.getIdentifierProcessing()));
+		}
+	};
+
+	/**
+	 * The Postgres JDBC driver limits the number of parameters of a statement to 32767. Larger collections get bound as
+	 * a single array.
+	 */
+	private static final InListSupport IN_LIST_SUPPORT = new InListSupport() {
+
+		@Override
+		public int getMaxListSize() {
+			return 32767;
+		}
+
+		@Override
+		public boolean isArrayBindingSupported() {
+			return true;
+		}
+	};
+
 	protected PostgresDialect() {}
 
+	@Override
+	public IdGeneration getIdGeneration() {
+		return ID_GENERATION;
+	}
+
+	@Override
+	public UpsertSupport getUpsertSupport() {
+		return OnConflictUpsertSupport.INSTANCE;
+	}
+
+	@Override
+	public InListSupport getInListSupport() {
+		return IN_LIST_SUPPORT;
+	}
+
+	@Override
+	public boolean supportsRowValueComparison() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsAnalyticFunctions() {
+		return true;
+	}
+
+	@Override
+	public String getRowCountEstimateQuery(SqlIdentifier table) {
+
+		String name = table.toSql(getIdentifierProcessing()).replace("'", "''");
+		return String.format("SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass('%s')", name);
+	}
+
 	private static final LimitClause LIMIT_CLAUSE = new LimitClause() {
 
 		@Override
@@ -17,6 +17,7 @@ package org.springframework.data.relational.core.dialect;
 
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.render.SelectRenderContext;
 import org.springframework.data.util.Lazy;
 
@@ -42,6 +43,40 @@ public class SqlServerDialect extends AbstractDialect {
 		public boolean supportedForBatchOperations() {
 			return false;
 		}
+
+		@Override
+		public boolean sequencesSupported() {
+			return true;
+		}
+
+		@Override
+		public String createSequenceQuery(SqlIdentifier sequenceName) {
+			return String.format("SELECT NEXT VALUE FOR %s", sequenceName.toSql(INSTANCE.getIdentifierProcessing()));
+		}
+	};
+
+	private static final UpsertSupport UPSERT_SUPPORT = new MergeUpsertSupport(" WITH (HOLDLOCK)", "", ";");
+
+	/**
+	 * SQL Server limits the number of parameters of a statement to 2100, leaving room for parameters other than the
+	 * elements of a single {@code IN} list.
+	 */
+	private static final InListSupport IN_LIST_SUPPORT = new InListSupport() {
+
+		@Override
+		public int getMaxListSize() {
+			return 2000;
+		}
+
+		@Override
+		public int getMaxParameterCount() {
+			return 2100;
+		}
+
+		@Override
+		public boolean isPaddingEnabled() {
+			return true;
+		}
 	};
 
 	private static final IdentifierProcessing IDENTIFIER_PROCESSING = IdentifierProcessing
@@ -103,6 +138,21 @@ public class SqlServerDialect extends AbstractDialect {
 	private final Lazy<SelectRenderContext> selectRenderContext = Lazy
 			.of(() -> new SqlServerSelectRenderContext(getAfterFromTable(), getAfterOrderBy()));
 
+	@Override
+	public UpsertSupport getUpsertSupport() {
+		return UPSERT_SUPPORT;
+	}
+
+	@Override
+	public InListSupport getInListSupport() {
+		return IN_LIST_SUPPORT;
+	}
+
+	@Override
+	public boolean supportsAnalyticFunctions() {
+		return true;
+	}
+
 	@Override
 	public LimitClause limit() {
 		return LIMIT_CLAUSE;
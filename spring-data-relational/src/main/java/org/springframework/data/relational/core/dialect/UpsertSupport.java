@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Interface declaring how a dialect renders upserts, i.e. statements inserting a row or updating the existing row with
+ * the same key, as a single statement.
+ *
+ * @since 3.1
+ */
+public interface UpsertSupport {
+
+	/**
+	 * Returns {@literal true} if the dialect supports upserts.
+	 *
+	 * @return {@literal true} if the dialect supports upserts.
+	 */
+	boolean isSupported();
+
+	/**
+	 * Creates an upsert statement. All arguments are rendered SQL snippets.
+	 *
+	 * @param table the table to upsert into.
+	 * @param keyColumns the columns identifying the row, typically the id column. Must also be contained in
+	 *          {@code values}.
+	 * @param values the columns to insert, mapped to the expressions (typically bind markers) providing their values.
+	 * @param updateColumns the columns to update when the row exists already. Must be contained in {@code values}.
+	 * @return the upsert statement.
+	 * @throws UnsupportedOperationException if upserts are not supported.
+	 */
+	String createUpsert(String table, Collection<String> keyColumns, Map<String, String> values,
+			Collection<String> updateColumns);
+
+	/**
+	 * Default {@link UpsertSupport} implementation for dialects that do not support upserts.
+	 */
+	enum Unsupported implements UpsertSupport {
+
+		INSTANCE;
+
+		@Override
+		public boolean isSupported() {
+			return false;
+		}
+
+		@Override
+		public String createUpsert(String table, Collection<String> keyColumns, Map<String, String> values,
+				Collection<String> updateColumns) {
+			throw new UnsupportedOperationException("Upserts not supported");
+		}
+	}
+}
@@ -15,6 +15,9 @@
  */
 package org.springframework.data.relational.core.mapping;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -41,6 +44,8 @@ import org.springframework.util.StringUtils;
 public class BasicRelationalPersistentProperty extends AnnotationBasedPersistentProperty<RelationalPersistentProperty>
 		implements RelationalPersistentProperty {
 
+	private static final Set<Class<?>> LAZY_LOADABLE_TYPES = Set.of(Collection.class, List.class, Set.class, Map.class);
+
 	private final Lazy<SqlIdentifier> columnName;
 	private final Lazy<Optional<SqlIdentifier>> collectionIdColumnName;
 	private final Lazy<SqlIdentifier> collectionKeyColumnName;
@@ -204,6 +209,23 @@ public class BasicRelationalPersistentProperty extends AnnotationBasedPersistent
 		return findAnnotation(InsertOnlyProperty.class) != null;
 	}
 
+	@Override
+	public boolean isDifferentialUpdate() {
+
+		MappedCollection mappedCollection = findAnnotation(MappedCollection.class);
+
+		return mappedCollection != null && mappedCollection.differentialUpdate() && (isCollectionLike() || isMap());
+	}
+
+	@Override
+	public boolean isLazy() {
+
+		MappedCollection mappedCollection = findAnnotation(MappedCollection.class);
+
+		return mappedCollection != null && mappedCollection.lazy() && isEntity()
+				&& LAZY_LOADABLE_TYPES.contains(getType());
+	}
+
 	private boolean isListLike() {
 		return isCollectionLike() && !Set.class.isAssignableFrom(this.getType());
 	}
@@ -51,4 +51,26 @@ public @interface MappedCollection {
 	 * @see NamingStrategy#getKeyColumn(RelationalPersistentProperty)
 	 */
 	String keyColumn() default "";
+
+	/**
+	 * Whether updates of the owning aggregate should only write the elements of this collection that actually changed
+	 * compared to the state currently stored in the database, instead of deleting and re-inserting all elements.
+	 * Elements get matched by their {@link List} index or {@link Map} key or, for {@link Set}s, by their id. Applies to
+	 * collections directly referenced by the aggregate root whose elements don't reference further entities. Defaults
+	 * to {@literal false}.
+	 *
+	 * @since 3.1
+	 */
+	boolean differentialUpdate() default false;
+
+	/**
+	 * Whether the elements of this collection should only get loaded when the collection is accessed for the first time
+	 * instead of when the owning entity gets loaded. Applies to {@link List}, {@link Set} and {@link Map} properties
+	 * referencing entities which are declared using one of these types or {@link java.util.Collection}. Saving an
+	 * aggregate whose lazily loaded collection was never accessed leaves the stored elements untouched. Defaults to
+	 * {@literal false}.
+	 *
+	 * @since 3.1
+	 */
+	boolean lazy() default false;
 }
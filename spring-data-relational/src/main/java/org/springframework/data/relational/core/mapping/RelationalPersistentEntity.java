@@ -17,6 +17,7 @@ package org.springframework.data.relational.core.mapping;
 
 import org.springframework.data.mapping.model.MutablePersistentEntity;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.lang.Nullable;
 
 /**
  * A {@link org.springframework.data.mapping.PersistentEntity} interface with additional methods for JDBC/RDBMS related
@@ -52,4 +53,76 @@ public interface RelationalPersistentEntity<T> extends MutablePersistentEntity<T
 	 */
 	SqlIdentifier getIdColumn();
 
+	/**
+	 * Returns the sequence used to allocate values for the identifier, as configured by {@link Sequence}.
+	 *
+	 * @return the qualified name of the sequence. {@literal null} when the identifier is not backed by a sequence.
+	 * @since 3.1
+	 */
+	@Nullable
+	default SqlIdentifier getIdSequence() {
+		return null;
+	}
+
+	/**
+	 * Returns the number of identifier values obtained with a single value fetched from the {@link #getIdSequence() id
+	 * sequence}.
+	 *
+	 * @return the allocation size. Always positive.
+	 * @since 3.1
+	 * @see Sequence#allocationSize()
+	 */
+	default int getIdSequenceAllocationSize() {
+		return 1;
+	}
+
+	/**
+	 * Returns whether updates of this entity only write the columns that changed since it was loaded.
+	 *
+	 * @return {@literal true} if the entity is annotated with {@link DirtyTracking}.
+	 * @since 3.1
+	 */
+	default boolean isDirtyTrackingEnabled() {
+		return false;
+	}
+
+	/**
+	 * Returns whether relations of this entity get loaded for multiple instances at once.
+	 *
+	 * @return {@literal true} if the entity is annotated with {@link BatchFetching}.
+	 * @since 3.1
+	 */
+	default boolean isBatchFetchingEnabled() {
+		return false;
+	}
+
+	/**
+	 * Returns whether aggregates of this entity get loaded with a single query joining all collections and maps.
+	 *
+	 * @return {@literal true} if the entity is annotated with {@link SingleQueryLoading}.
+	 * @since 3.1
+	 */
+	default boolean isSingleQueryLoadingEnabled() {
+		return false;
+	}
+
+	/**
+	 * Returns whether pages of this entity get loaded together with their total count in a single query.
+	 *
+	 * @return {@literal true} if the entity is annotated with {@link SingleQueryPaging}.
+	 * @since 3.1
+	 */
+	default boolean isSingleQueryPagingEnabled() {
+		return false;
+	}
+
+	/**
+	 * Returns whether aggregates of this entity get cached when loaded by their id.
+	 *
+	 * @return {@literal true} if the entity is annotated with {@link AggregateCaching}.
+	 * @since 3.1
+	 */
+	default boolean isAggregateCachingEnabled() {
+		return false;
+	}
 }
@@ -38,6 +38,7 @@ class RelationalPersistentEntityImpl<T> extends BasicPersistentEntity<T, Relatio
 	private final NamingStrategy namingStrategy;
 	private final Lazy<Optional<SqlIdentifier>> tableName;
 	private final Lazy<Optional<SqlIdentifier>> schemaName;
+	private final Lazy<Optional<Sequence>> idSequence;
 	private boolean forceQuote = true;
 
 	/**
@@ -60,6 +61,9 @@ class RelationalPersistentEntityImpl<T> extends BasicPersistentEntity<T, Relatio
 				.map(Table::schema) //
 				.filter(StringUtils::hasText) //
 				.map(this::createSqlIdentifier));
+
+		this.idSequence = Lazy.of(() -> Optional.ofNullable(getIdProperty()) //
+				.map(idProperty -> idProperty.findAnnotation(Sequence.class)));
 	}
 
 	private SqlIdentifier createSqlIdentifier(String name) {
@@ -121,6 +125,51 @@ class RelationalPersistentEntityImpl<T> extends BasicPersistentEntity<T, Relatio
 		return getRequiredIdProperty().getColumnName();
 	}
 
+	@Override
+	@Nullable
+	public SqlIdentifier getIdSequence() {
+
+		Sequence sequence = idSequence.get().orElse(null);
+		if (sequence == null || !StringUtils.hasText(sequence.value())) {
+			return null;
+		}
+
+		SqlIdentifier sequenceName = createSqlIdentifier(sequence.value());
+		return StringUtils.hasText(sequence.schema()) //
+				? SqlIdentifier.from(createSqlIdentifier(sequence.schema()), sequenceName) //
+				: sequenceName;
+	}
+
+	@Override
+	public int getIdSequenceAllocationSize() {
+		return idSequence.get().map(sequence -> Math.max(1, sequence.allocationSize())).orElse(1);
+	}
+
+	@Override
+	public boolean isDirtyTrackingEnabled() {
+		return isAnnotationPresent(DirtyTracking.class);
+	}
+
+	@Override
+	public boolean isBatchFetchingEnabled() {
+		return isAnnotationPresent(BatchFetching.class);
+	}
+
+	@Override
+	public boolean isSingleQueryLoadingEnabled() {
+		return isAnnotationPresent(SingleQueryLoading.class);
+	}
+
+	@Override
+	public boolean isSingleQueryPagingEnabled() {
+		return isAnnotationPresent(SingleQueryPaging.class);
+	}
+
+	@Override
+	public boolean isAggregateCachingEnabled() {
+		return isAnnotationPresent(AggregateCaching.class);
+	}
+
 	@Override
 	public String toString() {
 		return String.format("RelationalPersistentEntityImpl<%s>", getType());
@@ -82,4 +82,26 @@ public interface RelationalPersistentProperty extends PersistentProperty<Relatio
 	 * @since 3.0
 	 */
 	boolean isInsertOnly();
+
+	/**
+	 * Returns whether updates of this collection-like property should only write changed elements instead of replacing
+	 * all of them.
+	 *
+	 * @since 3.1
+	 * @see MappedCollection#differentialUpdate()
+	 */
+	default boolean isDifferentialUpdate() {
+		return false;
+	}
+
+	/**
+	 * Returns whether the entities referenced by this collection-like or map property should only get loaded on first
+	 * access.
+	 *
+	 * @since 3.1
+	 * @see MappedCollection#lazy()
+	 */
+	default boolean isLazy() {
+		return false;
+	}
 }
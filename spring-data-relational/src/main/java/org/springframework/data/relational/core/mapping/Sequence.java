@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.core.annotation.AliasFor;
+
+/**
+ * Specifies the database sequence used to obtain values for the annotated id property. Ids get allocated before the
+ * insert, so entities with such an id can be inserted in batches just like entities with ids provided by the
+ * application.
+ * <p>
+ * With an {@link #allocationSize()} larger than one, a single value obtained from the sequence is the lowest of a block
+ * of {@code allocationSize} consecutive ids. The sequence must then be defined with a matching {@code INCREMENT BY}.
+ *
+ * @since 3.1
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface Sequence {
+
+	/**
+	 * The name of the sequence.
+	 */
+	@AliasFor("sequence")
+	String value() default "";
+
+	/**
+	 * The name of the sequence.
+	 */
+	@AliasFor("value")
+	String sequence() default "";
+
+	/**
+	 * Name of the schema in which the sequence resides. Defaults to the schema of the connection.
+	 */
+	String schema() default "";
+
+	/**
+	 * The number of ids obtained with each value fetched from the sequence. Must match the increment of the sequence.
+	 */
+	int allocationSize() default 1;
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables loading the annotated aggregate root by id with a single query. The tables of all collections and maps
+ * referenced by the aggregate root get joined to the table of the aggregate root, and the resulting rows get assembled
+ * back into the aggregate.
+ * <p>
+ * Since every collection multiplies the number of rows returned, this is intended for aggregates with few, small
+ * collections. It applies if the referenced entities have an id or are held in a {@link java.util.List} or
+ * {@link java.util.Map}, and do not reference further entities other than embedded ones. Otherwise the aggregate gets
+ * loaded as usual.
+ *
+ * @since 3.1
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+@Inherited
+public @interface SingleQueryLoading {}
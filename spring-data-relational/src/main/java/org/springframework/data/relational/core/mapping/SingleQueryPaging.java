@@ -0,0 +1,40 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables loading pages of the annotated aggregate root together with their total count in a single query. The query
+ * selecting the page additionally selects {@code COUNT(*) OVER()}, and the total gets read from the first row of the
+ * page instead of being determined by a separate count query.
+ * <p>
+ * This requires a dialect supporting analytic functions. For other dialects, for empty pages and when the aggregate
+ * root gets loaded in batches, the total is determined by a separate count query as usual.
+ *
+ * @since 3.1
+ * @see org.springframework.data.relational.core.dialect.Dialect#supportsAnalyticFunctions()
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+@Inherited
+public @interface SingleQueryPaging {}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.query;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Utility methods to determine the shape of a {@link CriteriaDefinition}, i.e. everything besides the values of the
+ * criteria that determines the SQL rendered for it: the structure of groups, the combinators, columns, comparators
+ * and case sensitivity, which values are {@literal null}, the number of elements of collections and arrays, and the
+ * types of all other values. Statements rendered for criteria of the same shape differ only in their bound values, so
+ * the shape can be used to cache them.
+ *
+ * @since 3.1
+ */
+public final class CriteriaShapes {
+
+	private CriteriaShapes() {}
+
+	/**
+	 * Returns the shape of the given criteria.
+	 *
+	 * @param criteria must not be {@literal null}.
+	 * @return the shape or {@literal null} if it cannot be determined, because the number of elements of a value is not
+	 *         known upfront.
+	 */
+	@Nullable
+	public static List<Object> getShape(CriteriaDefinition criteria) {
+		return getShape(criteria, UnaryOperator.identity());
+	}
+
+	/**
+	 * Returns the shape of the given criteria, determined from the values unwrapped by the given function, e.g. to
+	 * consider the actual value of a store-specific parameter wrapper.
+	 *
+	 * @param criteria must not be {@literal null}.
+	 * @param unwrapper returns the actual value of a criteria value. Must not be {@literal null}.
+	 * @return the shape or {@literal null} if it cannot be determined, because the number of elements of a value is not
+	 *         known upfront.
+	 */
+	@Nullable
+	public static List<Object> getShape(CriteriaDefinition criteria, UnaryOperator<Object> unwrapper) {
+
+		Assert.notNull(criteria, "CriteriaDefinition must not be null");
+		Assert.notNull(unwrapper, "Unwrapper must not be null");
+
+		List<Object> shape = new ArrayList<>();
+		return addShape(criteria, unwrapper, shape) ? shape : null;
+	}
+
+	private static boolean addShape(CriteriaDefinition criteria, UnaryOperator<Object> unwrapper, List<Object> shape) {
+
+		if (criteria.hasPrevious() && !addShape(criteria.getPrevious(), unwrapper, shape)) {
+			return false;
+		}
+
+		shape.add(criteria.getCombinator());
+
+		if (criteria.isGroup()) {
+
+			List<Object> group = new ArrayList<>();
+			for (CriteriaDefinition member : criteria.getGroup()) {
+				if (!addShape(member, unwrapper, group)) {
+					return false;
+				}
+			}
+
+			shape.add(group);
+			return true;
+		}
+
+		shape.add(criteria.getColumn());
+		shape.add(criteria.getComparator());
+		shape.add(criteria.isIgnoreCase());
+
+		Object value = criteria.getValue() == null ? null : unwrapper.apply(criteria.getValue());
+
+		if (value == null) {
+			shape.add(null);
+		} else if (value instanceof Collection<?> collection) {
+			shape.add(collection.size());
+		} else if (value.getClass().isArray()) {
+			shape.add(Array.getLength(value));
+		} else if (value instanceof Iterable<?>) {
+			return false;
+		} else {
+			shape.add(value.getClass());
+		}
+
+		return true;
+	}
+}
@@ -34,7 +34,7 @@ class DefaultInsertBuilder
 
 	private @Nullable Table into;
 	private List<Column> columns = new ArrayList<>();
-	private List<Expression> values = new ArrayList<>();
+	private List<List<Expression>> rows = new ArrayList<>();
 
 	@Override
 	public InsertIntoColumnsAndValuesWithBuild into(Table table) {
@@ -78,7 +78,7 @@ class DefaultInsertBuilder
 
 		Assert.notNull(value, "Value must not be null");
 
-		this.values.add(value);
+		currentRow().add(value);
 
 		return this;
 	}
@@ -96,13 +96,40 @@ class DefaultInsertBuilder
 
 		Assert.notNull(values, "Values must not be null");
 
-		this.values.addAll(values);
+		currentRow().addAll(values);
+
+		return this;
+	}
+
+	@Override
+	public InsertValuesWithBuild row(Expression... values) {
+
+		Assert.notNull(values, "Values must not be null");
+
+		return row(Arrays.asList(values));
+	}
+
+	@Override
+	public InsertValuesWithBuild row(Collection<? extends Expression> values) {
+
+		Assert.notNull(values, "Values must not be null");
+
+		this.rows.add(new ArrayList<>(values));
 
 		return this;
 	}
 
 	@Override
 	public Insert build() {
-		return new DefaultInsert(this.into, this.columns, this.values);
+		return new DefaultInsert(this.into, this.columns, this.rows.isEmpty() ? List.of(List.of()) : this.rows);
+	}
+
+	private List<Expression> currentRow() {
+
+		if (this.rows.isEmpty()) {
+			this.rows.add(new ArrayList<>());
+		}
+
+		return this.rows.get(this.rows.size() - 1);
 	}
 }
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.relational.core.sql;
 
+import java.util.List;
+
 /**
  * Factory for common {@link Expression}s.
  *
@@ -61,6 +63,14 @@ public abstract class Expressions {
 		return Cast.create(expression, targetType);
 	}
 
+	/**
+	 * @return a new {@link TupleExpression} representing the row value of the given {@code expressions}.
+	 * @since 3.1
+	 */
+	public static Expression tuple(List<? extends Expression> expressions) {
+		return TupleExpression.create(expressions);
+	}
+
 	// Utility constructor.
 	private Expressions() {}
 
@@ -117,6 +117,26 @@ public interface InsertBuilder {
 	 */
 	interface InsertValuesWithBuild extends InsertValues, BuildInsert {
 
+		/**
+		 * Add a further row of {@link Expression values}, rendering a multi-row {@code VALUES (…), (…)} clause. Values
+		 * added afterwards using {@link #value(Expression)} or {@link #values(Expression...)} get added to this row.
+		 *
+		 * @param values the values of the row.
+		 * @return {@code this} builder.
+		 * @since 3.1
+		 */
+		InsertValuesWithBuild row(Expression... values);
+
+		/**
+		 * Add a further row of {@link Expression values}, rendering a multi-row {@code VALUES (…), (…)} clause. Values
+		 * added afterwards using {@link #value(Expression)} or {@link #values(Collection)} get added to this row.
+		 *
+		 * @param values the values of the row.
+		 * @return {@code this} builder.
+		 * @since 3.1
+		 */
+		InsertValuesWithBuild row(Collection<? extends Expression> values);
+
 		/**
 		 * Add a {@link Expression value} to the {@code VALUES} list. Calling this method multiple times will add a
 		 * {@link Expression value} multiple times.
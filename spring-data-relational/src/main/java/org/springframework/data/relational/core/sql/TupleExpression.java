@@ -0,0 +1,66 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * A row value, i.e. a parenthesized list of {@link Expression}s like {@code (a, b)}. Row values can be compared with
+ * each other, e.g. {@code (a, b) > (:a, :b)}, on databases supporting row value comparison.
+ *
+ * @since 3.1
+ * @see org.springframework.data.relational.core.dialect.Dialect#supportsRowValueComparison()
+ */
+public class TupleExpression extends AbstractSegment implements Expression {
+
+	private final List<Expression> expressions;
+
+	private TupleExpression(List<Expression> expressions) {
+
+		super(expressions.toArray(new Expression[0]));
+
+		this.expressions = expressions;
+	}
+
+	/**
+	 * Creates a new {@link TupleExpression} given a {@link List} of {@link Expression}s.
+	 *
+	 * @param expressions one or many {@link Expression}s, must not be {@literal null}.
+	 * @return the {@link TupleExpression}.
+	 */
+	public static TupleExpression create(List<? extends Expression> expressions) {
+
+		Assert.notEmpty(expressions, "Expressions must not be empty");
+
+		return new TupleExpression(List.copyOf(expressions));
+	}
+
+	/**
+	 * @return the elements of the row value.
+	 */
+	public List<Expression> getExpressions() {
+		return Collections.unmodifiableList(expressions);
+	}
+
+	@Override
+	public String toString() {
+		return "(" + StringUtils.collectionToDelimitedString(expressions, ", ") + ")";
+	}
+}
@@ -75,7 +75,7 @@ class AssignmentVisitor extends TypedSubtreeVisitor<Assignment> {
 	@Override
 	Delegation leaveMatched(Assignment segment) {
 
-		target.onRendered(new StringBuilder(part));
+		target.onRendered(part);
 		part.setLength(0);
 
 		return super.leaveMatched(segment);
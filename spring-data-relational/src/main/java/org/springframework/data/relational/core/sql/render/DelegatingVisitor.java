@@ -15,12 +15,11 @@
  */
 package org.springframework.data.relational.core.sql.render;
 
-import java.util.Stack;
+import java.util.ArrayDeque;
 
 import org.springframework.data.relational.core.sql.Visitable;
 import org.springframework.data.relational.core.sql.Visitor;
 import org.springframework.lang.Nullable;
-import org.springframework.util.Assert;
 
 /**
  * Abstract base class for delegating {@link Visitor} implementations. This class implements a delegation pattern using
@@ -38,7 +37,8 @@ import org.springframework.util.Assert;
  * step back from the delegation. Otherwise, parents are no longer involved in the visitation.
  * </p>
  * <p>
- * Delegation is recursive and limited by the stack size.
+ * Delegation is recursive and limited by the stack size. The delegation stack is allocated lazily as most visitors
+ * never delegate.
  * </p>
  * 
  * @author Mark Paluch
@@ -48,7 +48,8 @@ import org.springframework.util.Assert;
  */
 abstract class DelegatingVisitor implements Visitor {
 
-	private Stack<DelegatingVisitor> delegation = new Stack<>();
+	private @Nullable ArrayDeque<DelegatingVisitor> delegation;
+	private @Nullable Delegation delegateToThis;
 
 	/**
 	 * Invoked for a {@link Visitable segment} when entering the segment.
@@ -67,15 +68,26 @@ abstract class DelegatingVisitor implements Visitor {
 	@Override
 	public final void enter(Visitable segment) {
 
-		if (delegation.isEmpty()) {
+		if (isDelegationEmpty()) {
 
 			Delegation visitor = doEnter(segment);
-			Assert.notNull(visitor,
-					() -> String.format("Visitor must not be null Caused by %s.doEnter(…)", getClass().getName()));
-			Assert.state(!visitor.isLeave(),
-					() -> String.format("Delegation indicates leave. Caused by %s.doEnter(…)", getClass().getName()));
+
+			if (visitor == null) {
+				throw new IllegalArgumentException(
+						String.format("Visitor must not be null Caused by %s.doEnter(…)", getClass().getName()));
+			}
+
+			if (visitor.isLeave()) {
+				throw new IllegalStateException(
+						String.format("Delegation indicates leave. Caused by %s.doEnter(…)", getClass().getName()));
+			}
 
 			if (visitor.isDelegate()) {
+
+				if (delegation == null) {
+					delegation = new ArrayDeque<>(4);
+				}
+
 				delegation.push(visitor.getDelegate());
 				visitor.getDelegate().enter(segment);
 			}
@@ -103,7 +115,7 @@ abstract class DelegatingVisitor implements Visitor {
 
 	private Delegation doLeave0(Visitable segment) {
 
-		if (delegation.isEmpty()) {
+		if (isDelegationEmpty()) {
 			return doLeave(segment);
 		} else {
 
@@ -111,12 +123,15 @@ abstract class DelegatingVisitor implements Visitor {
 			while (visitor != null) {
 
 				Delegation result = visitor.doLeave0(segment);
-				Assert.notNull(visitor,
-						() -> String.format("Visitor must not be null Caused by %s.doLeave(…)", getClass().getName()));
+
+				if (result == null) {
+					throw new IllegalArgumentException(String.format("Visitor must not be null Caused by %s.doLeave(…)",
+							visitor.getClass().getName()));
+				}
 
 				if (visitor == this) {
 					if (result.isLeave()) {
-						return delegation.isEmpty() ? Delegation.leave() : Delegation.retain();
+						return isDelegationEmpty() ? Delegation.leave() : Delegation.retain();
 					}
 					return Delegation.retain();
 				}
@@ -143,6 +158,10 @@ abstract class DelegatingVisitor implements Visitor {
 		return Delegation.leave();
 	}
 
+	private boolean isDelegationEmpty() {
+		return delegation == null || delegation.isEmpty();
+	}
+
 	/**
 	 * Value object to control delegation.
 	 */
@@ -171,7 +190,12 @@ abstract class DelegatingVisitor implements Visitor {
 		}
 
 		public static Delegation delegateTo(DelegatingVisitor visitor) {
-			return new Delegation(false, false, visitor);
+
+			if (visitor.delegateToThis == null) {
+				visitor.delegateToThis = new Delegation(false, false, visitor);
+			}
+
+			return visitor.delegateToThis;
 		}
 
 		boolean isDelegate() {
@@ -188,7 +212,10 @@ abstract class DelegatingVisitor implements Visitor {
 
 		DelegatingVisitor getDelegate() {
 
-			Assert.state(isDelegate(), "No delegate available");
+			if (delegate == null) {
+				throw new IllegalStateException("No delegate available");
+			}
+
 			return delegate;
 		}
 	}
@@ -68,6 +68,7 @@ class DeleteStatementVisitor extends DelegatingVisitor implements PartRenderer {
 
 		if (segment instanceof Delete) {
 
+			builder.ensureCapacity(16 + from.length() + where.length());
 			builder.append("DELETE ");
 
 			if (from.length() != 0) {
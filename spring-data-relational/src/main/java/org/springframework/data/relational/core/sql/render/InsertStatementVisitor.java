@@ -39,7 +39,6 @@ class InsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
 
 	private final IntoClauseVisitor intoClauseVisitor;
 	private final ColumnVisitor columnVisitor;
-	private final ValuesVisitor valuesVisitor;
 	private final RenderContext renderContext;
 
 	InsertStatementVisitor(RenderContext renderContext) {
@@ -49,7 +48,6 @@ class InsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
 		this.renderContext = renderContext;
 		this.intoClauseVisitor = createIntoClauseVisitor(renderContext);
 		this.columnVisitor = createColumnVisitor(renderContext);
-		this.valuesVisitor = new ValuesVisitor(renderContext, values::append);
 	}
 
 	@Override
@@ -64,7 +62,7 @@ class InsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
 		}
 
 		if (segment instanceof Values) {
-			return Delegation.delegateTo(this.valuesVisitor);
+			return Delegation.delegateTo(createValuesVisitor(renderContext));
 		}
 
 		return Delegation.retain();
@@ -75,6 +73,7 @@ class InsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
 
 		if (segment instanceof Insert) {
 
+			builder.ensureCapacity(32 + into.length() + columns.length() + values.length());
 			builder.append("INSERT");
 
 			builder.append(" INTO ").append(into);
@@ -97,7 +96,7 @@ class InsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
 	private void addInsertValuesIfPresentElseDefault() {
 
 		if (values.length() != 0) {
-			builder.append(" VALUES (").append(values).append(")");
+			builder.append(" VALUES ").append(values);
 		} else {
 			addInsertWithDefaultValuesToBuilder();
 		}
@@ -126,6 +125,22 @@ class InsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
 		});
 	}
 
+	private ValuesVisitor createValuesVisitor(RenderContext context) {
+
+		return new ValuesVisitor(context, it -> {
+
+			if (it.length() == 0) {
+				return;
+			}
+
+			if (values.length() != 0) {
+				values.append(", ");
+			}
+
+			values.append("(").append(it).append(")");
+		});
+	}
+
 	private IntoClauseVisitor createIntoClauseVisitor(RenderContext context) {
 
 		return new IntoClauseVisitor(context, it -> {
@@ -105,6 +105,7 @@ class SelectStatementVisitor extends DelegatingVisitor implements PartRenderer {
 
 			Select select = (Select) segment;
 
+			builder.ensureCapacity(32 + selectList.length() + from.length() + join.length() + where.length());
 			builder.append("SELECT ");
 
 			if (select.isDistinct()) {
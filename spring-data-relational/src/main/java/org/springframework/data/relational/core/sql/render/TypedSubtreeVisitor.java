@@ -15,12 +15,14 @@
  */
 package org.springframework.data.relational.core.sql.render;
 
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.springframework.core.ResolvableType;
 import org.springframework.data.relational.core.sql.Visitable;
 import org.springframework.data.relational.core.sql.Visitor;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Type-filtering {@link DelegatingVisitor visitor} applying a {@link Class type filter} derived from the generic type
@@ -44,21 +46,31 @@ import org.springframework.lang.Nullable;
  */
 abstract class TypedSubtreeVisitor<T extends Visitable> extends DelegatingVisitor {
 
-	private final ResolvableType type;
+	private static final Map<Class<?>, Class<?>> TYPES = new ConcurrentReferenceHashMap<>();
+
+	private final Class<?> type;
 	private @Nullable Visitable currentSegment;
 
 	/**
 	 * Creates a new {@link TypedSubtreeVisitor}.
 	 */
 	TypedSubtreeVisitor() {
-		this.type = ResolvableType.forClass(getClass()).as(TypedSubtreeVisitor.class).getGeneric(0);
+		this.type = TYPES.computeIfAbsent(getClass(), TypedSubtreeVisitor::resolveType);
 	}
 
 	/**
 	 * Creates a new {@link TypedSubtreeVisitor} with an explicitly provided type.
 	 */
 	TypedSubtreeVisitor(Class <T> type) {
-		this.type = ResolvableType.forType(type);
+		this.type = type;
+	}
+
+	/**
+	 * Resolves the {@link Visitable} type a {@link TypedSubtreeVisitor} subclass is responsible for. Visitors are created
+	 * for each rendered statement so the result is cached per visitor class.
+	 */
+	private static Class<?> resolveType(Class<?> visitorType) {
+		return ResolvableType.forClass(visitorType).as(TypedSubtreeVisitor.class).getGeneric(0).resolve(Void.class);
 	}
 
 	/**
@@ -84,6 +84,7 @@ class UpdateStatementVisitor extends DelegatingVisitor implements PartRenderer {
 
 		if (segment instanceof Update) {
 
+			builder.ensureCapacity(16 + table.length() + assignments.length() + where.length());
 			builder.append("UPDATE");
 
 			if (table.length() != 0) {
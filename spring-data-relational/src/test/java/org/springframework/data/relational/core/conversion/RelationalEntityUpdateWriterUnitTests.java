@@ -20,12 +20,15 @@ import static org.assertj.core.api.Assertions.*;
 import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 
 /**
@@ -59,6 +62,136 @@ public class RelationalEntityUpdateWriterUnitTests {
 				);
 	}
 
+	@Test
+	void differentialListOnlyWritesChangedElements() {
+
+		DifferentialListEntity persisted = new DifferentialListEntity(SOME_ENTITY_ID);
+		persisted.elements.add(new ListElement("a"));
+		persisted.elements.add(new ListElement("b"));
+		persisted.elements.add(new ListElement("c"));
+
+		DifferentialListEntity entity = new DifferentialListEntity(SOME_ENTITY_ID);
+		entity.elements.add(new ListElement("a"));
+		entity.elements.add(new ListElement("changed"));
+
+		RootAggregateChange<DifferentialListEntity> aggregateChange = MutableAggregateChange.forSave(entity);
+
+		new RelationalEntityUpdateWriter<DifferentialListEntity>(context, e -> persisted).write(entity, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbAction::getEntityType, DbActionTestSupport::extractPath,
+						DbActionTestSupport::actualEntityType, DbActionTestSupport::isWithDependsOn) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, DifferentialListEntity.class, "", DifferentialListEntity.class, false), //
+						tuple(DbAction.DeleteElement.class, ListElement.class, "elements", null, false), //
+						tuple(DbAction.Update.class, ListElement.class, "elements", ListElement.class, true) //
+				);
+		assertThat(extractActions(aggregateChange)).filteredOn(DbAction.DeleteElement.class::isInstance)
+				.extracting(a -> ((DbAction.DeleteElement<?>) a).getKey()).containsExactly(2);
+	}
+
+	@Test
+	void differentialListAppendsNewElements() {
+
+		DifferentialListEntity persisted = new DifferentialListEntity(SOME_ENTITY_ID);
+		persisted.elements.add(new ListElement("a"));
+
+		DifferentialListEntity entity = new DifferentialListEntity(SOME_ENTITY_ID);
+		entity.elements.add(new ListElement("a"));
+		entity.elements.add(new ListElement("b"));
+
+		RootAggregateChange<DifferentialListEntity> aggregateChange = MutableAggregateChange.forSave(entity);
+
+		new RelationalEntityUpdateWriter<DifferentialListEntity>(context, e -> persisted).write(entity, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbAction::getEntityType, DbActionTestSupport::extractPath) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, DifferentialListEntity.class, ""), //
+						tuple(DbAction.Insert.class, ListElement.class, "elements") //
+				);
+	}
+
+	@Test
+	void differentialSetMatchesElementsById() {
+
+		DifferentialSetEntity persisted = new DifferentialSetEntity(SOME_ENTITY_ID);
+		persisted.elements.add(new Element(1L));
+		persisted.elements.add(new Element(2L));
+
+		DifferentialSetEntity entity = new DifferentialSetEntity(SOME_ENTITY_ID);
+		entity.elements.add(new Element(1L));
+
+		RootAggregateChange<DifferentialSetEntity> aggregateChange = MutableAggregateChange.forSave(entity);
+
+		new RelationalEntityUpdateWriter<DifferentialSetEntity>(context, e -> persisted).write(entity, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbAction::getEntityType, DbActionTestSupport::extractPath) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, DifferentialSetEntity.class, ""), //
+						tuple(DbAction.DeleteElement.class, Element.class, "elements") //
+				);
+		assertThat(extractActions(aggregateChange)).filteredOn(DbAction.DeleteElement.class::isInstance)
+				.extracting(a -> ((DbAction.DeleteElement<?>) a).getKey()).containsExactly(2L);
+	}
+
+	@Test
+	void differentialCollectionWithoutPersistedStateGetsReplaced() {
+
+		DifferentialListEntity entity = new DifferentialListEntity(SOME_ENTITY_ID);
+		entity.elements.add(new ListElement("a"));
+
+		RootAggregateChange<DifferentialListEntity> aggregateChange = MutableAggregateChange.forSave(entity);
+
+		new RelationalEntityUpdateWriter<DifferentialListEntity>(context, e -> null).write(entity, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbAction::getEntityType, DbActionTestSupport::extractPath) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, DifferentialListEntity.class, ""), //
+						tuple(DbAction.Delete.class, ListElement.class, "elements"), //
+						tuple(DbAction.Insert.class, ListElement.class, "elements") //
+				);
+	}
+
+	@Test
+	void unloadedLazyCollectionIsLeftUntouched() {
+
+		LazyListEntity entity = new LazyListEntity(SOME_ENTITY_ID);
+		entity.elements = new LazyElementList(false);
+
+		RootAggregateChange<LazyListEntity> aggregateChange = MutableAggregateChange.forSave(entity);
+
+		new RelationalEntityUpdateWriter<LazyListEntity>(context).write(entity, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbAction::getEntityType, DbActionTestSupport::extractPath) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, LazyListEntity.class, "") //
+				);
+	}
+
+	@Test
+	void loadedLazyCollectionGetsReplaced() {
+
+		LazyListEntity entity = new LazyListEntity(SOME_ENTITY_ID);
+		entity.elements = new LazyElementList(true);
+		entity.elements.add(new ListElement("a"));
+
+		RootAggregateChange<LazyListEntity> aggregateChange = MutableAggregateChange.forSave(entity);
+
+		new RelationalEntityUpdateWriter<LazyListEntity>(context).write(entity, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbAction::getEntityType, DbActionTestSupport::extractPath) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, LazyListEntity.class, ""), //
+						tuple(DbAction.Delete.class, ListElement.class, "elements"), //
+						tuple(DbAction.Insert.class, ListElement.class, "elements") //
+				);
+	}
+
 	private List<DbAction<?>> extractActions(MutableAggregateChange<?> aggregateChange) {
 
 		List<DbAction<?>> actions = new ArrayList<>();
@@ -80,4 +213,41 @@ public class RelationalEntityUpdateWriterUnitTests {
 		@Id final Long id;
 	}
 
+	@RequiredArgsConstructor
+	static class DifferentialListEntity {
+
+		@Id final Long id;
+		@MappedCollection(differentialUpdate = true) List<ListElement> elements = new ArrayList<>();
+	}
+
+	@RequiredArgsConstructor
+	static class DifferentialSetEntity {
+
+		@Id final Long id;
+		@MappedCollection(differentialUpdate = true) Set<Element> elements = new HashSet<>();
+	}
+
+	@RequiredArgsConstructor
+	static class LazyListEntity {
+
+		@Id final Long id;
+		@MappedCollection(lazy = true) List<ListElement> elements;
+	}
+
+	@RequiredArgsConstructor
+	static class LazyElementList extends ArrayList<ListElement> implements LazyLoadingRelation {
+
+		final boolean loaded;
+
+		@Override
+		public boolean isLoaded() {
+			return loaded;
+		}
+	}
+
+	@RequiredArgsConstructor
+	static class ListElement {
+		final String name;
+	}
+
 }
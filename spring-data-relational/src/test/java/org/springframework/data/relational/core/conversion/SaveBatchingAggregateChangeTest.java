@@ -120,6 +120,123 @@ class SaveBatchingAggregateChangeTest {
 					.containsExactly(root1Insert, root2Insert);
 		}
 
+		@Test
+		void yieldsMultipleUpdateRoot_asBatchUpdateRootAction() {
+
+			Root root1 = new Root(1L, null);
+			DbAction.UpdateRoot<Root> root1Update = new DbAction.UpdateRoot<>(root1, null);
+			RootAggregateChange<Root> aggregateChange1 = MutableAggregateChange.forSave(root1);
+			aggregateChange1.setRootAction(root1Update);
+
+			Root root2 = new Root(2L, null);
+			DbAction.UpdateRoot<Root> root2Update = new DbAction.UpdateRoot<>(root2, null);
+			RootAggregateChange<Root> aggregateChange2 = MutableAggregateChange.forSave(root2);
+			aggregateChange2.setRootAction(root2Update);
+
+			BatchingAggregateChange<Root, RootAggregateChange<Root>> change = BatchingAggregateChange.forSave(Root.class);
+			change.add(aggregateChange1);
+			change.add(aggregateChange2);
+
+			List<DbAction<?>> actions = extractActions(change);
+			assertThat(actions) //
+					.extracting(DbAction::getClass, DbAction::getEntityType)
+					.containsExactly(Tuple.tuple(DbAction.BatchUpdateRoot.class, Root.class));
+			assertThat(getBatchWithValueAction(actions, Root.class, DbAction.BatchUpdateRoot.class).getActions())
+					.containsExactly(root1Update, root2Update);
+		}
+
+		@Test
+		void yieldsMultipleUpsertRoot_asBatchUpsertRootAction() {
+
+			Root root1 = new Root(1L, null);
+			DbAction.UpsertRoot<Root> root1Upsert = new DbAction.UpsertRoot<>(root1);
+			RootAggregateChange<Root> aggregateChange1 = MutableAggregateChange.forSave(root1);
+			aggregateChange1.setRootAction(root1Upsert);
+
+			Root root2 = new Root(2L, null);
+			DbAction.UpsertRoot<Root> root2Upsert = new DbAction.UpsertRoot<>(root2);
+			RootAggregateChange<Root> aggregateChange2 = MutableAggregateChange.forSave(root2);
+			aggregateChange2.setRootAction(root2Upsert);
+
+			BatchingAggregateChange<Root, RootAggregateChange<Root>> change = BatchingAggregateChange.forSave(Root.class);
+			change.add(aggregateChange1);
+			change.add(aggregateChange2);
+
+			List<DbAction<?>> actions = extractActions(change);
+			assertThat(actions) //
+					.extracting(DbAction::getClass, DbAction::getEntityType)
+					.containsExactly(Tuple.tuple(DbAction.BatchUpsertRoot.class, Root.class));
+			assertThat(getBatchWithValueAction(actions, Root.class, DbAction.BatchUpsertRoot.class).getActions())
+					.containsExactly(root1Upsert, root2Upsert);
+		}
+
+		@Test
+		void yieldsSingleUpsertRoot_asIndividualAction() {
+
+			Root root = new Root(1L, null);
+			DbAction.UpsertRoot<Root> rootUpsert = new DbAction.UpsertRoot<>(root);
+			RootAggregateChange<Root> aggregateChange = MutableAggregateChange.forSave(root);
+			aggregateChange.setRootAction(rootUpsert);
+
+			BatchingAggregateChange<Root, RootAggregateChange<Root>> change = BatchingAggregateChange.forSave(Root.class);
+			change.add(aggregateChange);
+
+			assertThat(extractActions(change)).containsExactly(rootUpsert);
+		}
+
+		@Test
+		void yieldsMultipleUpdateRoot_followedByInsertRoot_asBatchUpdateRootAction() {
+
+			Root root1 = new Root(1L, null);
+			DbAction.UpdateRoot<Root> root1Update = new DbAction.UpdateRoot<>(root1, null);
+			RootAggregateChange<Root> aggregateChange1 = MutableAggregateChange.forSave(root1);
+			aggregateChange1.setRootAction(root1Update);
+
+			Root root2 = new Root(2L, null);
+			DbAction.UpdateRoot<Root> root2Update = new DbAction.UpdateRoot<>(root2, null);
+			RootAggregateChange<Root> aggregateChange2 = MutableAggregateChange.forSave(root2);
+			aggregateChange2.setRootAction(root2Update);
+
+			Root root3 = new Root(null, null);
+			DbAction.InsertRoot<Root> root3Insert = new DbAction.InsertRoot<>(root3, IdValueSource.GENERATED);
+			RootAggregateChange<Root> aggregateChange3 = MutableAggregateChange.forSave(root3);
+			aggregateChange3.setRootAction(root3Insert);
+
+			BatchingAggregateChange<Root, RootAggregateChange<Root>> change = BatchingAggregateChange.forSave(Root.class);
+			change.add(aggregateChange1);
+			change.add(aggregateChange2);
+			change.add(aggregateChange3);
+
+			List<DbAction<?>> actions = extractActions(change);
+			assertThat(actions) //
+					.extracting(DbAction::getClass, DbAction::getEntityType)
+					.containsExactly( //
+							Tuple.tuple(DbAction.BatchUpdateRoot.class, Root.class), //
+							Tuple.tuple(DbAction.InsertRoot.class, Root.class));
+			assertThat(getBatchWithValueAction(actions, Root.class, DbAction.BatchUpdateRoot.class).getActions())
+					.containsExactly(root1Update, root2Update);
+		}
+
+		@Test
+		void yieldsUpdateRoot_withAndWithoutPreviousVersion_asIndividualActions() {
+
+			Root root1 = new Root(1L, null);
+			DbAction.UpdateRoot<Root> root1Update = new DbAction.UpdateRoot<>(root1, 1L);
+			RootAggregateChange<Root> aggregateChange1 = MutableAggregateChange.forSave(root1);
+			aggregateChange1.setRootAction(root1Update);
+
+			Root root2 = new Root(2L, null);
+			DbAction.UpdateRoot<Root> root2Update = new DbAction.UpdateRoot<>(root2, null);
+			RootAggregateChange<Root> aggregateChange2 = MutableAggregateChange.forSave(root2);
+			aggregateChange2.setRootAction(root2Update);
+
+			BatchingAggregateChange<Root, RootAggregateChange<Root>> change = BatchingAggregateChange.forSave(Root.class);
+			change.add(aggregateChange1);
+			change.add(aggregateChange2);
+
+			assertThat(extractActions(change)).containsExactly(root1Update, root2Update);
+		}
+
 		@Test // GH-537
 		void yieldsInsertRoot() {
 
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.relational.core.sql.From;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -82,4 +83,20 @@ public class HsqlDbDialectUnitTests {
 		assertThat(limit.getLock(lockOptions)).isEqualTo("FOR UPDATE");
 		assertThat(limit.getClausePosition()).isEqualTo(LockClause.Position.AFTER_ORDER_BY);
 	}
+
+	@Test
+	public void shouldRenderRowCountEstimateQueryForUnqualifiedTable() {
+
+		assertThat(HsqlDbDialect.INSTANCE.getRowCountEstimateQuery(SqlIdentifier.unquoted("person"))).isEqualTo(
+				"SELECT CARDINALITY FROM INFORMATION_SCHEMA.SYSTEM_TABLESTATS WHERE TABLE_NAME = 'PERSON' AND TABLE_SCHEMA = CURRENT_SCHEMA");
+	}
+
+	@Test
+	public void shouldRenderRowCountEstimateQueryForQualifiedTable() {
+
+		SqlIdentifier table = SqlIdentifier.from(SqlIdentifier.quoted("my_schema"), SqlIdentifier.quoted("Person"));
+
+		assertThat(HsqlDbDialect.INSTANCE.getRowCountEstimateQuery(table)).isEqualTo(
+				"SELECT CARDINALITY FROM INFORMATION_SCHEMA.SYSTEM_TABLESTATS WHERE TABLE_NAME = 'Person' AND TABLE_SCHEMA = 'my_schema'");
+	}
 }
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.relational.core.sql.From;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.Table;
 
 import java.util.Collections;
@@ -91,4 +92,21 @@ public class PostgresDialectUnitTests {
 		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_READ, from))).isEqualTo("FOR SHARE OF dummy_table");
 		assertThat(lock.getClausePosition()).isEqualTo(LockClause.Position.AFTER_ORDER_BY);
 	}
+
+	@Test
+	public void shouldRenderSequenceQuery() {
+
+		IdGeneration idGeneration = PostgresDialect.INSTANCE.getIdGeneration();
+
+		assertThat(idGeneration.sequencesSupported()).isTrue();
+		assertThat(idGeneration.createSequenceQuery(SqlIdentifier.quoted("person_seq")))
+				.isEqualTo("SELECT nextval('\"person_seq\"')");
+	}
+
+	@Test
+	public void shouldRenderRowCountEstimateQuery() {
+
+		assertThat(PostgresDialect.INSTANCE.getRowCountEstimateQuery(SqlIdentifier.quoted("person")))
+				.isEqualTo("SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass('\"person\"')");
+	}
 }
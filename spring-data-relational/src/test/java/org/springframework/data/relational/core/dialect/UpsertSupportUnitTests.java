@@ -0,0 +1,157 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link UpsertSupport} implementations of the dialects.
+ */
+class UpsertSupportUnitTests {
+
+	Map<String, String> values = new LinkedHashMap<>();
+
+	@BeforeEach
+	void setUp() {
+
+		values.put("id", ":id");
+		values.put("name", ":name");
+	}
+
+	@Test
+	void postgresRendersOnConflict() {
+
+		String upsert = PostgresDialect.INSTANCE.getUpsertSupport().createUpsert("person", List.of("id"), values,
+				List.of("name"));
+
+		assertThat(upsert).isEqualTo(
+				"INSERT INTO person (id, name) VALUES (:id, :name) ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name");
+	}
+
+	@Test
+	void postgresDoesNothingWithoutColumnsToUpdate() {
+
+		String upsert = PostgresDialect.INSTANCE.getUpsertSupport().createUpsert("person", List.of("id"), values,
+				List.of());
+
+		assertThat(upsert).endsWith("ON CONFLICT (id) DO NOTHING");
+	}
+
+	@Test
+	void mySqlRendersOnDuplicateKey() {
+
+		String upsert = MySqlDialect.INSTANCE.getUpsertSupport().createUpsert("person", List.of("id"), values,
+				List.of("name"));
+
+		assertThat(upsert).isEqualTo(
+				"INSERT INTO person (id, name) VALUES (:id, :name) ON DUPLICATE KEY UPDATE name = VALUES(name)");
+	}
+
+	@Test
+	void h2RendersMerge() {
+
+		String upsert = H2Dialect.INSTANCE.getUpsertSupport().createUpsert("person", List.of("id"), values,
+				List.of("name"));
+
+		assertThat(upsert).isEqualTo("MERGE INTO person tgt USING (SELECT :id AS id, :name AS name) src ON (tgt.id = src.id)"
+				+ " WHEN MATCHED THEN UPDATE SET tgt.name = src.name"
+				+ " WHEN NOT MATCHED THEN INSERT (id, name) VALUES (src.id, src.name)");
+	}
+
+	@Test
+	void h2MatchesAllKeyColumns() {
+
+		String upsert = H2Dialect.INSTANCE.getUpsertSupport().createUpsert("person", List.of("id", "name"), values,
+				List.of());
+
+		assertThat(upsert).isEqualTo("MERGE INTO person tgt USING (SELECT :id AS id, :name AS name) src"
+				+ " ON (tgt.id = src.id AND tgt.name = src.name)"
+				+ " WHEN NOT MATCHED THEN INSERT (id, name) VALUES (src.id, src.name)");
+	}
+
+	@Test
+	void oracleSelectsSourceRowFromDual() {
+
+		String upsert = OracleDialect.INSTANCE.getUpsertSupport().createUpsert("person", List.of("id"), values,
+				List.of("name"));
+
+		assertThat(upsert).isEqualTo(
+				"MERGE INTO person tgt USING (SELECT :id AS id, :name AS name FROM DUAL) src ON (tgt.id = src.id)"
+						+ " WHEN MATCHED THEN UPDATE SET tgt.name = src.name"
+						+ " WHEN NOT MATCHED THEN INSERT (id, name) VALUES (src.id, src.name)");
+	}
+
+	@Test
+	void oracleOmitsUpdateWithoutColumnsToUpdate() {
+
+		String upsert = OracleDialect.INSTANCE.getUpsertSupport().createUpsert("person", List.of("id"), values,
+				List.of());
+
+		assertThat(upsert).contains("USING (SELECT :id AS id, :name AS name FROM DUAL) src")
+				.doesNotContain("WHEN MATCHED");
+	}
+
+	@Test
+	void db2SelectsSourceRowFromDummyTable() {
+
+		String upsert = Db2Dialect.INSTANCE.getUpsertSupport().createUpsert("person", List.of("id"), values,
+				List.of("name"));
+
+		assertThat(upsert).isEqualTo("MERGE INTO person tgt"
+				+ " USING (SELECT :id AS id, :name AS name FROM SYSIBM.SYSDUMMY1) src ON (tgt.id = src.id)"
+				+ " WHEN MATCHED THEN UPDATE SET tgt.name = src.name"
+				+ " WHEN NOT MATCHED THEN INSERT (id, name) VALUES (src.id, src.name)");
+	}
+
+	@Test
+	void sqlServerLocksKeyRangeAndTerminatesMerge() {
+
+		String upsert = SqlServerDialect.INSTANCE.getUpsertSupport().createUpsert("person", List.of("id"), values,
+				List.of("name"));
+
+		assertThat(upsert).isEqualTo("MERGE INTO person WITH (HOLDLOCK) tgt"
+				+ " USING (SELECT :id AS id, :name AS name) src ON (tgt.id = src.id)"
+				+ " WHEN MATCHED THEN UPDATE SET tgt.name = src.name"
+				+ " WHEN NOT MATCHED THEN INSERT (id, name) VALUES (src.id, src.name);");
+	}
+
+	@Test
+	void sqlServerOmitsUpdateWithoutColumnsToUpdate() {
+
+		String upsert = SqlServerDialect.INSTANCE.getUpsertSupport().createUpsert("person", List.of("id"), values,
+				List.of());
+
+		assertThat(upsert).startsWith("MERGE INTO person WITH (HOLDLOCK) tgt").doesNotContain("WHEN MATCHED")
+				.endsWith(";");
+	}
+
+	@Test
+	void hsqlDbDoesNotSupportUpserts() {
+
+		UpsertSupport upsertSupport = HsqlDbDialect.INSTANCE.getUpsertSupport();
+
+		assertThat(upsertSupport.isSupported()).isFalse();
+		assertThatThrownBy(() -> upsertSupport.createUpsert("person", List.of("id"), values, List.of("name")))
+				.isInstanceOf(UnsupportedOperationException.class);
+	}
+}
@@ -107,6 +107,28 @@ class RelationalPersistentEntityImplUnitTests {
 		assertThat(entity.getTableName()).isEqualTo(simpleExpected);
 	}
 
+	@Test
+	void discoversIdSequence() {
+
+		RelationalPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(EntityWithSequence.class);
+
+		assertThat(entity.getIdSequence()).isEqualTo(SqlIdentifier.from(quoted("my_schema"), quoted("my_seq")));
+		assertThat(entity.getIdSequenceAllocationSize()).isEqualTo(50);
+	}
+
+	@Test
+	void entityWithoutSequenceHasNoIdSequence() {
+
+		RelationalPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(DummySubEntity.class);
+
+		assertThat(entity.getIdSequence()).isNull();
+		assertThat(entity.getIdSequenceAllocationSize()).isEqualTo(1);
+	}
+
+	static class EntityWithSequence {
+		@Id @Sequence(value = "my_seq", schema = "my_schema", allocationSize = 50) Long id;
+	}
+
 	@Table(schema = "ANAKYN_SKYWALKER")
 	private static class EntityWithSchema {
 		@Id private Long id;
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link CriteriaShapes}.
+ */
+class CriteriaShapesUnitTests {
+
+	@Test
+	void criteriaDifferingInValuesOnlyHaveTheSameShape() {
+
+		Criteria first = Criteria.where("name").is("John").and("age").in(1, 2);
+		Criteria second = Criteria.where("name").is("Jane").and("age").in(3, 4);
+
+		assertThat(CriteriaShapes.getShape(first)).isNotNull().isEqualTo(CriteriaShapes.getShape(second));
+	}
+
+	@Test
+	void shapeConsidersNumberOfElementsNullValuesAndValueTypes() {
+
+		List<Object> shape = CriteriaShapes.getShape(Criteria.where("age").in(1, 2));
+
+		assertThat(shape).isNotEqualTo(CriteriaShapes.getShape(Criteria.where("age").in(1, 2, 3)));
+		assertThat(CriteriaShapes.getShape(Criteria.where("name").is("John")))
+				.isNotEqualTo(CriteriaShapes.getShape(Criteria.where("name").is(23)));
+		assertThat(CriteriaShapes.getShape(Criteria.where("name").is("John")))
+				.isNotEqualTo(CriteriaShapes.getShape(Criteria.where("name").isNull()));
+	}
+
+	@Test
+	void shapeConsidersGroups() {
+
+		Criteria grouped = Criteria.where("name").is("John")
+				.and(Criteria.where("age").is(1).or("age").is(2));
+		Criteria flat = Criteria.where("name").is("John").and("age").is(1).or("age").is(2);
+
+		assertThat(CriteriaShapes.getShape(grouped)).isNotEqualTo(CriteriaShapes.getShape(flat));
+	}
+
+	@Test
+	void hasNoShapeForIterablesOfUnknownSize() {
+
+		Iterable<Integer> values = () -> List.of(1, 2).iterator();
+
+		assertThat(CriteriaShapes.getShape(Criteria.where("age").is(values))).isNull();
+	}
+
+	@Test
+	void determinesShapeFromUnwrappedValues() {
+
+		Criteria wrapped = Criteria.where("age").is(new Wrapper(List.of(1, 2)));
+
+		List<Object> shape = CriteriaShapes.getShape(wrapped,
+				value -> value instanceof Wrapper wrapper ? wrapper.value : value);
+
+		assertThat(shape).isEqualTo(CriteriaShapes.getShape(Criteria.where("age").is(List.of(3, 4))));
+	}
+
+	static class Wrapper {
+
+		final Object value;
+
+		Wrapper(Object value) {
+			this.value = value;
+		}
+	}
+}
@@ -43,4 +43,22 @@ public class InsertBuilderUnitTests {
 
 		assertThat(insert.toString()).isEqualTo("INSERT INTO mytable (mytable.foo, mytable.bar) VALUES(?)");
 	}
+
+	@Test
+	public void shouldCreateMultiRowInsert() {
+
+		Table table = SQL.table("mytable");
+		Column foo = table.column("foo");
+
+		Insert insert = StatementBuilder.insert().into(table).column(foo).value(SQL.bindMarker(":foo_0"))
+				.row(SQL.bindMarker(":foo_1")).build();
+
+		CapturingVisitor visitor = new CapturingVisitor();
+		insert.visit(visitor);
+
+		assertThat(visitor.enter).containsSequence(insert, new Into(table), table, foo, table,
+				new Values(SQL.bindMarker(":foo_0")));
+
+		assertThat(insert.toString()).isEqualTo("INSERT INTO mytable (mytable.foo) VALUES(:foo_0), (:foo_1)");
+	}
 }
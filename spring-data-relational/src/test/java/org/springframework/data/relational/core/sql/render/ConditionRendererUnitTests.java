@@ -17,10 +17,13 @@ package org.springframework.data.relational.core.sql.render;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.Conditions;
+import org.springframework.data.relational.core.sql.Expressions;
 import org.springframework.data.relational.core.sql.Functions;
 import org.springframework.data.relational.core.sql.SQL;
 import org.springframework.data.relational.core.sql.StatementBuilder;
@@ -152,6 +155,17 @@ public class ConditionRendererUnitTests {
 		assertThat(sql).endsWith("WHERE my_table.left > my_table.right");
 	}
 
+	@Test
+	public void shouldRenderRowValueComparison() {
+
+		String sql = SqlRenderer.toString(StatementBuilder.select(left).from(table)
+				.where(Conditions.isGreater(Expressions.tuple(List.of(left, right)),
+						Expressions.tuple(List.of(SQL.bindMarker(":left"), SQL.bindMarker(":right")))))
+				.build());
+
+		assertThat(sql).endsWith("WHERE (my_table.left, my_table.right) > (:left, :right)");
+	}
+
 	@Test // DATAJDBC-309
 	public void shouldRenderIsGreaterOrEqualTo() {
 